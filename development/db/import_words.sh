@@ -1,6 +0,0 @@
-#!/bin/bash
-set -e
-
-echo "Importing words (source: OpenTaal)"
-
-PGPASSWORD=${DB_APP_PASS} psql --username ${DB_APP_USER} ${DB_APP_NAME} --file /data/lingo_words.sql
\ No newline at end of file
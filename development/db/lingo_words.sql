@@ -1,18468 +0,0 @@
-CREATE TABLE words (
-    word varchar(16) PRIMARY KEY,
-    length smallint
-); 
-
--- Extracted from: https://github.com/OpenTaal/opentaal-wordlist/
-INSERT INTO words (word, length) VALUES 
-	('aagje', 5),
-	('aaibaar', 7),
-	('aaien', 5),
-	('aaiing', 6),
-	('aalbes', 6),
-	('aalfuik', 7),
-	('aalgeer', 7),
-	('aalglad', 7),
-	('aalkorf', 7),
-	('aalkuip', 7),
-	('aalmoes', 7),
-	('aalpoel', 7),
-	('aalpomp', 7),
-	('aalput', 6),
-	('aalstal', 7),
-	('aalsvel', 7),
-	('aaltje', 6),
-	('aaltjes', 7),
-	('aalvlug', 7),
-	('aalvork', 7),
-	('aambei', 6),
-	('aanbeet', 7),
-	('aanblik', 7),
-	('aanbod', 6),
-	('aanbouw', 7),
-	('aanbrug', 7),
-	('aandak', 6),
-	('aandeel', 7),
-	('aandoen', 7),
-	('aaneen', 6),
-	('aanfok', 6),
-	('aangaan', 7),
-	('aanhang', 7),
-	('aanhef', 6),
-	('aankoop', 7),
-	('aanlaat', 7),
-	('aanleg', 6),
-	('aanloop', 7),
-	('aanmaak', 7),
-	('aanname', 7),
-	('aanpak', 6),
-	('aanroep', 7),
-	('aanslag', 7),
-	('aansnee', 7),
-	('aantal', 6),
-	('aantree', 7),
-	('aanval', 6),
-	('aanvang', 7),
-	('aanvijl', 7),
-	('aanvoer', 7),
-	('aanwas', 6),
-	('aanzet', 6),
-	('aanzien', 7),
-	('aanzijn', 7),
-	('aanzoek', 7),
-	('aapje', 5),
-	('aapjes', 6),
-	('aapmens', 7),
-	('aardas', 6),
-	('aardbei', 7),
-	('aardbol', 7),
-	('aarde', 5),
-	('aarden', 6),
-	('aardgas', 7),
-	('aardig', 6),
-	('aarding', 7),
-	('aardlek', 7),
-	('aardlus', 7),
-	('aardman', 7),
-	('aardpek', 7),
-	('aardrol', 7),
-	('aards', 5),
-	('aardvlo', 7),
-	('aardwas', 7),
-	('aarsgat', 7),
-	('aarsvin', 7),
-	('aasdier', 7),
-	('aaseter', 7),
-	('aasgier', 7),
-	('aasje', 5),
-	('aastor', 6),
-	('aasvis', 6),
-	('aaszak', 6),
-	('abactis', 7),
-	('abacus', 6),
-	('abaja', 5),
-	('abandon', 7),
-	('abces', 5),
-	('abdij', 5),
-	('abdis', 5),
-	('abdomen', 7),
-	('abeel', 5),
-	('abject', 6),
-	('ablatie', 7),
-	('ablaut', 6),
-	('ablutie', 7),
-	('abonnee', 7),
-	('abortus', 7),
-	('abraham', 7),
-	('abrupt', 6),
-	('abscis', 6),
-	('absence', 7),
-	('absent', 6),
-	('absint', 6),
-	('absoute', 7),
-	('absurd', 6),
-	('abuis', 5),
-	('abusief', 7),
-	('acacia', 6),
-	('acajou', 6),
-	('accent', 6),
-	('accept', 6),
-	('acces', 5),
-	('accijns', 7),
-	('account', 7),
-	('accres', 6),
-	('accubak', 7),
-	('acetaat', 7),
-	('aceton', 6),
-	('achtarm', 7),
-	('achten', 6),
-	('achter', 6),
-	('achting', 7),
-	('achtste', 7),
-	('achttal', 7),
-	('acoliet', 7),
-	('acquit', 6),
-	('acribie', 7),
-	('acrogym', 7),
-	('acryl', 5),
-	('acteren', 7),
-	('acteur', 6),
-	('actie', 5),
-	('actief', 6),
-	('actieve', 7),
-	('actio', 5),
-	('activa', 6),
-	('activum', 7),
-	('actor', 5),
-	('actrice', 7),
-	('actueel', 7),
-	('actum', 5),
-	('acuut', 5),
-	('adagio', 6),
-	('adagium', 7),
-	('adapter', 7),
-	('addax', 5),
-	('addenda', 7),
-	('addenoi', 7),
-	('adder', 5),
-	('adderen', 7),
-	('addict', 6),
-	('additie', 7),
-	('adelaar', 7),
-	('adeldom', 7),
-	('adelen', 6),
-	('ademen', 6),
-	('ademweg', 7),
-	('adenine', 7),
-	('adept', 5),
-	('aderen', 6),
-	('aderig', 6),
-	('adhesie', 7),
-	('adieu', 5),
-	('adios', 5),
-	('adjunct', 7),
-	('adobe', 5),
-	('adonis', 6),
-	('adopter', 7),
-	('adoptie', 7),
-	('adres', 5),
-	('adult', 5),
-	('advent', 6),
-	('advies', 6),
-	('aerobic', 7),
-	('aeroob', 6),
-	('aerosol', 7),
-	('afasie', 6),
-	('afbenen', 7),
-	('afbod', 5),
-	('afbouw', 6),
-	('afbraak', 7),
-	('afbreuk', 7),
-	('afdak', 5),
-	('afdalen', 7),
-	('afdaler', 7),
-	('afdelen', 7),
-	('afdoen', 6),
-	('afdoend', 7),
-	('afdolen', 7),
-	('afdrift', 7),
-	('afdronk', 7),
-	('afdruk', 6),
-	('afduwen', 7),
-	('afeisen', 7),
-	('afeten', 6),
-	('affaire', 7),
-	('affect', 6),
-	('affiche', 7),
-	('affix', 5),
-	('affodil', 7),
-	('affreus', 7),
-	('affront', 7),
-	('affuit', 6),
-	('afgaan', 6),
-	('afgaand', 7),
-	('afgang', 6),
-	('afgemat', 7),
-	('afgeven', 7),
-	('afgezet', 7),
-	('afghaan', 7),
-	('afgifte', 7),
-	('afgod', 5),
-	('afgodin', 7),
-	('afgrond', 7),
-	('afgunst', 7),
-	('afhaken', 7),
-	('afhaker', 7),
-	('afhalen', 7),
-	('afhaler', 7),
-	('afhoren', 7),
-	('afhuren', 7),
-	('afijn', 5),
-	('afjagen', 7),
-	('afkapen', 7),
-	('afkeer', 6),
-	('afkeren', 7),
-	('afkerig', 7),
-	('afkick', 6),
-	('afkoken', 7),
-	('afkoker', 7),
-	('afkomen', 7),
-	('afkomst', 7),
-	('afkoop', 6),
-	('afkopen', 7),
-	('aflaat', 6),
-	('afladen', 7),
-	('aflader', 7),
-	('aflagen', 7),
-	('aflaten', 7),
-	('afleren', 7),
-	('aflezen', 7),
-	('aflezer', 7),
-	('afloden', 7),
-	('aflogen', 7),
-	('afloop', 6),
-	('aflopen', 7),
-	('afmaken', 7),
-	('afmaker', 7),
-	('afmalen', 7),
-	('afmars', 6),
-	('afmeren', 7),
-	('afmeten', 7),
-	('afname', 6),
-	('afnemen', 7),
-	('afnemer', 7),
-	('afpalen', 7),
-	('afpeil', 6),
-	('afpelen', 7),
-	('afraden', 7),
-	('afrader', 7),
-	('afragen', 7),
-	('afraken', 7),
-	('afrapen', 7),
-	('afrazen', 7),
-	('afreis', 6),
-	('afrit', 5),
-	('afroep', 6),
-	('afromen', 7),
-	('afromer', 7),
-	('afroven', 7),
-	('afruil', 6),
-	('afschot', 7),
-	('afschuw', 7),
-	('afslaan', 7),
-	('afslag', 6),
-	('afstaan', 7),
-	('afstand', 7),
-	('afsteek', 7),
-	('afstel', 6),
-	('aftakas', 7),
-	('aftands', 7),
-	('afteren', 7),
-	('aftocht', 7),
-	('aftomen', 7),
-	('aftrap', 6),
-	('aftred', 6),
-	('aftrek', 6),
-	('afturen', 7),
-	('aftypen', 7),
-	('afvaart', 7),
-	('afvagen', 7),
-	('afval', 5),
-	('afvaren', 7),
-	('afvegen', 7),
-	('afvoer', 6),
-	('afvuren', 7),
-	('afwas', 5),
-	('afweer', 6),
-	('afwegen', 7),
-	('afweken', 7),
-	('afweren', 7),
-	('afweten', 7),
-	('afwezen', 7),
-	('afwezig', 7),
-	('afwonen', 7),
-	('afzagen', 7),
-	('afzemen', 7),
-	('afzepen', 7),
-	('afzet', 5),
-	('afzeven', 7),
-	('afzien', 6),
-	('afzijn', 6),
-	('afzomen', 7),
-	('agaat', 5),
-	('agame', 5),
-	('agamie', 6),
-	('agape', 5),
-	('agapen', 6),
-	('agaten', 6),
-	('agave', 5),
-	('agence', 6),
-	('agenda', 6),
-	('agens', 5),
-	('agent', 5),
-	('agente', 6),
-	('agentes', 7),
-	('ageren', 6),
-	('agger', 5),
-	('agiel', 5),
-	('agitato', 7),
-	('agnost', 6),
-	('agoeti', 6),
-	('agoge', 5),
-	('agogie', 6),
-	('agogiek', 7),
-	('agonie', 6),
-	('agoog', 5),
-	('agora', 5),
-	('agraaf', 6),
-	('agrafe', 6),
-	('ahorn', 5),
-	('ahornen', 7),
-	('aikido', 6),
-	('aimabel', 7),
-	('aioli', 5),
-	('airbag', 6),
-	('airbus', 6),
-	('airco', 5),
-	('airlift', 7),
-	('airline', 7),
-	('airmail', 7),
-	('airmile', 7),
-	('airplay', 7),
-	('airport', 7),
-	('ajakkes', 7),
-	('ajasses', 7),
-	('ajour', 5),
-	('ajuin', 5),
-	('ajuus', 5),
-	('akant', 5),
-	('akela', 5),
-	('akelei', 6),
-	('akelig', 6),
-	('akker', 5),
-	('akkeren', 7),
-	('akkoord', 7),
-	('akolei', 6),
-	('akoniet', 7),
-	('aktes', 5),
-	('aktetas', 7),
-	('alaaf', 5),
-	('alaam', 5),
-	('alant', 5),
-	('alarm', 5),
-	('albast', 6),
-	('albedil', 7),
-	('albino', 6),
-	('album', 5),
-	('albums', 6),
-	('alcohol', 7),
-	('aldaar', 6),
-	('aldoor', 6),
-	('aldra', 5),
-	('aldus', 5),
-	('aleer', 5),
-	('alert', 5),
-	('alevel', 6),
-	('aleviet', 7),
-	('alfabet', 7),
-	('alfalfa', 7),
-	('alfaman', 7),
-	('algauw', 6),
-	('algebra', 7),
-	('algoed', 6),
-	('alhier', 6),
-	('alias', 5),
-	('alibi', 5),
-	('alien', 5),
-	('alikas', 6),
-	('alinea', 6),
-	('alkali', 6),
-	('alkanna', 7),
-	('alkoof', 6),
-	('alkyn', 5),
-	('allang', 6),
-	('allebei', 7),
-	('alledag', 7),
-	('allee', 5),
-	('alleen', 6),
-	('allegro', 7),
-	('alleman', 7),
-	('allen', 5),
-	('allengs', 7),
-	('alles', 5),
-	('alliage', 7),
-	('allicht', 7),
-	('allons', 6),
-	('allooi', 6),
-	('allrisk', 7),
-	('allure', 6),
-	('allures', 7),
-	('allusie', 7),
-	('almaar', 6),
-	('almacht', 7),
-	('almanak', 7),
-	('almede', 6),
-	('almee', 5),
-	('aloud', 5),
-	('alpaca', 6),
-	('alpien', 6),
-	('alpijns', 7),
-	('alpine', 6),
-	('alpino', 6),
-	('alras', 5),
-	('alrede', 6),
-	('alree', 5),
-	('alreeds', 7),
-	('alruin', 6),
-	('alsdan', 6),
-	('alsem', 5),
-	('alsmaar', 7),
-	('alsmede', 7),
-	('alsnog', 6),
-	('alsnu', 5),
-	('alsof', 5),
-	('alsook', 6),
-	('alstoen', 7),
-	('altaar', 6),
-	('altemet', 7),
-	('alter', 5),
-	('althans', 7),
-	('althea', 6),
-	('althobo', 7),
-	('altijd', 6),
-	('altist', 6),
-	('altoos', 6),
-	('altsax', 6),
-	('altstem', 7),
-	('aluin', 5),
-	('alumnus', 7),
-	('alvast', 6),
-	('alver', 5),
-	('alwaar', 6),
-	('alweder', 7),
-	('alweer', 6),
-	('alweter', 7),
-	('alwijs', 6),
-	('alziend', 7),
-	('amanda', 6),
-	('amandel', 7),
-	('amant', 5),
-	('amarant', 7),
-	('amaril', 6),
-	('amateur', 7),
-	('amazone', 7),
-	('ambacht', 7),
-	('amber', 5),
-	('ambigu', 6),
-	('ambitie', 7),
-	('ambras', 6),
-	('amerij', 6),
-	('amfibie', 7),
-	('amfioen', 7),
-	('amfoor', 6),
-	('amfora', 6),
-	('amicaal', 7),
-	('amice', 5),
-	('amict', 5),
-	('amigo', 5),
-	('amine', 5),
-	('aminen', 6),
-	('ammonia', 7),
-	('amnesie', 7),
-	('amoebe', 6),
-	('amoreel', 7),
-	('amorf', 5),
-	('ampel', 5),
-	('amper', 5),
-	('ampex', 5),
-	('ampul', 5),
-	('amsoi', 5),
-	('amulet', 6),
-	('amusant', 7),
-	('amuse', 5),
-	('amylose', 7),
-	('anaal', 5),
-	('anabole', 7),
-	('anabool', 7),
-	('anafoor', 7),
-	('anagram', 7),
-	('analist', 7),
-	('analoge', 7),
-	('analoog', 7),
-	('analyse', 7),
-	('ananas', 6),
-	('anapest', 7),
-	('anatoom', 7),
-	('ancien', 6),
-	('andante', 7),
-	('ander', 5),
-	('andere', 6),
-	('anderen', 7),
-	('anders', 6),
-	('andoorn', 7),
-	('andoren', 7),
-	('anemie', 6),
-	('anemiek', 7),
-	('anemoon', 7),
-	('angel', 5),
-	('angelus', 7),
-	('angina', 6),
-	('angisa', 6),
-	('anglist', 7),
-	('angora', 6),
-	('angst', 5),
-	('angstig', 7),
-	('anijs', 5),
-	('aniline', 7),
-	('anima', 5),
-	('animaal', 7),
-	('anime', 5),
-	('animo', 5),
-	('animus', 6),
-	('anion', 5),
-	('anita', 5),
-	('anjer', 5),
-	('anker', 5),
-	('ankeren', 7),
-	('ankerop', 7),
-	('anklet', 6),
-	('anlaut', 6),
-	('annalen', 7),
-	('annex', 5),
-	('annonce', 7),
-	('anode', 5),
-	('anomaal', 7),
-	('anomie', 6),
-	('anoniem', 7),
-	('anorak', 6),
-	('ansicht', 7),
-	('antenne', 7),
-	('antiek', 6),
-	('antigen', 7),
-	('antigif', 7),
-	('antrax', 6),
-	('aorta', 5),
-	('apache', 6),
-	('apart', 5),
-	('aparte', 6),
-	('apartje', 7),
-	('apathie', 7),
-	('apekool', 7),
-	('apenbos', 7),
-	('apenkop', 7),
-	('apenpak', 7),
-	('aperij', 6),
-	('apert', 5),
-	('apezat', 6),
-	('apezuur', 7),
-	('apinti', 6),
-	('aplomb', 6),
-	('apneu', 5),
-	('apocope', 7),
-	('apoloog', 7),
-	('aporie', 6),
-	('apostel', 7),
-	('apostil', 7),
-	('appel', 5),
-	('appen', 5),
-	('applaus', 7),
-	('apraxie', 7),
-	('april', 5),
-	('aprils', 6),
-	('apsis', 5),
-	('aquarel', 7),
-	('aquavit', 7),
-	('aquifer', 7),
-	('arabesk', 7),
-	('arabica', 7),
-	('arabier', 7),
-	('arabist', 7),
-	('aramide', 7),
-	('arbeid', 6),
-	('arbiter', 7),
-	('arcade', 6),
-	('arcadia', 7),
-	('arcanum', 7),
-	('arceren', 7),
-	('archief', 7),
-	('arduin', 6),
-	('areaal', 6),
-	('arena', 5),
-	('arend', 5),
-	('arglist', 7),
-	('argon', 5),
-	('argot', 5),
-	('argus', 5),
-	('argwaan', 7),
-	('ariaans', 7),
-	('aride', 5),
-	('armada', 6),
-	('armband', 7),
-	('armdik', 6),
-	('armee', 5),
-	('armelui', 7),
-	('armhuis', 7),
-	('armklem', 7),
-	('armoe', 5),
-	('armoede', 7),
-	('armsgat', 7),
-	('armslag', 7),
-	('armsten', 7),
-	('armvol', 6),
-	('armworp', 7),
-	('aroma', 5),
-	('aroom', 5),
-	('array', 5),
-	('arren', 5),
-	('arrest', 6),
-	('arseen', 6),
-	('arterie', 7),
-	('artiest', 7),
-	('artikel', 7),
-	('artrose', 7),
-	('artwork', 7),
-	('asbak', 5),
-	('asbelt', 6),
-	('asbest', 6),
-	('asblond', 7),
-	('asceet', 6),
-	('ascese', 6),
-	('aselect', 7),
-	('asemen', 6),
-	('asemmer', 7),
-	('asepsis', 7),
-	('asfalt', 6),
-	('asgat', 5),
-	('asgrauw', 7),
-	('asgrijs', 7),
-	('ashoop', 6),
-	('asiel', 5),
-	('askar', 5),
-	('askegel', 7),
-	('askleur', 7),
-	('askruik', 7),
-	('aslade', 6),
-	('aslager', 7),
-	('asleger', 7),
-	('aslijn', 6),
-	('asmaat', 6),
-	('asman', 5),
-	('aspect', 6),
-	('asperge', 7),
-	('aspic', 5),
-	('aspluim', 7),
-	('aspot', 5),
-	('aspunt', 6),
-	('asregen', 7),
-	('asrest', 6),
-	('assem', 5),
-	('assen', 5),
-	('assisen', 7),
-	('assist', 6),
-	('astaat', 6),
-	('aster', 5),
-	('astma', 5),
-	('aston', 5),
-	('astraal', 7),
-	('astrant', 7),
-	('asurn', 5),
-	('asvaal', 6),
-	('asvaalt', 7),
-	('asveld', 6),
-	('aswolk', 6),
-	('ataxie', 6),
-	('atelier', 7),
-	('atjar', 5),
-	('atlant', 6),
-	('atlas', 5),
-	('atleet', 6),
-	('atlete', 6),
-	('atomair', 7),
-	('atomie', 6),
-	('atomist', 7),
-	('atonaal', 7),
-	('atoom', 5),
-	('atopie', 6),
-	('atrium', 6),
-	('atrofie', 7),
-	('attaca', 6),
-	('attaque', 7),
-	('atten', 5),
-	('attent', 6),
-	('attest', 6),
-	('attila', 6),
-	('aubade', 6),
-	('auctie', 6),
-	('auctor', 6),
-	('aucuba', 6),
-	('audio', 5),
-	('audit', 5),
-	('auditen', 7),
-	('auditie', 7),
-	('auditor', 7),
-	('augurk', 6),
-	('aurelia', 7),
-	('aureool', 7),
-	('aurora', 6),
-	('auslaut', 7),
-	('aussie', 6),
-	('autaar', 6),
-	('auteur', 6),
-	('autisme', 7),
-	('autist', 6),
-	('autobak', 7),
-	('autobom', 7),
-	('autobox', 7),
-	('autobus', 7),
-	('autocar', 7),
-	('autocue', 7),
-	('autodak', 7),
-	('autodek', 7),
-	('autogas', 7),
-	('autogek', 7),
-	('autolak', 7),
-	('autoluw', 7),
-	('autoped', 7),
-	('autorit', 7),
-	('autowas', 7),
-	('autoweg', 7),
-	('auxine', 6),
-	('avalist', 7),
-	('avance', 6),
-	('avatar', 6),
-	('avegaar', 7),
-	('avenant', 7),
-	('avenue', 6),
-	('averij', 6),
-	('avers', 5),
-	('aversie', 7),
-	('averuit', 7),
-	('aviso', 5),
-	('avocado', 7),
-	('avond', 5),
-	('awara', 5),
-	('awari', 5),
-	('axiaal', 6),
-	('axioma', 6),
-	('axolotl', 7),
-	('axonaal', 7),
-	('azalea', 6),
-	('azijn', 5),
-	('azimut', 6),
-	('azuki', 5),
-	('azuren', 6),
-	('azuur', 5),
-	('baadje', 6),
-	('baaien', 6),
-	('baaierd', 7),
-	('baaldag', 7),
-	('baalzak', 7),
-	('baanbed', 7),
-	('baantje', 7),
-	('baanvak', 7),
-	('baard', 5),
-	('baarden', 7),
-	('baardig', 7),
-	('baars', 5),
-	('baarzen', 7),
-	('babbel', 6),
-	('baboe', 5),
-	('babok', 5),
-	('babyaap', 7),
-	('babybad', 7),
-	('babybed', 7),
-	('babybos', 7),
-	('babybox', 7),
-	('babybus', 7),
-	('babypop', 7),
-	('babysit', 7),
-	('babyvet', 7),
-	('bacil', 5),
-	('backen', 6),
-	('backer', 6),
-	('backing', 7),
-	('bacon', 5),
-	('bacove', 6),
-	('badcel', 6),
-	('badding', 7),
-	('baddoek', 7),
-	('badeend', 7),
-	('baden', 5),
-	('bader', 5),
-	('badgast', 7),
-	('badge', 5),
-	('badhok', 6),
-	('badhuis', 7),
-	('badjas', 6),
-	('badjing', 7),
-	('badkuip', 7),
-	('badkuur', 7),
-	('badlijn', 7),
-	('badmat', 6),
-	('badmode', 7),
-	('badmuts', 7),
-	('badolie', 7),
-	('badpak', 6),
-	('badrand', 7),
-	('badstad', 7),
-	('badstof', 7),
-	('badtas', 6),
-	('badzeep', 7),
-	('badzout', 7),
-	('bagage', 6),
-	('bagatel', 7),
-	('bagel', 5),
-	('bagger', 6),
-	('baggy', 5),
-	('baghera', 7),
-	('bagno', 5),
-	('bahai', 5),
-	('bahco', 5),
-	('baisse', 6),
-	('bajes', 5),
-	('bajonet', 7),
-	('bakblik', 7),
-	('bakdek', 6),
-	('baken', 5),
-	('bakenen', 7),
-	('baker', 5),
-	('bakeren', 7),
-	('bakgoot', 7),
-	('bakhuis', 7),
-	('bakkeet', 7),
-	('bakken', 6),
-	('bakker', 6),
-	('bakkes', 6),
-	('bakkie', 6),
-	('baklamp', 7),
-	('baklap', 6),
-	('baklava', 7),
-	('baklijn', 7),
-	('bakmeel', 7),
-	('bakmix', 6),
-	('bakolie', 7),
-	('bakoven', 7),
-	('bakpan', 6),
-	('bakra', 5),
-	('baksel', 6),
-	('baksen', 6),
-	('baksis', 6),
-	('bakspel', 7),
-	('bakster', 7),
-	('bakte', 5),
-	('baktijd', 7),
-	('baktrog', 7),
-	('bakvet', 6),
-	('bakvis', 6),
-	('bakvorm', 7),
-	('bakzeil', 7),
-	('balans', 6),
-	('balata', 6),
-	('balatum', 7),
-	('balba', 5),
-	('balein', 6),
-	('balen', 5),
-	('balie', 5),
-	('balije', 6),
-	('baljurk', 7),
-	('baljuw', 6),
-	('balken', 6),
-	('balkon', 6),
-	('ballad', 6),
-	('ballade', 7),
-	('ballast', 7),
-	('ballen', 6),
-	('ballet', 6),
-	('balling', 7),
-	('ballon', 6),
-	('balorig', 7),
-	('balpen', 6),
-	('balsa', 5),
-	('balsem', 6),
-	('balspel', 7),
-	('balts', 5),
-	('baltsen', 7),
-	('balvast', 7),
-	('balzaal', 7),
-	('balzak', 6),
-	('bamba', 5),
-	('bambino', 7),
-	('bamboe', 6),
-	('bamibal', 7),
-	('bamis', 5),
-	('banaal', 6),
-	('banaan', 6),
-	('banaat', 6),
-	('bancair', 7),
-	('banco', 5),
-	('bandage', 7),
-	('bandana', 7),
-	('bande', 5),
-	('bandel', 6),
-	('banden', 6),
-	('bandera', 7),
-	('bandiet', 7),
-	('bandijk', 7),
-	('bandjir', 7),
-	('bandlid', 7),
-	('bandrem', 7),
-	('banen', 5),
-	('banga', 5),
-	('bangerd', 7),
-	('bangig', 6),
-	('banier', 6),
-	('banjer', 6),
-	('banjir', 6),
-	('banjo', 5),
-	('bankapp', 7),
-	('bankbed', 7),
-	('banken', 6),
-	('banket', 6),
-	('bankier', 7),
-	('bankje', 6),
-	('bankman', 7),
-	('bankpas', 7),
-	('bankrun', 7),
-	('bankvak', 7),
-	('bankwet', 7),
-	('bannen', 6),
-	('banner', 6),
-	('banning', 7),
-	('banpaal', 7),
-	('bantam', 6),
-	('banteng', 7),
-	('baobab', 6),
-	('bapao', 5),
-	('baptist', 7),
-	('barak', 5),
-	('barbaar', 7),
-	('barbeel', 7),
-	('barbie', 6),
-	('barbier', 7),
-	('barblad', 7),
-	('barcode', 7),
-	('bardame', 7),
-	('bareel', 6),
-	('barema', 6),
-	('baren', 5),
-	('baret', 5),
-	('barette', 7),
-	('barheid', 7),
-	('baribal', 7),
-	('bariet', 6),
-	('baring', 6),
-	('bariton', 7),
-	('barium', 6),
-	('barkas', 6),
-	('barkast', 7),
-	('barkruk', 7),
-	('barman', 6),
-	('barmeid', 7),
-	('barnen', 6),
-	('barok', 5),
-	('baron', 5),
-	('barones', 7),
-	('baronie', 7),
-	('barrage', 7),
-	('barre', 5),
-	('barrel', 6),
-	('barrels', 7),
-	('barring', 7),
-	('barst', 5),
-	('barsten', 7),
-	('barteam', 7),
-	('barzoi', 6),
-	('basaal', 6),
-	('basalt', 6),
-	('basaria', 7),
-	('bascule', 7),
-	('basdrum', 7),
-	('basen', 5),
-	('baseren', 7),
-	('bashen', 6),
-	('basic', 5),
-	('basics', 6),
-	('basis', 5),
-	('basisch', 7),
-	('baskant', 7),
-	('basket', 6),
-	('baskiet', 7),
-	('baskuul', 7),
-	('basles', 6),
-	('baslijn', 7),
-	('basmati', 7),
-	('basnoot', 7),
-	('bassen', 6),
-	('basset', 6),
-	('bassin', 6),
-	('bassist', 7),
-	('basspel', 7),
-	('basstem', 7),
-	('basta', 5),
-	('basten', 6),
-	('basterd', 7),
-	('bastion', 7),
-	('bastoon', 7),
-	('baswerk', 7),
-	('bataat', 6),
-	('batch', 5),
-	('baten', 5),
-	('batig', 5),
-	('batik', 5),
-	('batist', 6),
-	('baton', 5),
-	('batsman', 7),
-	('batten', 6),
-	('batter', 6),
-	('batting', 7),
-	('battle', 6),
-	('bauwen', 6),
-	('bauxiet', 7),
-	('bavet', 5),
-	('baviaan', 7),
-	('baxter', 6),
-	('bazaar', 6),
-	('bazelen', 7),
-	('bazen', 5),
-	('bazig', 5),
-	('bazin', 5),
-	('bazooka', 7),
-	('bazuin', 6),
-	('beaat', 5),
-	('beachen', 7),
-	('beagle', 6),
-	('beambte', 7),
-	('beamen', 6),
-	('beamer', 6),
-	('beaming', 7),
-	('beangst', 7),
-	('beatbox', 7),
-	('beaten', 6),
-	('beatmis', 7),
-	('beatnik', 7),
-	('beauty', 6),
-	('bebaard', 7),
-	('bebloed', 7),
-	('beboet', 6),
-	('beboomd', 7),
-	('bebop', 5),
-	('bebost', 6),
-	('bebouwd', 7),
-	('bebrild', 7),
-	('bedaagd', 7),
-	('bedaard', 7),
-	('bedacht', 7),
-	('bedankt', 7),
-	('bedaren', 7),
-	('bedauwd', 7),
-	('bedbank', 7),
-	('bedden', 6),
-	('bedding', 7),
-	('bededag', 7),
-	('bedeeld', 7),
-	('bedeesd', 7),
-	('bedekt', 6),
-	('bedelen', 7),
-	('bederf', 6),
-	('bediend', 7),
-	('bedierf', 7),
-	('bedilal', 7),
-	('beding', 6),
-	('bedjas', 6),
-	('bedlamp', 7),
-	('bedoeld', 7),
-	('bedolah', 7),
-	('bedompt', 7),
-	('bedpan', 6),
-	('bedrag', 6),
-	('bedrand', 7),
-	('bedrijf', 7),
-	('bedrog', 6),
-	('bedroog', 7),
-	('bedrukt', 7),
-	('bedrust', 7),
-	('bedstee', 7),
-	('bedstro', 7),
-	('bedtijd', 7),
-	('beducht', 7),
-	('beduusd', 7),
-	('bedwang', 7),
-	('beekdal', 7),
-	('beeld', 5),
-	('beeldig', 7),
-	('beemd', 5),
-	('beenas', 6),
-	('beencel', 7),
-	('beenham', 7),
-	('beenkam', 7),
-	('beenkap', 7),
-	('beenpit', 7),
-	('beentje', 7),
-	('beenvis', 7),
-	('beerkar', 7),
-	('beerput', 7),
-	('beerton', 7),
-	('beest', 5),
-	('beesten', 7),
-	('beestig', 7),
-	('beestje', 7),
-	('beetje', 6),
-	('befaamd', 7),
-	('beffen', 6),
-	('begaafd', 7),
-	('begaan', 6),
-	('begane', 6),
-	('begapen', 7),
-	('begeerd', 7),
-	('begeren', 7),
-	('begerig', 7),
-	('begeven', 7),
-	('begijn', 6),
-	('begin', 5),
-	('begon', 5),
-	('begonia', 7),
-	('begreep', 7),
-	('begrip', 6),
-	('begroef', 7),
-	('behaard', 7),
-	('behagen', 7),
-	('behalen', 7),
-	('behalve', 7),
-	('behang', 6),
-	('behapt', 6),
-	('beharen', 7),
-	('beheer', 6),
-	('beheime', 7),
-	('behekst', 7),
-	('behelsd', 7),
-	('behept', 6),
-	('beheren', 7),
-	('behoren', 7),
-	('behoud', 6),
-	('behuild', 7),
-	('behuisd', 7),
-	('behulp', 6),
-	('behuwd', 6),
-	('beiaard', 7),
-	('beide', 5),
-	('beiden', 6),
-	('beidjes', 7),
-	('beier', 5),
-	('beieren', 7),
-	('beige', 5),
-	('beignet', 7),
-	('beitel', 6),
-	('beits', 5),
-	('beitsen', 7),
-	('bejaagd', 7),
-	('bejaard', 7),
-	('bejag', 5),
-	('bejagen', 7),
-	('bekaaid', 7),
-	('bekaf', 5),
-	('bekakt', 6),
-	('bekeerd', 7),
-	('bekeken', 7),
-	('bekend', 6),
-	('bekende', 7),
-	('beker', 5),
-	('bekeren', 7),
-	('bekijk', 6),
-	('bekist', 6),
-	('bekken', 6),
-	('beklad', 6),
-	('beklag', 6),
-	('beklant', 7),
-	('bekleed', 7),
-	('beklemd', 7),
-	('bekneld', 7),
-	('beknopt', 7),
-	('bekocht', 7),
-	('bekomen', 7),
-	('bekomst', 7),
-	('bekopen', 7),
-	('bekoren', 7),
-	('bekort', 6),
-	('bekwaam', 7),
-	('beladen', 7),
-	('belader', 7),
-	('belagen', 7),
-	('belager', 7),
-	('belang', 6),
-	('belast', 6),
-	('belboei', 7),
-	('belbus', 6),
-	('beleden', 7),
-	('beleed', 6),
-	('beleefd', 7),
-	('beleerd', 7),
-	('beleg', 5),
-	('belegen', 7),
-	('beleid', 6),
-	('belen', 5),
-	('belenen', 7),
-	('belener', 7),
-	('beleren', 7),
-	('belet', 5),
-	('beleven', 7),
-	('belezen', 7),
-	('belezer', 7),
-	('belfort', 7),
-	('belhuis', 7),
-	('belknop', 7),
-	('belle', 5),
-	('bellen', 6),
-	('beller', 6),
-	('belofte', 7),
-	('belonen', 7),
-	('beloner', 7),
-	('beloofd', 7),
-	('beloop', 6),
-	('belopen', 7),
-	('beloven', 7),
-	('belspel', 7),
-	('belster', 7),
-	('beltaxi', 7),
-	('beltoon', 7),
-	('beluik', 6),
-	('belust', 6),
-	('bemalen', 7),
-	('bemand', 6),
-	('bemest', 6),
-	('bemeten', 7),
-	('bemind', 6),
-	('beminde', 7),
-	('bemost', 6),
-	('bemuren', 7),
-	('benaamd', 7),
-	('benard', 6),
-	('benauwd', 7),
-	('bench', 5),
-	('bende', 5),
-	('bendir', 6),
-	('beneden', 7),
-	('benemen', 7),
-	('benen', 5),
-	('benepen', 7),
-	('bengel', 6),
-	('benig', 5),
-	('benigne', 7),
-	('benoemd', 7),
-	('bensjen', 7),
-	('bente', 5),
-	('benul', 5),
-	('benzeen', 7),
-	('benzine', 7),
-	('benzol', 6),
-	('beogen', 6),
-	('beoogd', 6),
-	('bepaald', 7),
-	('bepakt', 6),
-	('bepalen', 7),
-	('beperkt', 7),
-	('beppen', 6),
-	('beraad', 6),
-	('beraamd', 7),
-	('beraden', 7),
-	('beramen', 7),
-	('berapen', 7),
-	('berber', 6),
-	('berceau', 7),
-	('berde', 5),
-	('berecht', 7),
-	('bereden', 7),
-	('bereid', 6),
-	('bereids', 7),
-	('bereik', 6),
-	('bereisd', 7),
-	('beren', 5),
-	('bergaf', 6),
-	('bergdal', 7),
-	('berge', 5),
-	('bergen', 6),
-	('berger', 6),
-	('berghok', 7),
-	('berghut', 7),
-	('bergijs', 7),
-	('berging', 7),
-	('bergkam', 7),
-	('bergkap', 7),
-	('bergop', 6),
-	('bergpad', 7),
-	('bergpas', 7),
-	('bergrat', 7),
-	('bergrit', 7),
-	('bergrug', 7),
-	('bergtop', 7),
-	('bergvak', 7),
-	('bergweg', 7),
-	('bergwei', 7),
-	('bericht', 7),
-	('berijpt', 7),
-	('beril', 5),
-	('berin', 5),
-	('beringd', 7),
-	('berini', 6),
-	('berken', 6),
-	('berkoen', 7),
-	('bermbom', 7),
-	('bermen', 6),
-	('bermuda', 7),
-	('beroemd', 7),
-	('beroep', 6),
-	('beroeps', 7),
-	('beroerd', 7),
-	('beroet', 6),
-	('beroken', 7),
-	('berooid', 7),
-	('berookt', 7),
-	('berouw', 6),
-	('beroven', 7),
-	('berover', 7),
-	('berrie', 6),
-	('berst', 5),
-	('bersten', 7),
-	('berthe', 6),
-	('berucht', 7),
-	('beruste', 7),
-	('beschik', 7),
-	('beschot', 7),
-	('beschut', 7),
-	('besef', 5),
-	('beseft', 6),
-	('besje', 5),
-	('beslaan', 7),
-	('beslag', 6),
-	('beslikt', 7),
-	('beslist', 7),
-	('besloot', 7),
-	('besluit', 7),
-	('besmet', 6),
-	('besnord', 7),
-	('besogne', 7),
-	('besprek', 7),
-	('bessem', 6),
-	('bessen', 6),
-	('bestaan', 7),
-	('bestand', 7),
-	('beste', 5),
-	('bestek', 6),
-	('bestel', 6),
-	('bestemd', 7),
-	('bestens', 7),
-	('bestman', 7),
-	('bestoft', 7),
-	('bestuur', 7),
-	('bestwil', 7),
-	('betaald', 7),
-	('betalen', 7),
-	('betaler', 7),
-	('betamen', 7),
-	('betel', 5),
-	('betelen', 7),
-	('beten', 5),
-	('beter', 5),
-	('beteren', 7),
-	('betijen', 7),
-	('betijt', 6),
-	('betogen', 7),
-	('betoger', 7),
-	('betomen', 7),
-	('beton', 5),
-	('betonen', 7),
-	('betoog', 6),
-	('betoon', 6),
-	('betrek', 6),
-	('betten', 6),
-	('beugel', 6),
-	('beugen', 6),
-	('beuger', 6),
-	('beuken', 6),
-	('beuker', 6),
-	('beulen', 6),
-	('beulin', 6),
-	('beuling', 7),
-	('beunen', 6),
-	('beurder', 7),
-	('beuren', 6),
-	('beuring', 7),
-	('beurs', 5),
-	('beurt', 5),
-	('beurze', 6),
-	('beurzen', 7),
-	('bevak', 5),
-	('beval', 5),
-	('bevaren', 7),
-	('bevek', 5),
-	('bevel', 5),
-	('bevelen', 7),
-	('beven', 5),
-	('bever', 5),
-	('beverig', 7),
-	('bevers', 6),
-	('beviel', 6),
-	('bevind', 6),
-	('beving', 6),
-	('bevoegd', 7),
-	('bevolen', 7),
-	('bevolkt', 7),
-	('bewaakt', 7),
-	('bewaasd', 7),
-	('bewaken', 7),
-	('bewaker', 7),
-	('bewaren', 7),
-	('beweeg', 6),
-	('beweerd', 7),
-	('bewegen', 7),
-	('beweger', 7),
-	('bewenen', 7),
-	('bewener', 7),
-	('beweren', 7),
-	('bewijs', 6),
-	('bewind', 6),
-	('bewogen', 7),
-	('bewolkt', 7),
-	('bewonen', 7),
-	('bewoner', 7),
-	('bewoog', 6),
-	('bewoond', 7),
-	('bewust', 6),
-	('bewuste', 7),
-	('bezaagd', 7),
-	('bezaaid', 7),
-	('bezaan', 6),
-	('bezagen', 7),
-	('bezeild', 7),
-	('bezem', 5),
-	('bezemen', 7),
-	('bezeren', 7),
-	('bezet', 5),
-	('bezeten', 7),
-	('bezie', 5),
-	('bezield', 7),
-	('bezien', 6),
-	('bezig', 5),
-	('bezigen', 7),
-	('bezit', 5),
-	('bezocht', 7),
-	('bezoden', 7),
-	('bezoek', 6),
-	('bezomen', 7),
-	('bezopen', 7),
-	('bezorgd', 7),
-	('bezuren', 7),
-	('bezwaar', 7),
-	('bezweek', 7),
-	('bezweet', 7),
-	('biatlon', 7),
-	('bibber', 6),
-	('biblist', 7),
-	('biceps', 6),
-	('bidbank', 7),
-	('biddag', 6),
-	('bidden', 6),
-	('bidder', 6),
-	('bidet', 5),
-	('bidon', 5),
-	('biduur', 6),
-	('bidweek', 7),
-	('bidweg', 6),
-	('biecht', 6),
-	('bieden', 6),
-	('bieder', 6),
-	('bieding', 7),
-	('biels', 5),
-	('bielsen', 7),
-	('bielzen', 7),
-	('bierbak', 7),
-	('bierdop', 7),
-	('bieren', 6),
-	('bierhal', 7),
-	('bierkan', 7),
-	('bierpap', 7),
-	('bierpot', 7),
-	('bierpul', 7),
-	('biertap', 7),
-	('biertje', 7),
-	('bierton', 7),
-	('biervat', 7),
-	('biest', 5),
-	('bietje', 6),
-	('biets', 5),
-	('bietsen', 7),
-	('bietser', 7),
-	('biezen', 6),
-	('bigamie', 7),
-	('bigband', 7),
-	('biggel', 6),
-	('biggen', 6),
-	('bigot', 5),
-	('bijas', 5),
-	('bijbaan', 7),
-	('bijbal', 6),
-	('bijbank', 7),
-	('bijbel', 6),
-	('bijblad', 7),
-	('bijboek', 7),
-	('bijboog', 7),
-	('bijboot', 7),
-	('bijbouw', 7),
-	('bijdoen', 7),
-	('bijdruk', 7),
-	('bijeen', 6),
-	('bijhuis', 7),
-	('bijkans', 7),
-	('bijkelk', 7),
-	('bijker', 6),
-	('bijkerk', 7),
-	('bijkok', 6),
-	('bijlage', 7),
-	('bijleg', 6),
-	('bijles', 6),
-	('bijloop', 7),
-	('bijltje', 7),
-	('bijmaan', 7),
-	('bijman', 6),
-	('bijmest', 7),
-	('bijna', 5),
-	('bijnaam', 7),
-	('bijnier', 7),
-	('bijou', 5),
-	('bijpad', 6),
-	('bijpost', 7),
-	('bijrol', 6),
-	('bijslag', 7),
-	('bijster', 7),
-	('bijten', 6),
-	('bijtend', 7),
-	('bijter', 6),
-	('bijtje', 6),
-	('bijtoon', 7),
-	('bijtrek', 7),
-	('bijvak', 6),
-	('bijval', 6),
-	('bijveld', 7),
-	('bijvoet', 7),
-	('bijvorm', 7),
-	('bijweg', 6),
-	('bijwerk', 7),
-	('bijwijf', 7),
-	('bijzaak', 7),
-	('bijzaal', 7),
-	('bijzet', 6),
-	('bijzig', 6),
-	('bijzijn', 7),
-	('bijzin', 6),
-	('bijzit', 6),
-	('bijzon', 6),
-	('biken', 5),
-	('biker', 5),
-	('bikini', 6),
-	('bikkel', 6),
-	('bikken', 6),
-	('bikker', 6),
-	('bilan', 5),
-	('bilge', 5),
-	('bilhuid', 7),
-	('biljard', 7),
-	('biljart', 7),
-	('biljet', 6),
-	('biljoen', 7),
-	('billen', 6),
-	('billijk', 7),
-	('bilnaad', 7),
-	('bimbam', 6),
-	('binair', 6),
-	('binden', 6),
-	('bindend', 7),
-	('binder', 6),
-	('binding', 7),
-	('bindrif', 7),
-	('bindsel', 7),
-	('bindsla', 7),
-	('bingo', 5),
-	('binken', 6),
-	('binnen', 6),
-	('binocle', 7),
-	('binst', 5),
-	('bintje', 6),
-	('biobak', 6),
-	('biobank', 7),
-	('bioboer', 7),
-	('biochip', 7),
-	('biocide', 7),
-	('biofilm', 7),
-	('biogas', 6),
-	('biogeen', 7),
-	('biologe', 7),
-	('bioloog', 7),
-	('biopic', 6),
-	('biopsie', 7),
-	('biopt', 5),
-	('biotech', 7),
-	('biotoop', 7),
-	('birambi', 7),
-	('birdie', 6),
-	('birmaan', 7),
-	('bisam', 5),
-	('biscuit', 7),
-	('bisdom', 6),
-	('biseks', 6),
-	('bisjaar', 7),
-	('bismut', 6),
-	('bissen', 6),
-	('bisser', 6),
-	('bister', 6),
-	('bistro', 6),
-	('bitch', 5),
-	('bitchen', 7),
-	('bitcoin', 7),
-	('bitmap', 6),
-	('bitsig', 6),
-	('bitten', 6),
-	('bitter', 6),
-	('bitumen', 7),
-	('bivak', 5),
-	('bizar', 5),
-	('bizon', 5),
-	('blaadje', 7),
-	('blaag', 5),
-	('blaak', 5),
-	('blaam', 5),
-	('blaar', 5),
-	('blaas', 5),
-	('blaasje', 7),
-	('blabla', 6),
-	('bladder', 7),
-	('bladen', 6),
-	('bladig', 6),
-	('bladmos', 7),
-	('bladsla', 7),
-	('bladtin', 7),
-	('bladtop', 7),
-	('bladval', 7),
-	('bladzij', 7),
-	('blaffen', 7),
-	('blaffer', 7),
-	('blague', 6),
-	('blaken', 6),
-	('blaker', 6),
-	('blamage', 7),
-	('blanco', 6),
-	('blanda', 6),
-	('blank', 5),
-	('blanke', 6),
-	('blanket', 7),
-	('blaren', 6),
-	('blatant', 7),
-	('blaten', 6),
-	('blauw', 5),
-	('blauwen', 7),
-	('blauwig', 7),
-	('blazen', 6),
-	('blazer', 6),
-	('blazoen', 7),
-	('bleef', 5),
-	('bleek', 5),
-	('bleekte', 7),
-	('blees', 5),
-	('blein', 5),
-	('bleken', 6),
-	('bleker', 6),
-	('bleking', 7),
-	('blekken', 7),
-	('blende', 6),
-	('blenden', 7),
-	('blender', 7),
-	('blerken', 7),
-	('blesbok', 7),
-	('blessen', 7),
-	('bleven', 6),
-	('bliek', 5),
-	('bliep', 5),
-	('blies', 5),
-	('blieven', 7),
-	('bliezen', 7),
-	('blijde', 6),
-	('blijf', 5),
-	('blijft', 6),
-	('blijk', 5),
-	('blijken', 7),
-	('blijven', 7),
-	('blijver', 7),
-	('blikje', 6),
-	('blikken', 7),
-	('bliksem', 7),
-	('blind', 5),
-	('blinde', 6),
-	('blinden', 7),
-	('blink', 5),
-	('blinken', 7),
-	('blinker', 7),
-	('blister', 7),
-	('blits', 5),
-	('blitzen', 7),
-	('blode', 5),
-	('bloed', 5),
-	('bloeden', 7),
-	('bloeder', 7),
-	('bloedig', 7),
-	('bloedje', 7),
-	('bloei', 5),
-	('bloeien', 7),
-	('bloeier', 7),
-	('bloem', 5),
-	('bloemen', 7),
-	('bloemig', 7),
-	('bloes', 5),
-	('bloesem', 7),
-	('bloezen', 7),
-	('bloggen', 7),
-	('blogger', 7),
-	('bloheid', 7),
-	('blokdag', 7),
-	('blokhak', 7),
-	('blokhut', 7),
-	('blokje', 6),
-	('blokken', 7),
-	('blokker', 7),
-	('blokuur', 7),
-	('blond', 5),
-	('blonde', 6),
-	('blondje', 7),
-	('blonk', 5),
-	('blooper', 7),
-	('bloot', 5),
-	('blootje', 7),
-	('bloten', 6),
-	('blouse', 6),
-	('blouson', 7),
-	('blouwel', 7),
-	('blouwen', 7),
-	('blowen', 6),
-	('blower', 6),
-	('blowjob', 7),
-	('blozen', 6),
-	('blozend', 7),
-	('blubber', 7),
-	('blues', 5),
-	('bluesy', 6),
-	('bluffen', 7),
-	('bluffer', 7),
-	('blunder', 7),
-	('blussen', 7),
-	('blusser', 7),
-	('bluts', 5),
-	('blutsen', 7),
-	('board', 5),
-	('boarden', 7),
-	('bobbaan', 7),
-	('bobbed', 6),
-	('bobbel', 6),
-	('bobben', 6),
-	('bobber', 6),
-	('bobby', 5),
-	('bobijn', 6),
-	('bobine', 6),
-	('boblijn', 7),
-	('bobslee', 7),
-	('bobtail', 7),
-	('bochel', 6),
-	('bocht', 5),
-	('bochten', 7),
-	('bochtig', 7),
-	('bodega', 6),
-	('bodem', 5),
-	('bodemas', 7),
-	('bodemen', 7),
-	('boden', 5),
-	('bodes', 5),
-	('bodyart', 7),
-	('bodybag', 7),
-	('bodycam', 7),
-	('boeddha', 7),
-	('boede', 5),
-	('boedel', 6),
-	('boefje', 6),
-	('boegen', 6),
-	('boeglam', 7),
-	('boeglul', 7),
-	('boeien', 6),
-	('boeiend', 7),
-	('boeier', 6),
-	('boeiing', 7),
-	('boeisel', 7),
-	('boekel', 6),
-	('boeken', 6),
-	('boeker', 6),
-	('boeket', 6),
-	('boeking', 7),
-	('boekje', 6),
-	('boekrol', 7),
-	('boekrug', 7),
-	('boelage', 7),
-	('boeldag', 7),
-	('boelen', 6),
-	('boelijn', 7),
-	('boeltje', 7),
-	('boeman', 6),
-	('boemel', 6),
-	('boender', 7),
-	('boenen', 6),
-	('boenlap', 7),
-	('boenwas', 7),
-	('boerde', 6),
-	('boeren', 6),
-	('boerin', 6),
-	('boerka', 6),
-	('boers', 5),
-	('boert', 5),
-	('boerten', 7),
-	('boertig', 7),
-	('boertje', 7),
-	('boete', 5),
-	('boeten', 6),
-	('boeter', 6),
-	('boetiek', 7),
-	('boezel', 6),
-	('boezem', 6),
-	('boezen', 6),
-	('boffen', 6),
-	('boffer', 6),
-	('bofkont', 7),
-	('bogaard', 7),
-	('bogen', 5),
-	('bogend', 6),
-	('bogerd', 6),
-	('bogey', 5),
-	('bogie', 5),
-	('bohemer', 7),
-	('boiler', 6),
-	('bojaar', 6),
-	('bokaal', 6),
-	('bokje', 5),
-	('bokken', 6),
-	('bokkig', 6),
-	('bokking', 7),
-	('boksbal', 7),
-	('boksen', 6),
-	('bokser', 6),
-	('boksles', 7),
-	('bokszak', 7),
-	('boktor', 6),
-	('bolbaan', 7),
-	('bolder', 6),
-	('boleet', 6),
-	('bolero', 6),
-	('boletri', 7),
-	('bolheid', 7),
-	('bolhoed', 7),
-	('bolide', 6),
-	('bolivar', 7),
-	('bolkaf', 6),
-	('bolknak', 7),
-	('bolkop', 6),
-	('bolle', 5),
-	('bolleke', 7),
-	('bollen', 6),
-	('bollig', 6),
-	('bolling', 7),
-	('bolrond', 7),
-	('bolspel', 7),
-	('bolster', 7),
-	('bolus', 5),
-	('bolvorm', 7),
-	('bolwerk', 7),
-	('bolworm', 7),
-	('bolzaad', 7),
-	('bolzeef', 7),
-	('bomauto', 7),
-	('bombam', 6),
-	('bombast', 7),
-	('bombel', 6),
-	('bomen', 5),
-	('bomer', 5),
-	('bomgat', 6),
-	('bomig', 5),
-	('bomijs', 6),
-	('bomma', 5),
-	('bommel', 6),
-	('bommen', 6),
-	('bommerd', 7),
-	('bompa', 5),
-	('bomvest', 7),
-	('bomvol', 6),
-	('bomvrij', 7),
-	('bonbon', 6),
-	('bondage', 7),
-	('bondel', 6),
-	('bonden', 6),
-	('bonder', 6),
-	('bondig', 6),
-	('bongerd', 7),
-	('bongo', 5),
-	('bonje', 5),
-	('bonjour', 7),
-	('bonken', 6),
-	('bonker', 6),
-	('bonket', 6),
-	('bonkig', 6),
-	('bonksel', 7),
-	('bonnet', 6),
-	('bonobo', 6),
-	('bonsai', 6),
-	('bonten', 6),
-	('bontjas', 7),
-	('bontje', 6),
-	('bonus', 5),
-	('bonze', 5),
-	('bonzen', 6),
-	('boogarm', 7),
-	('boogbal', 7),
-	('boogie', 6),
-	('boombal', 7),
-	('boomboa', 7),
-	('boombox', 7),
-	('boomen', 6),
-	('boomhut', 7),
-	('booming', 7),
-	('boomkap', 7),
-	('boomkor', 7),
-	('boommos', 7),
-	('boompje', 7),
-	('boomtak', 7),
-	('boomtop', 7),
-	('boontje', 7),
-	('booras', 6),
-	('boord', 5),
-	('boorden', 7),
-	('boorgat', 7),
-	('boorkop', 7),
-	('boormal', 7),
-	('boorput', 7),
-	('boorsel', 7),
-	('boort', 5),
-	('boortol', 7),
-	('boost', 5),
-	('boosten', 7),
-	('booster', 7),
-	('bootee', 6),
-	('booten', 6),
-	('bootleg', 7),
-	('boots', 5),
-	('bootsen', 7),
-	('bopper', 6),
-	('boraat', 6),
-	('borat', 5),
-	('borax', 5),
-	('bordeel', 7),
-	('borden', 6),
-	('border', 6),
-	('bordes', 6),
-	('borduur', 7),
-	('boreaal', 7),
-	('boren', 5),
-	('borend', 6),
-	('borgen', 6),
-	('borger', 6),
-	('borging', 7),
-	('borgpen', 7),
-	('borgsom', 7),
-	('boring', 6),
-	('borium', 6),
-	('bornput', 7),
-	('borrel', 6),
-	('borst', 5),
-	('borstel', 7),
-	('borsten', 7),
-	('bosaap', 6),
-	('bosbad', 6),
-	('bosbeer', 7),
-	('bosbes', 6),
-	('bosbode', 7),
-	('bosbouw', 7),
-	('bosduif', 7),
-	('bosfee', 6),
-	('bosgeur', 7),
-	('bosgeus', 7),
-	('bosgod', 6),
-	('boshoen', 7),
-	('boshut', 6),
-	('bosje', 5),
-	('boskant', 7),
-	('boskap', 6),
-	('boskar', 6),
-	('boskat', 6),
-	('bosklas', 7),
-	('bosland', 7),
-	('bosloop', 7),
-	('bosmens', 7),
-	('bosmier', 7),
-	('bosmuis', 7),
-	('bosmuur', 7),
-	('bosnimf', 7),
-	('boson', 5),
-	('bospad', 6),
-	('bospark', 7),
-	('bospeen', 7),
-	('bosplan', 7),
-	('bosrand', 7),
-	('bosrank', 7),
-	('bosrijk', 7),
-	('bosrit', 6),
-	('bossage', 7),
-	('bossen', 6),
-	('bosspel', 7),
-	('bosspin', 7),
-	('bostel', 6),
-	('boston', 6),
-	('bostra', 6),
-	('bostuin', 7),
-	('bosui', 5),
-	('bosuil', 6),
-	('bosveen', 7),
-	('bosvlam', 7),
-	('bosweg', 6),
-	('boswet', 6),
-	('bosyaws', 7),
-	('botaf', 5),
-	('botanie', 7),
-	('botel', 5),
-	('boten', 5),
-	('boter', 5),
-	('boteren', 7),
-	('botheid', 7),
-	('botje', 5),
-	('botjes', 6),
-	('botmuil', 7),
-	('botnet', 6),
-	('botox', 5),
-	('botoxen', 7),
-	('botpijn', 7),
-	('botrest', 7),
-	('botscan', 7),
-	('botsen', 6),
-	('botsing', 7),
-	('botte', 5),
-	('bottel', 6),
-	('botten', 6),
-	('botter', 6),
-	('bottine', 7),
-	('botvink', 7),
-	('botweg', 6),
-	('boudoir', 7),
-	('boudweg', 7),
-	('bougie', 6),
-	('bouilli', 7),
-	('bouncen', 7),
-	('bouquet', 7),
-	('bourbon', 7),
-	('bourdon', 7),
-	('bourree', 7),
-	('boutade', 7),
-	('bouten', 6),
-	('bouvier', 7),
-	('bouwdag', 7),
-	('bouwdok', 7),
-	('bouwen', 6),
-	('bouwer', 6),
-	('bouwhal', 7),
-	('bouwhek', 7),
-	('bouwkas', 7),
-	('bouwman', 7),
-	('bouwput', 7),
-	('bouwsel', 7),
-	('bouwset', 7),
-	('bouwsom', 7),
-	('bouwvak', 7),
-	('bouwval', 7),
-	('bouwweg', 7),
-	('boven', 5),
-	('bovenaf', 7),
-	('bovenal', 7),
-	('bovenin', 7),
-	('bovenom', 7),
-	('bovenop', 7),
-	('bovenst', 7),
-	('bovien', 6),
-	('bowlen', 6),
-	('bowler', 6),
-	('bowling', 7),
-	('bowls', 5),
-	('boxcalf', 7),
-	('boxen', 5),
-	('boxer', 5),
-	('boxplot', 7),
-	('boyband', 7),
-	('boycot', 6),
-	('bozig', 5),
-	('braad', 5),
-	('braaf', 5),
-	('braai', 5),
-	('braak', 5),
-	('braam', 5),
-	('brabbel', 7),
-	('brabo', 5),
-	('brace', 5),
-	('bracht', 6),
-	('braden', 6),
-	('braille', 7),
-	('brains', 6),
-	('braken', 6),
-	('braker', 6),
-	('braking', 7),
-	('brakken', 7),
-	('bralaap', 7),
-	('brallen', 7),
-	('bramen', 6),
-	('brammen', 7),
-	('bramra', 6),
-	('branche', 7),
-	('brand', 5),
-	('branden', 7),
-	('brander', 7),
-	('brandig', 7),
-	('brandje', 7),
-	('brandy', 6),
-	('branie', 6),
-	('brasa', 5),
-	('brasem', 6),
-	('brassen', 7),
-	('brasser', 7),
-	('bravo', 5),
-	('braziel', 7),
-	('break', 5),
-	('breaken', 7),
-	('breed', 5),
-	('breedte', 7),
-	('breefok', 7),
-	('breek', 5),
-	('breekal', 7),
-	('breeks', 6),
-	('breel', 5),
-	('breezer', 7),
-	('breidel', 7),
-	('breien', 6),
-	('breier', 6),
-	('brein', 5),
-	('breipen', 7),
-	('breisel', 7),
-	('breiwol', 7),
-	('breken', 6),
-	('breker', 6),
-	('breking', 7),
-	('brems', 5),
-	('bremze', 6),
-	('brengen', 7),
-	('brenger', 7),
-	('bressen', 7),
-	('bretel', 6),
-	('bretels', 7),
-	('breuk', 5),
-	('breukje', 7),
-	('breve', 5),
-	('brevet', 6),
-	('brevier', 7),
-	('bridge', 6),
-	('bridgen', 7),
-	('bridger', 7),
-	('brief', 5),
-	('briefen', 7),
-	('briefje', 7),
-	('briek', 5),
-	('bries', 5),
-	('briesen', 7),
-	('briesje', 7),
-	('briet', 5),
-	('brigade', 7),
-	('brijbek', 7),
-	('brijen', 6),
-	('brijn', 5),
-	('brijnen', 7),
-	('brijpot', 7),
-	('brijzel', 7),
-	('briket', 6),
-	('brikken', 7),
-	('brille', 6),
-	('brillen', 7),
-	('brink', 5),
-	('brioche', 7),
-	('brique', 6),
-	('brisant', 7),
-	('brits', 5),
-	('britsen', 7),
-	('brobbel', 7),
-	('broche', 6),
-	('broed', 5),
-	('broedei', 7),
-	('broeden', 7),
-	('broeder', 7),
-	('broeds', 6),
-	('broei', 5),
-	('broeien', 7),
-	('broek', 5),
-	('broeken', 7),
-	('broekje', 7),
-	('broer', 5),
-	('broes', 5),
-	('broezen', 7),
-	('brogue', 6),
-	('brokaat', 7),
-	('broker', 6),
-	('brokje', 6),
-	('brokjes', 7),
-	('brokkel', 7),
-	('brokken', 7),
-	('brombas', 7),
-	('bromide', 7),
-	('bromium', 7),
-	('brommen', 7),
-	('brommer', 7),
-	('brommig', 7),
-	('brompot', 7),
-	('bromtol', 7),
-	('brongas', 7),
-	('bronk', 5),
-	('brons', 5),
-	('bronst', 6),
-	('bronzen', 7),
-	('brooche', 7),
-	('brood', 5),
-	('broodje', 7),
-	('broom', 5),
-	('broos', 5),
-	('brosse', 6),
-	('brossen', 7),
-	('brosser', 7),
-	('brousse', 7),
-	('brouwen', 7),
-	('brouwer', 7),
-	('brownie', 7),
-	('browsen', 7),
-	('browser', 7),
-	('broze', 5),
-	('brugdag', 7),
-	('brugdek', 7),
-	('bruggat', 7),
-	('brugvak', 7),
-	('bruid', 5),
-	('bruidje', 7),
-	('bruigom', 7),
-	('bruin', 5),
-	('bruine', 6),
-	('bruinen', 7),
-	('bruinig', 7),
-	('bruis', 5),
-	('bruisen', 7),
-	('brulaap', 7),
-	('brullen', 7),
-	('bruls', 5),
-	('brummel', 7),
-	('brunch', 6),
-	('brunel', 6),
-	('brushen', 7),
-	('brushes', 7),
-	('brutaal', 7),
-	('bruto', 5),
-	('bruusk', 6),
-	('bruut', 5),
-	('bubbel', 6),
-	('bubbels', 7),
-	('bubbelt', 7),
-	('bucht', 5),
-	('buckram', 7),
-	('buddy', 5),
-	('budget', 6),
-	('buffel', 6),
-	('buffer', 6),
-	('buffet', 6),
-	('bugel', 5),
-	('buggy', 5),
-	('buidel', 6),
-	('buien', 5),
-	('buigen', 6),
-	('buiger', 6),
-	('buiging', 7),
-	('buiig', 5),
-	('buiken', 6),
-	('buikig', 6),
-	('buikje', 6),
-	('buiklap', 7),
-	('buikvet', 7),
-	('buikvin', 7),
-	('builen', 6),
-	('buisje', 6),
-	('buiskap', 7),
-	('buisvak', 7),
-	('buiten', 6),
-	('buitje', 6),
-	('buizen', 6),
-	('buizer', 6),
-	('buizerd', 7),
-	('bukken', 6),
-	('bukskin', 7),
-	('buldog', 6),
-	('bulgur', 6),
-	('bulhond', 7),
-	('bulken', 6),
-	('bulldog', 7),
-	('bullen', 6),
-	('bullet', 6),
-	('bully', 5),
-	('bulster', 7),
-	('bulten', 6),
-	('bultig', 6),
-	('bultjes', 7),
-	('bultrug', 7),
-	('bultzak', 7),
-	('bumpen', 6),
-	('bumper', 6),
-	('bundel', 6),
-	('bunder', 6),
-	('bungel', 6),
-	('bunker', 6),
-	('bunny', 5),
-	('bunraku', 7),
-	('bunzing', 7),
-	('burcht', 6),
-	('bureau', 6),
-	('bureaus', 7),
-	('bureel', 6),
-	('buren', 5),
-	('buret', 5),
-	('burger', 6),
-	('burgers', 7),
-	('burgul', 6),
-	('burgwal', 7),
-	('burijn', 6),
-	('burin', 5),
-	('burlen', 6),
-	('burlesk', 7),
-	('burneti', 7),
-	('burrito', 7),
-	('bursaal', 7),
-	('busbaan', 7),
-	('busbo', 5),
-	('busboot', 7),
-	('busje', 5),
-	('buslijn', 7),
-	('busnet', 6),
-	('buspas', 6),
-	('busramp', 7),
-	('busreis', 7),
-	('busrit', 6),
-	('bussel', 6),
-	('bussen', 6),
-	('busstop', 7),
-	('bustaxi', 7),
-	('buste', 5),
-	('bustier', 7),
-	('bustoer', 7),
-	('bustrip', 7),
-	('butaan', 6),
-	('butagas', 7),
-	('buten', 5),
-	('butler', 6),
-	('butoor', 6),
-	('butsen', 6),
-	('butskop', 7),
-	('button', 6),
-	('buurkat', 7),
-	('buurman', 7),
-	('buurt', 5),
-	('buurten', 7),
-	('buurtje', 7),
-	('buxus', 5),
-	('buzzen', 6),
-	('buzzer', 6),
-	('byebye', 6),
-	('bypass', 6),
-	('byssus', 6),
-	('caban', 5),
-	('cabaret', 7),
-	('cabine', 6),
-	('cabrio', 6),
-	('cacao', 5),
-	('cache', 5),
-	('cachen', 6),
-	('cachet', 6),
-	('caching', 7),
-	('cachot', 6),
-	('cactee', 6),
-	('cactus', 6),
-	('cadans', 6),
-	('caddie', 6),
-	('caddy', 5),
-	('cadeau', 6),
-	('cadeaus', 7),
-	('cadens', 6),
-	('cadet', 5),
-	('cadmium', 7),
-	('cadre', 5),
-	('caesar', 6),
-	('cahier', 6),
-	('caisson', 7),
-	('cajun', 5),
-	('calciet', 7),
-	('calcium', 7),
-	('calicot', 7),
-	('callboy', 7),
-	('callen', 6),
-	('calorie', 7),
-	('calque', 6),
-	('calumet', 7),
-	('calypso', 7),
-	('camaieu', 7),
-	('camber', 6),
-	('cambio', 6),
-	('cambium', 7),
-	('camee', 5),
-	('camel', 5),
-	('camelia', 7),
-	('cameo', 5),
-	('camera', 6),
-	('camion', 6),
-	('camjo', 5),
-	('cammen', 6),
-	('camper', 6),
-	('camping', 7),
-	('campo', 5),
-	('campus', 6),
-	('campy', 5),
-	('canada', 6),
-	('canard', 6),
-	('canasta', 7),
-	('cancan', 6),
-	('candida', 7),
-	('candy', 5),
-	('canon', 5),
-	('cantate', 7),
-	('canto', 5),
-	('cantor', 6),
-	('canule', 6),
-	('canvas', 6),
-	('canyon', 6),
-	('canzone', 7),
-	('capabel', 7),
-	('caprice', 7),
-	('capsule', 7),
-	('captain', 7),
-	('captie', 6),
-	('caput', 5),
-	('caracal', 7),
-	('caravan', 7),
-	('carbid', 6),
-	('carbol', 6),
-	('carbon', 6),
-	('carboon', 7),
-	('carbuur', 7),
-	('caret', 5),
-	('carga', 5),
-	('cargo', 5),
-	('carieus', 7),
-	('caritas', 7),
-	('carkit', 6),
-	('carnet', 6),
-	('carpool', 7),
-	('carport', 7),
-	('carrier', 7),
-	('carter', 6),
-	('cartoon', 7),
-	('carven', 6),
-	('carwash', 7),
-	('cascade', 7),
-	('cascara', 7),
-	('casco', 5),
-	('cashen', 6),
-	('casino', 6),
-	('cassave', 7),
-	('cassis', 6),
-	('casten', 6),
-	('casting', 7),
-	('castrum', 7),
-	('casual', 6),
-	('casueel', 7),
-	('casus', 5),
-	('catarre', 7),
-	('catch', 5),
-	('catchen', 7),
-	('catcher', 7),
-	('catchy', 6),
-	('cateren', 7),
-	('catgut', 6),
-	('catwalk', 7),
-	('cauda', 5),
-	('causaal', 7),
-	('causeur', 7),
-	('cautie', 6),
-	('cavia', 5),
-	('cayenne', 7),
-	('cedel', 5),
-	('ceder', 5),
-	('cederen', 7),
-	('cedille', 7),
-	('celdeur', 7),
-	('celdood', 7),
-	('celesta', 7),
-	('celkern', 7),
-	('cella', 5),
-	('cellijn', 7),
-	('cellist', 7),
-	('cello', 5),
-	('celstof', 7),
-	('celtype', 7),
-	('celwand', 7),
-	('cembalo', 7),
-	('cement', 6),
-	('cenakel', 7),
-	('censor', 6),
-	('census', 6),
-	('censuur', 7),
-	('centaur', 7),
-	('center', 6),
-	('centiem', 7),
-	('centime', 7),
-	('centra', 6),
-	('centrum', 7),
-	('cerise', 6),
-	('cervela', 7),
-	('cervix', 6),
-	('cesium', 6),
-	('cessie', 6),
-	('cesuur', 6),
-	('ceylon', 6),
-	('chablis', 7),
-	('chador', 6),
-	('chakra', 6),
-	('chalet', 6),
-	('challe', 6),
-	('chamade', 7),
-	('chance', 6),
-	('chanson', 7),
-	('chant', 5),
-	('chaoot', 6),
-	('chaos', 5),
-	('chape', 5),
-	('chappe', 6),
-	('charade', 7),
-	('charge', 6),
-	('chargen', 7),
-	('charger', 7),
-	('charm', 5),
-	('charme', 6),
-	('chart', 5),
-	('charta', 6),
-	('charter', 7),
-	('chassis', 7),
-	('chatapp', 7),
-	('chatbot', 7),
-	('chatbox', 7),
-	('chateau', 7),
-	('chatten', 7),
-	('chatter', 7),
-	('chaud', 5),
-	('chazan', 6),
-	('cheat', 5),
-	('cheaten', 7),
-	('check', 5),
-	('checken', 7),
-	('checks', 6),
-	('cheddar', 7),
-	('cheerio', 7),
-	('cheeta', 6),
-	('cheffin', 7),
-	('cheider', 7),
-	('chemici', 7),
-	('chemie', 6),
-	('chemo', 5),
-	('cheque', 6),
-	('cherub', 6),
-	('chester', 7),
-	('cheviot', 7),
-	('chevron', 7),
-	('chianti', 7),
-	('chiasma', 7),
-	('chiasme', 7),
-	('chicane', 7),
-	('chick', 5),
-	('chicst', 6),
-	('chiffon', 7),
-	('chignon', 7),
-	('chijl', 5),
-	('chili', 5),
-	('chill', 5),
-	('chillen', 7),
-	('chimp', 5),
-	('chinees', 7),
-	('chino', 5),
-	('chinois', 7),
-	('chinook', 7),
-	('chintz', 6),
-	('chippen', 7),
-	('chipper', 7),
-	('chippie', 7),
-	('chips', 5),
-	('chipset', 7),
-	('chique', 6),
-	('chiquer', 7),
-	('chirurg', 7),
-	('chloor', 6),
-	('chloren', 7),
-	('chochme', 7),
-	('choco', 5),
-	('chocola', 7),
-	('choepa', 6),
-	('choke', 5),
-	('choken', 6),
-	('choker', 6),
-	('chole', 5),
-	('cholera', 7),
-	('choppen', 7),
-	('chopper', 7),
-	('chorizo', 7),
-	('choro', 5),
-	('chorus', 6),
-	('chose', 5),
-	('chris', 5),
-	('chrisma', 7),
-	('chroma', 6),
-	('chromen', 7),
-	('chromo', 6),
-	('chrono', 6),
-	('chroom', 6),
-	('chute', 5),
-	('chutney', 7),
-	('ciborie', 7),
-	('cicade', 6),
-	('cicero', 6),
-	('cider', 5),
-	('cijfer', 6),
-	('cijns', 5),
-	('cimaas', 6),
-	('cimbaal', 7),
-	('cinch', 5),
-	('cineac', 6),
-	('cineast', 7),
-	('cinema', 6),
-	('cipier', 6),
-	('cipres', 6),
-	('circa', 5),
-	('circuit', 7),
-	('circus', 6),
-	('cirkel', 6),
-	('cirrose', 7),
-	('cirrus', 6),
-	('citaat', 6),
-	('citadel', 7),
-	('citatie', 7),
-	('citer', 5),
-	('citeren', 7),
-	('citerne', 7),
-	('citroen', 7),
-	('citrus', 6),
-	('citybag', 7),
-	('civet', 5),
-	('civiel', 6),
-	('civisme', 7),
-	('claim', 5),
-	('claimen', 7),
-	('clanlid', 7),
-	('claque', 6),
-	('claris', 6),
-	('clark', 5),
-	('clash', 5),
-	('clashen', 7),
-	('classic', 7),
-	('classis', 7),
-	('claus', 5),
-	('clave', 5),
-	('claves', 6),
-	('claxon', 6),
-	('clean', 5),
-	('cleanen', 7),
-	('cleaner', 7),
-	('clement', 7),
-	('clerus', 6),
-	('click', 5),
-	('climax', 6),
-	('clinch', 6),
-	('clinic', 6),
-	('clipart', 7),
-	('clippen', 7),
-	('clipper', 7),
-	('clips', 5),
-	('clique', 6),
-	('clivia', 6),
-	('cloaca', 6),
-	('cloche', 6),
-	('close', 5),
-	('closet', 6),
-	('clown', 5),
-	('clubben', 7),
-	('clubdag', 7),
-	('clubdas', 7),
-	('clubhit', 7),
-	('clubkas', 7),
-	('clublid', 7),
-	('clubman', 7),
-	('clubpas', 7),
-	('clubrit', 7),
-	('cluppie', 7),
-	('cluster', 7),
-	('coach', 5),
-	('coachen', 7),
-	('coaches', 7),
-	('coaster', 7),
-	('coaten', 6),
-	('coating', 7),
-	('cobra', 5),
-	('coccus', 6),
-	('cockney', 7),
-	('cockpit', 7),
-	('cocon', 5),
-	('cocotte', 7),
-	('codec', 5),
-	('coderen', 7),
-	('codeur', 6),
-	('codex', 5),
-	('codicil', 7),
-	('codille', 7),
-	('codon', 5),
-	('cognac', 6),
-	('cohesie', 7),
-	('cohort', 6),
-	('cohorte', 7),
-	('cokes', 5),
-	('colbert', 7),
-	('collage', 7),
-	('collaps', 7),
-	('collega', 7),
-	('college', 7),
-	('colli', 5),
-	('collie', 6),
-	('collier', 7),
-	('collo', 5),
-	('colofon', 7),
-	('colon', 5),
-	('colonne', 7),
-	('coltan', 6),
-	('coltrui', 7),
-	('column', 6),
-	('combi', 5),
-	('combine', 7),
-	('combo', 5),
-	('comedy', 6),
-	('comfort', 7),
-	('comic', 5),
-	('commies', 7),
-	('commode', 7),
-	('commune', 7),
-	('compact', 7),
-	('complet', 7),
-	('complex', 7),
-	('complot', 7),
-	('compost', 7),
-	('compote', 7),
-	('concaaf', 7),
-	('concept', 7),
-	('concern', 7),
-	('concert', 7),
-	('condens', 7),
-	('condoom', 7),
-	('condor', 6),
-	('conform', 7),
-	('confuus', 7),
-	('conga', 5),
-	('congres', 7),
-	('conisch', 7),
-	('consent', 7),
-	('console', 7),
-	('consul', 6),
-	('consult', 7),
-	('contact', 7),
-	('contant', 7),
-	('content', 7),
-	('contest', 7),
-	('context', 7),
-	('contigu', 7),
-	('continu', 7),
-	('conto', 5),
-	('contour', 7),
-	('contra', 6),
-	('conus', 5),
-	('convent', 7),
-	('convers', 7),
-	('convex', 6),
-	('cooker', 6),
-	('cookie', 6),
-	('copier', 6),
-	('copieus', 7),
-	('cordiet', 7),
-	('corgi', 5),
-	('corner', 6),
-	('cornet', 6),
-	('corona', 6),
-	('corps', 5),
-	('corpus', 6),
-	('correct', 7),
-	('corrupt', 7),
-	('corsa', 5),
-	('corsage', 7),
-	('corso', 5),
-	('cortex', 6),
-	('corvee', 6),
-	('coryfee', 7),
-	('coschap', 7),
-	('cosinus', 7),
-	('costa', 5),
-	('coterie', 7),
-	('cottage', 7),
-	('couch', 5),
-	('couche', 6),
-	('cougar', 6),
-	('coulant', 7),
-	('couloir', 7),
-	('coulomb', 7),
-	('counter', 7),
-	('country', 7),
-	('county', 6),
-	('coupe', 5),
-	('coupen', 6),
-	('coupeur', 7),
-	('couplet', 7),
-	('coupon', 6),
-	('coupure', 7),
-	('courage', 7),
-	('courant', 7),
-	('coureur', 7),
-	('couture', 7),
-	('couvade', 7),
-	('couvert', 7),
-	('cover', 5),
-	('coveren', 7),
-	('cowboy', 6),
-	('cowgirl', 7),
-	('coyote', 6),
-	('crack', 5),
-	('cracker', 7),
-	('crank', 5),
-	('crapaud', 7),
-	('crapuul', 7),
-	('crash', 5),
-	('crashen', 7),
-	('cravate', 7),
-	('crawl', 5),
-	('crawlen', 7),
-	('crayon', 6),
-	('crazy', 5),
-	('creatie', 7),
-	('credit', 6),
-	('credo', 5),
-	('creep', 5),
-	('creool', 6),
-	('creools', 7),
-	('cretin', 6),
-	('crewlid', 7),
-	('criant', 6),
-	('cricket', 7),
-	('crime', 5),
-	('crisis', 6),
-	('crisp', 5),
-	('critica', 7),
-	('critici', 7),
-	('crochet', 7),
-	('croesus', 7),
-	('croonen', 7),
-	('crooner', 7),
-	('croquet', 7),
-	('cross', 5),
-	('crossen', 7),
-	('crosser', 7),
-	('croste', 6),
-	('crouton', 7),
-	('crown', 5),
-	('crude', 5),
-	('cruise', 6),
-	('cruisen', 7),
-	('cruiser', 7),
-	('crypt', 5),
-	('crypte', 6),
-	('crypten', 7),
-	('csardas', 7),
-	('cubaan', 6),
-	('cuisine', 7),
-	('culthit', 7),
-	('culture', 7),
-	('cultus', 6),
-	('cultuur', 7),
-	('cumshot', 7),
-	('cumul', 5),
-	('cumulus', 7),
-	('cunet', 5),
-	('cupcake', 7),
-	('cupduel', 7),
-	('cupido', 6),
-	('cupmaat', 7),
-	('cuppen', 6),
-	('curare', 6),
-	('curator', 7),
-	('cureren', 7),
-	('curette', 7),
-	('curie', 5),
-	('curieus', 7),
-	('curiosa', 7),
-	('curling', 7),
-	('curry', 5),
-	('cursief', 7),
-	('cursist', 7),
-	('cursor', 6),
-	('cursus', 6),
-	('curve', 5),
-	('custard', 7),
-	('custode', 7),
-	('custos', 6),
-	('cutter', 6),
-	('cyaan', 5),
-	('cyanide', 7),
-	('cyanose', 7),
-	('cyborg', 6),
-	('cyclaam', 7),
-	('cycline', 7),
-	('cycloon', 7),
-	('cycloop', 7),
-	('cyclus', 6),
-	('cynicus', 7),
-	('cynisch', 7),
-	('cynisme', 7),
-	('cypers', 6),
-	('cyste', 5),
-	('cysteus', 7),
-	('daags', 5),
-	('daalder', 7),
-	('daaraan', 7),
-	('daaraf', 6),
-	('daarbij', 7),
-	('daarin', 6),
-	('daarmee', 7),
-	('daarna', 6),
-	('daarnet', 7),
-	('daarom', 6),
-	('daarop', 6),
-	('daartoe', 7),
-	('daaruit', 7),
-	('daarvan', 7),
-	('dabben', 6),
-	('dacht', 5),
-	('dadel', 5),
-	('dader', 5),
-	('daderes', 7),
-	('dading', 6),
-	('dagblad', 7),
-	('dagboek', 7),
-	('dagboog', 7),
-	('dagbouw', 7),
-	('dagdeel', 7),
-	('dagdief', 7),
-	('dagen', 5),
-	('dager', 5),
-	('dagge', 5),
-	('daggeld', 7),
-	('daghit', 6),
-	('daghulp', 7),
-	('daghuur', 7),
-	('daging', 6),
-	('dagje', 5),
-	('dagkant', 7),
-	('dagloon', 7),
-	('dagmaat', 7),
-	('dagmars', 7),
-	('dagmenu', 7),
-	('dagmerk', 7),
-	('dagorde', 7),
-	('dagpas', 6),
-	('dagreis', 7),
-	('dagrit', 6),
-	('dagslot', 7),
-	('dagtaak', 7),
-	('dagtank', 7),
-	('dagtrip', 7),
-	('daguil', 6),
-	('dagvers', 7),
-	('dagwand', 7),
-	('dagwerk', 7),
-	('dagzaal', 7),
-	('dagzege', 7),
-	('dagzoom', 7),
-	('dagzorg', 7),
-	('dahlia', 6),
-	('daisy', 5),
-	('dakbaan', 7),
-	('dakbalk', 7),
-	('daken', 5),
-	('dakgoot', 7),
-	('dakhaas', 7),
-	('dakleer', 7),
-	('daklei', 6),
-	('daklijn', 7),
-	('daklook', 7),
-	('dakloos', 7),
-	('dakloze', 7),
-	('dakluik', 7),
-	('daknok', 6),
-	('dakpan', 6),
-	('dakraam', 7),
-	('dakrand', 7),
-	('dakriet', 7),
-	('daktaal', 7),
-	('daktuin', 7),
-	('dakvlak', 7),
-	('dakvoet', 7),
-	('dakvorm', 7),
-	('dakwerk', 7),
-	('dalang', 6),
-	('dalem', 5),
-	('dalen', 5),
-	('daler', 5),
-	('daling', 6),
-	('dalles', 6),
-	('dalton', 6),
-	('daluren', 7),
-	('daluur', 6),
-	('dalven', 6),
-	('dalver', 6),
-	('dalwind', 7),
-	('damar', 5),
-	('damast', 6),
-	('damboek', 7),
-	('dambond', 7),
-	('dambord', 7),
-	('damclub', 7),
-	('dames', 5),
-	('damhert', 7),
-	('damklok', 7),
-	('damlijn', 7),
-	('dammen', 6),
-	('dammer', 6),
-	('dampaal', 7),
-	('dampbad', 7),
-	('dampen', 6),
-	('damper', 6),
-	('dampig', 6),
-	('dampkap', 7),
-	('damslag', 7),
-	('damspel', 7),
-	('damwand', 7),
-	('dance', 5),
-	('dancing', 7),
-	('dandy', 5),
-	('danig', 5),
-	('dankdag', 7),
-	('danken', 6),
-	('dankmis', 7),
-	('dankzij', 7),
-	('dansact', 7),
-	('dansant', 7),
-	('dansen', 6),
-	('danser', 6),
-	('danseur', 7),
-	('dansi', 5),
-	('dansles', 7),
-	('dansmat', 7),
-	('danspas', 7),
-	('danstip', 7),
-	('dantesk', 7),
-	('dapper', 6),
-	('darknet', 7),
-	('darmgas', 7),
-	('darmpje', 7),
-	('darmsap', 7),
-	('darren', 6),
-	('dartel', 6),
-	('darten', 6),
-	('darter', 6),
-	('darts', 5),
-	('dashond', 7),
-	('daslook', 7),
-	('dassen', 6),
-	('databus', 7),
-	('datalek', 7),
-	('datanet', 7),
-	('dataset', 7),
-	('daten', 5),
-	('dateren', 7),
-	('datgene', 7),
-	('datief', 6),
-	('dating', 6),
-	('datje', 5),
-	('datsja', 6),
-	('datum', 5),
-	('dauphin', 7),
-	('dauwen', 6),
-	('daver', 5),
-	('daveren', 7),
-	('davit', 5),
-	('dawet', 5),
-	('dazen', 5),
-	('dealen', 6),
-	('dealer', 6),
-	('debacle', 7),
-	('debat', 5),
-	('debater', 7),
-	('debet', 5),
-	('debiel', 6),
-	('debiet', 6),
-	('debuut', 6),
-	('decaan', 6),
-	('decade', 6),
-	('decent', 6),
-	('decibel', 7),
-	('deciel', 6),
-	('decime', 6),
-	('decisie', 7),
-	('decoder', 7),
-	('decor', 5),
-	('decorum', 7),
-	('decreet', 7),
-	('decumul', 7),
-	('decurio', 7),
-	('dedain', 6),
-	('deden', 5),
-	('deegbal', 7),
-	('deeglap', 7),
-	('deegrol', 7),
-	('deejay', 6),
-	('deels', 5),
-	('deelsom', 7),
-	('deeltal', 7),
-	('deeltje', 7),
-	('deelvak', 7),
-	('deelzin', 7),
-	('deemoed', 7),
-	('deern', 5),
-	('deerne', 6),
-	('deernis', 7),
-	('default', 7),
-	('defect', 6),
-	('deficit', 7),
-	('deftig', 6),
-	('degel', 5),
-	('degen', 5),
-	('degene', 6),
-	('degout', 6),
-	('deinen', 6),
-	('deining', 7),
-	('deinzen', 7),
-	('dekbed', 6),
-	('dekblad', 7),
-	('dekbord', 7),
-	('deken', 5),
-	('dekenij', 7),
-	('dekgeld', 7),
-	('dekglas', 7),
-	('dekhuis', 7),
-	('dekhut', 6),
-	('dekken', 6),
-	('dekker', 6),
-	('dekking', 7),
-	('dekkist', 7),
-	('deklaag', 7),
-	('deklast', 7),
-	('deklat', 6),
-	('deknaam', 7),
-	('dekpunt', 7),
-	('deksel', 6),
-	('deksels', 7),
-	('dekstro', 7),
-	('dekstuk', 7),
-	('dektijd', 7),
-	('dekverf', 7),
-	('dekzand', 7),
-	('dekzeil', 7),
-	('dekzool', 7),
-	('delen', 5),
-	('deler', 5),
-	('deleten', 7),
-	('deletie', 7),
-	('delfts', 6),
-	('delgen', 6),
-	('delging', 7),
-	('delict', 6),
-	('deling', 6),
-	('delling', 7),
-	('delta', 5),
-	('delven', 6),
-	('delver', 6),
-	('dement', 6),
-	('demente', 7),
-	('dementi', 7),
-	('demon', 5),
-	('demonie', 7),
-	('demotie', 7),
-	('dempen', 6),
-	('demper', 6),
-	('dempig', 6),
-	('demping', 7),
-	('dengue', 6),
-	('denier', 6),
-	('denim', 5),
-	('denke', 5),
-	('denken', 6),
-	('denkend', 7),
-	('denker', 6),
-	('dennen', 6),
-	('dentaal', 7),
-	('dentist', 7),
-	('deponie', 7),
-	('depot', 5),
-	('deppen', 6),
-	('depri', 5),
-	('derby', 5),
-	('derde', 5),
-	('deren', 5),
-	('dermate', 7),
-	('derny', 5),
-	('derrie', 6),
-	('dertien', 7),
-	('dertig', 6),
-	('derven', 6),
-	('derving', 7),
-	('derwisj', 7),
-	('desem', 5),
-	('desemen', 7),
-	('design', 6),
-	('deskjet', 7),
-	('desktop', 7),
-	('despoot', 7),
-	('dessert', 7),
-	('dessin', 6),
-	('dessous', 7),
-	('deswege', 7),
-	('detail', 6),
-	('detente', 7),
-	('detox', 5),
-	('detoxen', 7),
-	('deuce', 5),
-	('deugd', 5),
-	('deugen', 6),
-	('deuken', 6),
-	('deunen', 6),
-	('deuntje', 7),
-	('deurbel', 7),
-	('deurgat', 7),
-	('deurmat', 7),
-	('deutel', 6),
-	('deuvel', 6),
-	('deuvik', 6),
-	('deuzig', 6),
-	('deviant', 7),
-	('device', 6),
-	('devies', 6),
-	('devoon', 6),
-	('devoot', 6),
-	('devotie', 7),
-	('dewelke', 7),
-	('dewijl', 6),
-	('dezelve', 7),
-	('dezen', 5),
-	('dezer', 5),
-	('dezes', 5),
-	('dezulke', 7),
-	('diabaas', 7),
-	('diabeet', 7),
-	('diabolo', 7),
-	('diadeem', 7),
-	('diafaan', 7),
-	('diafilm', 7),
-	('diagram', 7),
-	('diaken', 6),
-	('dialect', 7),
-	('dialoog', 7),
-	('dialyse', 7),
-	('diamant', 7),
-	('diarium', 7),
-	('diarree', 7),
-	('diashow', 7),
-	('dibbes', 6),
-	('dibboek', 7),
-	('dicht', 5),
-	('dichten', 7),
-	('dichter', 7),
-	('dictaat', 7),
-	('dictee', 6),
-	('dictie', 6),
-	('dieet', 5),
-	('diegene', 7),
-	('diehard', 7),
-	('dieken', 6),
-	('dienaar', 7),
-	('dienbak', 7),
-	('diender', 7),
-	('dienen', 6),
-	('diens', 5),
-	('dienst', 6),
-	('diepe', 5),
-	('diepen', 6),
-	('dieper', 6),
-	('dieping', 7),
-	('diepte', 6),
-	('diepzee', 7),
-	('dieren', 6),
-	('diesel', 6),
-	('diets', 5),
-	('dieven', 6),
-	('diffuse', 7),
-	('diffuus', 7),
-	('diftar', 6),
-	('diftong', 7),
-	('digamma', 7),
-	('diggel', 6),
-	('diggels', 7),
-	('digraaf', 7),
-	('dijader', 7),
-	('dijbeen', 7),
-	('dijen', 5),
-	('dijkage', 7),
-	('dijken', 6),
-	('dijker', 6),
-	('dijkgat', 7),
-	('dijkpad', 7),
-	('dijkvak', 7),
-	('dijkval', 7),
-	('dijkweg', 7),
-	('dijstuk', 7),
-	('dikbil', 6),
-	('dikbuik', 7),
-	('dikheid', 7),
-	('dikhuid', 7),
-	('dikken', 6),
-	('dikkerd', 7),
-	('dikkig', 6),
-	('dikkop', 6),
-	('dikoor', 6),
-	('dikte', 5),
-	('dikwerf', 7),
-	('dikzak', 6),
-	('dildo', 5),
-	('dilemma', 7),
-	('dille', 5),
-	('dillen', 6),
-	('dimbaar', 7),
-	('dimmen', 6),
-	('dimmer', 6),
-	('dimorf', 6),
-	('dinar', 5),
-	('diner', 5),
-	('dineren', 7),
-	('dingen', 6),
-	('dinges', 6),
-	('dinghy', 6),
-	('dingo', 5),
-	('dinsdag', 7),
-	('diocees', 7),
-	('diocese', 7),
-	('diode', 5),
-	('diorama', 7),
-	('dioriet', 7),
-	('dioxide', 7),
-	('dioxine', 7),
-	('diploma', 7),
-	('dipool', 6),
-	('dippen', 6),
-	('dipsaus', 7),
-	('diptiek', 7),
-	('direct', 6),
-	('directe', 7),
-	('dirken', 6),
-	('disagio', 7),
-	('discant', 7),
-	('discman', 7),
-	('disco', 5),
-	('discus', 6),
-	('display', 7),
-	('dispuut', 7),
-	('dissel', 6),
-	('dissen', 6),
-	('distaal', 7),
-	('distel', 6),
-	('ditmaal', 7),
-	('divan', 5),
-	('divers', 6),
-	('divisie', 7),
-	('dixie', 5),
-	('dixit', 5),
-	('dizzy', 5),
-	('djakken', 7),
-	('djati', 5),
-	('djeroek', 7),
-	('djilbab', 7),
-	('djinn', 5),
-	('djorken', 7),
-	('dobbe', 5),
-	('dobber', 6),
-	('docent', 6),
-	('docente', 7),
-	('doceren', 7),
-	('docht', 5),
-	('dochter', 7),
-	('dociel', 6),
-	('doctor', 6),
-	('dodaars', 7),
-	('doddig', 6),
-	('dodekop', 7),
-	('dodeman', 7),
-	('doden', 5),
-	('doder', 5),
-	('doding', 6),
-	('doedel', 6),
-	('doeken', 6),
-	('doekoen', 7),
-	('doelen', 6),
-	('doellat', 7),
-	('doelman', 7),
-	('doelmap', 7),
-	('doelnet', 7),
-	('doelwit', 7),
-	('doemen', 6),
-	('doende', 6),
-	('doener', 6),
-	('doeniet', 7),
-	('doening', 7),
-	('doerak', 6),
-	('doerian', 7),
-	('doetje', 6),
-	('doezel', 6),
-	('doffen', 6),
-	('doffer', 6),
-	('doffig', 6),
-	('dofheid', 7),
-	('dogger', 6),
-	('dogkar', 6),
-	('dogla', 5),
-	('dogma', 5),
-	('dojocho', 7),
-	('doken', 5),
-	('dokken', 6),
-	('dokker', 6),
-	('doksaal', 7),
-	('dokter', 6),
-	('dolaard', 7),
-	('dolblij', 7),
-	('dolby', 5),
-	('dolce', 5),
-	('dolen', 5),
-	('doler', 5),
-	('doleren', 7),
-	('dolfijn', 7),
-	('dolheid', 7),
-	('dolhuis', 7),
-	('dolik', 5),
-	('doling', 6),
-	('dolkmes', 7),
-	('dolkop', 6),
-	('dollar', 6),
-	('dolle', 5),
-	('dollen', 6),
-	('dolly', 5),
-	('dolma', 5),
-	('dolman', 6),
-	('dolmen', 6),
-	('dolmens', 7),
-	('dolmes', 6),
-	('dolven', 6),
-	('dombo', 5),
-	('domein', 6),
-	('domen', 5),
-	('domheer', 7),
-	('domheid', 7),
-	('domig', 5),
-	('domina', 6),
-	('dominee', 7),
-	('domino', 6),
-	('domkerk', 7),
-	('domkop', 6),
-	('domme', 5),
-	('dommer', 6),
-	('dommerd', 7),
-	('dommig', 6),
-	('domoor', 6),
-	('dompen', 6),
-	('domper', 6),
-	('dompig', 6),
-	('domstad', 7),
-	('domweg', 6),
-	('donaat', 6),
-	('donatie', 7),
-	('donder', 6),
-	('donders', 7),
-	('doneren', 7),
-	('dongel', 6),
-	('dongen', 6),
-	('donjon', 6),
-	('donjuan', 7),
-	('donker', 6),
-	('donkey', 6),
-	('donna', 5),
-	('donor', 5),
-	('donsjas', 7),
-	('donut', 5),
-	('donzen', 6),
-	('donzig', 6),
-	('doodaas', 7),
-	('doodaf', 6),
-	('doodarm', 7),
-	('doodeng', 7),
-	('doodmoe', 7),
-	('doodop', 6),
-	('doods', 5),
-	('doodtij', 7),
-	('doofpot', 7),
-	('dooie', 5),
-	('dooien', 6),
-	('dooier', 6),
-	('doolhof', 7),
-	('doolweg', 7),
-	('doophek', 7),
-	('dooplid', 7),
-	('doopsel', 7),
-	('doordat', 7),
-	('dooreen', 7),
-	('doorn', 5),
-	('doornat', 7),
-	('doornen', 7),
-	('doornig', 7),
-	('doorrit', 7),
-	('doorrot', 7),
-	('doorwas', 7),
-	('dopen', 5),
-	('doper', 5),
-	('dopers', 6),
-	('doperwt', 7),
-	('dopgeld', 7),
-	('dophei', 6),
-	('dophoed', 7),
-	('doping', 6),
-	('dopneus', 7),
-	('doppen', 6),
-	('dopper', 6),
-	('dopping', 7),
-	('dorade', 6),
-	('dorado', 6),
-	('doren', 5),
-	('dorheid', 7),
-	('dorpel', 6),
-	('dorper', 6),
-	('dorps', 5),
-	('dorren', 6),
-	('dorsaal', 7),
-	('dorsen', 6),
-	('dorser', 6),
-	('dorst', 5),
-	('dorsten', 7),
-	('dorstig', 7),
-	('doseren', 7),
-	('dosis', 5),
-	('dossen', 6),
-	('dossier', 7),
-	('dotaal', 6),
-	('dotatie', 7),
-	('dotcom', 6),
-	('doteren', 7),
-	('dotter', 6),
-	('douane', 6),
-	('douarie', 7),
-	('doublet', 7),
-	('douceur', 7),
-	('douche', 6),
-	('douchen', 7),
-	('douches', 7),
-	('douwen', 6),
-	('doveman', 7),
-	('doven', 5),
-	('dover', 5),
-	('dovig', 5),
-	('downen', 6),
-	('downer', 6),
-	('dozeren', 7),
-	('dozijn', 6),
-	('draad', 5),
-	('draagas', 7),
-	('draai', 5),
-	('draaien', 7),
-	('draaier', 7),
-	('draak', 5),
-	('drabbig', 7),
-	('drachme', 7),
-	('dracht', 6),
-	('draden', 6),
-	('dradig', 6),
-	('dragee', 6),
-	('dragees', 7),
-	('dragen', 6),
-	('drager', 6),
-	('dragon', 6),
-	('drain', 5),
-	('dralen', 6),
-	('draler', 6),
-	('drama', 5),
-	('drammen', 7),
-	('drammer', 7),
-	('drang', 5),
-	('dranger', 7),
-	('drank', 5),
-	('drankje', 7),
-	('drassig', 7),
-	('draven', 6),
-	('draver', 6),
-	('dravik', 6),
-	('dreads', 6),
-	('dreef', 5),
-	('dregge', 6),
-	('dreggen', 7),
-	('dreigen', 7),
-	('dreiger', 7),
-	('dreinen', 7),
-	('drekkig', 7),
-	('drempel', 7),
-	('drenken', 7),
-	('drenzen', 7),
-	('dressen', 7),
-	('dretsen', 7),
-	('dreumel', 7),
-	('dreumes', 7),
-	('dreun', 5),
-	('dreunen', 7),
-	('dreutel', 7),
-	('drevel', 6),
-	('dreven', 6),
-	('dribbel', 7),
-	('driedik', 7),
-	('driegen', 7),
-	('drieman', 7),
-	('dries', 5),
-	('driest', 6),
-	('drietal', 7),
-	('drietje', 7),
-	('drieweg', 7),
-	('drift', 5),
-	('driften', 7),
-	('drifter', 7),
-	('driftig', 7),
-	('drijfas', 7),
-	('drijven', 7),
-	('drijver', 7),
-	('drillen', 7),
-	('dringen', 7),
-	('drink', 5),
-	('drinken', 7),
-	('drinker', 7),
-	('drive', 5),
-	('driver', 6),
-	('droef', 5),
-	('droeg', 5),
-	('droes', 5),
-	('droesem', 7),
-	('droevig', 7),
-	('droezig', 7),
-	('droge', 5),
-	('drogen', 6),
-	('droger', 6),
-	('droging', 7),
-	('drogist', 7),
-	('drogman', 7),
-	('drollen', 7),
-	('drollig', 7),
-	('dromen', 6),
-	('dromer', 6),
-	('drommel', 7),
-	('drommen', 7),
-	('drone', 5),
-	('drong', 5),
-	('dronk', 5),
-	('dronken', 7),
-	('droog', 5),
-	('droogje', 7),
-	('droogte', 7),
-	('droom', 5),
-	('droop', 5),
-	('dropen', 6),
-	('dropje', 6),
-	('droplul', 7),
-	('droppel', 7),
-	('droppen', 7),
-	('drops', 5),
-	('drossen', 7),
-	('drost', 5),
-	('drozen', 6),
-	('drugs', 5),
-	('druif', 5),
-	('druil', 5),
-	('druilen', 7),
-	('druipen', 7),
-	('druiper', 7),
-	('druisen', 7),
-	('drukken', 7),
-	('drukker', 7),
-	('drukpak', 7),
-	('drukpan', 7),
-	('drukrol', 7),
-	('druksel', 7),
-	('drukte', 6),
-	('drukval', 7),
-	('drukvat', 7),
-	('drukvel', 7),
-	('drukzin', 7),
-	('drumles', 7),
-	('drummen', 7),
-	('drummer', 7),
-	('drums', 5),
-	('druppel', 7),
-	('druppen', 7),
-	('druus', 5),
-	('dryade', 6),
-	('duaal', 5),
-	('dualis', 6),
-	('dualist', 7),
-	('duatlon', 7),
-	('dubbel', 6),
-	('dubbele', 7),
-	('dubben', 6),
-	('dubieus', 7),
-	('dubloen', 7),
-	('duchten', 7),
-	('duchtig', 7),
-	('duffel', 6),
-	('duffels', 7),
-	('dufheid', 7),
-	('duiden', 6),
-	('duider', 6),
-	('duiding', 7),
-	('duikdag', 7),
-	('duiken', 6),
-	('duiker', 6),
-	('duikers', 7),
-	('duiking', 7),
-	('duikles', 7),
-	('duikpak', 7),
-	('duimdik', 7),
-	('duimen', 6),
-	('duimpje', 7),
-	('duinbos', 7),
-	('duinkam', 7),
-	('duinpad', 7),
-	('duinpan', 7),
-	('duintop', 7),
-	('duist', 5),
-	('duister', 7),
-	('duivel', 6),
-	('duivels', 7),
-	('duiver', 6),
-	('duivin', 6),
-	('duizend', 7),
-	('dukaat', 6),
-	('dukaton', 7),
-	('dukdalf', 7),
-	('dulden', 6),
-	('dulia', 5),
-	('dumdum', 6),
-	('dummy', 5),
-	('dumpen', 6),
-	('dumping', 7),
-	('dundoek', 7),
-	('dundruk', 7),
-	('dunheid', 7),
-	('dunken', 6),
-	('dunne', 5),
-	('dunnen', 6),
-	('dunning', 7),
-	('dunsel', 6),
-	('dunte', 5),
-	('duobaan', 7),
-	('duobak', 6),
-	('duoblok', 7),
-	('duozit', 6),
-	('duperen', 7),
-	('duplex', 6),
-	('dupliek', 7),
-	('duppie', 6),
-	('duren', 5),
-	('durfal', 6),
-	('durven', 6),
-	('duster', 6),
-	('dutje', 5),
-	('dutsen', 6),
-	('dutten', 6),
-	('duurte', 6),
-	('duvel', 5),
-	('duvelen', 7),
-	('duvels', 6),
-	('duwbak', 6),
-	('duwboot', 7),
-	('duwen', 5),
-	('duwer', 5),
-	('duwfout', 7),
-	('duwstel', 7),
-	('duwwerk', 7),
-	('dwaal', 5),
-	('dwaas', 5),
-	('dwalen', 6),
-	('dwaling', 7),
-	('dwang', 5),
-	('dwars', 5),
-	('dwarsig', 7),
-	('dwarste', 7),
-	('dwaze', 5),
-	('dweil', 5),
-	('dweilen', 7),
-	('dwepen', 6),
-	('dweper', 6),
-	('dwerg', 5),
-	('dwingen', 7),
-	('dwinger', 7),
-	('dyade', 5),
-	('dynamo', 6),
-	('dynast', 6),
-	('dyogo', 5),
-	('ebben', 5),
-	('ebdeur', 6),
-	('ebenist', 7),
-	('ebitda', 6),
-	('ebola', 5),
-	('eboniet', 7),
-	('ebstand', 7),
-	('ecart', 5),
-	('echec', 5),
-	('echel', 5),
-	('echelon', 7),
-	('echie', 5),
-	('echoput', 7),
-	('echten', 6),
-	('echter', 6),
-	('eclair', 6),
-	('eclips', 6),
-	('ecloge', 6),
-	('ecocide', 7),
-	('ecoduct', 7),
-	('ecoloog', 7),
-	('econome', 7),
-	('econoom', 7),
-	('ecotaks', 7),
-	('ecowijk', 7),
-	('ecozone', 7),
-	('ecstasy', 7),
-	('eczeem', 6),
-	('eczema', 6),
-	('edammer', 7),
-	('edele', 5),
-	('edeleer', 7),
-	('edelgas', 7),
-	('edelman', 7),
-	('edict', 5),
-	('editen', 6),
-	('editeur', 7),
-	('editie', 6),
-	('editor', 6),
-	('edoch', 5),
-	('educt', 5),
-	('eeltig', 6),
-	('eemien', 6),
-	('eenarm', 6),
-	('eender', 6),
-	('eeneiig', 7),
-	('eenheid', 7),
-	('eenhoog', 7),
-	('eenling', 7),
-	('eenmaal', 7),
-	('eenogig', 7),
-	('eenoog', 6),
-	('eenspan', 7),
-	('eenterm', 7),
-	('eenvoud', 7),
-	('eenzaam', 7),
-	('eenzaat', 7),
-	('eerbaar', 7),
-	('eerbied', 7),
-	('eerder', 6),
-	('eerlang', 7),
-	('eerlijk', 7),
-	('eerloos', 7),
-	('eerroof', 7),
-	('eerst', 5),
-	('eerste', 6),
-	('eervol', 6),
-	('eerzaam', 7),
-	('eesten', 6),
-	('eetbaar', 7),
-	('eetbui', 6),
-	('eetclub', 7),
-	('eetgids', 7),
-	('eethoek', 7),
-	('eethuis', 7),
-	('eetlust', 7),
-	('eetmaal', 7),
-	('eetpeer', 7),
-	('eettent', 7),
-	('eetwaar', 7),
-	('eetzaal', 7),
-	('eeuwig', 6),
-	('efemeer', 7),
-	('effect', 6),
-	('effen', 5),
-	('effenaf', 7),
-	('effenen', 7),
-	('egaal', 5),
-	('egard', 5),
-	('egards', 6),
-	('egelvis', 7),
-	('eggen', 5),
-	('egghead', 7),
-	('eggig', 5),
-	('egotrip', 7),
-	('eiber', 5),
-	('eicel', 5),
-	('eider', 5),
-	('eierdop', 7),
-	('eieren', 6),
-	('eierrek', 7),
-	('eigeel', 6),
-	('eigen', 5),
-	('eigenen', 7),
-	('eiglans', 7),
-	('eihoofd', 7),
-	('eikaars', 7),
-	('eikel', 5),
-	('eikelen', 7),
-	('eiken', 5),
-	('eiker', 5),
-	('eikern', 6),
-	('eilaas', 6),
-	('eilaci', 6),
-	('eiland', 6),
-	('eilieve', 7),
-	('eiloof', 6),
-	('eindbod', 7),
-	('einde', 5),
-	('einden', 6),
-	('einder', 6),
-	('eindig', 6),
-	('eindje', 6),
-	('eindjes', 7),
-	('eindlid', 7),
-	('eindmix', 7),
-	('eindsom', 7),
-	('einduur', 7),
-	('einze', 5),
-	('eirond', 6),
-	('eisbaar', 7),
-	('eisen', 5),
-	('eiser', 5),
-	('eiseres', 7),
-	('eitje', 5),
-	('eivlies', 7),
-	('eivoer', 6),
-	('eivol', 5),
-	('eivorm', 6),
-	('eiwit', 5),
-	('eject', 5),
-	('ekster', 6),
-	('eland', 5),
-	('elders', 6),
-	('elect', 5),
-	('electie', 7),
-	('electro', 7),
-	('elegant', 7),
-	('elegie', 6),
-	('elektra', 7),
-	('elektro', 7),
-	('element', 7),
-	('elfde', 5),
-	('elfmaal', 7),
-	('elftal', 6),
-	('elger', 5),
-	('elisie', 6),
-	('elitair', 7),
-	('elite', 5),
-	('elixer', 6),
-	('elixir', 6),
-	('elkaar', 6),
-	('elkaars', 7),
-	('elkeen', 6),
-	('ellen', 5),
-	('ellende', 7),
-	('ellens', 6),
-	('ellips', 6),
-	('elpee', 5),
-	('elpen', 5),
-	('elzen', 5),
-	('email', 5),
-	('embargo', 7),
-	('embleem', 7),
-	('emblema', 7),
-	('embolie', 7),
-	('embryo', 6),
-	('emelt', 5),
-	('emerald', 7),
-	('emfase', 6),
-	('eminent', 7),
-	('emiraat', 7),
-	('emissie', 7),
-	('emmer', 5),
-	('emmeren', 7),
-	('emmes', 5),
-	('emotie', 6),
-	('emotief', 7),
-	('empire', 6),
-	('empirie', 7),
-	('emplooi', 7),
-	('emulsie', 7),
-	('enclave', 7),
-	('enclise', 7),
-	('encoder', 7),
-	('endemie', 7),
-	('enduro', 6),
-	('energie', 7),
-	('enerlei', 7),
-	('enfin', 5),
-	('engel', 5),
-	('engelen', 7),
-	('engelin', 7),
-	('engels', 6),
-	('engerd', 6),
-	('engheid', 7),
-	('engine', 6),
-	('engte', 5),
-	('enige', 5),
-	('enigen', 6),
-	('enigma', 6),
-	('enigst', 6),
-	('enkel', 5),
-	('enorm', 5),
-	('enten', 5),
-	('entente', 7),
-	('enter', 5),
-	('enteren', 7),
-	('enting', 6),
-	('entmes', 6),
-	('entree', 6),
-	('entrijs', 7),
-	('entstof', 7),
-	('entwas', 6),
-	('envelop', 7),
-	('enzym', 5),
-	('eoceen', 6),
-	('eoliet', 6),
-	('eolisch', 7),
-	('epacta', 6),
-	('epacten', 7),
-	('epaulet', 7),
-	('epiek', 5),
-	('epifyse', 7),
-	('epifyt', 6),
-	('epigoon', 7),
-	('epigram', 7),
-	('epiloog', 7),
-	('episch', 6),
-	('episode', 7),
-	('epistel', 7),
-	('epitaaf', 7),
-	('epoche', 6),
-	('eponiem', 7),
-	('epopee', 6),
-	('epoque', 6),
-	('epotest', 7),
-	('epoxy', 5),
-	('epsilon', 7),
-	('equatie', 7),
-	('equator', 7),
-	('equinox', 7),
-	('equipe', 6),
-	('eraan', 5),
-	('erbij', 5),
-	('erboven', 7),
-	('erdoor', 6),
-	('ereambt', 7),
-	('erebaan', 7),
-	('ereboog', 7),
-	('erecode', 7),
-	('erectie', 7),
-	('eredame', 7),
-	('eregast', 7),
-	('eregeld', 7),
-	('erehaag', 7),
-	('erejury', 7),
-	('erelid', 6),
-	('erelint', 7),
-	('ereloge', 7),
-	('ereloon', 7),
-	('eremiet', 7),
-	('eremis', 6),
-	('erenaam', 7),
-	('ereorde', 7),
-	('erepalm', 7),
-	('erepark', 7),
-	('ereplak', 7),
-	('ereplek', 7),
-	('erepost', 7),
-	('ereveld', 7),
-	('erewijn', 7),
-	('erezaak', 7),
-	('erezuil', 7),
-	('erfdeel', 7),
-	('erfenis', 7),
-	('erfgoed', 7),
-	('erfhuis', 7),
-	('erfland', 7),
-	('erfleen', 7),
-	('erfoom', 6),
-	('erfsmet', 7),
-	('erfstuk', 7),
-	('erfwet', 6),
-	('ergens', 6),
-	('erger', 5),
-	('ergeren', 7),
-	('ergheid', 7),
-	('ergon', 5),
-	('ergst', 5),
-	('erheen', 6),
-	('erica', 5),
-	('erkend', 6),
-	('erker', 5),
-	('erlangs', 7),
-	('ermede', 6),
-	('ermee', 5),
-	('ernaar', 6),
-	('ernaast', 7),
-	('ernst', 5),
-	('ernstig', 7),
-	('erogeen', 7),
-	('eronder', 7),
-	('eropaan', 7),
-	('eropaf', 6),
-	('eropin', 6),
-	('eropna', 6),
-	('eropuit', 7),
-	('erosie', 6),
-	('erotica', 7),
-	('erotiek', 7),
-	('erover', 6),
-	('errata', 6),
-	('erratum', 7),
-	('ersatz', 6),
-	('ertegen', 7),
-	('ertoe', 5),
-	('ertsen', 6),
-	('erudiet', 7),
-	('eruit', 5),
-	('eruptie', 7),
-	('ervan', 5),
-	('ervanaf', 7),
-	('ervaren', 7),
-	('erven', 5),
-	('erving', 6),
-	('ervoer', 6),
-	('ervoor', 6),
-	('erwten', 6),
-	('escape', 6),
-	('escapen', 7),
-	('escort', 6),
-	('escorte', 7),
-	('escudo', 6),
-	('esdoorn', 7),
-	('esdoren', 7),
-	('esdorp', 6),
-	('eskader', 7),
-	('espada', 6),
-	('espen', 5),
-	('esprit', 6),
-	('essaai', 6),
-	('essay', 5),
-	('essays', 6),
-	('essen', 5),
-	('essence', 7),
-	('essenen', 7),
-	('ester', 5),
-	('estheet', 7),
-	('estrade', 7),
-	('estrik', 6),
-	('etage', 5),
-	('etages', 6),
-	('etalage', 7),
-	('etaleur', 7),
-	('etappe', 6),
-	('etentje', 7),
-	('eterij', 6),
-	('etgras', 6),
-	('etgroen', 7),
-	('ethaan', 6),
-	('ethanol', 7),
-	('etheen', 6),
-	('ether', 5),
-	('ethica', 6),
-	('ethicus', 7),
-	('ethiek', 6),
-	('ethisch', 7),
-	('ethos', 5),
-	('ethyl', 5),
-	('ethyn', 5),
-	('etiket', 6),
-	('etmaal', 6),
-	('etnie', 5),
-	('etnisch', 7),
-	('etsdruk', 7),
-	('etsen', 5),
-	('etser', 5),
-	('etswerk', 7),
-	('etter', 5),
-	('etteren', 7),
-	('etterig', 7),
-	('etude', 5),
-	('etuis', 5),
-	('etuitje', 7),
-	('eufonie', 7),
-	('euforie', 7),
-	('eunuch', 6),
-	('euregio', 7),
-	('eureka', 6),
-	('eurokit', 7),
-	('eurotop', 7),
-	('euvel', 5),
-	('euzie', 5),
-	('evasie', 6),
-	('evenaar', 7),
-	('evenals', 7),
-	('evenmin', 7),
-	('event', 5),
-	('evenwel', 7),
-	('evenzo', 6),
-	('evers', 5),
-	('evident', 7),
-	('exact', 5),
-	('examen', 6),
-	('excasso', 7),
-	('excerpt', 7),
-	('exces', 5),
-	('exclave', 7),
-	('excuus', 6),
-	('exegeet', 7),
-	('exegese', 7),
-	('exempel', 7),
-	('exodus', 6),
-	('exogeen', 7),
-	('exoniem', 7),
-	('exoot', 5),
-	('exotiek', 7),
-	('expat', 5),
-	('expert', 6),
-	('exploit', 7),
-	('exploot', 7),
-	('export', 6),
-	('expres', 6),
-	('exquis', 6),
-	('extase', 6),
-	('extern', 6),
-	('externe', 7),
-	('extra', 5),
-	('extract', 7),
-	('extreem', 7),
-	('extrema', 7),
-	('ezelen', 6),
-	('ezelin', 6),
-	('ezelkar', 7),
-	('fabel', 5),
-	('fabelen', 7),
-	('fabriek', 7),
-	('facet', 5),
-	('facie', 5),
-	('faciel', 6),
-	('faciele', 7),
-	('facit', 5),
-	('facta', 5),
-	('facteur', 7),
-	('factie', 6),
-	('factoor', 7),
-	('factor', 6),
-	('factum', 6),
-	('factuur', 7),
-	('faden', 5),
-	('fading', 6),
-	('fagocyt', 7),
-	('fagot', 5),
-	('faience', 7),
-	('faire', 5),
-	('fairway', 7),
-	('faken', 5),
-	('fakir', 5),
-	('fakkel', 6),
-	('falafel', 7),
-	('falanx', 6),
-	('falbala', 7),
-	('falen', 5),
-	('falie', 5),
-	('faling', 6),
-	('fallus', 6),
-	('falset', 6),
-	('fameus', 6),
-	('familie', 7),
-	('fanaal', 6),
-	('fanaat', 6),
-	('fanclub', 7),
-	('fandag', 6),
-	('fanfare', 7),
-	('fanmail', 7),
-	('fanpage', 7),
-	('fanshop', 7),
-	('fansite', 7),
-	('fantast', 7),
-	('fantasy', 7),
-	('fantoom', 7),
-	('farad', 5),
-	('farao', 5),
-	('farce', 5),
-	('farceur', 7),
-	('farde', 5),
-	('farmer', 6),
-	('fascine', 7),
-	('fascist', 7),
-	('fasen', 5),
-	('faseren', 7),
-	('fases', 5),
-	('fasseel', 7),
-	('fataal', 6),
-	('fatale', 6),
-	('fatsen', 6),
-	('fatsoen', 7),
-	('fattig', 6),
-	('fatum', 5),
-	('fatwa', 5),
-	('fauna', 5),
-	('fauvist', 7),
-	('favela', 6),
-	('faveur', 6),
-	('faxen', 5),
-	('faxpost', 7),
-	('fazant', 6),
-	('feature', 7),
-	('fecaal', 6),
-	('feces', 5),
-	('fecit', 5),
-	('feeks', 5),
-	('feest', 5),
-	('feesten', 7),
-	('feilen', 6),
-	('felgeel', 7),
-	('felheid', 7),
-	('fellaga', 7),
-	('fellah', 6),
-	('fellow', 6),
-	('feloek', 6),
-	('feloeka', 7),
-	('felonie', 7),
-	('felrood', 7),
-	('felroze', 7),
-	('felsen', 6),
-	('femel', 5),
-	('femelen', 7),
-	('fender', 6),
-	('feniks', 6),
-	('fennek', 6),
-	('fenol', 5),
-	('feodaal', 7),
-	('ferlet', 6),
-	('fermate', 7),
-	('ferment', 7),
-	('fermoor', 7),
-	('ferriet', 7),
-	('ferrule', 7),
-	('ferry', 5),
-	('fertiel', 7),
-	('fervent', 7),
-	('festijn', 7),
-	('festoen', 7),
-	('feston', 6),
-	('fetisj', 6),
-	('feudaal', 7),
-	('fezelen', 7),
-	('fiancee', 7),
-	('fiasco', 6),
-	('fiber', 5),
-	('fibreus', 7),
-	('fibril', 6),
-	('fibrine', 7),
-	('fibroom', 7),
-	('fibrose', 7),
-	('fibula', 6),
-	('fiche', 5),
-	('fichier', 7),
-	('fichu', 5),
-	('fictie', 6),
-	('fictief', 7),
-	('fiction', 7),
-	('ficus', 5),
-	('fideel', 6),
-	('fidibus', 7),
-	('fiducie', 7),
-	('fiedel', 6),
-	('fielden', 7),
-	('fielder', 7),
-	('fielt', 5),
-	('fieltig', 7),
-	('fiertel', 7),
-	('fiets', 5),
-	('fietsen', 7),
-	('fietser', 7),
-	('fifties', 7),
-	('figaro', 6),
-	('figuur', 6),
-	('fijfel', 6),
-	('fijne', 5),
-	('fijnte', 6),
-	('fijten', 6),
-	('fikken', 6),
-	('fikkie', 6),
-	('fiksen', 6),
-	('filaria', 7),
-	('fileren', 7),
-	('filet', 5),
-	('filiaal', 7),
-	('filmdag', 7),
-	('filmen', 6),
-	('filmer', 6),
-	('filmfan', 7),
-	('filmgek', 7),
-	('filmhit', 7),
-	('filmkus', 7),
-	('filmpje', 7),
-	('filmrol', 7),
-	('filmset', 7),
-	('filmtip', 7),
-	('filmvak', 7),
-	('filmzon', 7),
-	('filter', 6),
-	('filtrum', 7),
-	('finaal', 6),
-	('finale', 6),
-	('fineer', 6),
-	('fineren', 7),
-	('finesse', 7),
-	('finish', 6),
-	('fiool', 5),
-	('firma', 5),
-	('firmant', 7),
-	('fiscaal', 7),
-	('fiscus', 6),
-	('fissuur', 7),
-	('fistel', 6),
-	('fisten', 6),
-	('fitheid', 7),
-	('fitis', 5),
-	('fitness', 7),
-	('fitten', 6),
-	('fitter', 6),
-	('fitting', 7),
-	('fixatie', 7),
-	('fixeer', 6),
-	('fixen', 5),
-	('fixer', 5),
-	('fixeren', 7),
-	('fjord', 5),
-	('flabben', 7),
-	('flacon', 6),
-	('flair', 5),
-	('flamen', 6),
-	('flamoes', 7),
-	('flanel', 6),
-	('flaneur', 7),
-	('flank', 5),
-	('flanken', 7),
-	('flansen', 7),
-	('flapkan', 7),
-	('flapoor', 7),
-	('flappen', 7),
-	('flapper', 7),
-	('flapuit', 7),
-	('flard', 5),
-	('flash', 5),
-	('flashen', 7),
-	('flashy', 6),
-	('flater', 6),
-	('flatus', 6),
-	('flauw', 5),
-	('flauwte', 7),
-	('fleece', 6),
-	('fleer', 5),
-	('flegma', 6),
-	('flemen', 6),
-	('flemer', 6),
-	('flens', 5),
-	('flensen', 7),
-	('flensje', 7),
-	('flenter', 7),
-	('flenzen', 7),
-	('fleppen', 7),
-	('fleren', 6),
-	('flessen', 7),
-	('flets', 5),
-	('fleur', 5),
-	('fleuren', 7),
-	('fleurig', 7),
-	('fleuris', 7),
-	('flexen', 6),
-	('flexi', 5),
-	('flexie', 6),
-	('flexwet', 7),
-	('flikje', 6),
-	('flikken', 7),
-	('flikker', 7),
-	('flink', 5),
-	('flint', 5),
-	('flinter', 7),
-	('flippen', 7),
-	('flipper', 7),
-	('flippo', 6),
-	('flirt', 5),
-	('flirten', 7),
-	('flits', 5),
-	('flitsen', 7),
-	('flitser', 7),
-	('flitten', 7),
-	('floaten', 7),
-	('flobert', 7),
-	('flodder', 7),
-	('floep', 5),
-	('floepen', 7),
-	('floer', 5),
-	('floeren', 7),
-	('floers', 6),
-	('floot', 5),
-	('floppen', 7),
-	('floppy', 6),
-	('flora', 5),
-	('floraal', 7),
-	('floret', 6),
-	('florijn', 7),
-	('florist', 7),
-	('floss', 5),
-	('flossen', 7),
-	('floten', 6),
-	('flowen', 6),
-	('fluim', 5),
-	('fluimen', 7),
-	('fluit', 5),
-	('fluiten', 7),
-	('fluiter', 7),
-	('fluitje', 7),
-	('fluks', 5),
-	('fluor', 5),
-	('flusjes', 7),
-	('fluweel', 7),
-	('fluwijn', 7),
-	('flyer', 5),
-	('flyeren', 7),
-	('fnuiken', 7),
-	('fobie', 5),
-	('fobisch', 7),
-	('focus', 5),
-	('foefen', 6),
-	('foefje', 6),
-	('foelie', 6),
-	('foerage', 7),
-	('foerier', 7),
-	('foert', 5),
-	('foetaal', 7),
-	('foetsie', 7),
-	('foetus', 6),
-	('foezel', 6),
-	('fokdier', 7),
-	('fokken', 6),
-	('fokker', 6),
-	('foksia', 6),
-	('fokster', 7),
-	('fokvee', 6),
-	('fokzeug', 7),
-	('folden', 6),
-	('folder', 6),
-	('foliant', 7),
-	('folie', 5),
-	('folio', 5),
-	('folkbal', 7),
-	('folkpop', 7),
-	('folky', 5),
-	('folly', 5),
-	('fondant', 7),
-	('fonds', 5),
-	('fondue', 6),
-	('fonduen', 7),
-	('foneem', 6),
-	('fonisch', 7),
-	('fonola', 6),
-	('fontein', 7),
-	('fooien', 6),
-	('fopduik', 7),
-	('foppen', 6),
-	('fopper', 6),
-	('forceps', 7),
-	('forel', 5),
-	('forens', 6),
-	('forfait', 7),
-	('forint', 6),
-	('formaat', 7),
-	('formant', 7),
-	('format', 6),
-	('formeel', 7),
-	('formica', 7),
-	('formol', 6),
-	('formule', 7),
-	('fornuis', 7),
-	('forsig', 6),
-	('forte', 5),
-	('forto', 5),
-	('fortuin', 7),
-	('forum', 5),
-	('forums', 6),
-	('fosfaat', 7),
-	('fosfeen', 7),
-	('fosfor', 6),
-	('fosgeen', 7),
-	('fossa', 5),
-	('fossiel', 7),
-	('fotocel', 7),
-	('fotolab', 7),
-	('fotomap', 7),
-	('foton', 5),
-	('fotorol', 7),
-	('fototas', 7),
-	('foulard', 7),
-	('foutief', 7),
-	('foxtrot', 7),
-	('foyer', 5),
-	('fraai', 5),
-	('fractal', 7),
-	('fractie', 7),
-	('fragiel', 7),
-	('frame', 5),
-	('framen', 6),
-	('franc', 5),
-	('franco', 6),
-	('franje', 6),
-	('frank', 5),
-	('fransje', 7),
-	('frappe', 6),
-	('frase', 5),
-	('frases', 6),
-	('frater', 6),
-	('frats', 5),
-	('fratsen', 7),
-	('fraude', 6),
-	('freak', 5),
-	('freaken', 7),
-	('frees', 5),
-	('fregat', 6),
-	('freon', 5),
-	('fresco', 6),
-	('fresia', 6),
-	('fretten', 7),
-	('freule', 6),
-	('frezen', 6),
-	('frezer', 6),
-	('frezers', 7),
-	('frictie', 7),
-	('fries', 5),
-	('friet', 5),
-	('frieten', 7),
-	('frietje', 7),
-	('frigide', 7),
-	('frigo', 5),
-	('frijnen', 7),
-	('frisbee', 7),
-	('frisco', 6),
-	('frisist', 7),
-	('frisjes', 7),
-	('frisket', 7),
-	('frissen', 7),
-	('friste', 6),
-	('frisuur', 7),
-	('frites', 6),
-	('frituur', 7),
-	('frivool', 7),
-	('frommel', 7),
-	('frons', 5),
-	('fronsen', 7),
-	('front', 5),
-	('fronton', 7),
-	('frotten', 7),
-	('frugaal', 7),
-	('fruit', 5),
-	('fruiten', 7),
-	('fruitig', 7),
-	('frust', 5),
-	('frutje', 6),
-	('frutsel', 7),
-	('ftisis', 6),
-	('fuchsia', 7),
-	('fucken', 6),
-	('fuifde', 6),
-	('fuiven', 6),
-	('fulpen', 6),
-	('functie', 7),
-	('fundi', 5),
-	('funding', 7),
-	('funest', 6),
-	('fungus', 6),
-	('funkbas', 7),
-	('funky', 5),
-	('furie', 5),
-	('furieus', 7),
-	('furore', 6),
-	('fusee', 5),
-	('fuseren', 7),
-	('fusie', 5),
-	('fusion', 6),
-	('fustage', 7),
-	('futiel', 6),
-	('futloos', 7),
-	('futon', 5),
-	('future', 6),
-	('futures', 7),
-	('futurum', 7),
-	('fuzzy', 5),
-	('fylum', 5),
-	('fysica', 6),
-	('fysicus', 7),
-	('fysiek', 6),
-	('fysio', 5),
-	('fysisch', 7),
-	('gaaien', 6),
-	('gaande', 6),
-	('gaarbak', 7),
-	('gaard', 5),
-	('gaarde', 6),
-	('gaarder', 7),
-	('gaarne', 6),
-	('gaasje', 6),
-	('gaatje', 6),
-	('gabarit', 7),
-	('gabbe', 5),
-	('gabben', 6),
-	('gabber', 6),
-	('gaden', 5),
-	('gadget', 6),
-	('gading', 6),
-	('gaffe', 5),
-	('gaffel', 6),
-	('gaffels', 7),
-	('gagel', 5),
-	('gaine', 5),
-	('gajes', 5),
-	('gakken', 6),
-	('galabal', 7),
-	('galant', 6),
-	('galapak', 7),
-	('galarok', 7),
-	('galbak', 6),
-	('galbult', 7),
-	('galei', 5),
-	('galerie', 7),
-	('galerij', 7),
-	('galgen', 6),
-	('galgje', 6),
-	('galgjes', 7),
-	('galjoen', 7),
-	('galjoot', 7),
-	('gallen', 6),
-	('gallig', 6),
-	('gallon', 6),
-	('galmei', 6),
-	('galmen', 6),
-	('galmgat', 7),
-	('galmug', 6),
-	('galnoot', 7),
-	('galoche', 7),
-	('galoet', 6),
-	('galon', 5),
-	('galop', 5),
-	('galwesp', 7),
-	('galzeep', 7),
-	('galzuur', 7),
-	('gamay', 5),
-	('gamba', 5),
-	('gambiet', 7),
-	('gambir', 6),
-	('gameboy', 7),
-	('gameet', 6),
-	('gamel', 5),
-	('gamelan', 7),
-	('gamen', 5),
-	('gamepad', 7),
-	('gamer', 5),
-	('gaming', 6),
-	('gamma', 5),
-	('gammel', 6),
-	('gander', 6),
-	('ganglia', 7),
-	('gangmat', 7),
-	('gangpad', 7),
-	('gannef', 6),
-	('gapen', 5),
-	('gaper', 5),
-	('gaperig', 7),
-	('gaping', 6),
-	('gappen', 6),
-	('gapper', 6),
-	('garage', 6),
-	('garages', 7),
-	('garant', 6),
-	('garde', 5),
-	('gardist', 7),
-	('gareel', 6),
-	('garen', 5),
-	('garing', 6),
-	('garnaal', 7),
-	('garoe', 5),
-	('garst', 5),
-	('garstig', 7),
-	('garve', 5),
-	('garven', 6),
-	('gasbek', 6),
-	('gasbel', 6),
-	('gasblok', 7),
-	('gasboei', 7),
-	('gasboer', 7),
-	('gasbol', 6),
-	('gasbom', 6),
-	('gasbron', 7),
-	('gasbuis', 7),
-	('gasdood', 7),
-	('gasdruk', 7),
-	('gasfase', 7),
-	('gasfles', 7),
-	('gasgeur', 7),
-	('gasklep', 7),
-	('gaslaag', 7),
-	('gaslaan', 7),
-	('gaslamp', 7),
-	('gaslek', 6),
-	('gasman', 6),
-	('gasmunt', 7),
-	('gasnet', 6),
-	('gasnota', 7),
-	('gasolie', 7),
-	('gasoven', 7),
-	('gaspak', 6),
-	('gaspijp', 7),
-	('gaspit', 6),
-	('gaspomp', 7),
-	('gaspook', 7),
-	('gasramp', 7),
-	('gasreus', 7),
-	('gassen', 6),
-	('gasstel', 7),
-	('gastank', 7),
-	('gasten', 6),
-	('gasthof', 7),
-	('gastles', 7),
-	('gastlid', 7),
-	('gastrol', 7),
-	('gastzus', 7),
-	('gasveer', 7),
-	('gasveld', 7),
-	('gasvlam', 7),
-	('gasvorm', 7),
-	('gasvrij', 7),
-	('gasvuur', 7),
-	('gaswet', 6),
-	('gaswolk', 7),
-	('gaten', 5),
-	('gateway', 7),
-	('gaucho', 6),
-	('gauss', 5),
-	('gauwte', 6),
-	('gaven', 5),
-	('gaviaal', 7),
-	('gavotte', 7),
-	('gazel', 5),
-	('gazelle', 7),
-	('gazen', 5),
-	('gazet', 5),
-	('gazeuse', 7),
-	('gazon', 5),
-	('geacht', 6),
-	('geaderd', 7),
-	('gearing', 7),
-	('gearmd', 6),
-	('gebaand', 7),
-	('gebaar', 6),
-	('gebaard', 7),
-	('gebaat', 6),
-	('gebak', 5),
-	('gebakje', 7),
-	('gebal', 5),
-	('gebalk', 6),
-	('gebaren', 7),
-	('gebazel', 7),
-	('gebbe', 5),
-	('gebed', 5),
-	('gebedel', 7),
-	('gebeend', 7),
-	('gebeft', 6),
-	('gebeid', 6),
-	('gebeier', 7),
-	('gebekt', 6),
-	('gebel', 5),
-	('gebelgd', 7),
-	('gebeuk', 6),
-	('gebid', 5),
-	('gebied', 6),
-	('gebiesd', 7),
-	('gebint', 6),
-	('gebinte', 7),
-	('gebit', 5),
-	('geblaas', 7),
-	('geblaat', 7),
-	('geblaf', 6),
-	('gebliep', 7),
-	('geblokt', 7),
-	('gebluf', 6),
-	('geboard', 7),
-	('gebobd', 6),
-	('gebod', 5),
-	('geboeid', 7),
-	('gebonk', 6),
-	('gebons', 6),
-	('geboogd', 7),
-	('geboren', 7),
-	('gebost', 6),
-	('gebouw', 6),
-	('gebouwd', 7),
-	('gebraad', 7),
-	('gebraak', 7),
-	('gebral', 6),
-	('gebrand', 7),
-	('gebreid', 7),
-	('gebrek', 6),
-	('gebrild', 7),
-	('gebroed', 7),
-	('gebrom', 6),
-	('gebruik', 7),
-	('gebruis', 7),
-	('gebrul', 6),
-	('gebuikt', 7),
-	('gebuild', 7),
-	('gebuisd', 7),
-	('gebukt', 6),
-	('gebult', 6),
-	('gebuur', 6),
-	('gedaan', 6),
-	('gedaas', 6),
-	('gedag', 5),
-	('gedans', 6),
-	('gedaver', 7),
-	('gedegen', 7),
-	('gedeisd', 7),
-	('gedek', 5),
-	('gedekt', 6),
-	('gedempt', 7),
-	('gedeukt', 7),
-	('gedicht', 7),
-	('gedijen', 7),
-	('geding', 6),
-	('gedoe', 5),
-	('gedoemd', 7),
-	('gedogen', 7),
-	('gedraaf', 7),
-	('gedraai', 7),
-	('gedraal', 7),
-	('gedrag', 6),
-	('gedram', 6),
-	('gedrang', 7),
-	('gedreig', 7),
-	('gedrein', 7),
-	('gedrens', 7),
-	('gedreun', 7),
-	('gedroom', 7),
-	('gedruis', 7),
-	('gedrukt', 7),
-	('gedrum', 6),
-	('geducht', 7),
-	('geduld', 6),
-	('gedurfd', 7),
-	('gedurig', 7),
-	('geduvel', 7),
-	('geduw', 5),
-	('gedwee', 6),
-	('gedweep', 7),
-	('geelbek', 7),
-	('geelsel', 7),
-	('geeltje', 7),
-	('geelwit', 7),
-	('geers', 5),
-	('geest', 5),
-	('geestig', 7),
-	('geeuw', 5),
-	('geeuwen', 7),
-	('gefemel', 7),
-	('gefiets', 7),
-	('gefleem', 7),
-	('geflirt', 7),
-	('geflits', 7),
-	('gefluit', 7),
-	('gefreak', 7),
-	('gefrons', 7),
-	('gegaap', 6),
-	('gegak', 5),
-	('gegalm', 6),
-	('gegeerd', 7),
-	('gegeeuw', 7),
-	('gegeven', 7),
-	('gegier', 6),
-	('gegil', 5),
-	('gegluur', 7),
-	('gegoed', 6),
-	('gegolfd', 7),
-	('gegomd', 6),
-	('gegons', 6),
-	('gegooi', 6),
-	('gegraaf', 7),
-	('gegraai', 7),
-	('gegrom', 6),
-	('gegrond', 7),
-	('gehaaid', 7),
-	('gehaakt', 7),
-	('gehaal', 6),
-	('gehaast', 7),
-	('gehaat', 6),
-	('gehakt', 6),
-	('gehalte', 7),
-	('gehamer', 7),
-	('gehang', 6),
-	('gehard', 6),
-	('gehecht', 7),
-	('geheel', 6),
-	('geheid', 6),
-	('geheim', 6),
-	('gehelmd', 7),
-	('gehijg', 6),
-	('gehoed', 6),
-	('gehoefd', 7),
-	('gehoekt', 7),
-	('gehol', 5),
-	('gehoofd', 7),
-	('gehoon', 6),
-	('gehoop', 6),
-	('gehoor', 6),
-	('gehop', 5),
-	('gehorig', 7),
-	('gehos', 5),
-	('gehucht', 7),
-	('gehuifd', 7),
-	('gehuil', 6),
-	('gehuisd', 7),
-	('gehurkt', 7),
-	('gehuwd', 6),
-	('gehuwde', 7),
-	('geiblok', 7),
-	('geien', 5),
-	('geijkt', 6),
-	('geilen', 6),
-	('geinen', 6),
-	('geinig', 6),
-	('geintje', 7),
-	('geiser', 6),
-	('geisha', 6),
-	('geiten', 6),
-	('geitouw', 7),
-	('gejaag', 6),
-	('gejaagd', 7),
-	('gejacht', 7),
-	('gejank', 6),
-	('gejij', 5),
-	('gejodel', 7),
-	('gejoel', 6),
-	('gejojo', 6),
-	('gejou', 5),
-	('gejouw', 6),
-	('gejubel', 7),
-	('gejuich', 7),
-	('gekakel', 7),
-	('gekamd', 6),
-	('gekant', 6),
-	('gekap', 5),
-	('gekast', 6),
-	('gekeer', 6),
-	('gekeet', 6),
-	('gekef', 5),
-	('gekend', 6),
-	('gekerm', 6),
-	('gekheid', 7),
-	('gekield', 7),
-	('gekijf', 6),
-	('gekir', 5),
-	('gekken', 6),
-	('gekkerd', 7),
-	('gekkin', 6),
-	('gekko', 5),
-	('geklaag', 7),
-	('geklap', 6),
-	('gekleed', 7),
-	('geklets', 7),
-	('geklier', 7),
-	('geklik', 6),
-	('geklim', 6),
-	('gekloft', 7),
-	('geklooi', 7),
-	('gekloot', 7),
-	('geklop', 6),
-	('geklots', 7),
-	('geklus', 6),
-	('geknaag', 7),
-	('geknal', 6),
-	('geknars', 7),
-	('geknerp', 7),
-	('geknijp', 7),
-	('geknik', 6),
-	('geknikt', 7),
-	('geknipt', 7),
-	('geknoei', 7),
-	('geknok', 6),
-	('geknopt', 7),
-	('geknor', 6),
-	('gekook', 6),
-	('gekorst', 7),
-	('gekraai', 7),
-	('gekraak', 7),
-	('gekrab', 6),
-	('gekras', 6),
-	('gekreun', 7),
-	('gekrijs', 7),
-	('gekromd', 7),
-	('gekruid', 7),
-	('gekruld', 7),
-	('gekskap', 7),
-	('gekte', 5),
-	('gekuch', 6),
-	('gekuifd', 7),
-	('gekuild', 7),
-	('gekuip', 6),
-	('gekuist', 7),
-	('gekus', 5),
-	('gekut', 5),
-	('gekwaak', 7),
-	('gekweel', 7),
-	('gekwek', 6),
-	('gekweld', 7),
-	('gekwets', 7),
-	('gekwijl', 7),
-	('gelaagd', 7),
-	('gelaat', 6),
-	('gelach', 6),
-	('gelag', 5),
-	('gelal', 5),
-	('gelande', 7),
-	('gelaten', 7),
-	('gelazer', 7),
-	('gelden', 6),
-	('geldend', 7),
-	('geldgod', 7),
-	('geldig', 6),
-	('gelding', 7),
-	('geldkas', 7),
-	('geldla', 6),
-	('geldpot', 7),
-	('geldsom', 7),
-	('geldtas', 7),
-	('geldzak', 7),
-	('gelebek', 7),
-	('geleden', 7),
-	('gelee', 5),
-	('geleed', 6),
-	('geleen', 6),
-	('geleerd', 7),
-	('gelegen', 7),
-	('gelei', 5),
-	('geleid', 6),
-	('geleide', 7),
-	('gelek', 5),
-	('gelen', 5),
-	('gelid', 5),
-	('geliefd', 7),
-	('gelieg', 6),
-	('gelieve', 7),
-	('gelig', 5),
-	('gelijk', 6),
-	('gelijke', 7),
-	('gelijnd', 7),
-	('gelijst', 7),
-	('gelik', 5),
-	('gelikt', 6),
-	('geling', 6),
-	('gelling', 7),
-	('gelobby', 7),
-	('gelobd', 6),
-	('geloei', 6),
-	('geloer', 6),
-	('gelofte', 7),
-	('gelok', 5),
-	('geloken', 7),
-	('gelonk', 6),
-	('gelood', 6),
-	('geloof', 6),
-	('geloop', 6),
-	('geloven', 7),
-	('gelovig', 7),
-	('gelubd', 6),
-	('gelui', 5),
-	('geluid', 6),
-	('geluier', 7),
-	('geluimd', 7),
-	('geluk', 5),
-	('gelukje', 7),
-	('gelul', 5),
-	('gelule', 6),
-	('geluw', 5),
-	('gemaakt', 7),
-	('gemaal', 6),
-	('gemail', 6),
-	('gemak', 5),
-	('gemalin', 7),
-	('gemauw', 6),
-	('gember', 6),
-	('gemeden', 7),
-	('gemeen', 6),
-	('gemeend', 7),
-	('gemeet', 6),
-	('gemeier', 7),
-	('gemelk', 6),
-	('gemengd', 7),
-	('gemet', 5),
-	('gemiauw', 7),
-	('gemiep', 6),
-	('gemier', 6),
-	('gemis', 5),
-	('gemma', 5),
-	('gemoed', 6),
-	('gemoeid', 7),
-	('gemok', 5),
-	('gemond', 6),
-	('gemor', 5),
-	('gemors', 6),
-	('gemot', 5),
-	('gemotst', 7),
-	('gemsbok', 7),
-	('gemunt', 6),
-	('gemutst', 7),
-	('genaamd', 7),
-	('genaast', 7),
-	('genade', 6),
-	('genadig', 7),
-	('genaken', 7),
-	('gender', 6),
-	('genegen', 7),
-	('geneigd', 7),
-	('generen', 7),
-	('generfd', 7),
-	('genese', 6),
-	('genesis', 7),
-	('genet', 5),
-	('geneuk', 6),
-	('genezen', 7),
-	('genezer', 7),
-	('geniaal', 7),
-	('genie', 5),
-	('geniep', 6),
-	('genies', 6),
-	('genist', 6),
-	('genius', 6),
-	('geniza', 6),
-	('genmais', 7),
-	('genoeg', 6),
-	('genoemd', 7),
-	('genoom', 6),
-	('genoot', 6),
-	('genopt', 6),
-	('genot', 5),
-	('genre', 5),
-	('genst', 5),
-	('genster', 7),
-	('gentech', 7),
-	('genua', 5),
-	('genus', 5),
-	('geode', 5),
-	('geodeet', 7),
-	('geoha', 5),
-	('geolied', 7),
-	('geologe', 7),
-	('geoloog', 7),
-	('geoogd', 6),
-	('geoord', 6),
-	('gepaald', 7),
-	('gepaard', 7),
-	('gepak', 5),
-	('gepalmd', 7),
-	('gepas', 5),
-	('gepast', 6),
-	('gepeesd', 7),
-	('gepeins', 7),
-	('gepiel', 6),
-	('gepiep', 6),
-	('gepijnd', 7),
-	('geplaag', 7),
-	('geplak', 6),
-	('geplan', 6),
-	('geplas', 6),
-	('geplekt', 7),
-	('geplof', 6),
-	('geplons', 7),
-	('gepluk', 6),
-	('gepoch', 6),
-	('gepoft', 6),
-	('gepokt', 6),
-	('gepoot', 6),
-	('gepost', 6),
-	('gepraat', 7),
-	('gepreek', 7),
-	('gepronk', 7),
-	('gepruts', 7),
-	('gepuf', 5),
-	('gepunt', 6),
-	('geraakt', 7),
-	('geraas', 6),
-	('geraden', 7),
-	('geraken', 7),
-	('geram', 5),
-	('gerand', 6),
-	('gerant', 6),
-	('gerasp', 6),
-	('geratel', 7),
-	('gerbera', 7),
-	('gerbil', 6),
-	('gerecht', 7),
-	('geredde', 7),
-	('gereed', 6),
-	('geregel', 7),
-	('gerei', 5),
-	('gereis', 6),
-	('gereken', 7),
-	('gerekt', 6),
-	('gerel', 5),
-	('gerem', 5),
-	('geremd', 6),
-	('geren', 5),
-	('gerent', 6),
-	('gergel', 6),
-	('geribd', 6),
-	('gericht', 7),
-	('gerief', 6),
-	('gerieve', 7),
-	('gerij', 5),
-	('gerijm', 6),
-	('gerijpt', 7),
-	('gering', 6),
-	('gerits', 6),
-	('geroep', 6),
-	('geroer', 6),
-	('gerokt', 6),
-	('gerol', 5),
-	('geronk', 6),
-	('gerook', 6),
-	('gerookt', 7),
-	('gerst', 5),
-	('gersten', 7),
-	('gerucht', 7),
-	('geruik', 6),
-	('geruim', 6),
-	('geruis', 6),
-	('geruit', 6),
-	('geruk', 5),
-	('gerust', 6),
-	('geruzie', 7),
-	('gesar', 5),
-	('gesausd', 7),
-	('gesaust', 7),
-	('geschal', 7),
-	('geschil', 7),
-	('geschop', 7),
-	('geschut', 7),
-	('gesco', 5),
-	('gesel', 5),
-	('geselen', 7),
-	('geshop', 6),
-	('gesis', 5),
-	('gesjok', 6),
-	('gesjor', 6),
-	('gesjouw', 7),
-	('geslaap', 7),
-	('gesleep', 7),
-	('geslijm', 7),
-	('gesluip', 7),
-	('geslurp', 7),
-	('gesmaad', 7),
-	('gesmak', 6),
-	('gesmeek', 7),
-	('gesmoes', 7),
-	('gesnap', 6),
-	('gesnauw', 7),
-	('gesneer', 7),
-	('gesnerp', 7),
-	('gesnif', 6),
-	('gesnik', 6),
-	('gesnoep', 7),
-	('gesnor', 6),
-	('gesnuif', 7),
-	('gesnurk', 7),
-	('gesol', 5),
-	('gespan', 6),
-	('gespeel', 7),
-	('gespekt', 7),
-	('gespen', 6),
-	('gespeur', 7),
-	('gespin', 6),
-	('gespook', 7),
-	('gesprek', 7),
-	('gespuis', 7),
-	('gespuit', 7),
-	('gespuug', 7),
-	('gestaag', 7),
-	('gestaar', 7),
-	('gestamp', 7),
-	('gestart', 7),
-	('geste', 5),
-	('gestel', 6),
-	('gesteld', 7),
-	('gestemd', 7),
-	('gesteun', 7),
-	('gestie', 6),
-	('gestipt', 7),
-	('gestoef', 7),
-	('gestoei', 7),
-	('gestook', 7),
-	('gestuur', 7),
-	('gesuis', 6),
-	('getaand', 7),
-	('getakt', 6),
-	('getal', 5),
-	('getalm', 6),
-	('getand', 6),
-	('getapt', 6),
-	('getater', 7),
-	('geteem', 6),
-	('getier', 6),
-	('getij', 5),
-	('getijde', 7),
-	('getik', 5),
-	('getikt', 6),
-	('getint', 6),
-	('getjilp', 7),
-	('getob', 5),
-	('getogen', 7),
-	('getouw', 6),
-	('getover', 7),
-	('getrain', 7),
-	('getrap', 6),
-	('getrapt', 7),
-	('getrek', 6),
-	('getril', 6),
-	('getrost', 7),
-	('getrouw', 7),
-	('getrut', 6),
-	('getto', 5),
-	('getuig', 6),
-	('getuigd', 7),
-	('getuige', 7),
-	('getuit', 6),
-	('getuur', 6),
-	('getweet', 7),
-	('geuren', 6),
-	('geurig', 6),
-	('geurtje', 7),
-	('geuze', 5),
-	('gevaar', 6),
-	('gevader', 7),
-	('geval', 5),
-	('gevang', 6),
-	('gevat', 5),
-	('gevecht', 7),
-	('geveeg', 6),
-	('geveerd', 7),
-	('gevel', 5),
-	('geven', 5),
-	('gever', 5),
-	('geverfd', 7),
-	('gevest', 6),
-	('gevierd', 7),
-	('gevind', 6),
-	('gevlag', 6),
-	('gevlamd', 7),
-	('gevlei', 6),
-	('gevleid', 7),
-	('gevlekt', 7),
-	('gevlieg', 7),
-	('gevlij', 6),
-	('gevloek', 7),
-	('gevlokt', 7),
-	('gevoeg', 6),
-	('gevoel', 6),
-	('gevoerd', 7),
-	('gevolg', 6),
-	('gevorkt', 7),
-	('gevorm', 6),
-	('gevormd', 7),
-	('gevraag', 7),
-	('gevreet', 7),
-	('gevrij', 6),
-	('gevuld', 6),
-	('gewaad', 6),
-	('gewaagd', 7),
-	('gewaand', 7),
-	('gewaar', 6),
-	('gewaard', 7),
-	('gewag', 5),
-	('gewagen', 7),
-	('gewand', 6),
-	('gewas', 5),
-	('geween', 6),
-	('geweer', 6),
-	('gewei', 5),
-	('geweld', 6),
-	('gewelf', 6),
-	('gewelfd', 7),
-	('gewemel', 7),
-	('gewend', 6),
-	('gewenst', 7),
-	('gewest', 6),
-	('geweten', 7),
-	('geweven', 7),
-	('gewezen', 7),
-	('gewicht', 7),
-	('gewiekt', 7),
-	('gewijd', 6),
-	('gewijs', 6),
-	('gewild', 6),
-	('gewin', 5),
-	('gewis', 5),
-	('gewoel', 6),
-	('gewold', 6),
-	('gewolkt', 7),
-	('gewond', 6),
-	('gewonde', 7),
-	('gewoon', 6),
-	('gewrijf', 7),
-	('gewrik', 6),
-	('gewring', 7),
-	('gewroet', 7),
-	('gewuif', 6),
-	('gewurm', 6),
-	('gezaag', 6),
-	('gezaagd', 7),
-	('gezag', 5),
-	('gezakt', 6),
-	('gezang', 6),
-	('gezanik', 7),
-	('gezant', 6),
-	('gezapig', 7),
-	('gezegd', 6),
-	('gezegde', 7),
-	('gezeik', 6),
-	('gezel', 5),
-	('gezemel', 7),
-	('gezet', 5),
-	('gezeten', 7),
-	('gezeul', 6),
-	('gezeur', 6),
-	('gezever', 7),
-	('gezicht', 7),
-	('gezien', 6),
-	('gezin', 5),
-	('gezind', 6),
-	('gezocht', 7),
-	('gezoden', 7),
-	('gezoek', 6),
-	('gezoem', 6),
-	('gezoen', 6),
-	('gezoet', 6),
-	('gezon', 5),
-	('gezond', 6),
-	('gezuig', 6),
-	('gezuip', 6),
-	('gezwaai', 7),
-	('gezwalk', 7),
-	('gezwalp', 7),
-	('gezwam', 6),
-	('gezwans', 7),
-	('gezweef', 7),
-	('gezwel', 6),
-	('gezwem', 6),
-	('gezwenk', 7),
-	('gezwets', 7),
-	('gezwiep', 7),
-	('gezwier', 7),
-	('gezwind', 7),
-	('gezwoeg', 7),
-	('ghazel', 6),
-	('ghibil', 6),
-	('gibbon', 6),
-	('gibus', 5),
-	('gidsen', 6),
-	('gidsrol', 7),
-	('giebel', 6),
-	('giechel', 7),
-	('gienje', 6),
-	('gieren', 6),
-	('gierig', 6),
-	('giering', 7),
-	('gierkar', 7),
-	('gierput', 7),
-	('gierst', 6),
-	('giertij', 7),
-	('gierton', 7),
-	('gietbui', 7),
-	('gieten', 6),
-	('gieter', 6),
-	('gietgal', 7),
-	('gietgat', 7),
-	('gieting', 7),
-	('gietmal', 7),
-	('gietsel', 7),
-	('giezen', 6),
-	('gifbelt', 7),
-	('gifgas', 6),
-	('gifpijl', 7),
-	('gifpil', 6),
-	('giframp', 7),
-	('gifstof', 7),
-	('giftand', 7),
-	('giftig', 6),
-	('gifvat', 6),
-	('gifvrij', 7),
-	('gifwijk', 7),
-	('gifwolk', 7),
-	('gigabit', 7),
-	('gigant', 6),
-	('gigaton', 7),
-	('gigolo', 6),
-	('gigue', 5),
-	('gijpen', 6),
-	('gilde', 5),
-	('gildos', 6),
-	('gilet', 5),
-	('gillen', 6),
-	('giller', 6),
-	('gilling', 7),
-	('gimmick', 7),
-	('ginder', 6),
-	('ginds', 5),
-	('ginkgo', 6),
-	('ginseng', 7),
-	('ginst', 5),
-	('ginter', 6),
-	('gipsen', 6),
-	('gipsy', 5),
-	('giraal', 6),
-	('giraf', 5),
-	('giraffe', 7),
-	('girant', 6),
-	('gireren', 7),
-	('giropas', 7),
-	('gispen', 6),
-	('gisping', 7),
-	('gissen', 6),
-	('gissing', 7),
-	('gistcel', 7),
-	('gisten', 6),
-	('gister', 6),
-	('gisting', 7),
-	('giswerk', 7),
-	('gitaar', 6),
-	('gitten', 6),
-	('glaasje', 7),
-	('glacis', 6),
-	('gladaf', 6),
-	('gladden', 7),
-	('gladdig', 7),
-	('gladjes', 7),
-	('gladweg', 7),
-	('glamour', 7),
-	('glans', 5),
-	('glanzen', 7),
-	('glanzer', 7),
-	('glanzig', 7),
-	('glasaal', 7),
-	('glasbak', 7),
-	('glasbol', 7),
-	('glasdak', 7),
-	('glaslat', 7),
-	('glasmat', 7),
-	('glasnet', 7),
-	('glaspui', 7),
-	('glaswol', 7),
-	('glazen', 6),
-	('glazig', 6),
-	('glazuur', 7),
-	('gleed', 5),
-	('gleis', 5),
-	('gleuf', 5),
-	('glijden', 7),
-	('glijder', 7),
-	('glimmen', 7),
-	('glimmer', 7),
-	('glimp', 5),
-	('glimpen', 7),
-	('glippen', 7),
-	('glipper', 7),
-	('glitter', 7),
-	('globaal', 7),
-	('globe', 5),
-	('gloed', 5),
-	('gloeien', 7),
-	('glommen', 7),
-	('glooien', 7),
-	('gloop', 5),
-	('gloor', 5),
-	('gloren', 6),
-	('gloria', 6),
-	('glorie', 6),
-	('glosse', 6),
-	('glossen', 7),
-	('glossy', 6),
-	('glottis', 7),
-	('glucose', 7),
-	('gluipen', 7),
-	('gluiper', 7),
-	('gluips', 6),
-	('glunder', 7),
-	('gluren', 6),
-	('gluten', 6),
-	('glutine', 7),
-	('gluton', 6),
-	('glycine', 7),
-	('glycol', 6),
-	('glypten', 7),
-	('gneis', 5),
-	('gnocchi', 7),
-	('gnomon', 6),
-	('gnoom', 5),
-	('gnosis', 6),
-	('gnuiven', 7),
-	('goalie', 6),
-	('gobelin', 7),
-	('gocart', 6),
-	('goddank', 7),
-	('goden', 5),
-	('godgans', 7),
-	('godheid', 7),
-	('godin', 5),
-	('godlof', 6),
-	('godloos', 7),
-	('godloze', 7),
-	('godswil', 7),
-	('godver', 6),
-	('goede', 5),
-	('goedig', 6),
-	('goedje', 6),
-	('goedzak', 7),
-	('goeie', 5),
-	('goeierd', 7),
-	('goeiig', 6),
-	('goelag', 6),
-	('goelijk', 7),
-	('goeman', 6),
-	('goeroe', 6),
-	('goffer', 6),
-	('gofferd', 7),
-	('gogme', 5),
-	('gojim', 5),
-	('gojims', 6),
-	('gokbaas', 7),
-	('gokhal', 6),
-	('gokhuis', 7),
-	('gokkast', 7),
-	('gokken', 6),
-	('gokker', 6),
-	('goklust', 7),
-	('goksite', 7),
-	('gokspel', 7),
-	('gokstad', 7),
-	('goktent', 7),
-	('gokwerk', 7),
-	('golden', 6),
-	('golem', 5),
-	('golfbad', 7),
-	('golfbal', 7),
-	('golfdag', 7),
-	('golfdal', 7),
-	('golfen', 6),
-	('golfer', 6),
-	('golfkam', 7),
-	('golfkar', 7),
-	('golfles', 7),
-	('golfset', 7),
-	('golftas', 7),
-	('golftop', 7),
-	('goliath', 7),
-	('golven', 6),
-	('golving', 7),
-	('gombal', 6),
-	('gomboom', 7),
-	('gomhars', 7),
-	('gomma', 5),
-	('gommen', 6),
-	('gompie', 6),
-	('gonade', 6),
-	('gondel', 6),
-	('gondola', 7),
-	('gonje', 5),
-	('gonzen', 6),
-	('goochem', 7),
-	('googol', 6),
-	('gooiarm', 7),
-	('gooien', 6),
-	('gootgat', 7),
-	('gordel', 6),
-	('gorden', 6),
-	('gordijn', 7),
-	('gording', 7),
-	('gorgel', 6),
-	('gorig', 5),
-	('gorilla', 7),
-	('gortig', 6),
-	('gortzak', 7),
-	('gospel', 6),
-	('gossie', 6),
-	('gossip', 6),
-	('gothic', 6),
-	('gotiek', 6),
-	('gotisch', 7),
-	('gotspe', 6),
-	('gouache', 7),
-	('gouda', 5),
-	('goudbad', 7),
-	('goudbes', 7),
-	('gouden', 6),
-	('goudiep', 7),
-	('goudlak', 7),
-	('goudmes', 7),
-	('goudoog', 7),
-	('goudvis', 7),
-	('goudvos', 7),
-	('goulash', 7),
-	('gourmet', 7),
-	('gouwdag', 7),
-	('gouwe', 5),
-	('gozer', 5),
-	('graad', 5),
-	('graaf', 5),
-	('graag', 5),
-	('graagte', 7),
-	('graai', 5),
-	('graaien', 7),
-	('graaier', 7),
-	('graal', 5),
-	('graan', 5),
-	('graat', 5),
-	('gracht', 6),
-	('graecus', 7),
-	('grafeem', 7),
-	('grafen', 6),
-	('grafie', 6),
-	('grafiek', 7),
-	('grafiet', 7),
-	('grafkop', 7),
-	('graft', 5),
-	('graftak', 7),
-	('granaat', 7),
-	('grande', 6),
-	('graniet', 7),
-	('granito', 7),
-	('granman', 7),
-	('granol', 6),
-	('grapjas', 7),
-	('grappa', 6),
-	('grappen', 7),
-	('grappig', 7),
-	('grasaap', 7),
-	('grasdak', 7),
-	('grasmat', 7),
-	('grasmus', 7),
-	('graspad', 7),
-	('graspol', 7),
-	('grasrol', 7),
-	('grassen', 7),
-	('gratie', 6),
-	('gratig', 6),
-	('gratis', 6),
-	('gratuit', 7),
-	('grauw', 5),
-	('grauwe', 6),
-	('grauwen', 7),
-	('grauwig', 7),
-	('grave', 5),
-	('graveel', 7),
-	('gravel', 6),
-	('graven', 6),
-	('graver', 6),
-	('graveur', 7),
-	('gravin', 6),
-	('gravure', 7),
-	('grawlix', 7),
-	('grazen', 6),
-	('grazer', 6),
-	('grazig', 6),
-	('grebbe', 6),
-	('greed', 5),
-	('green', 5),
-	('greep', 5),
-	('grein', 5),
-	('greinen', 7),
-	('greinig', 7),
-	('greling', 7),
-	('gremium', 7),
-	('grendel', 7),
-	('grenen', 6),
-	('grens', 5),
-	('grenzen', 7),
-	('grepen', 6),
-	('greppel', 7),
-	('gretig', 6),
-	('gribus', 6),
-	('grief', 5),
-	('griek', 5),
-	('griel', 5),
-	('grielen', 7),
-	('griend', 6),
-	('grienen', 7),
-	('griener', 7),
-	('griep', 5),
-	('griepen', 7),
-	('gries', 5),
-	('griet', 5),
-	('grietje', 7),
-	('grieve', 6),
-	('grieven', 7),
-	('griezel', 7),
-	('griffel', 7),
-	('griffen', 7),
-	('griffie', 7),
-	('grift', 5),
-	('grifweg', 7),
-	('grijn', 5),
-	('grijnen', 7),
-	('grijns', 6),
-	('grijp', 5),
-	('grijpen', 7),
-	('grijper', 7),
-	('grijs', 5),
-	('grijzen', 7),
-	('grijzig', 7),
-	('grill', 5),
-	('grille', 6),
-	('grillen', 7),
-	('grillig', 7),
-	('grimas', 6),
-	('grime', 5),
-	('grimeur', 7),
-	('grimmen', 7),
-	('grimmig', 7),
-	('grind', 5),
-	('grinden', 7),
-	('gringo', 6),
-	('grint', 5),
-	('grinten', 7),
-	('griot', 5),
-	('griotje', 7),
-	('grippen', 7),
-	('grissen', 7),
-	('grizzly', 7),
-	('groede', 6),
-	('groef', 5),
-	('groei', 5),
-	('groeien', 7),
-	('groeier', 7),
-	('groen', 5),
-	('groene', 6),
-	('groenen', 7),
-	('groenig', 7),
-	('groente', 7),
-	('groep', 5),
-	('groepen', 7),
-	('groes', 5),
-	('groet', 5),
-	('groeten', 7),
-	('groeve', 6),
-	('groeven', 7),
-	('groeze', 6),
-	('groezig', 7),
-	('grofte', 6),
-	('grofweg', 7),
-	('groggy', 6),
-	('grollen', 7),
-	('grolpot', 7),
-	('grommen', 7),
-	('grommer', 7),
-	('grommig', 7),
-	('grompot', 7),
-	('grond', 5),
-	('grondel', 7),
-	('gronden', 7),
-	('grondig', 7),
-	('groomen', 7),
-	('groos', 5),
-	('groot', 5),
-	('grootje', 7),
-	('grootma', 7),
-	('grootpa', 7),
-	('groots', 6),
-	('grootte', 7),
-	('grooven', 7),
-	('groovy', 6),
-	('grosse', 6),
-	('grote', 5),
-	('groter', 6),
-	('grotesk', 7),
-	('groupie', 7),
-	('gruis', 5),
-	('gruizel', 7),
-	('gruizen', 7),
-	('gruizig', 7),
-	('grundel', 7),
-	('grunge', 6),
-	('grungy', 6),
-	('grunten', 7),
-	('grutten', 7),
-	('grutter', 7),
-	('grutto', 6),
-	('gruwel', 6),
-	('gruwen', 6),
-	('guanine', 7),
-	('guano', 5),
-	('guave', 5),
-	('guimpe', 6),
-	('guipure', 7),
-	('guiten', 6),
-	('guitig', 6),
-	('gulden', 6),
-	('gulgauw', 7),
-	('gulheid', 7),
-	('gullen', 6),
-	('gulpen', 6),
-	('gulweg', 6),
-	('gulzig', 6),
-	('gummen', 6),
-	('gummi', 5),
-	('gunnen', 6),
-	('gunnera', 7),
-	('gunning', 7),
-	('gunst', 5),
-	('gunste', 6),
-	('gunstig', 7),
-	('guppy', 5),
-	('gutsen', 6),
-	('gymclub', 7),
-	('gymjuf', 6),
-	('gymkana', 7),
-	('gymles', 6),
-	('gymmen', 6),
-	('gymnast', 7),
-	('gympie', 6),
-	('gymtas', 6),
-	('gymzaal', 7),
-	('gyros', 5),
-	('haagbos', 7),
-	('haageik', 7),
-	('haagt', 5),
-	('haaien', 6),
-	('haaiig', 6),
-	('haakaas', 7),
-	('haakoog', 7),
-	('haakpen', 7),
-	('haaks', 5),
-	('haalmes', 7),
-	('haantje', 7),
-	('haarbal', 7),
-	('haarbos', 7),
-	('haard', 5),
-	('haarde', 6),
-	('haardos', 7),
-	('haardot', 7),
-	('haargel', 7),
-	('haarkam', 7),
-	('haarlak', 7),
-	('haarlok', 7),
-	('haarmos', 7),
-	('haartje', 7),
-	('haarvat', 7),
-	('haarzak', 7),
-	('haast', 5),
-	('haasten', 7),
-	('haastig', 7),
-	('habibi', 6),
-	('habijt', 6),
-	('habitat', 7),
-	('habitus', 7),
-	('hachee', 6),
-	('hachje', 6),
-	('hacken', 6),
-	('hacker', 6),
-	('hacking', 7),
-	('hadden', 6),
-	('hadji', 5),
-	('hagada', 6),
-	('hagedis', 7),
-	('hagel', 5),
-	('hagelen', 7),
-	('hagen', 5),
-	('hager', 5),
-	('haggis', 6),
-	('haiku', 5),
-	('hakama', 6),
-	('hakbal', 6),
-	('hakbijl', 7),
-	('hakblok', 7),
-	('hakbord', 7),
-	('hakbos', 6),
-	('haken', 5),
-	('haker', 5),
-	('hakerig', 7),
-	('hakhout', 7),
-	('hakje', 5),
-	('hakken', 6),
-	('hakker', 6),
-	('hakmes', 6),
-	('hakmoes', 7),
-	('haksel', 6),
-	('hakstro', 7),
-	('hakstuk', 7),
-	('hakwerk', 7),
-	('halacha', 7),
-	('halal', 5),
-	('halcyon', 7),
-	('haldeur', 7),
-	('halen', 5),
-	('haler', 5),
-	('halfaap', 7),
-	('halfdek', 7),
-	('halfeen', 7),
-	('halfelf', 7),
-	('halfgek', 7),
-	('halfgod', 7),
-	('halfje', 6),
-	('halfjes', 7),
-	('halfom', 6),
-	('halftij', 7),
-	('halfuur', 7),
-	('halfvet', 7),
-	('halfvol', 7),
-	('halfwas', 7),
-	('halfweg', 7),
-	('halfzes', 7),
-	('halfzus', 7),
-	('hallen', 6),
-	('hallo', 5),
-	('halma', 5),
-	('halsjuk', 7),
-	('halster', 7),
-	('halte', 5),
-	('halter', 6),
-	('halve', 5),
-	('halzen', 6),
-	('hamam', 5),
-	('hamas', 5),
-	('hamei', 5),
-	('hamel', 5),
-	('hamer', 5),
-	('hameren', 7),
-	('hamers', 6),
-	('hamlap', 6),
-	('hamspek', 7),
-	('hamster', 7),
-	('handbak', 7),
-	('handbal', 7),
-	('handbel', 7),
-	('handeg', 6),
-	('handel', 6),
-	('handen', 6),
-	('handgel', 7),
-	('handig', 6),
-	('handje', 6),
-	('handkar', 7),
-	('handkus', 7),
-	('handpop', 7),
-	('handrem', 7),
-	('handrug', 7),
-	('hands', 5),
-	('handset', 7),
-	('handtam', 7),
-	('handtas', 7),
-	('handvat', 7),
-	('handvol', 7),
-	('handwas', 7),
-	('handy', 5),
-	('hanenei', 7),
-	('hangaar', 7),
-	('hangar', 6),
-	('hangdag', 7),
-	('hangel', 6),
-	('hangen', 6),
-	('hanger', 6),
-	('hanglip', 7),
-	('hangmap', 7),
-	('hangmat', 7),
-	('hangoor', 7),
-	('hangop', 6),
-	('hanig', 5),
-	('hanige', 6),
-	('hannes', 6),
-	('hansop', 6),
-	('hanzen', 6),
-	('hapax', 5),
-	('haperen', 7),
-	('hapje', 5),
-	('happen', 6),
-	('happig', 6),
-	('happy', 5),
-	('hapsnap', 7),
-	('haram', 5),
-	('harden', 6),
-	('harder', 6),
-	('harding', 7),
-	('hardop', 6),
-	('hardrot', 7),
-	('hardtop', 7),
-	('harem', 5),
-	('haren', 5),
-	('harent', 6),
-	('harig', 5),
-	('haring', 6),
-	('harken', 6),
-	('harksel', 7),
-	('harnas', 6),
-	('harpen', 6),
-	('harpij', 6),
-	('harpist', 7),
-	('harpoen', 7),
-	('harpuis', 7),
-	('harre', 5),
-	('harrel', 6),
-	('harsen', 6),
-	('harses', 6),
-	('harsgas', 7),
-	('harsig', 6),
-	('harslak', 7),
-	('harst', 5),
-	('harsten', 7),
-	('harte', 5),
-	('harten', 6),
-	('hartig', 6),
-	('hartje', 6),
-	('hartlap', 7),
-	('hartoor', 7),
-	('hashtag', 7),
-	('haspel', 6),
-	('haten', 5),
-	('hater', 5),
-	('hatsjie', 7),
-	('hausse', 6),
-	('hautain', 7),
-	('hauwtje', 7),
-	('havanna', 7),
-	('haven', 5),
-	('havenen', 7),
-	('havenot', 7),
-	('haver', 5),
-	('havik', 5),
-	('haviken', 7),
-	('havist', 6),
-	('hazard', 6),
-	('hazen', 5),
-	('headset', 7),
-	('healen', 6),
-	('healer', 6),
-	('healing', 7),
-	('hearing', 7),
-	('heavy', 5),
-	('hebben', 6),
-	('hebber', 6),
-	('hebberd', 7),
-	('hebbes', 6),
-	('hecht', 5),
-	('hechten', 7),
-	('hectare', 7),
-	('hectiek', 7),
-	('heden', 5),
-	('hedera', 6),
-	('hederik', 7),
-	('hedgen', 6),
-	('hedging', 7),
-	('hedjra', 6),
-	('heeft', 5),
-	('heelal', 6),
-	('heemst', 6),
-	('heenrit', 7),
-	('heenweg', 7),
-	('heerban', 7),
-	('heeroom', 7),
-	('heersen', 7),
-	('heerser', 7),
-	('heertje', 7),
-	('heerweg', 7),
-	('heester', 7),
-	('hefarm', 6),
-	('hefboom', 7),
-	('hefbrug', 7),
-	('hefdak', 6),
-	('heffe', 5),
-	('heffen', 6),
-	('heffer', 6),
-	('heffing', 7),
-	('heftang', 7),
-	('heften', 6),
-	('heftig', 6),
-	('hefvlak', 7),
-	('hegge', 5),
-	('heggen', 6),
-	('heibaan', 7),
-	('heibaas', 7),
-	('heibei', 6),
-	('heibel', 6),
-	('heiblok', 7),
-	('heiboer', 7),
-	('heidag', 6),
-	('heide', 5),
-	('heiden', 6),
-	('heidens', 7),
-	('heidin', 6),
-	('heien', 5),
-	('heier', 5),
-	('heihaas', 7),
-	('heiig', 5),
-	('heikant', 7),
-	('heikel', 6),
-	('heiland', 7),
-	('heilbot', 7),
-	('heilig', 6),
-	('heilige', 7),
-	('heimat', 6),
-	('heimwee', 7),
-	('heining', 7),
-	('heipaal', 7),
-	('heisa', 5),
-	('heitje', 6),
-	('heiveld', 7),
-	('heiwerk', 7),
-	('hekel', 5),
-	('hekelen', 7),
-	('hekelig', 7),
-	('hekgolf', 7),
-	('hekken', 6),
-	('hekpaal', 7),
-	('heksen', 6),
-	('hekwerk', 7),
-	('helaas', 6),
-	('helder', 6),
-	('heldin', 6),
-	('helen', 5),
-	('heler', 5),
-	('helft', 5),
-	('helgeel', 7),
-	('helhond', 7),
-	('helicon', 7),
-	('helidek', 7),
-	('heling', 6),
-	('helium', 6),
-	('helix', 5),
-	('hellen', 6),
-	('heller', 6),
-	('helling', 7),
-	('helmen', 6),
-	('helmgat', 7),
-	('heloot', 6),
-	('helpen', 6),
-	('helper', 6),
-	('helrood', 7),
-	('helwit', 6),
-	('hemdrok', 7),
-	('hemel', 5),
-	('hemelas', 7),
-	('hemelen', 7),
-	('hemels', 6),
-	('hemmen', 6),
-	('hemzelf', 7),
-	('hendel', 6),
-	('henen', 5),
-	('hengel', 6),
-	('hengsel', 7),
-	('hengst', 6),
-	('henna', 5),
-	('hennep', 6),
-	('henry', 5),
-	('henzelf', 7),
-	('henzen', 6),
-	('heraut', 6),
-	('herberg', 7),
-	('herbouw', 7),
-	('herder', 6),
-	('herdoen', 7),
-	('herdoop', 7),
-	('herdruk', 7),
-	('heresie', 7),
-	('herfst', 6),
-	('herig', 5),
-	('herik', 5),
-	('hering', 6),
-	('herkoop', 7),
-	('hernia', 6),
-	('heros', 5),
-	('herpes', 6),
-	('herrie', 6),
-	('hersens', 7),
-	('herstel', 7),
-	('hertest', 7),
-	('hertog', 6),
-	('hertz', 5),
-	('herzien', 7),
-	('hesen', 5),
-	('hetaere', 7),
-	('heten', 5),
-	('hetero', 6),
-	('hetgeen', 7),
-	('hetwelk', 7),
-	('hetze', 5),
-	('hetzij', 6),
-	('heugel', 6),
-	('heugen', 6),
-	('heuker', 6),
-	('heulen', 6),
-	('heulsap', 7),
-	('heupbot', 7),
-	('heupkom', 7),
-	('heupkop', 7),
-	('heuptas', 7),
-	('heuvel', 6),
-	('hevea', 5),
-	('hevel', 5),
-	('hevelen', 7),
-	('hevig', 5),
-	('hexaan', 6),
-	('hiaat', 5),
-	('hickory', 7),
-	('hidalgo', 7),
-	('hidjab', 6),
-	('hidjra', 6),
-	('hield', 5),
-	('hielen', 6),
-	('hieling', 7),
-	('hielkap', 7),
-	('hielp', 5),
-	('hieltje', 7),
-	('hieraan', 7),
-	('hieraf', 6),
-	('hierbij', 7),
-	('hierin', 6),
-	('hiermee', 7),
-	('hierna', 6),
-	('hierom', 6),
-	('hierop', 6),
-	('hiertoe', 7),
-	('hieruit', 7),
-	('hiervan', 7),
-	('hieuw', 5),
-	('hieuwen', 7),
-	('hieven', 6),
-	('hifiset', 7),
-	('hihat', 5),
-	('hijgen', 6),
-	('hijger', 6),
-	('hijsbok', 7),
-	('hijsen', 6),
-	('hijsoog', 7),
-	('hijzelf', 7),
-	('hiken', 5),
-	('hiking', 6),
-	('hikken', 6),
-	('hinde', 5),
-	('hinder', 6),
-	('hindoe', 6),
-	('hindoes', 7),
-	('hinken', 6),
-	('hinten', 6),
-	('hints', 5),
-	('hipheid', 7),
-	('hiphop', 6),
-	('hippen', 6),
-	('hippie', 6),
-	('hipster', 7),
-	('hitfilm', 7),
-	('hitlist', 7),
-	('hitsen', 6),
-	('hitsig', 6),
-	('hitte', 5),
-	('hitten', 6),
-	('hivtest', 7),
-	('hoaxen', 6),
-	('hobbel', 6),
-	('hobbit', 6),
-	('hobbits', 7),
-	('hobby', 5),
-	('hobbyen', 7),
-	('hobuer', 6),
-	('hocker', 6),
-	('hockey', 6),
-	('hodgkin', 7),
-	('hoede', 5),
-	('hoeden', 6),
-	('hoeder', 6),
-	('hoedna', 6),
-	('hoekbad', 7),
-	('hoekbal', 7),
-	('hoeken', 6),
-	('hoeker', 6),
-	('hoekig', 6),
-	('hoekman', 7),
-	('hoeks', 5),
-	('hoekzak', 7),
-	('hoela', 5),
-	('hoelang', 7),
-	('hoempa', 6),
-	('hoentje', 7),
-	('hoepel', 6),
-	('hoepla', 6),
-	('hoepnet', 7),
-	('hoera', 5),
-	('hoeren', 6),
-	('hoeri', 5),
-	('hoerig', 6),
-	('hoest', 5),
-	('hoesten', 7),
-	('hoetel', 6),
-	('hoeve', 5),
-	('hoeveel', 7),
-	('hoeven', 6),
-	('hoever', 6),
-	('hoewel', 6),
-	('hoezee', 6),
-	('hoezeer', 7),
-	('hoezo', 5),
-	('hofambt', 7),
-	('hofarts', 7),
-	('hofauto', 7),
-	('hofbal', 6),
-	('hofdame', 7),
-	('hofhond', 7),
-	('hofje', 5),
-	('hofnar', 6),
-	('hofrouw', 7),
-	('hofstad', 7),
-	('hofstee', 7),
-	('hogen', 5),
-	('hoger', 5),
-	('hogerop', 7),
-	('hogers', 6),
-	('hoging', 6),
-	('hokken', 6),
-	('hokkig', 6),
-	('hokvast', 7),
-	('holding', 7),
-	('holebi', 6),
-	('holen', 5),
-	('holheid', 7),
-	('holisme', 7),
-	('holist', 6),
-	('hollen', 6),
-	('hologig', 7),
-	('holpijp', 7),
-	('holrond', 7),
-	('holst', 5),
-	('holster', 7),
-	('holte', 5),
-	('holvast', 7),
-	('holvoet', 7),
-	('homerun', 7),
-	('homilie', 7),
-	('hominem', 7),
-	('hommage', 7),
-	('hommel', 6),
-	('hommer', 6),
-	('homobar', 7),
-	('homobom', 7),
-	('homoman', 7),
-	('honderd', 7),
-	('honds', 5),
-	('honen', 5),
-	('honend', 6),
-	('honger', 6),
-	('honig', 5),
-	('honing', 6),
-	('honkbal', 7),
-	('honken', 6),
-	('honkman', 7),
-	('honnig', 6),
-	('hoofd', 5),
-	('hoofdas', 7),
-	('hoofdig', 7),
-	('hoofs', 5),
-	('hoogdag', 7),
-	('hoogmis', 7),
-	('hoogst', 6),
-	('hoogte', 6),
-	('hoogtij', 7),
-	('hooguit', 7),
-	('hoogzit', 7),
-	('hooien', 6),
-	('hooier', 6),
-	('hooigat', 7),
-	('hooiman', 7),
-	('hooitas', 7),
-	('hooked', 6),
-	('hoopvol', 7),
-	('hoorder', 7),
-	('hoorn', 5),
-	('hoornen', 7),
-	('hoornig', 7),
-	('hoosbui', 7),
-	('hoosgat', 7),
-	('hoosvat', 7),
-	('hopbel', 6),
-	('hopbeuk', 7),
-	('hopbouw', 7),
-	('hopen', 5),
-	('hopje', 5),
-	('hopla', 5),
-	('hopland', 7),
-	('hopman', 6),
-	('hoppa', 5),
-	('hoppe', 5),
-	('hoppen', 6),
-	('hopper', 6),
-	('hoprank', 7),
-	('hopsa', 5),
-	('hopsen', 6),
-	('hopveld', 7),
-	('horde', 5),
-	('horden', 6),
-	('horeca', 6),
-	('horen', 5),
-	('horig', 5),
-	('horige', 6),
-	('horizon', 7),
-	('horloge', 7),
-	('hormon', 6),
-	('hormoon', 7),
-	('horren', 6),
-	('horreur', 7),
-	('horror', 6),
-	('horst', 5),
-	('horsten', 7),
-	('horten', 6),
-	('hortus', 6),
-	('horzel', 6),
-	('hosanna', 7),
-	('hospes', 6),
-	('hospice', 7),
-	('hospik', 6),
-	('hospita', 7),
-	('hossel', 6),
-	('hossen', 6),
-	('hosta', 5),
-	('hostel', 6),
-	('hosten', 6),
-	('hostess', 7),
-	('hostie', 6),
-	('hostiel', 7),
-	('hosting', 7),
-	('hotdog', 6),
-	('hotel', 5),
-	('hotjazz', 7),
-	('hotline', 7),
-	('hotsaus', 7),
-	('hotsen', 6),
-	('hotspot', 7),
-	('hotten', 6),
-	('houden', 6),
-	('houder', 6),
-	('houding', 7),
-	('houdoe', 6),
-	('houkind', 7),
-	('house', 5),
-	('housen', 6),
-	('houtcel', 7),
-	('houten', 6),
-	('houtgas', 7),
-	('houthok', 7),
-	('houtig', 6),
-	('houting', 7),
-	('houtje', 6),
-	('houtkap', 7),
-	('houtrot', 7),
-	('houtvat', 7),
-	('houtwal', 7),
-	('houtwol', 7),
-	('houvast', 7),
-	('houweel', 7),
-	('houwen', 6),
-	('houwer', 6),
-	('houwtje', 7),
-	('hoven', 5),
-	('hoveren', 7),
-	('hoving', 6),
-	('hozebek', 7),
-	('hozen', 5),
-	('https', 5),
-	('hufter', 6),
-	('huggen', 6),
-	('huidcel', 7),
-	('huiden', 6),
-	('huidig', 6),
-	('huifkar', 7),
-	('huiken', 6),
-	('huilbui', 7),
-	('huilen', 6),
-	('huiler', 6),
-	('huisbar', 7),
-	('huisbel', 7),
-	('huiself', 7),
-	('huisgod', 7),
-	('huisjas', 7),
-	('huisje', 6),
-	('huiskat', 7),
-	('huisman', 7),
-	('huismus', 7),
-	('huispak', 7),
-	('huisrif', 7),
-	('huistoe', 7),
-	('huiven', 6),
-	('huizen', 6),
-	('huizing', 7),
-	('hukken', 6),
-	('hulde', 5),
-	('hullen', 6),
-	('hulpje', 6),
-	('hulpkit', 7),
-	('hulpkok', 7),
-	('hulsel', 6),
-	('hulst', 5),
-	('humaan', 6),
-	('humbug', 6),
-	('humeur', 6),
-	('hummel', 6),
-	('hummen', 6),
-	('hummer', 6),
-	('hummers', 7),
-	('hummus', 6),
-	('humor', 5),
-	('humus', 5),
-	('hunebed', 7),
-	('hunnent', 7),
-	('hunner', 6),
-	('hunten', 6),
-	('hunter', 6),
-	('hunzelf', 7),
-	('huppen', 6),
-	('hupsen', 6),
-	('huren', 5),
-	('hurken', 6),
-	('hurkzit', 7),
-	('hurling', 7),
-	('husky', 5),
-	('hussiet', 7),
-	('hutsen', 6),
-	('hutspot', 7),
-	('huurder', 7),
-	('huursom', 7),
-	('huurwet', 7),
-	('huwbaar', 7),
-	('huwen', 5),
-	('huzaar', 6),
-	('hyacint', 7),
-	('hyalien', 7),
-	('hybride', 7),
-	('hybris', 6),
-	('hydra', 5),
-	('hydraat', 7),
-	('hydrant', 7),
-	('hyena', 5),
-	('hyfen', 5),
-	('hymen', 5),
-	('hymne', 5),
-	('hypen', 5),
-	('hyper', 5),
-	('hypnose', 7),
-	('hysop', 5),
-	('hyven', 5),
-	('ibidem', 6),
-	('icetea', 6),
-	('icing', 5),
-	('icoon', 5),
-	('ideaal', 6),
-	('ideale', 6),
-	('idealen', 7),
-	('ideetje', 7),
-	('idioom', 6),
-	('idioot', 6),
-	('idiotie', 7),
-	('idolaat', 7),
-	('idool', 5),
-	('idylle', 6),
-	('iebel', 5),
-	('ieder', 5),
-	('iedere', 6),
-	('iemand', 6),
-	('iemker', 6),
-	('iepen', 5),
-	('ietsje', 6),
-	('ietsjes', 7),
-	('ietwat', 6),
-	('ijdel', 5),
-	('ijken', 5),
-	('ijker', 5),
-	('ijking', 6),
-	('ijkjaar', 7),
-	('ijklijn', 7),
-	('ijkmaat', 7),
-	('ijkmerk', 7),
-	('ijkpunt', 7),
-	('ijlbode', 7),
-	('ijlen', 5),
-	('ijlgoed', 7),
-	('ijlheid', 7),
-	('ijlings', 7),
-	('ijsbaan', 7),
-	('ijsbad', 6),
-	('ijsbal', 6),
-	('ijsbank', 7),
-	('ijsbar', 6),
-	('ijsbeen', 7),
-	('ijsbeer', 7),
-	('ijsberg', 7),
-	('ijsbijl', 7),
-	('ijsblok', 7),
-	('ijsboer', 7),
-	('ijsbok', 6),
-	('ijsbond', 7),
-	('ijsbout', 7),
-	('ijsbox', 6),
-	('ijsbrug', 7),
-	('ijsclub', 7),
-	('ijsco', 5),
-	('ijsdag', 6),
-	('ijsdam', 6),
-	('ijsdek', 6),
-	('ijsduif', 7),
-	('ijseend', 7),
-	('ijsgala', 7),
-	('ijsgang', 7),
-	('ijsgeld', 7),
-	('ijsgors', 7),
-	('ijsgrot', 7),
-	('ijshal', 6),
-	('ijshut', 6),
-	('ijsje', 5),
-	('ijskap', 6),
-	('ijskar', 6),
-	('ijskast', 7),
-	('ijskern', 7),
-	('ijskist', 7),
-	('ijskou', 6),
-	('ijskoud', 7),
-	('ijslaag', 7),
-	('ijsmaan', 7),
-	('ijsman', 6),
-	('ijsmerk', 7),
-	('ijsmist', 7),
-	('ijsmuts', 7),
-	('ijsmuur', 7),
-	('ijspret', 7),
-	('ijsrace', 7),
-	('ijsrand', 7),
-	('ijsroom', 7),
-	('ijsshow', 7),
-	('ijssla', 6),
-	('ijstak', 6),
-	('ijstang', 7),
-	('ijsthee', 7),
-	('ijstijd', 7),
-	('ijsval', 6),
-	('ijsveld', 7),
-	('ijsvrij', 7),
-	('ijswand', 7),
-	('ijswijn', 7),
-	('ijswolk', 7),
-	('ijszaak', 7),
-	('ijszak', 6),
-	('ijszee', 6),
-	('ijver', 5),
-	('ijveren', 7),
-	('ijverig', 7),
-	('ijzel', 5),
-	('ijzelen', 7),
-	('ijzen', 5),
-	('ijzer', 5),
-	('ijzeren', 7),
-	('ijzig', 5),
-	('ijzing', 6),
-	('ikebana', 7),
-	('ikzelf', 6),
-	('iliitis', 7),
-	('illusie', 7),
-	('image', 5),
-	('imago', 5),
-	('imker', 5),
-	('imkeren', 7),
-	('imkerij', 7),
-	('immens', 6),
-	('immer', 5),
-	('immers', 6),
-	('immes', 5),
-	('immuun', 6),
-	('impact', 6),
-	('impala', 6),
-	('impasse', 7),
-	('import', 6),
-	('impost', 6),
-	('imprint', 7),
-	('impuls', 6),
-	('inbaar', 6),
-	('inboren', 7),
-	('inborst', 7),
-	('inbox', 5),
-	('inbraak', 7),
-	('inbreng', 7),
-	('inbreuk', 7),
-	('incasso', 7),
-	('incest', 6),
-	('incisie', 7),
-	('incluis', 7),
-	('incrowd', 7),
-	('indagen', 7),
-	('indalen', 7),
-	('indelen', 7),
-	('indeler', 7),
-	('index', 5),
-	('indiaan', 7),
-	('indices', 7),
-	('indicie', 7),
-	('indien', 6),
-	('indigo', 6),
-	('indium', 6),
-	('indoen', 6),
-	('indom', 5),
-	('indoor', 6),
-	('indopen', 7),
-	('indruk', 6),
-	('indult', 6),
-	('induwen', 7),
-	('ineen', 5),
-	('ineens', 6),
-	('inenten', 7),
-	('inert', 5),
-	('inertie', 7),
-	('inexact', 7),
-	('infaam', 6),
-	('infant', 6),
-	('infante', 7),
-	('infarct', 7),
-	('inferno', 7),
-	('influx', 6),
-	('infobox', 7),
-	('infobus', 7),
-	('infodag', 7),
-	('infomap', 7),
-	('infra', 5),
-	('infusie', 7),
-	('infuus', 6),
-	('ingaan', 6),
-	('ingaand', 7),
-	('ingang', 6),
-	('ingave', 6),
-	('ingebed', 7),
-	('ingeval', 7),
-	('ingeven', 7),
-	('ingezet', 7),
-	('ingoed', 6),
-	('ingooi', 6),
-	('ingot', 5),
-	('ingreep', 7),
-	('inhaken', 7),
-	('inhaker', 7),
-	('inhalen', 7),
-	('inhaler', 7),
-	('inhalig', 7),
-	('inham', 5),
-	('inheems', 7),
-	('inheien', 7),
-	('inhoud', 6),
-	('inhout', 6),
-	('inhuren', 7),
-	('injagen', 7),
-	('inkeep', 6),
-	('inkeer', 6),
-	('inkepen', 7),
-	('inkeren', 7),
-	('inkijk', 6),
-	('inkjet', 6),
-	('inkjets', 7),
-	('inkoken', 7),
-	('inkom', 5),
-	('inkomen', 7),
-	('inkomst', 7),
-	('inkoop', 6),
-	('inkopen', 7),
-	('inkoper', 7),
-	('inkoud', 6),
-	('inkten', 6),
-	('inktgom', 7),
-	('inktlap', 7),
-	('inktmop', 7),
-	('inktpen', 7),
-	('inktpot', 7),
-	('inktrol', 7),
-	('inktvis', 7),
-	('inlaag', 6),
-	('inlaat', 6),
-	('inladen', 7),
-	('inlage', 6),
-	('inlands', 7),
-	('inlas', 5),
-	('inlaten', 7),
-	('inlaut', 6),
-	('inlay', 5),
-	('inleg', 5),
-	('inlenen', 7),
-	('inlener', 7),
-	('inleren', 7),
-	('inleven', 7),
-	('inlezen', 7),
-	('inline', 6),
-	('inloop', 6),
-	('inlopen', 7),
-	('inloten', 7),
-	('inmaak', 6),
-	('inmaken', 7),
-	('inmeten', 7),
-	('inname', 6),
-	('innemen', 7),
-	('innen', 5),
-	('innig', 5),
-	('inning', 6),
-	('inplant', 7),
-	('input', 5),
-	('inramen', 7),
-	('inren', 5),
-	('inrit', 5),
-	('inruil', 6),
-	('insect', 6),
-	('insider', 7),
-	('insigne', 7),
-	('inslaan', 7),
-	('inslag', 6),
-	('insnede', 7),
-	('inspit', 6),
-	('instaan', 7),
-	('instant', 7),
-	('insteek', 7),
-	('instore', 7),
-	('instuif', 7),
-	('insult', 6),
-	('intact', 6),
-	('intake', 6),
-	('intapen', 7),
-	('inteelt', 7),
-	('integer', 7),
-	('intens', 6),
-	('interen', 7),
-	('interim', 7),
-	('intern', 6),
-	('interne', 7),
-	('intiem', 6),
-	('intijds', 7),
-	('intimi', 6),
-	('intimus', 7),
-	('intocht', 7),
-	('intomen', 7),
-	('intrede', 7),
-	('intree', 6),
-	('intrek', 6),
-	('intrest', 7),
-	('intrige', 7),
-	('intro', 5),
-	('intron', 6),
-	('intypen', 7),
-	('invaart', 7),
-	('inval', 5),
-	('invaren', 7),
-	('invasie', 7),
-	('invers', 6),
-	('invert', 6),
-	('invite', 6),
-	('invitee', 7),
-	('invloed', 7),
-	('invoer', 6),
-	('inwegen', 7),
-	('inweken', 7),
-	('inweven', 7),
-	('inwit', 5),
-	('inwonen', 7),
-	('inwoner', 7),
-	('inworp', 6),
-	('inzage', 6),
-	('inzagen', 7),
-	('inzake', 6),
-	('inzepen', 7),
-	('inzet', 5),
-	('inzicht', 7),
-	('inzien', 6),
-	('ionen', 5),
-	('ionisch', 7),
-	('ippon', 5),
-	('iridium', 7),
-	('ironie', 6),
-	('ischias', 7),
-	('islam', 5),
-	('isobaar', 7),
-	('isolijn', 7),
-	('isomeer', 7),
-	('isomorf', 7),
-	('isotoon', 7),
-	('isotoop', 7),
-	('issue', 5),
-	('istmus', 6),
-	('ivoor', 5),
-	('ivoren', 6),
-	('izabel', 6),
-	('jaagpad', 7),
-	('jaardag', 7),
-	('jaarmix', 7),
-	('jaarpas', 7),
-	('jaars', 5),
-	('jaartal', 7),
-	('jabot', 5),
-	('jabroer', 7),
-	('jacht', 5),
-	('jachten', 7),
-	('jachtig', 7),
-	('jacket', 6),
-	('jackpot', 7),
-	('jacquet', 7),
-	('jacuzzi', 7),
-	('jaden', 5),
-	('jaeger', 6),
-	('jagen', 5),
-	('jager', 5),
-	('jageres', 7),
-	('jagerij', 7),
-	('jaguar', 6),
-	('jajem', 5),
-	('jakamp', 6),
-	('jakhals', 7),
-	('jakken', 6),
-	('jakkes', 6),
-	('jakmest', 7),
-	('jalap', 5),
-	('jalappe', 7),
-	('jaloers', 7),
-	('jalon', 5),
-	('jambe', 5),
-	('jammen', 6),
-	('jammer', 6),
-	('jammere', 7),
-	('jammie', 6),
-	('jampot', 6),
-	('janboel', 7),
-	('janet', 5),
-	('jangat', 6),
-	('janhen', 6),
-	('janken', 6),
-	('janmaat', 7),
-	('jannen', 6),
-	('janoom', 6),
-	('janslot', 7),
-	('jantje', 6),
-	('jantjes', 7),
-	('januari', 7),
-	('janus', 5),
-	('japen', 5),
-	('japon', 5),
-	('jargon', 6),
-	('jarig', 5),
-	('jarige', 6),
-	('jasmijn', 7),
-	('jaspand', 7),
-	('jaspis', 6),
-	('jassen', 6),
-	('jasses', 6),
-	('jaszak', 6),
-	('jatagan', 7),
-	('jatmoos', 7),
-	('jatte', 5),
-	('jatten', 6),
-	('jatter', 6),
-	('jatwerk', 7),
-	('javel', 5),
-	('jawel', 5),
-	('jawoord', 7),
-	('jazeker', 7),
-	('jazzy', 5),
-	('jeans', 5),
-	('jeetje', 6),
-	('jegens', 6),
-	('jehova', 6),
-	('jeinen', 6),
-	('jekker', 6),
-	('jelui', 5),
-	('jemig', 5),
-	('jeminee', 7),
-	('jenever', 7),
-	('jengel', 6),
-	('jennen', 6),
-	('jenner', 6),
-	('jersey', 6),
-	('jetlag', 6),
-	('jeton', 5),
-	('jetset', 6),
-	('jetski', 6),
-	('jeugd', 5),
-	('jeugdig', 7),
-	('jeuken', 6),
-	('jeuksel', 7),
-	('jeukte', 6),
-	('jezelf', 6),
-	('jicht', 5),
-	('jichtig', 7),
-	('jihad', 5),
-	('jihadi', 6),
-	('jijen', 5),
-	('jijzelf', 7),
-	('jingle', 6),
-	('jingo', 5),
-	('jippie', 6),
-	('jiven', 5),
-	('jobben', 6),
-	('jobber', 6),
-	('jobsite', 7),
-	('jochie', 6),
-	('jockey', 6),
-	('jockeys', 7),
-	('jodelen', 7),
-	('joderen', 7),
-	('jodide', 6),
-	('jodin', 5),
-	('jodium', 6),
-	('joego', 5),
-	('joekel', 6),
-	('joelen', 6),
-	('joepen', 6),
-	('joepie', 6),
-	('joetje', 6),
-	('jofel', 5),
-	('joffer', 6),
-	('joggen', 6),
-	('jogger', 6),
-	('jogging', 7),
-	('joinen', 6),
-	('joint', 5),
-	('joken', 5),
-	('joker', 5),
-	('jokeren', 7),
-	('jokken', 6),
-	('jolen', 5),
-	('jolig', 5),
-	('jolijt', 6),
-	('jollen', 6),
-	('jonas', 5),
-	('jongde', 6),
-	('jonge', 5),
-	('jongen', 6),
-	('jonger', 6),
-	('jongere', 7),
-	('jongst', 6),
-	('jongste', 7),
-	('jongvee', 7),
-	('jonker', 6),
-	('jonkie', 6),
-	('jonkman', 7),
-	('jonnen', 6),
-	('joods', 5),
-	('jopper', 6),
-	('jouen', 5),
-	('jouker', 6),
-	('joule', 5),
-	('jouwe', 5),
-	('jouwen', 6),
-	('jouzelf', 7),
-	('joviaal', 7),
-	('joyeus', 6),
-	('jozef', 5),
-	('jubee', 5),
-	('jubel', 5),
-	('jubelen', 7),
-	('jubilea', 7),
-	('jubilee', 7),
-	('judas', 5),
-	('judex', 5),
-	('judoka', 6),
-	('judoles', 7),
-	('judomat', 7),
-	('judopak', 7),
-	('juffer', 6),
-	('juffie', 6),
-	('juichen', 7),
-	('juinen', 6),
-	('juist', 5),
-	('juiste', 6),
-	('jujube', 6),
-	('jukbeen', 7),
-	('jukboog', 7),
-	('jukebox', 7),
-	('jukken', 6),
-	('julidag', 7),
-	('jullie', 6),
-	('jumbo', 5),
-	('jumpen', 6),
-	('jumper', 6),
-	('junctie', 7),
-	('jungle', 6),
-	('junidag', 7),
-	('junior', 6),
-	('juniore', 7),
-	('junkie', 6),
-	('junta', 5),
-	('jureren', 7),
-	('jurist', 6),
-	('juriste', 7),
-	('jurylid', 7),
-	('juskom', 6),
-	('juspan', 6),
-	('juten', 5),
-	('jutezak', 7),
-	('jutmis', 6),
-	('jutten', 6),
-	('jutter', 6),
-	('juweel', 6),
-	('juwelen', 7),
-	('juwelig', 7),
-	('kaagman', 7),
-	('kaaien', 6),
-	('kaaier', 6),
-	('kaaiman', 7),
-	('kaakbot', 7),
-	('kaakje', 6),
-	('kaakmes', 7),
-	('kaalkap', 7),
-	('kaalkop', 7),
-	('kaalte', 6),
-	('kaantje', 7),
-	('kaard', 5),
-	('kaarde', 6),
-	('kaarden', 7),
-	('kaarder', 7),
-	('kaars', 5),
-	('kaart', 5),
-	('kaarten', 7),
-	('kaarter', 7),
-	('kaartje', 7),
-	('kaasbol', 7),
-	('kaaskop', 7),
-	('kaasmes', 7),
-	('kaaswei', 7),
-	('kaats', 5),
-	('kaatsen', 7),
-	('kaatser', 7),
-	('kabaai', 6),
-	('kabaal', 6),
-	('kabaja', 6),
-	('kabas', 5),
-	('kabbala', 7),
-	('kabbes', 6),
-	('kabel', 5),
-	('kabinet', 7),
-	('kabots', 6),
-	('kabuki', 6),
-	('kachel', 6),
-	('kadaver', 7),
-	('kaddisj', 7),
-	('kadee', 5),
-	('kaden', 5),
-	('kader', 5),
-	('kaderen', 7),
-	('kadet', 5),
-	('kadetje', 7),
-	('kadijk', 6),
-	('kadraai', 7),
-	('kaduuk', 6),
-	('kaffa', 5),
-	('kaffer', 6),
-	('kaffiya', 7),
-	('kafir', 5),
-	('kaftan', 6),
-	('kaften', 6),
-	('kafzak', 6),
-	('kagie', 5),
-	('kaisoi', 6),
-	('kajak', 5),
-	('kajuit', 6),
-	('kakel', 5),
-	('kakelen', 7),
-	('kaken', 5),
-	('kaker', 5),
-	('kaketoe', 7),
-	('kakken', 6),
-	('kakker', 6),
-	('kakkies', 7),
-	('kakster', 7),
-	('kalbas', 6),
-	('kalebas', 7),
-	('kalen', 5),
-	('kalfde', 6),
-	('kalfkoe', 7),
-	('kaliber', 7),
-	('kalief', 6),
-	('kalig', 5),
-	('kalis', 5),
-	('kalisse', 7),
-	('kalium', 6),
-	('kalkarm', 7),
-	('kalkbak', 7),
-	('kalkei', 6),
-	('kalken', 6),
-	('kalkoen', 7),
-	('kalkput', 7),
-	('kalle', 5),
-	('kallen', 6),
-	('kalmink', 7),
-	('kalmoes', 7),
-	('kalmte', 6),
-	('kalmweg', 7),
-	('kalomel', 7),
-	('kalong', 6),
-	('kalot', 5),
-	('kalven', 6),
-	('kalvijn', 7),
-	('kameel', 6),
-	('kamelot', 7),
-	('kamen', 5),
-	('kamer', 5),
-	('kamfer', 6),
-	('kamgras', 7),
-	('kamhout', 7),
-	('kamig', 5),
-	('kamille', 7),
-	('kammen', 6),
-	('kampdag', 7),
-	('kampen', 6),
-	('kamper', 6),
-	('kampong', 7),
-	('kamrad', 6),
-	('kamsin', 6),
-	('kamwiel', 7),
-	('kamwol', 6),
-	('kanaal', 6),
-	('kanaat', 6),
-	('kanarie', 7),
-	('kandeel', 7),
-	('kandij', 6),
-	('kaneel', 6),
-	('kanelig', 7),
-	('kanen', 5),
-	('kanis', 5),
-	('kanjer', 6),
-	('kanji', 5),
-	('kanker', 6),
-	('kanoet', 6),
-	('kanon', 5),
-	('kansarm', 7),
-	('kansel', 6),
-	('kansen', 6),
-	('kanteel', 7),
-	('kanten', 6),
-	('kantiek', 7),
-	('kantig', 6),
-	('kantine', 7),
-	('kantje', 6),
-	('kantjes', 7),
-	('kanton', 6),
-	('kantoor', 7),
-	('kaolien', 7),
-	('kaoline', 7),
-	('kapblok', 7),
-	('kapbord', 7),
-	('kapdoos', 7),
-	('kapel', 5),
-	('kapen', 5),
-	('kaper', 5),
-	('kaperij', 7),
-	('kaping', 6),
-	('kapjaar', 7),
-	('kapje', 5),
-	('kapkar', 6),
-	('kapmes', 6),
-	('kapoen', 6),
-	('kapoets', 7),
-	('kapok', 5),
-	('kapot', 5),
-	('kapotje', 7),
-	('kappa', 5),
-	('kappen', 6),
-	('kapper', 6),
-	('kappers', 7),
-	('kaprijp', 7),
-	('kaproen', 7),
-	('kapsel', 6),
-	('kapster', 7),
-	('kapstok', 7),
-	('kapvorm', 7),
-	('kapzaag', 7),
-	('karaat', 6),
-	('karaf', 5),
-	('karamel', 7),
-	('karaoke', 7),
-	('karate', 6),
-	('karbeel', 7),
-	('karbies', 7),
-	('karbouw', 7),
-	('kardeel', 7),
-	('kardoen', 7),
-	('kardoes', 7),
-	('kareel', 6),
-	('karen', 5),
-	('karet', 5),
-	('kariboe', 7),
-	('karig', 5),
-	('karkas', 6),
-	('karkiet', 7),
-	('karma', 5),
-	('karman', 6),
-	('karmijn', 7),
-	('karnen', 6),
-	('karnton', 7),
-	('karonje', 7),
-	('karos', 5),
-	('karot', 5),
-	('karper', 6),
-	('karpet', 6),
-	('karrad', 6),
-	('karren', 6),
-	('karst', 5),
-	('kartel', 6),
-	('karten', 6),
-	('kartets', 7),
-	('karting', 7),
-	('karton', 6),
-	('kartouw', 7),
-	('karveel', 7),
-	('karwats', 7),
-	('karwei', 6),
-	('karwij', 6),
-	('kasba', 5),
-	('kasboek', 7),
-	('kasbon', 6),
-	('kaseko', 6),
-	('kasgeld', 7),
-	('kashba', 6),
-	('kasiri', 6),
-	('kasmoni', 7),
-	('kassa', 5),
-	('kassala', 7),
-	('kassei', 6),
-	('kassen', 6),
-	('kassian', 7),
-	('kassie', 6),
-	('kassier', 7),
-	('kasstuk', 7),
-	('kaste', 5),
-	('kasteel', 7),
-	('kasten', 6),
-	('kastie', 6),
-	('kastrol', 7),
-	('kataal', 6),
-	('kater', 5),
-	('katerig', 7),
-	('katern', 6),
-	('kathode', 7),
-	('kation', 6),
-	('katjang', 7),
-	('katje', 5),
-	('katjes', 6),
-	('katoen', 6),
-	('katoog', 6),
-	('katrol', 6),
-	('katsjoe', 7),
-	('katten', 6),
-	('kattig', 6),
-	('kattin', 6),
-	('katuil', 6),
-	('katvis', 6),
-	('katwilg', 7),
-	('kauri', 5),
-	('kauwen', 6),
-	('kauwgom', 7),
-	('kauwgum', 7),
-	('kavalje', 7),
-	('kavel', 5),
-	('kavelen', 7),
-	('kaviaar', 7),
-	('kawai', 5),
-	('kawina', 6),
-	('kazak', 5),
-	('kazemat', 7),
-	('kazen', 5),
-	('kazer', 5),
-	('kazerne', 7),
-	('kebab', 5),
-	('kebon', 5),
-	('kedive', 6),
-	('keelgat', 7),
-	('keelzak', 7),
-	('keepen', 6),
-	('keeper', 6),
-	('keeplat', 7),
-	('keerdam', 7),
-	('keerlus', 7),
-	('keertje', 7),
-	('keerweg', 7),
-	('keerzij', 7),
-	('keesje', 6),
-	('keesten', 7),
-	('keffen', 6),
-	('keffer', 6),
-	('kefir', 5),
-	('kegel', 5),
-	('kegelas', 7),
-	('kegelen', 7),
-	('kegge', 5),
-	('keggen', 6),
-	('kehila', 6),
-	('keigaaf', 7),
-	('keigoed', 7),
-	('keihard', 7),
-	('keikogi', 7),
-	('keikop', 6),
-	('keileem', 7),
-	('keilen', 6),
-	('keiler', 6),
-	('keinijg', 7),
-	('keistad', 7),
-	('keitje', 6),
-	('keitof', 6),
-	('keizand', 7),
-	('keizer', 6),
-	('keken', 5),
-	('keker', 5),
-	('kelder', 6),
-	('kelen', 5),
-	('kelim', 5),
-	('kelly', 5),
-	('kelner', 6),
-	('kelvin', 6),
-	('kemel', 5),
-	('kempen', 6),
-	('kenau', 5),
-	('kenbaar', 7),
-	('kenbron', 7),
-	('kendo', 5),
-	('kenen', 5),
-	('kenleer', 7),
-	('kenmerk', 7),
-	('kennel', 6),
-	('kennen', 6),
-	('kenner', 6),
-	('kennis', 6),
-	('kentaur', 7),
-	('kepel', 5),
-	('kepen', 5),
-	('keper', 5),
-	('keperen', 7),
-	('kepie', 5),
-	('keppel', 6),
-	('kerel', 5),
-	('keren', 5),
-	('kerfmes', 7),
-	('kering', 6),
-	('kerkban', 7),
-	('kerkdag', 7),
-	('kerkdak', 7),
-	('kerken', 6),
-	('kerker', 6),
-	('kerkhof', 7),
-	('kerklid', 7),
-	('kerkmis', 7),
-	('kerkpad', 7),
-	('kerkrat', 7),
-	('kerks', 5),
-	('kerkuil', 7),
-	('kerkweg', 7),
-	('kerkwet', 7),
-	('kerkzak', 7),
-	('kermen', 6),
-	('kermes', 6),
-	('kermis', 6),
-	('kernbom', 7),
-	('kernel', 6),
-	('kernen', 6),
-	('kernhem', 7),
-	('kernkop', 7),
-	('kernlid', 7),
-	('kernnet', 7),
-	('kernvak', 7),
-	('kernzin', 7),
-	('kerrie', 6),
-	('kersen', 6),
-	('kersouw', 7),
-	('kerspel', 7),
-	('kerst', 5),
-	('kervel', 6),
-	('kerven', 6),
-	('kerving', 7),
-	('ketch', 5),
-	('ketchup', 7),
-	('ketel', 5),
-	('keten', 5),
-	('ketenen', 7),
-	('ketjap', 6),
-	('ketje', 5),
-	('keton', 5),
-	('ketsen', 6),
-	('ketter', 6),
-	('ketters', 7),
-	('ketting', 7),
-	('keuen', 5),
-	('keuken', 6),
-	('keurder', 7),
-	('keure', 5),
-	('keuren', 6),
-	('keurig', 6),
-	('keuring', 7),
-	('keurman', 7),
-	('keurs', 5),
-	('keutel', 6),
-	('keuter', 6),
-	('keuvel', 6),
-	('keuze', 5),
-	('keuzen', 6),
-	('keuzes', 6),
-	('kevel', 5),
-	('kevels', 6),
-	('keven', 5),
-	('kever', 5),
-	('keveren', 7),
-	('kevie', 5),
-	('kevlar', 6),
-	('keycard', 7),
-	('keycord', 7),
-	('keyen', 5),
-	('kezen', 5),
-	('khimar', 6),
-	('kibbels', 7),
-	('kicken', 6),
-	('kidde', 5),
-	('kidoesj', 7),
-	('kieken', 6),
-	('kiekje', 6),
-	('kielen', 6),
-	('kielman', 7),
-	('kielzog', 7),
-	('kiembak', 7),
-	('kiemcel', 7),
-	('kiemen', 6),
-	('kieming', 7),
-	('kiemwit', 7),
-	('kienen', 6),
-	('kiepbak', 7),
-	('kiepen', 6),
-	('kiepkar', 7),
-	('kieren', 6),
-	('kiesman', 7),
-	('kiesvee', 7),
-	('kieswet', 7),
-	('kieuw', 5),
-	('kieuwen', 7),
-	('kieviet', 7),
-	('kievit', 6),
-	('kiezel', 6),
-	('kiezen', 6),
-	('kiezer', 6),
-	('kiften', 6),
-	('kijkdag', 7),
-	('kijken', 6),
-	('kijker', 6),
-	('kijkgat', 7),
-	('kijkhut', 7),
-	('kijktip', 7),
-	('kijkuit', 7),
-	('kijven', 6),
-	('kijver', 6),
-	('kijvers', 7),
-	('kikken', 6),
-	('kikker', 6),
-	('kikvors', 7),
-	('kilheid', 7),
-	('kilkoud', 7),
-	('kille', 5),
-	('killen', 6),
-	('killer', 6),
-	('killig', 6),
-	('kilobit', 7),
-	('kilopak', 7),
-	('kiloton', 7),
-	('kilte', 5),
-	('kimkiel', 7),
-	('kimme', 5),
-	('kimmen', 6),
-	('kimono', 6),
-	('kinase', 6),
-	('kinband', 7),
-	('kindeke', 7),
-	('kinds', 5),
-	('kineast', 7),
-	('kinema', 6),
-	('kinine', 6),
-	('kinkel', 6),
-	('kinken', 6),
-	('kinky', 5),
-	('kiosk', 5),
-	('kipkap', 6),
-	('kippen', 6),
-	('kipper', 6),
-	('kippig', 6),
-	('kipsel', 6),
-	('kirren', 6),
-	('kirsch', 6),
-	('kissen', 6),
-	('kistdam', 7),
-	('kisten', 6),
-	('kisting', 7),
-	('kistje', 6),
-	('kiten', 5),
-	('kitrest', 7),
-	('kitsch', 6),
-	('kitsen', 6),
-	('kitten', 6),
-	('kittig', 6),
-	('klaaf', 5),
-	('klaar', 5),
-	('klaarte', 7),
-	('klaas', 5),
-	('klabak', 6),
-	('klacht', 6),
-	('kladden', 7),
-	('kladje', 6),
-	('klagen', 6),
-	('klager', 6),
-	('klakken', 7),
-	('klamaai', 7),
-	('klamboe', 7),
-	('klammig', 7),
-	('klamp', 5),
-	('klampen', 7),
-	('klamper', 7),
-	('klank', 5),
-	('klanken', 7),
-	('klant', 5),
-	('klapbes', 7),
-	('klapbus', 7),
-	('klapdak', 7),
-	('klaphek', 7),
-	('klappei', 7),
-	('klappen', 7),
-	('klapper', 7),
-	('klapvee', 7),
-	('klare', 5),
-	('klaren', 6),
-	('klaring', 7),
-	('klaroen', 7),
-	('klasbak', 7),
-	('klasse', 6),
-	('klassen', 7),
-	('klats', 5),
-	('klauw', 5),
-	('klauwen', 7),
-	('klauwer', 7),
-	('klaver', 6),
-	('klavier', 7),
-	('kledder', 7),
-	('kleden', 6),
-	('kledij', 6),
-	('kleding', 7),
-	('kleed', 5),
-	('kleef', 5),
-	('kleffig', 7),
-	('kleien', 6),
-	('kleiig', 6),
-	('klein', 5),
-	('kleine', 6),
-	('kleinen', 7),
-	('kleinte', 7),
-	('kleipop', 7),
-	('kleiput', 7),
-	('kleiweg', 7),
-	('klembus', 7),
-	('klemmap', 7),
-	('klemmen', 7),
-	('klepel', 6),
-	('kleppen', 7),
-	('klepper', 7),
-	('kleppet', 7),
-	('kleren', 6),
-	('klerk', 5),
-	('klets', 5),
-	('kletsen', 7),
-	('kletser', 7),
-	('kleumen', 7),
-	('kleumer', 7),
-	('kleums', 6),
-	('kleun', 5),
-	('kleunen', 7),
-	('kleur', 5),
-	('kleuren', 7),
-	('kleurig', 7),
-	('kleuter', 7),
-	('kleven', 6),
-	('klever', 6),
-	('klewang', 7),
-	('klezmer', 7),
-	('klieder', 7),
-	('kliek', 5),
-	('klieken', 7),
-	('kliekje', 7),
-	('klier', 5),
-	('klieren', 7),
-	('klierig', 7),
-	('klieven', 7),
-	('klijn', 5),
-	('klikken', 7),
-	('klikker', 7),
-	('kliko', 5),
-	('klimaat', 7),
-	('klimdag', 7),
-	('klimhal', 7),
-	('klimmen', 7),
-	('klimmer', 7),
-	('klimnet', 7),
-	('klimop', 6),
-	('klimrek', 7),
-	('klimtol', 7),
-	('kling', 5),
-	('klinge', 6),
-	('kliniek', 7),
-	('klink', 5),
-	('klinken', 7),
-	('klinker', 7),
-	('klinket', 7),
-	('klipdas', 7),
-	('klipper', 7),
-	('klipvis', 7),
-	('klissen', 7),
-	('klister', 7),
-	('klitten', 7),
-	('klodde', 6),
-	('klodder', 7),
-	('kloef', 5),
-	('kloek', 5),
-	('kloeken', 7),
-	('kloet', 5),
-	('kloeten', 7),
-	('kloffie', 7),
-	('klojo', 5),
-	('klokhen', 7),
-	('klokje', 6),
-	('klokke', 6),
-	('klokken', 7),
-	('klokrok', 7),
-	('klokuur', 7),
-	('klomp', 5),
-	('klonen', 6),
-	('klonk', 5),
-	('klont', 5),
-	('klonter', 7),
-	('klontje', 7),
-	('kloof', 5),
-	('klooi', 5),
-	('klooien', 7),
-	('kloon', 5),
-	('kloot', 5),
-	('klopje', 6),
-	('kloppen', 7),
-	('klopper', 7),
-	('kloptor', 7),
-	('kloris', 6),
-	('klossen', 7),
-	('klote', 5),
-	('kloten', 6),
-	('klotsen', 7),
-	('klove', 5),
-	('kloven', 6),
-	('klover', 6),
-	('kloving', 7),
-	('klucht', 6),
-	('kluft', 5),
-	('kluften', 7),
-	('kluif', 5),
-	('kluis', 5),
-	('kluit', 5),
-	('kluiven', 7),
-	('kluiver', 7),
-	('kluizen', 7),
-	('klunen', 6),
-	('klungel', 7),
-	('kluns', 5),
-	('klunzen', 7),
-	('klunzig', 7),
-	('kluppel', 7),
-	('klusdag', 7),
-	('klusman', 7),
-	('klussen', 7),
-	('klusser', 7),
-	('kluts', 5),
-	('klutsei', 7),
-	('klutsen', 7),
-	('kluut', 5),
-	('kluwen', 6),
-	('klysma', 6),
-	('knaak', 5),
-	('knaap', 5),
-	('knaapje', 7),
-	('knagen', 6),
-	('knaging', 7),
-	('knakken', 7),
-	('knakker', 7),
-	('knalgas', 7),
-	('knallen', 7),
-	('knaller', 7),
-	('knalpot', 7),
-	('knapjes', 7),
-	('knappen', 7),
-	('knapper', 7),
-	('knapzak', 7),
-	('knarpen', 7),
-	('knarsen', 7),
-	('knaster', 7),
-	('knauw', 5),
-	('knauwen', 7),
-	('knecht', 6),
-	('knechts', 7),
-	('kneden', 6),
-	('kneder', 6),
-	('kneep', 5),
-	('knekel', 6),
-	('knellen', 7),
-	('knepen', 6),
-	('knerpen', 7),
-	('knersen', 7),
-	('knetter', 7),
-	('kneukel', 7),
-	('kneus', 5),
-	('kneuter', 7),
-	('kneuzen', 7),
-	('knevel', 6),
-	('kniekap', 7),
-	('knielap', 7),
-	('knielen', 7),
-	('knier', 5),
-	('knietje', 7),
-	('knieval', 7),
-	('kniezen', 7),
-	('kniezer', 7),
-	('kniezig', 7),
-	('knijp', 5),
-	('knijpen', 7),
-	('knijper', 7),
-	('knikken', 7),
-	('knikker', 7),
-	('kniples', 7),
-	('knipmes', 7),
-	('knipoog', 7),
-	('knippa', 6),
-	('knippen', 7),
-	('knipper', 7),
-	('knipsel', 7),
-	('kniptor', 7),
-	('knobbel', 7),
-	('knoedel', 7),
-	('knoei', 5),
-	('knoeien', 7),
-	('knoeier', 7),
-	('knoert', 6),
-	('knoest', 6),
-	('knoet', 5),
-	('knokig', 6),
-	('knokkel', 7),
-	('knokken', 7),
-	('knokker', 7),
-	('knook', 5),
-	('knoop', 5),
-	('knopen', 6),
-	('knopig', 6),
-	('knopoor', 7),
-	('knoppen', 7),
-	('knorf', 5),
-	('knorren', 7),
-	('knorrig', 7),
-	('knotje', 6),
-	('knots', 5),
-	('knotsen', 7),
-	('knotten', 7),
-	('knowhow', 7),
-	('knudde', 6),
-	('knuddig', 7),
-	('knuffel', 7),
-	('knuist', 6),
-	('knullig', 7),
-	('knuppel', 7),
-	('knurft', 6),
-	('knusjes', 7),
-	('knuttel', 7),
-	('koala', 5),
-	('kobalt', 6),
-	('kobbe', 5),
-	('kobold', 6),
-	('kocht', 5),
-	('kodak', 5),
-	('kodde', 5),
-	('koddig', 6),
-	('koebel', 6),
-	('koeboer', 7),
-	('koebrug', 7),
-	('koedoe', 6),
-	('koehaar', 7),
-	('koehuid', 7),
-	('koeien', 6),
-	('koekalf', 7),
-	('koeken', 6),
-	('koekje', 6),
-	('koekoek', 7),
-	('koelak', 6),
-	('koelbak', 7),
-	('koelbox', 7),
-	('koelcel', 7),
-	('koelen', 6),
-	('koeler', 6),
-	('koelie', 6),
-	('koeling', 7),
-	('koelkan', 7),
-	('koelkop', 7),
-	('koelrib', 7),
-	('koeltas', 7),
-	('koelte', 6),
-	('koeltje', 7),
-	('koelvak', 7),
-	('koelvat', 7),
-	('koelvin', 7),
-	('koelweg', 7),
-	('koemelk', 7),
-	('koemest', 7),
-	('koenjit', 7),
-	('koepel', 6),
-	('koepok', 6),
-	('koeren', 6),
-	('koerier', 7),
-	('koers', 5),
-	('koersen', 7),
-	('koest', 5),
-	('koestal', 7),
-	('koetje', 6),
-	('koets', 5),
-	('koetsen', 7),
-	('koevoet', 7),
-	('koffer', 6),
-	('koffie', 6),
-	('kogel', 5),
-	('kogelas', 7),
-	('kogelen', 7),
-	('kogge', 5),
-	('kohier', 6),
-	('koine', 5),
-	('kokarde', 7),
-	('koken', 5),
-	('kokend', 6),
-	('koker', 5),
-	('kokerij', 7),
-	('koket', 5),
-	('koking', 6),
-	('kokinje', 7),
-	('kokkel', 6),
-	('kokken', 6),
-	('kokker', 6),
-	('kokkerd', 7),
-	('kokkie', 6),
-	('kokkin', 6),
-	('kokos', 5),
-	('koksmes', 7),
-	('koksvak', 7),
-	('kolbak', 6),
-	('kolchoz', 7),
-	('kolder', 6),
-	('kolen', 5),
-	('kolere', 6),
-	('kolfbal', 7),
-	('kolfje', 6),
-	('kolgans', 7),
-	('koliek', 6),
-	('kolken', 6),
-	('kollen', 6),
-	('kollet', 6),
-	('kolom', 5),
-	('kolonel', 7),
-	('kolonie', 7),
-	('kolos', 5),
-	('kolven', 6),
-	('kolver', 6),
-	('komaan', 6),
-	('komaf', 5),
-	('kombuis', 7),
-	('komedie', 7),
-	('komeet', 6),
-	('komen', 5),
-	('komend', 6),
-	('komfoor', 7),
-	('komiek', 6),
-	('komijn', 6),
-	('komisch', 7),
-	('komma', 5),
-	('kommen', 6),
-	('kommer', 6),
-	('kompaan', 7),
-	('kompas', 6),
-	('kompel', 6),
-	('kompres', 7),
-	('komst', 5),
-	('konden', 6),
-	('kongsi', 6),
-	('konijn', 6),
-	('koning', 6),
-	('konkel', 6),
-	('kontgat', 7),
-	('kontje', 6),
-	('kontzak', 7),
-	('konvooi', 7),
-	('kooiaap', 7),
-	('kooien', 6),
-	('kooiker', 7),
-	('kooiman', 7),
-	('kookgas', 7),
-	('kookgek', 7),
-	('kookles', 7),
-	('kooknat', 7),
-	('kookpan', 7),
-	('kookpot', 7),
-	('kooksel', 7),
-	('kooktip', 7),
-	('kookwas', 7),
-	('kookzak', 7),
-	('koolbak', 7),
-	('koolkit', 7),
-	('koolpot', 7),
-	('koolsap', 7),
-	('koolsla', 7),
-	('kooltje', 7),
-	('koolvis', 7),
-	('koolzak', 7),
-	('koopdag', 7),
-	('koopje', 6),
-	('koopman', 7),
-	('koopsom', 7),
-	('koord', 5),
-	('koorde', 6),
-	('koorden', 7),
-	('koorhek', 7),
-	('koorkap', 7),
-	('koorlid', 7),
-	('koornis', 7),
-	('koorts', 6),
-	('koosjer', 7),
-	('kootje', 6),
-	('kopal', 5),
-	('kopbal', 6),
-	('kopblad', 7),
-	('kopbout', 7),
-	('kopduel', 7),
-	('kopeke', 6),
-	('kopen', 5),
-	('koper', 5),
-	('koperen', 7),
-	('kopglas', 7),
-	('kophout', 7),
-	('kopie', 5),
-	('kopiist', 7),
-	('kopij', 5),
-	('kopklas', 7),
-	('kopklep', 7),
-	('koplaag', 7),
-	('koplamp', 7),
-	('koplast', 7),
-	('koploos', 7),
-	('kopman', 6),
-	('koppel', 6),
-	('koppen', 6),
-	('kopper', 6),
-	('koppig', 6),
-	('koppijn', 7),
-	('kopra', 5),
-	('kopriem', 7),
-	('koprol', 6),
-	('kopstem', 7),
-	('kopstuk', 7),
-	('kopten', 6),
-	('kopwand', 7),
-	('kopwerk', 7),
-	('kopzorg', 7),
-	('koraal', 6),
-	('koralen', 7),
-	('koran', 5),
-	('korbeel', 7),
-	('kordaat', 7),
-	('kordeel', 7),
-	('kordon', 6),
-	('koren', 5),
-	('korfbal', 7),
-	('korhaan', 7),
-	('korhoen', 7),
-	('korist', 6),
-	('koriste', 7),
-	('korjaal', 7),
-	('kornak', 6),
-	('kornel', 6),
-	('kornet', 6),
-	('kornis', 6),
-	('kornuit', 7),
-	('korps', 5),
-	('korre', 5),
-	('korrel', 6),
-	('korren', 6),
-	('korset', 6),
-	('korst', 5),
-	('korsten', 7),
-	('korstig', 7),
-	('korstje', 7),
-	('kortaf', 6),
-	('kortbij', 7),
-	('korten', 6),
-	('korter', 6),
-	('korting', 7),
-	('kortjan', 7),
-	('kortom', 6),
-	('kortoor', 7),
-	('kortte', 6),
-	('kortweg', 7),
-	('korund', 6),
-	('korven', 6),
-	('korvet', 6),
-	('korzel', 6),
-	('kosmos', 6),
-	('kossem', 6),
-	('koste', 5),
-	('kosten', 6),
-	('koster', 6),
-	('kostuum', 7),
-	('kotbaas', 7),
-	('kotelet', 7),
-	('koten', 5),
-	('koter', 5),
-	('koteren', 7),
-	('koterij', 7),
-	('kotsbeu', 7),
-	('kotsen', 6),
-	('kotszak', 7),
-	('kotter', 6),
-	('koude', 5),
-	('koudjes', 7),
-	('koudweg', 7),
-	('kousje', 6),
-	('kouten', 6),
-	('kouter', 6),
-	('koutje', 6),
-	('kouwe', 5),
-	('kovel', 5),
-	('kozak', 5),
-	('kozen', 5),
-	('kozerij', 7),
-	('kozijn', 6),
-	('kraag', 5),
-	('kraai', 5),
-	('kraaien', 7),
-	('kraaier', 7),
-	('kraak', 5),
-	('kraal', 5),
-	('kraam', 5),
-	('kraan', 5),
-	('krabbe', 6),
-	('krabbel', 7),
-	('krabben', 7),
-	('krabber', 7),
-	('krablot', 7),
-	('krabsel', 7),
-	('krach', 5),
-	('kracht', 6),
-	('kragen', 6),
-	('kragge', 6),
-	('kraggen', 7),
-	('krakeel', 7),
-	('kraken', 6),
-	('kraker', 6),
-	('krakken', 7),
-	('kralen', 6),
-	('kramen', 6),
-	('kramer', 6),
-	('kramiek', 7),
-	('krammat', 7),
-	('krammen', 7),
-	('krammer', 7),
-	('kramp', 5),
-	('kranen', 6),
-	('kranig', 6),
-	('krank', 5),
-	('kranke', 6),
-	('krans', 5),
-	('kransen', 7),
-	('kransje', 7),
-	('krant', 5),
-	('krapa', 5),
-	('krapjes', 7),
-	('krapte', 6),
-	('kraslot', 7),
-	('kraspen', 7),
-	('krassen', 7),
-	('krasser', 7),
-	('krater', 6),
-	('krates', 6),
-	('kraton', 6),
-	('krats', 5),
-	('kratsen', 7),
-	('krauw', 5),
-	('krauwel', 7),
-	('krauwen', 7),
-	('krediet', 7),
-	('kreeft', 6),
-	('kreeg', 5),
-	('kreek', 5),
-	('krees', 5),
-	('kreet', 5),
-	('kregel', 6),
-	('kregen', 6),
-	('krekel', 6),
-	('kreng', 5),
-	('krengen', 7),
-	('krengig', 7),
-	('krenken', 7),
-	('krensen', 7),
-	('krent', 5),
-	('krenten', 7),
-	('kreppen', 7),
-	('kreten', 6),
-	('kreuk', 5),
-	('kreukel', 7),
-	('kreuken', 7),
-	('kreunen', 7),
-	('kreupel', 7),
-	('krevel', 6),
-	('kribbe', 6),
-	('kribben', 7),
-	('kribbig', 7),
-	('kriebel', 7),
-	('kriegel', 7),
-	('kriek', 5),
-	('krieken', 7),
-	('kriel', 5),
-	('krielei', 7),
-	('krielen', 7),
-	('kriezel', 7),
-	('krijg', 5),
-	('krijgen', 7),
-	('krijger', 7),
-	('krijn', 5),
-	('krijs', 5),
-	('krijsen', 7),
-	('krijt', 5),
-	('krijten', 7),
-	('krijter', 7),
-	('krijtje', 7),
-	('krikkel', 7),
-	('krikken', 7),
-	('krill', 5),
-	('krimi', 5),
-	('krimp', 5),
-	('krimpen', 7),
-	('kring', 5),
-	('kringel', 7),
-	('kringen', 7),
-	('krinkel', 7),
-	('krissen', 7),
-	('kristal', 7),
-	('kritiek', 7),
-	('krocht', 6),
-	('krodde', 6),
-	('kroeg', 5),
-	('kroelen', 7),
-	('kroep', 5),
-	('kroes', 5),
-	('kroezen', 7),
-	('kroezig', 7),
-	('krokant', 7),
-	('kroken', 6),
-	('kroket', 6),
-	('krokken', 7),
-	('krokus', 6),
-	('krollen', 7),
-	('krols', 5),
-	('krombek', 7),
-	('kromme', 6),
-	('krommen', 7),
-	('krommer', 7),
-	('krommes', 7),
-	('kromp', 5),
-	('kromte', 6),
-	('kronen', 6),
-	('kroniek', 7),
-	('kroning', 7),
-	('kronkel', 7),
-	('kroon', 5),
-	('kroop', 5),
-	('kroos', 5),
-	('kroost', 6),
-	('kroot', 5),
-	('kropaar', 7),
-	('kropen', 6),
-	('kroppen', 7),
-	('kropper', 7),
-	('kropsla', 7),
-	('krotten', 7),
-	('krotter', 7),
-	('krottig', 7),
-	('krozen', 6),
-	('krozig', 6),
-	('kruchen', 7),
-	('krucher', 7),
-	('kruid', 5),
-	('kruiden', 7),
-	('kruidig', 7),
-	('kruien', 6),
-	('kruier', 6),
-	('kruif', 5),
-	('kruik', 5),
-	('kruiken', 7),
-	('kruim', 5),
-	('kruimel', 7),
-	('kruimen', 7),
-	('kruimig', 7),
-	('kruin', 5),
-	('kruinen', 7),
-	('kruipen', 7),
-	('kruiper', 7),
-	('kruis', 5),
-	('kruisen', 7),
-	('kruiser', 7),
-	('kruisje', 7),
-	('kruisra', 7),
-	('kruit', 5),
-	('kruiven', 7),
-	('kruizen', 7),
-	('krukas', 6),
-	('krukken', 7),
-	('krukkig', 7),
-	('krullen', 7),
-	('kruller', 7),
-	('krullig', 7),
-	('krulset', 7),
-	('krulsla', 7),
-	('krypton', 7),
-	('kubbe', 5),
-	('kubboot', 7),
-	('kuberen', 7),
-	('kubiek', 6),
-	('kubisme', 7),
-	('kubist', 6),
-	('kubus', 5),
-	('kuchen', 6),
-	('kudde', 5),
-	('kuier', 5),
-	('kuieren', 7),
-	('kuifaap', 7),
-	('kuiken', 6),
-	('kuildek', 7),
-	('kuilen', 6),
-	('kuiler', 6),
-	('kuilnet', 7),
-	('kuiltje', 7),
-	('kuipbad', 7),
-	('kuipen', 6),
-	('kuiper', 6),
-	('kuise', 5),
-	('kuisen', 6),
-	('kuiser', 6),
-	('kuist', 5),
-	('kuiter', 6),
-	('kuitvis', 7),
-	('kuiven', 6),
-	('kuizen', 6),
-	('kukelen', 7),
-	('kulas', 5),
-	('kulkoek', 7),
-	('kullen', 6),
-	('kummel', 6),
-	('kumquat', 7),
-	('kunde', 5),
-	('kundig', 6),
-	('kungfu', 6),
-	('kunne', 5),
-	('kunnen', 6),
-	('kunst', 5),
-	('kunstig', 7),
-	('kunstje', 7),
-	('kuras', 5),
-	('kuren', 5),
-	('kurkeik', 7),
-	('kurken', 6),
-	('kurkiep', 7),
-	('kurkuma', 7),
-	('kursaal', 7),
-	('kushand', 7),
-	('kussen', 6),
-	('kustrif', 7),
-	('kustvak', 7),
-	('kustweg', 7),
-	('kuthoer', 7),
-	('kutten', 6),
-	('kutwerk', 7),
-	('kutwijf', 7),
-	('kutzooi', 7),
-	('kuurbad', 7),
-	('kwaad', 5),
-	('kwaaie', 6),
-	('kwaaiig', 7),
-	('kwaal', 5),
-	('kwabaal', 7),
-	('kwabbe', 6),
-	('kwabben', 7),
-	('kwabbig', 7),
-	('kwade', 5),
-	('kwader', 6),
-	('kwaken', 6),
-	('kwaker', 6),
-	('kwakkel', 7),
-	('kwakken', 7),
-	('kwalijk', 7),
-	('kwallig', 7),
-	('kwant', 5),
-	('kwantum', 7),
-	('kwark', 5),
-	('kwarrel', 7),
-	('kwart', 5),
-	('kwartel', 7),
-	('kwartet', 7),
-	('kwartje', 7),
-	('kwarto', 6),
-	('kwarts', 6),
-	('kwassie', 7),
-	('kwast', 5),
-	('kwasten', 7),
-	('kwastig', 7),
-	('kwatong', 7),
-	('kwats', 5),
-	('kwatsen', 7),
-	('kwebbel', 7),
-	('kweek', 5),
-	('kweekje', 7),
-	('kween', 5),
-	('kweken', 6),
-	('kweker', 6),
-	('kweking', 7),
-	('kwekken', 7),
-	('kweldam', 7),
-	('kwelder', 7),
-	('kwelen', 6),
-	('kwellen', 7),
-	('kweller', 7),
-	('kwelm', 5),
-	('kwestie', 7),
-	('kwets', 5),
-	('kwetsen', 7),
-	('kwezel', 6),
-	('kwibus', 6),
-	('kwiek', 5),
-	('kwijl', 5),
-	('kwijlen', 7),
-	('kwijnen', 7),
-	('kwijt', 5),
-	('kwijten', 7),
-	('kwikbak', 7),
-	('kwikwi', 6),
-	('kwint', 5),
-	('kwintet', 7),
-	('kwips', 5),
-	('kwissen', 7),
-	('kwisser', 7),
-	('kwistig', 7),
-	('laadbak', 7),
-	('laagje', 6),
-	('laagjes', 7),
-	('laagte', 6),
-	('laagtij', 7),
-	('laaie', 5),
-	('laaien', 6),
-	('laaiend', 7),
-	('laars', 5),
-	('laarzen', 7),
-	('laathof', 7),
-	('laatje', 6),
-	('laatkop', 7),
-	('laatmes', 7),
-	('laatst', 6),
-	('laatste', 7),
-	('labaria', 7),
-	('labarum', 7),
-	('labber', 6),
-	('labboon', 7),
-	('label', 5),
-	('labelen', 7),
-	('labeur', 6),
-	('labiaal', 7),
-	('labiaat', 7),
-	('labiel', 6),
-	('labojas', 7),
-	('lachbek', 7),
-	('lachbui', 7),
-	('lachen', 6),
-	('lacher', 6),
-	('lachgas', 7),
-	('lactaat', 7),
-	('lactase', 7),
-	('lactose', 7),
-	('lacune', 6),
-	('ladder', 6),
-	('laden', 5),
-	('lader', 5),
-	('lading', 6),
-	('ladyboy', 7),
-	('laesie', 6),
-	('laetare', 7),
-	('lafaard', 7),
-	('lafbek', 6),
-	('lafenis', 7),
-	('lafheid', 7),
-	('lafjes', 6),
-	('lagen', 5),
-	('lager', 5),
-	('lageren', 7),
-	('lagune', 6),
-	('lakboom', 7),
-	('lakei', 5),
-	('laken', 5),
-	('lakens', 6),
-	('lakjas', 6),
-	('lakken', 6),
-	('laklaag', 7),
-	('lakleer', 7),
-	('lakmoes', 7),
-	('lakooi', 6),
-	('lakverf', 7),
-	('lakwerk', 7),
-	('lallen', 6),
-	('lambada', 7),
-	('lambda', 6),
-	('lambel', 6),
-	('lambiek', 7),
-	('lamel', 5),
-	('lamelle', 7),
-	('lamet', 5),
-	('lamfer', 6),
-	('lamheid', 7),
-	('lamme', 5),
-	('lammen', 6),
-	('lammig', 6),
-	('lamoen', 6),
-	('lampion', 7),
-	('lamprei', 7),
-	('lamsoor', 7),
-	('lamsvel', 7),
-	('lamswol', 7),
-	('lamzak', 6),
-	('lancet', 6),
-	('landdag', 7),
-	('landen', 6),
-	('lander', 6),
-	('landijs', 7),
-	('landing', 7),
-	('landje', 6),
-	('landman', 7),
-	('landouw', 7),
-	('landrat', 7),
-	('landrot', 7),
-	('landrug', 7),
-	('lands', 5),
-	('landweg', 7),
-	('landwet', 7),
-	('landzij', 7),
-	('langarm', 7),
-	('lange', 5),
-	('langen', 6),
-	('langer', 6),
-	('langlip', 7),
-	('langnek', 7),
-	('langoer', 7),
-	('langoor', 7),
-	('langs', 5),
-	('langsom', 7),
-	('langst', 6),
-	('languit', 7),
-	('lansen', 6),
-	('lansier', 7),
-	('lanyard', 7),
-	('lapel', 5),
-	('lappen', 6),
-	('lapper', 6),
-	('lapsus', 6),
-	('laptop', 6),
-	('lapwerk', 7),
-	('lapzak', 6),
-	('laren', 5),
-	('large', 5),
-	('largo', 5),
-	('larie', 5),
-	('lariks', 6),
-	('larve', 5),
-	('larynx', 6),
-	('lasagne', 7),
-	('lasbaar', 7),
-	('lasband', 7),
-	('lasbril', 7),
-	('lascief', 7),
-	('lasdoos', 7),
-	('lasdop', 6),
-	('laser', 5),
-	('laseren', 7),
-	('lasers', 6),
-	('laskaar', 7),
-	('laskap', 6),
-	('lasmes', 6),
-	('lasnaad', 7),
-	('lasoog', 6),
-	('lasrook', 7),
-	('lasrups', 7),
-	('lassen', 6),
-	('lasser', 6),
-	('lassing', 7),
-	('lasso', 5),
-	('lastarm', 7),
-	('laste', 5),
-	('lasten', 6),
-	('laster', 6),
-	('lastig', 6),
-	('lastijd', 7),
-	('lastpak', 7),
-	('lastrem', 7),
-	('laswerk', 7),
-	('latafel', 7),
-	('latei', 5),
-	('laten', 5),
-	('latent', 6),
-	('later', 5),
-	('latex', 5),
-	('latijn', 6),
-	('lating', 6),
-	('latino', 6),
-	('latrine', 7),
-	('latten', 6),
-	('latuw', 5),
-	('latwerk', 7),
-	('lauden', 6),
-	('launch', 6),
-	('laurier', 7),
-	('lauwen', 6),
-	('lauwer', 6),
-	('lauwte', 6),
-	('lavabo', 6),
-	('lavas', 5),
-	('laven', 5),
-	('laveren', 7),
-	('lavet', 5),
-	('laving', 6),
-	('lawaai', 6),
-	('lawine', 6),
-	('laxans', 6),
-	('laxeren', 7),
-	('lazaret', 7),
-	('lazarus', 7),
-	('lazen', 5),
-	('lazer', 5),
-	('lazeren', 7),
-	('lazerij', 7),
-	('lazuren', 7),
-	('lazuur', 6),
-	('leader', 6),
-	('leaflet', 7),
-	('league', 6),
-	('lease', 5),
-	('leasen', 6),
-	('leasing', 7),
-	('lebaal', 6),
-	('lebbe', 5),
-	('lebbig', 6),
-	('leblam', 6),
-	('lebmaag', 7),
-	('lectine', 7),
-	('lector', 6),
-	('lectuur', 7),
-	('leden', 5),
-	('leder', 5),
-	('lederen', 7),
-	('ledig', 5),
-	('ledigen', 7),
-	('ledlamp', 7),
-	('leefnet', 7),
-	('leegte', 6),
-	('leeman', 6),
-	('leemput', 7),
-	('leemte', 6),
-	('leeneed', 7),
-	('leenhof', 7),
-	('leenman', 7),
-	('leepoog', 7),
-	('leers', 5),
-	('leertje', 7),
-	('leervak', 7),
-	('leerweg', 7),
-	('leeskop', 7),
-	('leesles', 7),
-	('leesmap', 7),
-	('leespen', 7),
-	('leest', 5),
-	('leesten', 7),
-	('leestip', 7),
-	('leesuur', 7),
-	('leeuw', 5),
-	('leeuwin', 7),
-	('legaal', 6),
-	('legaat', 6),
-	('legatie', 7),
-	('legato', 6),
-	('legboor', 7),
-	('legbuis', 7),
-	('legen', 5),
-	('legenda', 7),
-	('legende', 7),
-	('leger', 5),
-	('legeren', 7),
-	('leges', 5),
-	('leggen', 6),
-	('legger', 6),
-	('legging', 7),
-	('leghen', 6),
-	('leghorn', 7),
-	('legio', 5),
-	('legioen', 7),
-	('legkast', 7),
-	('legkip', 6),
-	('legras', 6),
-	('legsel', 6),
-	('legtijd', 7),
-	('leguaan', 7),
-	('leiband', 7),
-	('leiboom', 7),
-	('leiden', 6),
-	('leider', 6),
-	('leiders', 7),
-	('leiding', 7),
-	('leidsel', 7),
-	('leien', 5),
-	('leireep', 7),
-	('leiriem', 7),
-	('leisel', 6),
-	('leizeel', 7),
-	('lekbak', 6),
-	('lekbier', 7),
-	('leken', 5),
-	('lekgat', 6),
-	('lekkage', 7),
-	('lekken', 6),
-	('lekker', 6),
-	('lekkere', 7),
-	('lekkers', 7),
-	('lekolie', 7),
-	('lekvrij', 7),
-	('lelie', 5),
-	('lelijk', 6),
-	('lellen', 6),
-	('lemen', 5),
-	('lemma', 5),
-	('lemmer', 6),
-	('lemmet', 6),
-	('lemming', 7),
-	('lemuur', 6),
-	('lende', 5),
-	('lenen', 5),
-	('lener', 5),
-	('lengen', 6),
-	('lengte', 6),
-	('lenig', 5),
-	('lenigen', 7),
-	('lening', 6),
-	('lensdop', 7),
-	('lenskap', 7),
-	('lenskop', 7),
-	('lensput', 7),
-	('lente', 5),
-	('lentes', 6),
-	('lento', 5),
-	('lenze', 5),
-	('lenzen', 6),
-	('lepel', 5),
-	('lepelen', 7),
-	('leperd', 6),
-	('leppen', 6),
-	('lepra', 5),
-	('lepreus', 7),
-	('leproos', 7),
-	('lepton', 6),
-	('leraar', 6),
-	('leraren', 7),
-	('lerares', 7),
-	('leren', 5),
-	('lering', 6),
-	('lesauto', 7),
-	('lesblok', 7),
-	('lesbo', 5),
-	('lesboek', 7),
-	('lesboer', 7),
-	('lesbus', 6),
-	('lesdag', 6),
-	('lesdeel', 7),
-	('lesdoel', 7),
-	('lesduur', 7),
-	('lesgeld', 7),
-	('lesjaar', 7),
-	('leskist', 7),
-	('lesmap', 6),
-	('lesplan', 7),
-	('lessen', 6),
-	('lessing', 7),
-	('lesstof', 7),
-	('lestaak', 7),
-	('leste', 5),
-	('lestijd', 7),
-	('lesuur', 6),
-	('lesvorm', 7),
-	('lesweek', 7),
-	('letaal', 6),
-	('letsel', 6),
-	('letten', 6),
-	('letter', 6),
-	('leugen', 6),
-	('leukerd', 7),
-	('leukjes', 7),
-	('leukweg', 7),
-	('leunen', 6),
-	('leuning', 7),
-	('leurder', 7),
-	('leuren', 6),
-	('leute', 5),
-	('leuten', 6),
-	('leuter', 6),
-	('leutig', 6),
-	('leuze', 5),
-	('leuzen', 6),
-	('level', 5),
-	('levelen', 7),
-	('leven', 5),
-	('levend', 6),
-	('levende', 7),
-	('lever', 5),
-	('leveren', 7),
-	('leviet', 6),
-	('lexicon', 7),
-	('lezen', 5),
-	('lezer', 5),
-	('lezeres', 7),
-	('lezing', 6),
-	('liaan', 5),
-	('liaison', 7),
-	('liane', 5),
-	('liaspen', 7),
-	('libel', 5),
-	('libelle', 7),
-	('libero', 6),
-	('libido', 6),
-	('librije', 7),
-	('librium', 7),
-	('lichaam', 7),
-	('licht', 5),
-	('lichten', 7),
-	('lichter', 7),
-	('lictor', 6),
-	('lidgeld', 7),
-	('lidland', 7),
-	('lidmaat', 7),
-	('lieden', 6),
-	('liedje', 6),
-	('liefde', 6),
-	('liefje', 6),
-	('liefjes', 7),
-	('liefst', 6),
-	('liegen', 6),
-	('lieren', 6),
-	('lieve', 5),
-	('lieven', 6),
-	('liever', 6),
-	('lieverd', 7),
-	('lievig', 6),
-	('liflaf', 6),
-	('liftboy', 7),
-	('liften', 6),
-	('lifter', 6),
-	('liftput', 7),
-	('ligbad', 6),
-	('ligbank', 7),
-	('ligbed', 6),
-	('ligbox', 6),
-	('ligdag', 6),
-	('liggeld', 7),
-	('liggen', 6),
-	('liggend', 7),
-	('ligger', 6),
-	('ligging', 7),
-	('lighal', 6),
-	('ligkuur', 7),
-	('lignine', 7),
-	('ligtaxi', 7),
-	('ligwei', 6),
-	('lijden', 6),
-	('lijdend', 7),
-	('lijder', 6),
-	('lijfje', 6),
-	('lijkbus', 7),
-	('lijken', 6),
-	('lijkmis', 7),
-	('lijkwa', 6),
-	('lijkwit', 7),
-	('lijkzak', 7),
-	('lijmen', 6),
-	('lijmer', 6),
-	('lijmig', 6),
-	('lijmkam', 7),
-	('lijmoor', 7),
-	('lijmpot', 7),
-	('lijnbus', 7),
-	('lijnen', 6),
-	('lijntje', 7),
-	('lijst', 5),
-	('lijsten', 7),
-	('lijster', 7),
-	('lijven', 6),
-	('lijvig', 6),
-	('lijzeil', 7),
-	('lijzen', 6),
-	('lijzig', 6),
-	('lijzij', 6),
-	('liken', 5),
-	('likeur', 6),
-	('likhout', 7),
-	('likken', 6),
-	('likker', 6),
-	('likstok', 7),
-	('likzout', 7),
-	('lillen', 6),
-	('lillig', 6),
-	('liman', 5),
-	('limbo', 5),
-	('limbus', 6),
-	('limes', 5),
-	('limiet', 6),
-	('limit', 5),
-	('limoen', 6),
-	('lindaan', 7),
-	('linde', 5),
-	('linden', 6),
-	('lineair', 7),
-	('lingot', 6),
-	('liniaal', 7),
-	('linie', 5),
-	('linken', 6),
-	('linker', 6),
-	('linkerd', 7),
-	('links', 5),
-	('linksaf', 7),
-	('linkse', 6),
-	('linksig', 7),
-	('linksom', 7),
-	('linnen', 6),
-	('lintje', 6),
-	('lintvis', 7),
-	('linze', 5),
-	('lipide', 6),
-	('lipje', 5),
-	('liplap', 6),
-	('lippen', 6),
-	('lipvis', 6),
-	('liquida', 7),
-	('liquide', 7),
-	('liseen', 6),
-	('lispen', 6),
-	('lissen', 6),
-	('listig', 6),
-	('listing', 7),
-	('litanie', 7),
-	('liter', 5),
-	('lithium', 7),
-	('litho', 5),
-	('litotes', 7),
-	('liturg', 6),
-	('liveact', 7),
-	('living', 6),
-	('livrei', 6),
-	('livret', 6),
-	('loaden', 6),
-	('loafer', 6),
-	('loafers', 7),
-	('lobben', 6),
-	('lobbes', 6),
-	('lobbig', 6),
-	('lobby', 5),
-	('lobbyen', 7),
-	('lobelia', 7),
-	('loboor', 6),
-	('locatie', 7),
-	('locken', 6),
-	('locker', 6),
-	('locus', 5),
-	('lodder', 6),
-	('loden', 5),
-	('loding', 6),
-	('loeach', 6),
-	('loeder', 6),
-	('loefzij', 7),
-	('loeien', 6),
-	('loeier', 6),
-	('loelav', 6),
-	('loempia', 7),
-	('loenen', 6),
-	('loens', 5),
-	('loensen', 7),
-	('loepen', 6),
-	('loerder', 7),
-	('loeren', 6),
-	('loeris', 6),
-	('loeten', 6),
-	('loeven', 6),
-	('loever', 6),
-	('loevert', 7),
-	('loflied', 7),
-	('lofrede', 7),
-	('lofwerk', 7),
-	('lofzang', 7),
-	('logboek', 7),
-	('logee', 5),
-	('logen', 5),
-	('logeren', 7),
-	('loggen', 6),
-	('logger', 6),
-	('loggia', 6),
-	('logheid', 7),
-	('logica', 6),
-	('logicus', 7),
-	('logies', 6),
-	('login', 5),
-	('logisch', 7),
-	('loglijn', 7),
-	('logos', 5),
-	('loipe', 5),
-	('lokaal', 6),
-	('lokaas', 6),
-	('lokazen', 7),
-	('lokduif', 7),
-	('lokeend', 7),
-	('loken', 5),
-	('loket', 5),
-	('lokken', 6),
-	('lokker', 6),
-	('lokkig', 6),
-	('lokroep', 7),
-	('lokstem', 7),
-	('lokstof', 7),
-	('lokus', 5),
-	('lokvink', 7),
-	('lokvoer', 7),
-	('lolita', 6),
-	('lollen', 6),
-	('lollig', 6),
-	('lolly', 5),
-	('lombok', 6),
-	('lomig', 5),
-	('lommer', 6),
-	('lommerd', 7),
-	('lompen', 6),
-	('lomperd', 7),
-	('lompweg', 7),
-	('lonen', 5),
-	('lonend', 6),
-	('longtop', 7),
-	('longvis', 7),
-	('lonken', 6),
-	('loodarm', 7),
-	('loodje', 6),
-	('loods', 5),
-	('loodsen', 7),
-	('loodwit', 7),
-	('loofbos', 7),
-	('loofhut', 7),
-	('looien', 6),
-	('looier', 6),
-	('loomte', 6),
-	('loonbod', 7),
-	('looneis', 7),
-	('loonsom', 7),
-	('loonwet', 7),
-	('loonwig', 7),
-	('loopdag', 7),
-	('loophek', 7),
-	('looping', 7),
-	('loopje', 6),
-	('loopkat', 7),
-	('loopoor', 7),
-	('looppad', 7),
-	('looppas', 7),
-	('looppop', 7),
-	('looprek', 7),
-	('loops', 5),
-	('lootje', 6),
-	('lopen', 5),
-	('lopend', 6),
-	('loper', 5),
-	('loperig', 7),
-	('lorejas', 7),
-	('lorgnet', 7),
-	('lorre', 5),
-	('lorren', 6),
-	('lorrie', 6),
-	('lorrig', 6),
-	('losbaar', 7),
-	('losbol', 6),
-	('losceel', 7),
-	('losdag', 6),
-	('loser', 5),
-	('losgaan', 7),
-	('losgeld', 7),
-	('losging', 7),
-	('losheid', 7),
-	('losjes', 6),
-	('loskaai', 7),
-	('loskade', 7),
-	('losplek', 7),
-	('losse', 5),
-	('lossen', 6),
-	('losser', 6),
-	('lossing', 7),
-	('lostijd', 7),
-	('loswal', 6),
-	('losweg', 6),
-	('loten', 5),
-	('loterij', 7),
-	('loting', 6),
-	('lotion', 6),
-	('lotje', 5),
-	('lotto', 5),
-	('lotus', 5),
-	('louche', 6),
-	('lounge', 6),
-	('loungen', 7),
-	('louter', 6),
-	('louwen', 6),
-	('loven', 5),
-	('lover', 5),
-	('loyaal', 6),
-	('lozen', 5),
-	('lozenge', 7),
-	('lozing', 6),
-	('lubben', 6),
-	('lucht', 5),
-	('luchten', 7),
-	('luchter', 7),
-	('luchtig', 7),
-	('luchtje', 7),
-	('lucide', 6),
-	('lucifer', 7),
-	('lucky', 5),
-	('ludiek', 6),
-	('luguber', 7),
-	('luiaard', 7),
-	('luibak', 6),
-	('luide', 5),
-	('luiden', 6),
-	('luidens', 7),
-	('luidop', 6),
-	('luien', 5),
-	('luier', 5),
-	('luieren', 7),
-	('luierik', 7),
-	('luifel', 6),
-	('luiheid', 7),
-	('luiken', 6),
-	('luikgat', 7),
-	('luilak', 6),
-	('luimen', 6),
-	('luimig', 6),
-	('luiskop', 7),
-	('luister', 7),
-	('luiszak', 7),
-	('luitist', 7),
-	('luitjes', 7),
-	('luizen', 6),
-	('luizig', 6),
-	('lukken', 6),
-	('lukraak', 7),
-	('lulkoek', 7),
-	('lullen', 6),
-	('lullig', 6),
-	('lullo', 5),
-	('lumbaal', 7),
-	('lumen', 5),
-	('luminal', 7),
-	('lumme', 5),
-	('lummel', 6),
-	('lumpsum', 7),
-	('lunair', 6),
-	('lunch', 5),
-	('lunchen', 7),
-	('lunet', 5),
-	('lunula', 6),
-	('lunzen', 6),
-	('lupine', 6),
-	('lupus', 5),
-	('luren', 5),
-	('lurex', 5),
-	('lurken', 6),
-	('lurven', 6),
-	('lussen', 6),
-	('lusten', 6),
-	('luster', 6),
-	('lusthof', 7),
-	('lustig', 6),
-	('lustre', 6),
-	('lustrum', 7),
-	('luthers', 7),
-	('lutje', 5),
-	('luttel', 6),
-	('luwen', 5),
-	('luwte', 5),
-	('luxehut', 7),
-	('luxueus', 7),
-	('luzerne', 7),
-	('lyceum', 6),
-	('lychee', 6),
-	('lycra', 5),
-	('lymfe', 5),
-	('lymfoom', 7),
-	('lymfvat', 7),
-	('lynchen', 7),
-	('lynxoog', 7),
-	('lyricus', 7),
-	('lyriek', 6),
-	('lyrisch', 7),
-	('lyrisme', 7),
-	('lysine', 6),
-	('lysis', 5),
-	('lysol', 5),
-	('maagd', 5),
-	('maagsap', 7),
-	('maaien', 6),
-	('maaier', 6),
-	('maaisel', 7),
-	('maaksel', 7),
-	('maalsel', 7),
-	('maaltje', 7),
-	('maand', 5),
-	('maandag', 7),
-	('maangod', 7),
-	('maankop', 7),
-	('maanman', 7),
-	('maantje', 7),
-	('maantop', 7),
-	('maanvis', 7),
-	('maart', 5),
-	('maarte', 6),
-	('maarts', 6),
-	('maasbal', 7),
-	('maaswol', 7),
-	('maatdop', 7),
-	('maatje', 6),
-	('maatkan', 7),
-	('maatlat', 7),
-	('maatpak', 7),
-	('maats', 5),
-	('maatvis', 7),
-	('macaber', 7),
-	('macadam', 7),
-	('macha', 5),
-	('macher', 6),
-	('machete', 7),
-	('machine', 7),
-	('macho', 5),
-	('macht', 5),
-	('machtig', 7),
-	('macro', 5),
-	('macula', 6),
-	('madam', 5),
-	('madame', 6),
-	('madera', 6),
-	('madison', 7),
-	('madonna', 7),
-	('madras', 6),
-	('maestro', 7),
-	('maffen', 6),
-	('maffer', 6),
-	('maffia', 6),
-	('mafkees', 7),
-	('magenta', 7),
-	('mager', 5),
-	('magere', 6),
-	('magerte', 7),
-	('maggi', 5),
-	('magie', 5),
-	('magisch', 7),
-	('magma', 5),
-	('magnaat', 7),
-	('magneet', 7),
-	('magnum', 6),
-	('magot', 5),
-	('mahdist', 7),
-	('mahjong', 7),
-	('mahonie', 7),
-	('mailbom', 7),
-	('mailbox', 7),
-	('mailen', 6),
-	('mailing', 7),
-	('maillot', 7),
-	('mailtje', 7),
-	('maiskip', 7),
-	('maispap', 7),
-	('maisras', 7),
-	('maizena', 7),
-	('majem', 5),
-	('majeur', 6),
-	('majoor', 6),
-	('major', 5),
-	('makaak', 6),
-	('makam', 5),
-	('makaron', 7),
-	('makelen', 7),
-	('makelij', 7),
-	('maken', 5),
-	('maker', 5),
-	('makerij', 7),
-	('makheid', 7),
-	('makke', 5),
-	('makken', 6),
-	('makker', 6),
-	('makkie', 6),
-	('makreel', 7),
-	('makron', 6),
-	('makroon', 7),
-	('malaga', 6),
-	('malaise', 7),
-	('malaria', 7),
-	('malen', 5),
-	('maler', 5),
-	('malerij', 7),
-	('malheid', 7),
-	('malheur', 7),
-	('malie', 5),
-	('maligne', 7),
-	('maling', 6),
-	('malkaar', 7),
-	('mallen', 6),
-	('maller', 6),
-	('malloot', 7),
-	('malta', 5),
-	('maltose', 7),
-	('malus', 5),
-	('maluwe', 6),
-	('malve', 5),
-	('malware', 7),
-	('mamba', 5),
-	('mambo', 5),
-	('mamma', 5),
-	('mammen', 6),
-	('mammie', 6),
-	('mammoet', 7),
-	('mammon', 6),
-	('mampier', 7),
-	('mamzel', 6),
-	('managen', 7),
-	('manager', 7),
-	('manbaar', 7),
-	('manche', 6),
-	('manchet', 7),
-	('manco', 5),
-	('mandaat', 7),
-	('mandag', 6),
-	('mandala', 7),
-	('mande', 5),
-	('mandir', 6),
-	('mandoer', 7),
-	('mandril', 7),
-	('manege', 6),
-	('manen', 5),
-	('maner', 5),
-	('manga', 5),
-	('mangaan', 7),
-	('mangat', 6),
-	('mangel', 6),
-	('mango', 5),
-	('maniak', 6),
-	('manie', 5),
-	('manier', 6),
-	('manilla', 7),
-	('manille', 7),
-	('maning', 6),
-	('maniok', 6),
-	('manipel', 7),
-	('manisch', 7),
-	('manisme', 7),
-	('manjaar', 7),
-	('manken', 6),
-	('manlief', 7),
-	('manlijk', 7),
-	('manna', 5),
-	('manneke', 7),
-	('mannen', 6),
-	('mannin', 6),
-	('manou', 5),
-	('mansdik', 7),
-	('manslag', 7),
-	('mansoor', 7),
-	('manta', 5),
-	('mantel', 6),
-	('mantiek', 7),
-	('mantra', 6),
-	('manuaal', 7),
-	('manueel', 7),
-	('manuur', 6),
-	('manvolk', 7),
-	('manwijf', 7),
-	('manxkat', 7),
-	('manziek', 7),
-	('maquis', 6),
-	('maraan', 6),
-	('maraboe', 7),
-	('marche', 6),
-	('maren', 5),
-	('maretak', 7),
-	('margay', 6),
-	('marge', 5),
-	('mariaal', 7),
-	('marien', 6),
-	('marimba', 7),
-	('marina', 6),
-	('marine', 6),
-	('maripa', 6),
-	('markant', 7),
-	('marker', 6),
-	('markies', 7),
-	('markt', 5),
-	('markten', 7),
-	('marlen', 6),
-	('marlijn', 7),
-	('marling', 7),
-	('marmel', 6),
-	('marmer', 6),
-	('marmiet', 7),
-	('marmot', 6),
-	('marode', 6),
-	('marot', 5),
-	('marren', 6),
-	('marron', 6),
-	('marrons', 7),
-	('marsala', 7),
-	('marsen', 6),
-	('marteko', 7),
-	('marter', 6),
-	('martini', 7),
-	('martino', 7),
-	('marxist', 7),
-	('masala', 6),
-	('mascara', 7),
-	('maske', 5),
-	('masker', 6),
-	('massa', 5),
-	('massaal', 7),
-	('massage', 7),
-	('masseur', 7),
-	('massief', 7),
-	('mastaba', 7),
-	('mastbos', 7),
-	('mastel', 6),
-	('masten', 6),
-	('master', 6),
-	('mastgat', 7),
-	('mastiek', 7),
-	('mastiff', 7),
-	('mastino', 7),
-	('masttop', 7),
-	('matador', 7),
-	('match', 5),
-	('matchen', 7),
-	('matelot', 7),
-	('maten', 5),
-	('mater', 5),
-	('materie', 7),
-	('matgeel', 7),
-	('matglas', 7),
-	('matheid', 7),
-	('matig', 5),
-	('matigen', 7),
-	('matinee', 7),
-	('matje', 5),
-	('matrak', 6),
-	('matras', 6),
-	('matrijs', 7),
-	('matrix', 6),
-	('matrone', 7),
-	('matroos', 7),
-	('matse', 5),
-	('matsen', 6),
-	('matten', 6),
-	('matter', 6),
-	('mattie', 6),
-	('matting', 7),
-	('matverf', 7),
-	('matwerk', 7),
-	('maulana', 7),
-	('mauser', 6),
-	('mauve', 5),
-	('mauwen', 6),
-	('maxim', 5),
-	('maxima', 6),
-	('maxime', 6),
-	('maximum', 7),
-	('maxwell', 7),
-	('mayor', 5),
-	('mazelen', 7),
-	('mazen', 5),
-	('mazout', 6),
-	('mazurka', 7),
-	('mazzel', 6),
-	('meander', 7),
-	('meccano', 7),
-	('mecenas', 7),
-	('medelid', 7),
-	('media', 5),
-	('mediaal', 7),
-	('mediaan', 7),
-	('medica', 6),
-	('medici', 6),
-	('medicus', 7),
-	('mediene', 7),
-	('medina', 6),
-	('medio', 5),
-	('medisch', 7),
-	('medium', 6),
-	('medley', 6),
-	('medoc', 5),
-	('medusa', 6),
-	('meedoen', 7),
-	('meegaan', 7),
-	('meekrap', 7),
-	('meelbal', 7),
-	('meelbes', 7),
-	('meelij', 6),
-	('meelpap', 7),
-	('meeltor', 7),
-	('meelzak', 7),
-	('meenste', 7),
-	('meent', 5),
-	('meepit', 6),
-	('meeraal', 7),
-	('meerder', 7),
-	('meerkat', 7),
-	('meerkol', 7),
-	('meerman', 7),
-	('meermin', 7),
-	('meerpen', 7),
-	('meers', 5),
-	('meertje', 7),
-	('meerval', 7),
-	('meest', 5),
-	('meestal', 7),
-	('meester', 7),
-	('meetcel', 7),
-	('meetdag', 7),
-	('meeting', 7),
-	('meetlat', 7),
-	('meetnet', 7),
-	('meeuw', 5),
-	('meevat', 6),
-	('meewind', 7),
-	('mefisto', 7),
-	('megabit', 7),
-	('megahit', 7),
-	('megaohm', 7),
-	('megaton', 7),
-	('megohm', 6),
-	('mehari', 6),
-	('meibock', 7),
-	('meiboom', 7),
-	('meidag', 6),
-	('meidans', 7),
-	('meien', 5),
-	('meier', 5),
-	('meieren', 7),
-	('meierij', 7),
-	('meikaas', 7),
-	('meikers', 7),
-	('meiknol', 7),
-	('meiler', 6),
-	('meineed', 7),
-	('meiose', 6),
-	('meisje', 6),
-	('meiske', 6),
-	('meitak', 6),
-	('meiveld', 7),
-	('meivis', 6),
-	('meivuur', 7),
-	('meiwijn', 7),
-	('mekaar', 6),
-	('mekka', 5),
-	('mekken', 6),
-	('melaats', 7),
-	('melange', 7),
-	('melasse', 7),
-	('melde', 5),
-	('melden', 6),
-	('melder', 6),
-	('melding', 7),
-	('melen', 5),
-	('melig', 5),
-	('melis', 5),
-	('melisse', 7),
-	('melkbus', 7),
-	('melken', 6),
-	('melker', 6),
-	('melkkan', 7),
-	('melkkar', 7),
-	('melkkoe', 7),
-	('melkman', 7),
-	('melkpak', 7),
-	('melkpap', 7),
-	('melkpot', 7),
-	('melkput', 7),
-	('melksap', 7),
-	('melkte', 6),
-	('melkuur', 7),
-	('melkvee', 7),
-	('melkvet', 7),
-	('melkweg', 7),
-	('melkwei', 7),
-	('melkwit', 7),
-	('melkwol', 7),
-	('melodie', 7),
-	('meloen', 6),
-	('meluw', 5),
-	('memel', 5),
-	('memento', 7),
-	('memmen', 6),
-	('memorie', 7),
-	('memory', 6),
-	('menage', 6),
-	('meneer', 6),
-	('menen', 5),
-	('menens', 6),
-	('meneren', 7),
-	('mengbak', 7),
-	('mengen', 6),
-	('menger', 6),
-	('menging', 7),
-	('mengkom', 7),
-	('mengras', 7),
-	('mengsel', 7),
-	('mengvat', 7),
-	('menhir', 6),
-	('menie', 5),
-	('menig', 5),
-	('menige', 6),
-	('menigte', 7),
-	('mening', 6),
-	('menist', 6),
-	('mennen', 6),
-	('menner', 6),
-	('menora', 6),
-	('mensa', 5),
-	('mensaap', 7),
-	('mensdom', 7),
-	('mensuur', 7),
-	('mentaal', 7),
-	('menthol', 7),
-	('mentie', 6),
-	('mentor', 6),
-	('mentrix', 7),
-	('mentsj', 6),
-	('menuet', 6),
-	('meppen', 6),
-	('mepper', 6),
-	('meranti', 7),
-	('merbau', 6),
-	('merci', 5),
-	('merel', 5),
-	('meren', 5),
-	('mergel', 6),
-	('mergen', 6),
-	('merino', 6),
-	('merinos', 7),
-	('merite', 6),
-	('merites', 7),
-	('merkel', 6),
-	('merken', 6),
-	('merker', 6),
-	('merkje', 6),
-	('merklap', 7),
-	('merlot', 6),
-	('merrie', 6),
-	('mescal', 6),
-	('mesdjid', 7),
-	('mesheft', 7),
-	('meson', 5),
-	('mespunt', 7),
-	('messen', 6),
-	('messias', 7),
-	('messing', 7),
-	('messnee', 7),
-	('mesten', 6),
-	('mester', 6),
-	('mesties', 7),
-	('mesting', 7),
-	('mestkar', 7),
-	('mestkoe', 7),
-	('mestput', 7),
-	('mesttor', 7),
-	('mestvee', 7),
-	('mestwet', 7),
-	('metaal', 6),
-	('metalen', 7),
-	('metalig', 7),
-	('meteen', 6),
-	('meten', 5),
-	('meteoor', 7),
-	('meter', 5),
-	('methaan', 7),
-	('methode', 7),
-	('methyl', 6),
-	('metier', 6),
-	('meting', 6),
-	('metrage', 7),
-	('metriek', 7),
-	('metro', 5),
-	('metrum', 6),
-	('metsen', 6),
-	('metser', 6),
-	('metten', 6),
-	('meubel', 6),
-	('meuken', 6),
-	('meuren', 6),
-	('meute', 5),
-	('mevrouw', 7),
-	('mezelf', 6),
-	('mezoeza', 7),
-	('mezomme', 7),
-	('mezzo', 5),
-	('miasma', 6),
-	('miasme', 6),
-	('miauw', 5),
-	('miauwen', 7),
-	('micro', 5),
-	('microbe', 7),
-	('micron', 6),
-	('middag', 6),
-	('middel', 6),
-	('middels', 7),
-	('midden', 6),
-	('midhalf', 7),
-	('midrasj', 7),
-	('midvoor', 7),
-	('midweek', 7),
-	('miepen', 6),
-	('mieren', 6),
-	('mierik', 6),
-	('mieter', 6),
-	('mieters', 7),
-	('mietje', 6),
-	('miezel', 6),
-	('mignon', 6),
-	('migrant', 7),
-	('mihoen', 6),
-	('mihrab', 6),
-	('mijden', 6),
-	('mijne', 5),
-	('mijnen', 6),
-	('mijnent', 7),
-	('mijner', 6),
-	('mijngas', 7),
-	('mijns', 5),
-	('mijnwet', 7),
-	('mijten', 6),
-	('mijter', 6),
-	('mijzelf', 7),
-	('mikado', 6),
-	('mikken', 6),
-	('mikmak', 6),
-	('mikpunt', 7),
-	('mikwa', 5),
-	('mikwe', 5),
-	('milaan', 6),
-	('milde', 5),
-	('milieu', 6),
-	('milieus', 7),
-	('militia', 7),
-	('militie', 7),
-	('miljard', 7),
-	('miljoen', 7),
-	('mille', 5),
-	('mimen', 5),
-	('mimer', 5),
-	('mimesis', 7),
-	('mimicry', 7),
-	('mimicus', 7),
-	('mimiek', 6),
-	('mimisch', 7),
-	('mimiset', 7),
-	('mimosa', 6),
-	('minaret', 7),
-	('minder', 6),
-	('mindere', 7),
-	('mindset', 7),
-	('mineur', 6),
-	('minheid', 7),
-	('minibar', 7),
-	('minibus', 7),
-	('miniem', 6),
-	('minima', 6),
-	('minimum', 7),
-	('minipil', 7),
-	('minirok', 7),
-	('miniset', 7),
-	('minitop', 7),
-	('minivan', 7),
-	('minjan', 6),
-	('minlijk', 7),
-	('minnaar', 7),
-	('minne', 5),
-	('minnen', 6),
-	('minor', 5),
-	('minpunt', 7),
-	('minst', 5),
-	('minste', 6),
-	('minus', 5),
-	('minuut', 6),
-	('minzaam', 7),
-	('minziek', 7),
-	('mioceen', 7),
-	('mirabel', 7),
-	('miradj', 6),
-	('mirakel', 7),
-	('mirre', 5),
-	('mirror', 6),
-	('mirte', 5),
-	('misbaar', 7),
-	('misbak', 6),
-	('misboek', 7),
-	('misdaad', 7),
-	('misdoen', 7),
-	('misdruk', 7),
-	('miserie', 7),
-	('misgaan', 7),
-	('miskelk', 7),
-	('miskend', 7),
-	('miskoop', 7),
-	('mislukt', 7),
-	('misogyn', 7),
-	('mispeer', 7),
-	('mispel', 6),
-	('mispunt', 7),
-	('missaal', 7),
-	('missen', 6),
-	('misser', 6),
-	('missie', 6),
-	('missing', 7),
-	('missive', 7),
-	('misslag', 7),
-	('misstap', 7),
-	('mistel', 6),
-	('misten', 6),
-	('mistig', 6),
-	('mistral', 7),
-	('mistred', 7),
-	('misval', 6),
-	('miswaak', 7),
-	('miswas', 6),
-	('miswijn', 7),
-	('miszien', 7),
-	('mitaine', 7),
-	('mitella', 7),
-	('mitose', 6),
-	('mitra', 5),
-	('mitsen', 6),
-	('mixage', 6),
-	('mixed', 5),
-	('mixen', 5),
-	('mixer', 5),
-	('mixtape', 7),
-	('mixtum', 6),
-	('mixture', 7),
-	('mixtuur', 7),
-	('mobbing', 7),
-	('mobiel', 6),
-	('mobile', 6),
-	('mocht', 5),
-	('mocro', 5),
-	('modaal', 6),
-	('modder', 6),
-	('modeduo', 7),
-	('modegek', 7),
-	('model', 5),
-	('modem', 5),
-	('modepop', 7),
-	('modern', 6),
-	('modest', 6),
-	('modevak', 7),
-	('modieus', 7),
-	('modisch', 7),
-	('modiste', 7),
-	('module', 6),
-	('modulus', 7),
-	('modus', 5),
-	('moduul', 6),
-	('moede', 5),
-	('moeder', 6),
-	('moeders', 7),
-	('moedig', 6),
-	('moedwil', 7),
-	('moeflon', 7),
-	('moefti', 6),
-	('moeheid', 7),
-	('moeial', 6),
-	('moeien', 6),
-	('moeite', 6),
-	('moeke', 5),
-	('moeken', 6),
-	('moekim', 6),
-	('moelie', 6),
-	('moellah', 7),
-	('moeraal', 7),
-	('moeras', 6),
-	('moerbei', 7),
-	('moerbes', 7),
-	('moeren', 6),
-	('moerig', 6),
-	('moertje', 7),
-	('moervos', 7),
-	('moeshof', 7),
-	('moesje', 6),
-	('moeskop', 7),
-	('moespot', 7),
-	('moesson', 7),
-	('moest', 5),
-	('moeten', 6),
-	('moetje', 6),
-	('moezel', 6),
-	('moffel', 6),
-	('moffen', 6),
-	('moffin', 6),
-	('mogen', 5),
-	('mogol', 5),
-	('mohair', 6),
-	('moheel', 6),
-	('mojito', 6),
-	('moker', 5),
-	('mokeren', 7),
-	('mokka', 5),
-	('mokkel', 6),
-	('mokken', 6),
-	('mokkig', 6),
-	('mokkige', 7),
-	('molaar', 6),
-	('molair', 6),
-	('molasse', 7),
-	('molboon', 7),
-	('molen', 5),
-	('molenas', 7),
-	('molest', 6),
-	('molik', 5),
-	('mollah', 6),
-	('mollen', 6),
-	('mollig', 6),
-	('mollusk', 7),
-	('molmen', 6),
-	('molmig', 6),
-	('moloch', 6),
-	('molrat', 6),
-	('molsgat', 7),
-	('molsla', 6),
-	('molton', 6),
-	('momber', 6),
-	('momboor', 7),
-	('moment', 6),
-	('mommen', 6),
-	('monade', 6),
-	('monarch', 7),
-	('mondain', 7),
-	('mondbal', 7),
-	('monde', 5),
-	('monden', 6),
-	('mondig', 6),
-	('monding', 7),
-	('mondkap', 7),
-	('mondkus', 7),
-	('mondvol', 7),
-	('money', 5),
-	('mongool', 7),
-	('monisme', 7),
-	('monist', 6),
-	('monitor', 7),
-	('monken', 6),
-	('monnik', 6),
-	('monocle', 7),
-	('monodie', 7),
-	('monster', 7),
-	('montage', 7),
-	('monter', 6),
-	('monteur', 7),
-	('montuur', 7),
-	('moois', 5),
-	('mooist', 6),
-	('moonen', 6),
-	('moord', 5),
-	('moorden', 7),
-	('moorkop', 7),
-	('moorpad', 7),
-	('mopmuts', 7),
-	('mopneus', 7),
-	('moppen', 6),
-	('moppie', 6),
-	('moppig', 6),
-	('moraal', 6),
-	('morbide', 7),
-	('moreel', 6),
-	('moreen', 6),
-	('morel', 5),
-	('moren', 5),
-	('morene', 6),
-	('mores', 5),
-	('moreske', 7),
-	('morfeem', 7),
-	('morfine', 7),
-	('morgen', 6),
-	('morgens', 7),
-	('moriaan', 7),
-	('morille', 7),
-	('mormel', 6),
-	('mormoon', 7),
-	('morose', 6),
-	('morphen', 7),
-	('morren', 6),
-	('morrig', 6),
-	('morse', 5),
-	('morsen', 6),
-	('morsig', 6),
-	('morspot', 7),
-	('mortel', 6),
-	('mortier', 7),
-	('morzel', 6),
-	('moseik', 6),
-	('mosjav', 6),
-	('moskee', 6),
-	('moslaag', 7),
-	('moslim', 6),
-	('moslima', 7),
-	('moslims', 7),
-	('mosroos', 7),
-	('mossel', 6),
-	('mossen', 6),
-	('mossig', 6),
-	('mosterd', 7),
-	('motard', 6),
-	('motecht', 7),
-	('motel', 5),
-	('motet', 5),
-	('motie', 5),
-	('motief', 6),
-	('motor', 5),
-	('motoras', 7),
-	('motse', 5),
-	('motsen', 6),
-	('motte', 5),
-	('motten', 6),
-	('mottig', 6),
-	('motto', 5),
-	('motvrij', 7),
-	('mounten', 7),
-	('mousse', 6),
-	('mouten', 6),
-	('mouter', 6),
-	('moutig', 6),
-	('mouwgat', 7),
-	('moven', 5),
-	('moveren', 7),
-	('moyenne', 7),
-	('mozetta', 7),
-	('mudde', 5),
-	('mudvol', 6),
-	('muesli', 6),
-	('muezzin', 7),
-	('muffen', 6),
-	('muffig', 6),
-	('muffin', 6),
-	('mufheid', 7),
-	('mufte', 5),
-	('muiken', 6),
-	('muilen', 6),
-	('muiltje', 7),
-	('muisarm', 7),
-	('muisjes', 7),
-	('muiskat', 7),
-	('muismat', 7),
-	('muiten', 6),
-	('muiter', 6),
-	('muizen', 6),
-	('muizerd', 7),
-	('muizig', 6),
-	('mukeus', 6),
-	('mulat', 5),
-	('mulch', 5),
-	('mulchen', 7),
-	('mulder', 6),
-	('muleta', 6),
-	('mullig', 6),
-	('mummie', 6),
-	('mungo', 5),
-	('munitie', 7),
-	('munster', 7),
-	('munten', 6),
-	('munter', 6),
-	('muntig', 6),
-	('muntjak', 7),
-	('muntje', 6),
-	('murale', 6),
-	('murene', 6),
-	('murien', 6),
-	('murwen', 6),
-	('musea', 5),
-	('museaal', 7),
-	('musette', 7),
-	('museum', 6),
-	('museums', 7),
-	('musical', 7),
-	('musicus', 7),
-	('muskaat', 7),
-	('musket', 6),
-	('muskiet', 7),
-	('muskus', 6),
-	('mustang', 7),
-	('mutabel', 7),
-	('mutant', 6),
-	('mutatie', 7),
-	('mutator', 7),
-	('muteren', 7),
-	('mutisme', 7),
-	('mutserd', 7),
-	('mutsje', 6),
-	('mutueel', 7),
-	('muurdam', 7),
-	('muurgat', 7),
-	('muzak', 5),
-	('muziek', 6),
-	('muzisch', 7),
-	('myeline', 7),
-	('myomeer', 7),
-	('myopie', 6),
-	('myriade', 7),
-	('mystica', 7),
-	('mystiek', 7),
-	('mythe', 5),
-	('naaien', 6),
-	('naailes', 7),
-	('naakt', 5),
-	('naald', 5),
-	('naamdag', 7),
-	('naamval', 7),
-	('naamwet', 7),
-	('naartoe', 7),
-	('naast', 5),
-	('naaste', 6),
-	('naasten', 7),
-	('naatje', 6),
-	('nabeurs', 7),
-	('nabij', 5),
-	('nabloei', 7),
-	('nabob', 5),
-	('naburig', 7),
-	('nabuur', 6),
-	('nacho', 5),
-	('nacht', 5),
-	('nachts', 6),
-	('nadagen', 7),
-	('nadar', 5),
-	('nadat', 5),
-	('nadeel', 6),
-	('nadele', 6),
-	('nadelig', 7),
-	('nader', 5),
-	('naderen', 7),
-	('nadien', 6),
-	('nadir', 5),
-	('nadoen', 6),
-	('nadorst', 7),
-	('nadroog', 7),
-	('nadruk', 6),
-	('nafase', 6),
-	('nafeest', 7),
-	('naffer', 6),
-	('nafta', 5),
-	('nagaan', 6),
-	('nagalm', 6),
-	('nagaren', 7),
-	('nagel', 5),
-	('nagelen', 7),
-	('nageven', 7),
-	('nagewas', 7),
-	('naglans', 7),
-	('nagras', 6),
-	('naheft', 6),
-	('najaar', 6),
-	('najade', 6),
-	('najagen', 7),
-	('naken', 5),
-	('nakend', 6),
-	('nakie', 5),
-	('nakind', 6),
-	('nakken', 6),
-	('nakkes', 6),
-	('naklank', 7),
-	('nakomen', 7),
-	('nakomer', 7),
-	('nakweek', 7),
-	('nalaten', 7),
-	('nalatig', 7),
-	('naleven', 7),
-	('nalezen', 7),
-	('naloop', 6),
-	('nalopen', 7),
-	('naloper', 7),
-	('namaak', 6),
-	('namaken', 7),
-	('namaker', 7),
-	('namen', 5),
-	('namens', 6),
-	('nameten', 7),
-	('nanacht', 7),
-	('naneef', 6),
-	('nanking', 7),
-	('nanny', 5),
-	('nanoen', 6),
-	('naogen', 6),
-	('naoogst', 7),
-	('napalm', 6),
-	('napijn', 6),
-	('nappa', 5),
-	('nappen', 6),
-	('napraat', 7),
-	('napret', 6),
-	('narcis', 6),
-	('narcist', 7),
-	('narcose', 7),
-	('nardus', 6),
-	('narede', 6),
-	('narren', 6),
-	('narrig', 6),
-	('narwal', 6),
-	('nasaal', 6),
-	('naschok', 7),
-	('nasibal', 7),
-	('nasjen', 6),
-	('naslaan', 7),
-	('naslag', 6),
-	('nasleep', 7),
-	('nasmaak', 7),
-	('nasnede', 7),
-	('naspel', 6),
-	('nassen', 6),
-	('nastoot', 7),
-	('nastuk', 6),
-	('nataal', 6),
-	('nateelt', 7),
-	('nathals', 7),
-	('natheid', 7),
-	('natie', 5),
-	('natijd', 6),
-	('native', 6),
-	('natrilt', 7),
-	('natrium', 7),
-	('natron', 6),
-	('natten', 6),
-	('nattig', 6),
-	('naturel', 7),
-	('naturen', 7),
-	('natuur', 6),
-	('nautiek', 7),
-	('nauwte', 6),
-	('navel', 5),
-	('navraag', 7),
-	('navrant', 7),
-	('nawee', 5),
-	('nawegen', 7),
-	('nawoord', 7),
-	('nazaat', 6),
-	('nazang', 6),
-	('nazicht', 7),
-	('nazidom', 7),
-	('nazien', 6),
-	('nazin', 5),
-	('nazisme', 7),
-	('nazomer', 7),
-	('nazorg', 6),
-	('nebbe', 5),
-	('nebbisj', 7),
-	('necro', 5),
-	('necrose', 7),
-	('nectar', 6),
-	('neder', 5),
-	('nederig', 7),
-	('neekamp', 7),
-	('neerhof', 7),
-	('neetoor', 7),
-	('nefast', 6),
-	('neffens', 7),
-	('nefriet', 7),
-	('negatie', 7),
-	('negen', 5),
-	('negende', 7),
-	('negenen', 7),
-	('neger', 5),
-	('negeren', 7),
-	('negerij', 7),
-	('negerin', 7),
-	('negge', 5),
-	('neggen', 6),
-	('negorij', 7),
-	('negotie', 7),
-	('negrito', 7),
-	('negus', 5),
-	('neigen', 6),
-	('neiging', 7),
-	('nekband', 7),
-	('nekhaar', 7),
-	('nekken', 6),
-	('nekklem', 7),
-	('nekpijn', 7),
-	('nekslag', 7),
-	('nekstuk', 7),
-	('nekton', 6),
-	('nekvel', 6),
-	('nelson', 6),
-	('nemen', 5),
-	('nemer', 5),
-	('neming', 6),
-	('neofiel', 7),
-	('neofiet', 7),
-	('neofyt', 6),
-	('neomist', 7),
-	('neonaat', 7),
-	('neonazi', 7),
-	('neopop', 6),
-	('neoprof', 7),
-	('neoteen', 7),
-	('nepbom', 6),
-	('nepbont', 7),
-	('nepen', 5),
-	('nepfoto', 7),
-	('nepmail', 7),
-	('neppen', 6),
-	('nepper', 6),
-	('neppil', 6),
-	('nepzaak', 7),
-	('nerden', 6),
-	('neren', 5),
-	('nergens', 7),
-	('nering', 6),
-	('nerts', 5),
-	('nerven', 6),
-	('nerveus', 7),
-	('nervig', 6),
-	('nesse', 5),
-	('nestbak', 7),
-	('nestei', 6),
-	('nestel', 6),
-	('nesten', 6),
-	('nestig', 6),
-	('nestor', 6),
-	('netbal', 6),
-	('netband', 7),
-	('netel', 5),
-	('netelen', 7),
-	('netelig', 7),
-	('neten', 5),
-	('netheid', 7),
-	('netjes', 6),
-	('netkous', 7),
-	('netmaag', 7),
-	('netspel', 7),
-	('netsuke', 7),
-	('netten', 6),
-	('netter', 6),
-	('netto', 5),
-	('netwerk', 7),
-	('neuken', 6),
-	('neuker', 6),
-	('neukgat', 7),
-	('neuklat', 7),
-	('neuknis', 7),
-	('neuraal', 7),
-	('neurend', 7),
-	('neuring', 7),
-	('neuron', 6),
-	('neuroot', 7),
-	('neurose', 7),
-	('neusaap', 7),
-	('neusdop', 7),
-	('neusgat', 7),
-	('neuskap', 7),
-	('neusrug', 7),
-	('neutel', 6),
-	('neutron', 7),
-	('neutrum', 7),
-	('neuzen', 6),
-	('nevel', 5),
-	('nevelen', 7),
-	('nevelig', 7),
-	('neven', 5),
-	('nevens', 6),
-	('newton', 6),
-	('nexus', 5),
-	('niche', 5),
-	('nicht', 5),
-	('nieges', 6),
-	('niemand', 7),
-	('nierbed', 7),
-	('niervet', 7),
-	('niesbui', 7),
-	('niesen', 6),
-	('nieten', 6),
-	('nieter', 6),
-	('nietes', 6),
-	('nietig', 6),
-	('nietje', 6),
-	('niets', 5),
-	('nieuw', 5),
-	('nieuws', 6),
-	('niezen', 6),
-	('nihil', 5),
-	('nijdas', 6),
-	('nijdig', 6),
-	('nijgen', 6),
-	('nijging', 7),
-	('nijpen', 6),
-	('nijpend', 7),
-	('nijper', 6),
-	('nijver', 6),
-	('nikab', 5),
-	('nikkel', 6),
-	('nikken', 6),
-	('nikker', 6),
-	('niksen', 6),
-	('niksje', 6),
-	('niksnut', 7),
-	('nimbus', 6),
-	('nimby', 5),
-	('nimmer', 6),
-	('nimrod', 6),
-	('ninja', 5),
-	('nipje', 5),
-	('nippel', 6),
-	('nippen', 6),
-	('nipper', 6),
-	('nirwana', 7),
-	('nisbus', 6),
-	('nitraat', 7),
-	('nitriet', 7),
-	('nitwit', 6),
-	('niveau', 6),
-	('niveaus', 7),
-	('njonja', 6),
-	('nobel', 5),
-	('nobody', 6),
-	('noden', 5),
-	('nodig', 5),
-	('nodigen', 7),
-	('nodiger', 7),
-	('noemen', 6),
-	('noemer', 6),
-	('noest', 5),
-	('noestig', 7),
-	('nogal', 5),
-	('nokbalk', 7),
-	('nokken', 6),
-	('noklijn', 7),
-	('nokvol', 6),
-	('nolle', 5),
-	('nollen', 6),
-	('nomade', 6),
-	('nomaden', 7),
-	('nomen', 5),
-	('nonet', 5),
-	('nonius', 6),
-	('nonkel', 6),
-	('nonna', 5),
-	('nonsens', 7),
-	('noodcel', 7),
-	('noodkap', 7),
-	('noodlot', 7),
-	('noodnet', 7),
-	('noodpil', 7),
-	('noodrem', 7),
-	('noodweg', 7),
-	('noodwet', 7),
-	('nooit', 5),
-	('noord', 5),
-	('noorden', 7),
-	('noords', 6),
-	('nopen', 5),
-	('nopens', 6),
-	('noppen', 6),
-	('noppes', 6),
-	('noppig', 6),
-	('noren', 5),
-	('noria', 5),
-	('normaal', 7),
-	('notabel', 7),
-	('notaris', 7),
-	('notatie', 7),
-	('noten', 5),
-	('noteren', 7),
-	('notie', 5),
-	('notitie', 7),
-	('notoir', 6),
-	('notulen', 7),
-	('nougat', 6),
-	('noveen', 6),
-	('novelle', 7),
-	('novene', 6),
-	('novice', 6),
-	('noviet', 6),
-	('novum', 5),
-	('nozem', 5),
-	('nuance', 6),
-	('nubuck', 6),
-	('nuchter', 7),
-	('nucleon', 7),
-	('nucleus', 7),
-	('nudisme', 7),
-	('nudist', 6),
-	('nuffig', 6),
-	('nuken', 5),
-	('nukkig', 6),
-	('nulde', 5),
-	('nullast', 7),
-	('nullijn', 7),
-	('nulpost', 7),
-	('nulpunt', 7),
-	('nulrij', 6),
-	('nultrap', 7),
-	('numero', 6),
-	('nummer', 6),
-	('nuntius', 7),
-	('nurks', 5),
-	('nurse', 5),
-	('nutten', 6),
-	('nuttig', 6),
-	('nylon', 5),
-	('oasis', 5),
-	('obees', 5),
-	('obelisk', 7),
-	('obiaman', 7),
-	('object', 6),
-	('oblaat', 6),
-	('oblate', 6),
-	('oblie', 5),
-	('obligo', 6),
-	('oblong', 6),
-	('obool', 5),
-	('obsceen', 7),
-	('obscuur', 7),
-	('ocarina', 7),
-	('occasie', 7),
-	('occult', 6),
-	('oceaan', 6),
-	('ocelot', 6),
-	('ochtend', 7),
-	('octaaf', 6),
-	('octaal', 6),
-	('octaan', 6),
-	('octale', 6),
-	('octant', 6),
-	('octavo', 6),
-	('octet', 5),
-	('octopus', 7),
-	('octrooi', 7),
-	('oculair', 7),
-	('oculi', 5),
-	('oculist', 7),
-	('odalisk', 7),
-	('odeur', 5),
-	('odieus', 6),
-	('odium', 5),
-	('odyssee', 7),
-	('oedeem', 6),
-	('oefenen', 7),
-	('oehoe', 5),
-	('oekaze', 6),
-	('oelama', 6),
-	('oelema', 6),
-	('oelpan', 6),
-	('oempa', 5),
-	('oenig', 5),
-	('oerbank', 7),
-	('oerbos', 6),
-	('oerbron', 7),
-	('oerdom', 6),
-	('oerknal', 7),
-	('oerlaag', 7),
-	('oermens', 7),
-	('oeros', 5),
-	('oeroud', 6),
-	('oersaai', 7),
-	('oersoep', 7),
-	('oerstof', 7),
-	('oertaal', 7),
-	('oertijd', 7),
-	('oertype', 7),
-	('oervolk', 7),
-	('oervonk', 7),
-	('oervorm', 7),
-	('oerwoud', 7),
-	('oerzee', 6),
-	('oester', 6),
-	('oestrus', 7),
-	('oetlul', 6),
-	('oeuvre', 6),
-	('oever', 5),
-	('offday', 6),
-	('offer', 5),
-	('offeren', 7),
-	('offerte', 7),
-	('office', 6),
-	('officie', 7),
-	('offline', 7),
-	('offroad', 7),
-	('offset', 6),
-	('offside', 7),
-	('oftewel', 7),
-	('ofwel', 5),
-	('ogelijk', 7),
-	('ogief', 5),
-	('ohmse', 5),
-	('ojief', 5),
-	('okapi', 5),
-	('oksaal', 6),
-	('oksel', 5),
-	('oktober', 7),
-	('oliebad', 7),
-	('oliebol', 7),
-	('oliedom', 7),
-	('oliegas', 7),
-	('oliejas', 7),
-	('oliekan', 7),
-	('oliekop', 7),
-	('olielek', 7),
-	('olieman', 7),
-	('oliepak', 7),
-	('oliepit', 7),
-	('olieput', 7),
-	('oliesel', 7),
-	('olievat', 7),
-	('oliewet', 7),
-	('olifant', 7),
-	('olijf', 5),
-	('olijk', 5),
-	('olijven', 7),
-	('olmen', 5),
-	('omarmen', 7),
-	('omber', 5),
-	('omberen', 7),
-	('omblad', 6),
-	('omboord', 7),
-	('ombouw', 6),
-	('omdat', 5),
-	('omdoen', 6),
-	('omdolen', 7),
-	('omdopen', 7),
-	('omdraai', 7),
-	('omduwen', 7),
-	('omega', 5),
-	('omelet', 6),
-	('omerta', 6),
-	('omgaan', 6),
-	('omgaand', 7),
-	('omgang', 6),
-	('omgeven', 7),
-	('omhaal', 6),
-	('omhalen', 7),
-	('omheen', 6),
-	('omhelsd', 7),
-	('omhoog', 6),
-	('omina', 5),
-	('omineus', 7),
-	('omissie', 7),
-	('omkaden', 7),
-	('omkant', 6),
-	('omkat', 5),
-	('omkeer', 6),
-	('omkeren', 7),
-	('omkomen', 7),
-	('omkopen', 7),
-	('omkoper', 7),
-	('omlaag', 6),
-	('omladen', 7),
-	('omlijnd', 7),
-	('omloop', 6),
-	('omlopen', 7),
-	('omloper', 7),
-	('ommetje', 7),
-	('ommezij', 7),
-	('ommuren', 7),
-	('ommuurd', 7),
-	('omnibus', 7),
-	('omnium', 6),
-	('ompalen', 7),
-	('ompolen', 7),
-	('omringd', 7),
-	('omrit', 5),
-	('omroep', 6),
-	('omruil', 6),
-	('omslaan', 7),
-	('omslag', 6),
-	('omstaan', 7),
-	('omtogen', 7),
-	('omtrek', 6),
-	('omtrent', 7),
-	('omvaart', 7),
-	('omvamen', 7),
-	('omvang', 6),
-	('omvaren', 7),
-	('omver', 5),
-	('omvraag', 7),
-	('omwaren', 7),
-	('omweg', 5),
-	('omwille', 7),
-	('omwolkt', 7),
-	('omzagen', 7),
-	('omzeg', 5),
-	('omzet', 5),
-	('omzien', 6),
-	('omzomen', 7),
-	('onaards', 7),
-	('onager', 6),
-	('onanie', 6),
-	('onanist', 7),
-	('onbenul', 7),
-	('onbenut', 7),
-	('onbezet', 7),
-	('onbruik', 7),
-	('oncogen', 7),
-	('ondank', 6),
-	('ondanks', 7),
-	('onder', 5),
-	('onderaf', 7),
-	('onderen', 7),
-	('onderin', 7),
-	('onderom', 7),
-	('onderop', 7),
-	('onderst', 7),
-	('ondeugd', 7),
-	('ondicht', 7),
-	('ondiep', 6),
-	('ondiepe', 7),
-	('ondier', 6),
-	('onding', 6),
-	('ondode', 6),
-	('onecht', 6),
-	('onedel', 6),
-	('oneens', 6),
-	('oneer', 5),
-	('oneffen', 7),
-	('onenig', 6),
-	('onereus', 7),
-	('oneven', 6),
-	('onfair', 6),
-	('onfraai', 7),
-	('onfris', 6),
-	('ongaar', 6),
-	('ongans', 6),
-	('ongein', 6),
-	('ongel', 5),
-	('ongeld', 6),
-	('ongeluk', 7),
-	('ongemak', 7),
-	('ongeuit', 7),
-	('ongeval', 7),
-	('ongewis', 7),
-	('ongunst', 7),
-	('onguur', 6),
-	('onheil', 6),
-	('onheus', 6),
-	('onheuse', 7),
-	('onjoods', 7),
-	('onjuist', 7),
-	('onkel', 5),
-	('onkerks', 7),
-	('onkies', 6),
-	('onkiese', 7),
-	('onklaar', 7),
-	('onknap', 6),
-	('onkruid', 7),
-	('onkuis', 6),
-	('onkunde', 7),
-	('onland', 6),
-	('onlangs', 7),
-	('onledig', 7),
-	('onleuk', 6),
-	('online', 6),
-	('onlust', 6),
-	('onmacht', 7),
-	('onmatig', 7),
-	('onmens', 6),
-	('onmin', 5),
-	('onnet', 5),
-	('onnodig', 7),
-	('onnozel', 7),
-	('onnut', 5),
-	('onpaar', 6),
-	('onraad', 6),
-	('onrecht', 7),
-	('onrein', 6),
-	('onrijm', 6),
-	('onrijp', 6),
-	('onrooms', 7),
-	('onrust', 6),
-	('onshore', 7),
-	('onspoed', 7),
-	('onsterk', 7),
-	('onszelf', 7),
-	('ontaard', 7),
-	('ontbijt', 7),
-	('ontbost', 7),
-	('ontdaan', 7),
-	('ontdoen', 7),
-	('onteren', 7),
-	('ontgaan', 7),
-	('ontgon', 6),
-	('onthaal', 7),
-	('onthand', 7),
-	('ontij', 5),
-	('ontijde', 7),
-	('ontliep', 7),
-	('ontlook', 7),
-	('ontopic', 7),
-	('ontremd', 7),
-	('ontrouw', 7),
-	('ontrust', 7),
-	('ontslag', 7),
-	('ontucht', 7),
-	('ontuig', 6),
-	('ontvang', 7),
-	('ontveld', 7),
-	('ontvet', 6),
-	('ontwerp', 7),
-	('ontzag', 6),
-	('ontzet', 6),
-	('ontzien', 7),
-	('ontzind', 7),
-	('onvast', 6),
-	('onvrede', 7),
-	('onvree', 6),
-	('onvrij', 6),
-	('onvrije', 7),
-	('onwaar', 6),
-	('onwaard', 7),
-	('onweder', 7),
-	('onweer', 6),
-	('onwel', 5),
-	('onweren', 7),
-	('onwijs', 6),
-	('onwil', 5),
-	('onwis', 5),
-	('onyxen', 6),
-	('onzacht', 7),
-	('onzalig', 7),
-	('onzedig', 7),
-	('onzeker', 7),
-	('onzen', 5),
-	('onzent', 6),
-	('onzer', 5),
-	('onzes', 5),
-	('onzin', 5),
-	('oogarts', 7),
-	('oogbad', 6),
-	('oogbal', 6),
-	('oogbol', 6),
-	('oogdop', 6),
-	('oogdruk', 7),
-	('ooggel', 6),
-	('oogglas', 7),
-	('ooghaar', 7),
-	('ooghoek', 7),
-	('oogje', 5),
-	('oogkas', 6),
-	('oogklep', 7),
-	('ooglap', 6),
-	('ooglens', 7),
-	('ooglid', 6),
-	('ooglijk', 7),
-	('oogmerk', 7),
-	('oogpunt', 7),
-	('oogrand', 7),
-	('oogring', 7),
-	('oogrok', 6),
-	('oogst', 5),
-	('oogsten', 7),
-	('oogster', 7),
-	('oogtand', 7),
-	('oogtest', 7),
-	('oogvijs', 7),
-	('oogvlek', 7),
-	('oogwenk', 7),
-	('oogwit', 6),
-	('oogzalf', 7),
-	('oogzorg', 7),
-	('ooibos', 6),
-	('ooilam', 6),
-	('oorarts', 7),
-	('oorbaar', 7),
-	('oorbel', 6),
-	('oorclip', 7),
-	('oordeel', 7),
-	('oordop', 6),
-	('oorklep', 7),
-	('oorknop', 7),
-	('oorlam', 6),
-	('oorlap', 6),
-	('oorlel', 6),
-	('oorlog', 6),
-	('oormerk', 7),
-	('oorpijn', 7),
-	('oorprop', 7),
-	('oorring', 7),
-	('oortje', 6),
-	('ooruil', 6),
-	('oorveeg', 7),
-	('oorvijg', 7),
-	('oorworm', 7),
-	('oorwurm', 7),
-	('oorzaak', 7),
-	('oosten', 6),
-	('oosters', 7),
-	('oosting', 7),
-	('oostzij', 7),
-	('ootje', 5),
-	('ootjes', 6),
-	('ootmoed', 7),
-	('opaak', 5),
-	('opaal', 5),
-	('opalen', 6),
-	('opart', 5),
-	('opbaren', 7),
-	('opbloei', 7),
-	('opbod', 5),
-	('opbomen', 7),
-	('opboren', 7),
-	('opbouw', 6),
-	('opbraak', 7),
-	('opdagen', 7),
-	('opdat', 5),
-	('opdelen', 7),
-	('opdoen', 6),
-	('opdooi', 6),
-	('opdruk', 6),
-	('opduvel', 7),
-	('opduwen', 7),
-	('opeen', 5),
-	('opeens', 6),
-	('opeisen', 7),
-	('openen', 6),
-	('opener', 6),
-	('opening', 7),
-	('opera', 5),
-	('operand', 7),
-	('opeten', 6),
-	('opgaaf', 6),
-	('opgaan', 6),
-	('opgaand', 7),
-	('opgang', 6),
-	('opgave', 6),
-	('opgaven', 7),
-	('opgeld', 6),
-	('opgetut', 7),
-	('opgeven', 7),
-	('opgever', 7),
-	('opgezet', 7),
-	('opgooi', 6),
-	('ophaal', 6),
-	('ophalen', 7),
-	('ophaler', 7),
-	('ophef', 5),
-	('ophogen', 7),
-	('ophopen', 7),
-	('ophoren', 7),
-	('ophout', 6),
-	('opiaat', 6),
-	('opinie', 6),
-	('opium', 5),
-	('opjagen', 7),
-	('opkamer', 7),
-	('opkoken', 7),
-	('opkomen', 7),
-	('opkomer', 7),
-	('opkomst', 7),
-	('opkoop', 6),
-	('opkopen', 7),
-	('opkoper', 7),
-	('oplaag', 6),
-	('opladen', 7),
-	('oplader', 7),
-	('oplage', 6),
-	('oplaten', 7),
-	('oplazer', 7),
-	('opleg', 5),
-	('opleven', 7),
-	('oplezen', 7),
-	('oploop', 6),
-	('oplopen', 7),
-	('opmaak', 6),
-	('opmaat', 6),
-	('opmaken', 7),
-	('opmaker', 7),
-	('opmalen', 7),
-	('opmars', 6),
-	('opmeten', 7),
-	('opname', 6),
-	('opnamen', 7),
-	('opnemen', 7),
-	('opnemer', 7),
-	('opnieuw', 7),
-	('opossum', 7),
-	('oppas', 5),
-	('opper', 5),
-	('opperen', 7),
-	('opperst', 7),
-	('oppoken', 7),
-	('opraken', 7),
-	('oprapen', 7),
-	('oprecht', 7),
-	('opril', 5),
-	('oprit', 5),
-	('oproep', 6),
-	('oproer', 6),
-	('oproken', 7),
-	('opruien', 7),
-	('opruier', 7),
-	('opruwen', 7),
-	('opschik', 7),
-	('opslaan', 7),
-	('opslag', 6),
-	('opsmuk', 6),
-	('opstaan', 7),
-	('opstal', 6),
-	('opstand', 7),
-	('opstap', 6),
-	('opstel', 6),
-	('optant', 6),
-	('optater', 7),
-	('optatie', 7),
-	('opteren', 7),
-	('optica', 6),
-	('opticus', 7),
-	('optie', 5),
-	('optiek', 6),
-	('optima', 6),
-	('optimum', 7),
-	('optisch', 7),
-	('optocht', 7),
-	('optomen', 7),
-	('optrede', 7),
-	('optree', 6),
-	('opulent', 7),
-	('opvang', 6),
-	('opvaren', 7),
-	('opvegen', 7),
-	('opveren', 7),
-	('opwegen', 7),
-	('opzagen', 7),
-	('opzeg', 5),
-	('opzet', 5),
-	('opzetje', 7),
-	('opzicht', 7),
-	('opzien', 6),
-	('opzij', 5),
-	('oraal', 5),
-	('orakel', 6),
-	('oranje', 6),
-	('orante', 6),
-	('oratie', 6),
-	('orator', 6),
-	('orchis', 6),
-	('ordenen', 7),
-	('order', 5),
-	('ordner', 6),
-	('oreade', 6),
-	('oregano', 7),
-	('oremus', 6),
-	('oreren', 6),
-	('orgaan', 6),
-	('organel', 7),
-	('organza', 7),
-	('orgasme', 7),
-	('orgeade', 7),
-	('orgel', 5),
-	('orgelen', 7),
-	('orgie', 5),
-	('oribi', 5),
-	('origami', 7),
-	('origine', 7),
-	('orkaan', 6),
-	('orkest', 6),
-	('ornaat', 6),
-	('oroniem', 7),
-	('osmose', 6),
-	('osteoma', 7),
-	('otium', 5),
-	('otoliet', 7),
-	('otter', 5),
-	('otteren', 7),
-	('oubaas', 6),
-	('oublie', 6),
-	('oudbouw', 7),
-	('oudelui', 7),
-	('ouder', 5),
-	('oudere', 6),
-	('ouderen', 7),
-	('ouders', 6),
-	('oudgast', 7),
-	('oudheid', 7),
-	('oudjaar', 7),
-	('oudje', 5),
-	('oudoom', 6),
-	('oudroze', 7),
-	('oudste', 6),
-	('ounce', 5),
-	('outcast', 7),
-	('outdoor', 7),
-	('outfit', 6),
-	('outlaw', 6),
-	('outlook', 7),
-	('output', 6),
-	('ouwel', 5),
-	('ouwelui', 7),
-	('ovaal', 5),
-	('ovarium', 7),
-	('ovatie', 6),
-	('overal', 6),
-	('overall', 7),
-	('overdag', 7),
-	('overdek', 7),
-	('overeen', 7),
-	('overig', 6),
-	('overige', 7),
-	('overjas', 7),
-	('overlap', 7),
-	('overlay', 7),
-	('overleg', 7),
-	('overman', 7),
-	('overoud', 7),
-	('overpad', 7),
-	('overste', 7),
-	('overtal', 7),
-	('overuur', 7),
-	('overval', 7),
-	('overvet', 7),
-	('overvol', 7),
-	('overwal', 7),
-	('overweg', 7),
-	('overzee', 7),
-	('overzet', 7),
-	('overzij', 7),
-	('owngoal', 7),
-	('oxidant', 7),
-	('oxidase', 7),
-	('oxide', 5),
-	('ozonarm', 7),
-	('ozongat', 7),
-	('paadje', 6),
-	('paaien', 6),
-	('paaivis', 7),
-	('paalgat', 7),
-	('paalrij', 7),
-	('paalrot', 7),
-	('paaltje', 7),
-	('paander', 7),
-	('paapje', 6),
-	('paaps', 5),
-	('paard', 5),
-	('paarden', 7),
-	('paarlen', 7),
-	('paars', 5),
-	('paarsig', 7),
-	('paart', 5),
-	('paartje', 7),
-	('paasdag', 7),
-	('paasei', 6),
-	('paaslam', 7),
-	('paasmis', 7),
-	('paasos', 6),
-	('paastak', 7),
-	('pacen', 5),
-	('pacht', 5),
-	('pachten', 7),
-	('pachter', 7),
-	('paddel', 6),
-	('padden', 6),
-	('padding', 7),
-	('paddo', 5),
-	('paddock', 7),
-	('paddy', 5),
-	('paden', 5),
-	('padie', 5),
-	('paella', 6),
-	('paffen', 6),
-	('paffig', 6),
-	('pafpaal', 7),
-	('pafzak', 6),
-	('pagaai', 6),
-	('pagara', 6),
-	('pagekop', 7),
-	('pager', 5),
-	('pages', 5),
-	('pagina', 6),
-	('pagode', 6),
-	('paillet', 7),
-	('pairen', 6),
-	('pakaan', 6),
-	('pakbaar', 7),
-	('pakbon', 6),
-	('pakezel', 7),
-	('pakgoed', 7),
-	('pakhuis', 7),
-	('pakijs', 6),
-	('pakira', 6),
-	('pakje', 5),
-	('pakkage', 7),
-	('pakkans', 7),
-	('pakken', 6),
-	('pakker', 6),
-	('pakkerd', 7),
-	('pakket', 6),
-	('pakking', 7),
-	('pakkist', 7),
-	('pakmand', 7),
-	('paksoi', 6),
-	('pakster', 7),
-	('paktouw', 7),
-	('pakweg', 6),
-	('pakwerk', 7),
-	('palatum', 7),
-	('palaver', 7),
-	('paleis', 6),
-	('palen', 5),
-	('paleren', 7),
-	('palet', 5),
-	('paletot', 7),
-	('palfium', 7),
-	('paling', 6),
-	('paljas', 6),
-	('pallen', 6),
-	('pallet', 6),
-	('pallium', 7),
-	('palmen', 6),
-	('palmer', 6),
-	('palmet', 6),
-	('palmpit', 7),
-	('palmtak', 7),
-	('palmtop', 7),
-	('palmvet', 7),
-	('palrad', 6),
-	('palter', 6),
-	('palts', 5),
-	('palurk', 6),
-	('pamflet', 7),
-	('pampa', 5),
-	('pamper', 6),
-	('panacee', 7),
-	('panache', 7),
-	('panama', 6),
-	('pancake', 7),
-	('panda', 5),
-	('pandan', 6),
-	('panden', 6),
-	('pander', 6),
-	('pandhof', 7),
-	('panding', 7),
-	('pandit', 6),
-	('pandita', 7),
-	('pandoer', 7),
-	('paneel', 6),
-	('panel', 5),
-	('panen', 5),
-	('paneren', 7),
-	('pangi', 5),
-	('paniek', 6),
-	('panisch', 7),
-	('panlat', 6),
-	('panna', 5),
-	('panne', 5),
-	('pannen', 6),
-	('panter', 6),
-	('pantry', 6),
-	('pantser', 7),
-	('panty', 5),
-	('panvis', 6),
-	('papadag', 7),
-	('papadum', 7),
-	('papaja', 6),
-	('papaver', 7),
-	('papbuik', 7),
-	('paper', 5),
-	('papfles', 7),
-	('papier', 6),
-	('papil', 5),
-	('papisme', 7),
-	('papist', 6),
-	('papje', 5),
-	('papkind', 7),
-	('paplam', 6),
-	('pappa', 5),
-	('pappen', 6),
-	('pappie', 6),
-	('pappig', 6),
-	('pappot', 6),
-	('paprika', 7),
-	('papyrus', 7),
-	('papzak', 6),
-	('paraaf', 6),
-	('paraat', 6),
-	('parabel', 7),
-	('parade', 6),
-	('paradox', 7),
-	('paraplu', 7),
-	('parasol', 7),
-	('pardaf', 6),
-	('pardoen', 7),
-	('pardoes', 7),
-	('pardon', 6),
-	('parel', 5),
-	('parelen', 7),
-	('paren', 5),
-	('pareo', 5),
-	('pareren', 7),
-	('paret', 5),
-	('parfait', 7),
-	('parfum', 6),
-	('paria', 5),
-	('paring', 6),
-	('parka', 5),
-	('parkbos', 7),
-	('parker', 6),
-	('parket', 6),
-	('parkiet', 7),
-	('parking', 7),
-	('parkweg', 7),
-	('parmant', 7),
-	('parnas', 6),
-	('parodie', 7),
-	('parool', 6),
-	('parsec', 6),
-	('parsen', 6),
-	('parten', 6),
-	('partij', 6),
-	('partita', 7),
-	('partje', 6),
-	('partner', 7),
-	('partus', 6),
-	('partuur', 7),
-	('party', 5),
-	('partyen', 7),
-	('parure', 6),
-	('paruur', 6),
-	('parvenu', 7),
-	('parwa', 5),
-	('pasar', 5),
-	('pasbout', 7),
-	('pascal', 6),
-	('pasfoto', 7),
-	('pasgeld', 7),
-	('pashok', 6),
-	('pasja', 5),
-	('pasje', 5),
-	('pasjes', 6),
-	('paskwil', 7),
-	('paslood', 7),
-	('pasmunt', 7),
-	('paspen', 6),
-	('paspop', 6),
-	('pasrand', 7),
-	('passaat', 7),
-	('passage', 7),
-	('passant', 7),
-	('passe', 5),
-	('passen', 6),
-	('passend', 7),
-	('passer', 6),
-	('passie', 6),
-	('passief', 7),
-	('passim', 6),
-	('passing', 7),
-	('passiva', 7),
-	('passtuk', 7),
-	('passus', 6),
-	('pasta', 5),
-	('pastei', 6),
-	('pastel', 6),
-	('pastifi', 7),
-	('pastis', 6),
-	('pastoor', 7),
-	('pastor', 6),
-	('pasvorm', 7),
-	('paswerk', 7),
-	('patat', 5),
-	('patatje', 7),
-	('patch', 5),
-	('patchen', 7),
-	('pateel', 6),
-	('pateen', 6),
-	('patent', 6),
-	('pater', 5),
-	('pathos', 6),
-	('patijn', 6),
-	('patina', 6),
-	('patio', 5),
-	('patois', 6),
-	('patrijs', 7),
-	('patriot', 7),
-	('patroon', 7),
-	('patsen', 6),
-	('patser', 6),
-	('pauken', 6),
-	('pauper', 6),
-	('pausdom', 7),
-	('pausen', 6),
-	('pauwig', 6),
-	('pauwin', 6),
-	('pauwoog', 7),
-	('pauze', 5),
-	('pavane', 6),
-	('payroll', 7),
-	('peauter', 7),
-	('pechdag', 7),
-	('pectine', 7),
-	('pecunia', 7),
-	('pedaal', 6),
-	('pedalo', 6),
-	('pedant', 6),
-	('peddel', 6),
-	('pedel', 5),
-	('pedis', 5),
-	('peeling', 7),
-	('peentje', 7),
-	('peertje', 7),
-	('peetje', 6),
-	('peetoom', 7),
-	('pegel', 5),
-	('pegelen', 7),
-	('peggen', 6),
-	('peies', 5),
-	('peilen', 6),
-	('peiler', 6),
-	('peiling', 7),
-	('peilvak', 7),
-	('peinzen', 7),
-	('peinzer', 7),
-	('pekel', 5),
-	('pekelen', 7),
-	('pekken', 6),
-	('pekton', 6),
-	('pelen', 5),
-	('pelgrim', 7),
-	('pellen', 6),
-	('peller', 6),
-	('pellet', 6),
-	('pellets', 7),
-	('pelorie', 7),
-	('peloton', 7),
-	('pelsen', 6),
-	('pelser', 6),
-	('pelsjas', 7),
-	('pelsrob', 7),
-	('pelster', 7),
-	('peluw', 5),
-	('pelzen', 6),
-	('pelzig', 6),
-	('penaal', 6),
-	('penalty', 7),
-	('penant', 6),
-	('penarie', 7),
-	('penaten', 7),
-	('pence', 5),
-	('pendag', 6),
-	('pendant', 7),
-	('pendel', 6),
-	('pendule', 7),
-	('pengat', 6),
-	('penibel', 7),
-	('penis', 5),
-	('pennen', 6),
-	('penner', 6),
-	('penning', 7),
-	('pennoen', 7),
-	('penny', 5),
-	('penoze', 6),
-	('pensee', 6),
-	('penseel', 7),
-	('pension', 7),
-	('penster', 7),
-	('pensum', 6),
-	('pentaan', 7),
-	('penter', 6),
-	('penurie', 7),
-	('peper', 5),
-	('peperen', 7),
-	('peperig', 7),
-	('pepita', 6),
-	('peppel', 6),
-	('peppen', 6),
-	('peppil', 6),
-	('pepsine', 7),
-	('peptalk', 7),
-	('peptide', 7),
-	('pepton', 6),
-	('perceel', 7),
-	('percent', 7),
-	('pereat', 6),
-	('peren', 5),
-	('perfect', 7),
-	('perfide', 7),
-	('pergola', 7),
-	('perikel', 7),
-	('periode', 7),
-	('perken', 6),
-	('perkoen', 7),
-	('permis', 6),
-	('pernod', 6),
-	('perplex', 7),
-	('perron', 6),
-	('persad', 6),
-	('persdag', 7),
-	('persen', 6),
-	('perser', 6),
-	('persgas', 7),
-	('persico', 7),
-	('persing', 7),
-	('persman', 7),
-	('persmap', 7),
-	('persoon', 7),
-	('perspex', 7),
-	('perswee', 7),
-	('perswet', 7),
-	('pertang', 7),
-	('pervers', 7),
-	('perzik', 6),
-	('peseta', 6),
-	('pestbui', 7),
-	('pesten', 6),
-	('pester', 6),
-	('pesthol', 7),
-	('pestkop', 7),
-	('pesto', 5),
-	('peter', 5),
-	('petfles', 7),
-	('petfood', 7),
-	('petgat', 6),
-	('petitie', 7),
-	('petoet', 6),
-	('petrand', 7),
-	('petsen', 6),
-	('petunia', 7),
-	('peuken', 6),
-	('peulen', 6),
-	('peurder', 7),
-	('peuren', 6),
-	('peuten', 6),
-	('peuter', 6),
-	('peyote', 6),
-	('pezen', 5),
-	('pezerik', 7),
-	('pezig', 5),
-	('piaffe', 6),
-	('pianino', 7),
-	('pianist', 7),
-	('piano', 5),
-	('pianola', 7),
-	('piaster', 7),
-	('picador', 7),
-	('piccolo', 7),
-	('pickles', 7),
-	('picpus', 6),
-	('picture', 7),
-	('pidgin', 6),
-	('piece', 5),
-	('piechem', 7),
-	('piefpaf', 7),
-	('piekdag', 7),
-	('pieken', 6),
-	('piekuur', 7),
-	('pielen', 6),
-	('piemel', 6),
-	('pienter', 7),
-	('piepa', 5),
-	('piepel', 6),
-	('piepen', 6),
-	('pieper', 6),
-	('piepzak', 7),
-	('piercen', 7),
-	('piercer', 7),
-	('pieren', 6),
-	('pierrot', 7),
-	('piesbak', 7),
-	('piesen', 6),
-	('piespot', 7),
-	('pietje', 6),
-	('pietlut', 7),
-	('pietsje', 7),
-	('piezel', 6),
-	('pifpaf', 6),
-	('pigment', 7),
-	('pigskin', 7),
-	('pijlen', 6),
-	('pijler', 6),
-	('pijltje', 7),
-	('pijne', 5),
-	('pijnen', 6),
-	('pijnpit', 7),
-	('pijntje', 7),
-	('pijnzin', 7),
-	('pijpen', 6),
-	('pijper', 6),
-	('pijpje', 6),
-	('pijpzak', 7),
-	('pikant', 6),
-	('pikeren', 7),
-	('piket', 5),
-	('pikeur', 6),
-	('pikhaak', 7),
-	('pikkel', 6),
-	('pikken', 6),
-	('pikker', 6),
-	('pikkie', 6),
-	('pikkig', 6),
-	('pikol', 5),
-	('pikolet', 7),
-	('pikorde', 7),
-	('pikslee', 7),
-	('pikton', 6),
-	('pilaar', 6),
-	('pilav', 5),
-	('pillen', 6),
-	('piloot', 6),
-	('pilot', 5),
-	('pilote', 6),
-	('pilsje', 6),
-	('pilvorm', 7),
-	('piment', 6),
-	('pimpel', 6),
-	('pimpen', 6),
-	('pinakel', 7),
-	('pinang', 6),
-	('pinaren', 7),
-	('pinas', 5),
-	('pincet', 6),
-	('pincher', 7),
-	('pincode', 7),
-	('pinda', 5),
-	('pineut', 6),
-	('pingel', 6),
-	('pingen', 6),
-	('pingo', 5),
-	('pinken', 6),
-	('pinker', 6),
-	('pinnen', 6),
-	('pinnig', 6),
-	('pinpas', 6),
-	('pinten', 6),
-	('pinyin', 6),
-	('pioen', 5),
-	('pionier', 7),
-	('pionzet', 7),
-	('pipet', 5),
-	('piraat', 6),
-	('piranha', 7),
-	('pireng', 6),
-	('pisang', 6),
-	('pisbak', 6),
-	('pisbuis', 7),
-	('piscine', 7),
-	('pisdoek', 7),
-	('pisglas', 7),
-	('piskous', 7),
-	('pislink', 7),
-	('pispaal', 7),
-	('pispot', 6),
-	('pissed', 6),
-	('pissen', 6),
-	('pisser', 6),
-	('pissig', 6),
-	('pissoir', 7),
-	('piste', 5),
-	('pistier', 7),
-	('piston', 6),
-	('pistool', 7),
-	('pisvee', 6),
-	('pisvlek', 7),
-	('pitabar', 7),
-	('pitbull', 7),
-	('pitchen', 7),
-	('pitcher', 7),
-	('piteus', 6),
-	('pitje', 5),
-	('pitloos', 7),
-	('pitriet', 7),
-	('pitsen', 6),
-	('pitstop', 7),
-	('pitte', 5),
-	('pitten', 6),
-	('pittig', 6),
-	('pitvis', 6),
-	('pixel', 5),
-	('pizza', 5),
-	('plaag', 5),
-	('plaat', 5),
-	('plaatje', 7),
-	('plaats', 6),
-	('placebo', 7),
-	('placet', 6),
-	('placht', 6),
-	('placide', 7),
-	('pladijs', 7),
-	('plafon', 6),
-	('plafond', 7),
-	('plagen', 6),
-	('plager', 6),
-	('plagge', 6),
-	('plaggen', 7),
-	('plaid', 5),
-	('plaket', 6),
-	('plakken', 7),
-	('plakker', 7),
-	('plaksel', 7),
-	('plamuur', 7),
-	('plane', 5),
-	('planeet', 7),
-	('plank', 5),
-	('planken', 7),
-	('planket', 7),
-	('plannen', 7),
-	('planner', 7),
-	('plano', 5),
-	('plant', 5),
-	('plante', 6),
-	('planten', 7),
-	('planter', 7),
-	('planton', 7),
-	('plantui', 7),
-	('plaque', 6),
-	('plasma', 6),
-	('plaspil', 7),
-	('plassen', 7),
-	('plasser', 7),
-	('plastic', 7),
-	('plataan', 7),
-	('plataf', 6),
-	('plateau', 7),
-	('plateel', 7),
-	('platen', 6),
-	('platina', 7),
-	('plating', 7),
-	('platje', 6),
-	('platkop', 7),
-	('platten', 7),
-	('platuit', 7),
-	('platvis', 7),
-	('platweg', 7),
-	('platzak', 7),
-	('plavuis', 7),
-	('playboy', 7),
-	('player', 6),
-	('pleasen', 7),
-	('plebaan', 7),
-	('plebs', 5),
-	('plecht', 6),
-	('pleeboy', 7),
-	('pleerol', 7),
-	('pleet', 5),
-	('plegen', 6),
-	('pleger', 6),
-	('pleier', 6),
-	('plein', 5),
-	('pleiner', 7),
-	('pleit', 5),
-	('pleite', 6),
-	('pleiten', 7),
-	('pleiter', 7),
-	('plejade', 7),
-	('plekken', 7),
-	('plemp', 5),
-	('plempen', 7),
-	('plenair', 7),
-	('plengen', 7),
-	('plens', 5),
-	('plenty', 6),
-	('plenum', 6),
-	('plenzen', 7),
-	('pleten', 6),
-	('pletrol', 7),
-	('pletsen', 7),
-	('pletten', 7),
-	('pletter', 7),
-	('pleuren', 7),
-	('pleuris', 7),
-	('plevier', 7),
-	('plexus', 6),
-	('plezant', 7),
-	('plezier', 7),
-	('plicht', 6),
-	('plint', 5),
-	('ploeg', 5),
-	('ploegen', 7),
-	('ploeger', 7),
-	('ploegos', 7),
-	('ploert', 6),
-	('ploffen', 7),
-	('ploffer', 7),
-	('plofkip', 7),
-	('plokken', 7),
-	('plombe', 6),
-	('plomp', 5),
-	('plompen', 7),
-	('plons', 5),
-	('plonzen', 7),
-	('plooi', 5),
-	('plooien', 7),
-	('ploos', 5),
-	('ploot', 5),
-	('plopper', 7),
-	('ploten', 6),
-	('plots', 5),
-	('plotten', 7),
-	('plotter', 7),
-	('plozen', 6),
-	('pluche', 6),
-	('pluchen', 7),
-	('pluggen', 7),
-	('plugger', 7),
-	('pluim', 5),
-	('pluimen', 7),
-	('pluis', 5),
-	('pluizen', 7),
-	('pluizer', 7),
-	('pluizig', 7),
-	('plukken', 7),
-	('plukker', 7),
-	('pluksel', 7),
-	('plumeau', 7),
-	('plunje', 6),
-	('plunjer', 7),
-	('pluraal', 7),
-	('plurk', 5),
-	('plussen', 7),
-	('plusser', 7),
-	('pluut', 5),
-	('pluvier', 7),
-	('pochen', 6),
-	('pocher', 6),
-	('pochet', 6),
-	('pocket', 6),
-	('podagra', 7),
-	('podcast', 7),
-	('podium', 6),
-	('poedel', 6),
-	('poeder', 6),
-	('poeha', 5),
-	('poeier', 6),
-	('poelen', 6),
-	('poelet', 6),
-	('poelier', 7),
-	('poelje', 6),
-	('poema', 5),
-	('poenen', 6),
-	('poenig', 6),
-	('poepen', 6),
-	('poeper', 6),
-	('poeperd', 7),
-	('poepers', 7),
-	('poepgat', 7),
-	('poepzak', 7),
-	('poeren', 6),
-	('poesje', 6),
-	('poespas', 7),
-	('poesta', 6),
-	('poets', 5),
-	('poetsen', 7),
-	('poetser', 7),
-	('poezel', 6),
-	('poezen', 6),
-	('poezig', 6),
-	('poffen', 6),
-	('poffer', 6),
-	('pofferd', 7),
-	('pofmais', 7),
-	('pofmouw', 7),
-	('pogen', 5),
-	('poger', 5),
-	('pogers', 6),
-	('poging', 6),
-	('pogrom', 6),
-	('pointe', 6),
-	('pointer', 7),
-	('poken', 5),
-	('poker', 5),
-	('pokeren', 7),
-	('pokhout', 7),
-	('pokken', 6),
-	('pokkig', 6),
-	('pokstof', 7),
-	('polair', 6),
-	('polak', 5),
-	('polder', 6),
-	('polenta', 7),
-	('poleren', 7),
-	('poliep', 6),
-	('polijst', 7),
-	('polio', 5),
-	('polis', 5),
-	('politie', 7),
-	('polka', 5),
-	('pollak', 6),
-	('pollen', 6),
-	('pollens', 7),
-	('polsdik', 7),
-	('polsen', 6),
-	('polstas', 7),
-	('polster', 7),
-	('pommade', 7),
-	('pompaf', 6),
-	('pomparm', 7),
-	('pompbak', 7),
-	('pompen', 6),
-	('pomper', 6),
-	('pompeus', 7),
-	('pompier', 7),
-	('pompje', 6),
-	('pompoen', 7),
-	('pompon', 6),
-	('pompput', 7),
-	('poncho', 6),
-	('ponden', 6),
-	('ponder', 6),
-	('ponem', 5),
-	('poneren', 7),
-	('ponken', 6),
-	('ponsen', 6),
-	('ponsgat', 7),
-	('ponsoen', 7),
-	('pontman', 7),
-	('ponton', 6),
-	('pooien', 6),
-	('pooier', 6),
-	('poolen', 6),
-	('pooler', 6),
-	('poolijs', 7),
-	('pooling', 7),
-	('poolkap', 7),
-	('poolvos', 7),
-	('poolzee', 7),
-	('poort', 5),
-	('poorten', 7),
-	('poorter', 7),
-	('poosje', 6),
-	('pootaan', 7),
-	('pootgat', 7),
-	('pootje', 6),
-	('pootui', 6),
-	('pootvis', 7),
-	('popact', 6),
-	('popart', 6),
-	('popband', 7),
-	('popblad', 7),
-	('popcorn', 7),
-	('popdiva', 7),
-	('popduo', 6),
-	('popel', 5),
-	('popelen', 7),
-	('pophit', 6),
-	('popkoor', 7),
-	('poplied', 7),
-	('poplin', 6),
-	('popmooi', 7),
-	('poppen', 6),
-	('popper', 6),
-	('poppig', 6),
-	('poppy', 5),
-	('popquiz', 7),
-	('poprock', 7),
-	('popsong', 7),
-	('popster', 7),
-	('popzaal', 7),
-	('porder', 6),
-	('porem', 5),
-	('poreus', 6),
-	('porfier', 7),
-	('porie', 5),
-	('porno', 5),
-	('porren', 6),
-	('porring', 7),
-	('porster', 7),
-	('portaal', 7),
-	('portal', 6),
-	('portee', 6),
-	('portel', 6),
-	('portie', 6),
-	('portiek', 7),
-	('portier', 7),
-	('porto', 5),
-	('portret', 7),
-	('portuur', 7),
-	('poseren', 7),
-	('poses', 5),
-	('poseur', 6),
-	('positie', 7),
-	('postaal', 7),
-	('postbak', 7),
-	('postbox', 7),
-	('postbus', 7),
-	('postdoc', 7),
-	('posten', 6),
-	('poster', 6),
-	('postje', 6),
-	('postkar', 7),
-	('postman', 7),
-	('postmix', 7),
-	('postpak', 7),
-	('postuum', 7),
-	('postuur', 7),
-	('postvak', 7),
-	('postvat', 7),
-	('postweg', 7),
-	('postwet', 7),
-	('postzak', 7),
-	('potas', 5),
-	('potdoof', 7),
-	('poten', 5),
-	('potent', 6),
-	('poter', 5),
-	('poteren', 7),
-	('potgeld', 7),
-	('pothelm', 7),
-	('pothoed', 7),
-	('pothuis', 7),
-	('potig', 5),
-	('potje', 5),
-	('potlood', 7),
-	('potnat', 6),
-	('potrand', 7),
-	('potroos', 7),
-	('potsig', 6),
-	('potspel', 7),
-	('potstal', 7),
-	('potten', 6),
-	('potter', 6),
-	('potteus', 7),
-	('potvis', 6),
-	('potworm', 7),
-	('poulain', 7),
-	('poule', 5),
-	('poulet', 6),
-	('pover', 5),
-	('power', 5),
-	('powisi', 6),
-	('pownen', 6),
-	('pozen', 5),
-	('praaien', 7),
-	('praal', 5),
-	('praam', 5),
-	('praat', 5),
-	('praatal', 7),
-	('praatje', 7),
-	('prachen', 7),
-	('pracht', 6),
-	('prairie', 7),
-	('prakken', 7),
-	('pralen', 6),
-	('praler', 6),
-	('praline', 7),
-	('pramen', 6),
-	('prang', 5),
-	('prangen', 7),
-	('pranger', 7),
-	('praten', 6),
-	('prater', 6),
-	('prauw', 5),
-	('praxis', 6),
-	('precair', 7),
-	('precies', 7),
-	('preek', 5),
-	('prefab', 6),
-	('prefect', 7),
-	('prefix', 6),
-	('preken', 6),
-	('preker', 6),
-	('prelaat', 7),
-	('prelude', 7),
-	('premie', 6),
-	('premier', 7),
-	('premium', 7),
-	('premix', 6),
-	('prent', 5),
-	('prenten', 7),
-	('prepaid', 7),
-	('prequel', 7),
-	('presens', 7),
-	('present', 7),
-	('preses', 6),
-	('preskop', 7),
-	('pressen', 7),
-	('pressie', 7),
-	('presto', 6),
-	('pretext', 7),
-	('pretje', 6),
-	('pretnet', 7),
-	('pretor', 6),
-	('prettig', 7),
-	('pretzel', 7),
-	('preuts', 6),
-	('preview', 7),
-	('prezen', 6),
-	('prieel', 6),
-	('priel', 5),
-	('priem', 5),
-	('priemen', 7),
-	('prijken', 7),
-	('prijs', 5),
-	('prijzen', 7),
-	('prijzig', 7),
-	('prikje', 6),
-	('prikkel', 7),
-	('prikken', 7),
-	('prikker', 7),
-	('prikkie', 7),
-	('prikpen', 7),
-	('prikpil', 7),
-	('priktol', 7),
-	('prima', 5),
-	('primaat', 7),
-	('primair', 7),
-	('prime', 5),
-	('primen', 6),
-	('primer', 6),
-	('primeur', 7),
-	('primo', 5),
-	('primula', 7),
-	('primus', 6),
-	('prins', 5),
-	('prinses', 7),
-	('print', 5),
-	('printen', 7),
-	('printer', 7),
-	('prion', 5),
-	('prior', 5),
-	('priores', 7),
-	('priori', 6),
-	('priorij', 7),
-	('priorin', 7),
-	('prisma', 6),
-	('privaat', 7),
-	('privacy', 7),
-	('probaat', 7),
-	('procent', 7),
-	('proces', 6),
-	('procope', 7),
-	('product', 7),
-	('proef', 5),
-	('proeve', 6),
-	('proeven', 7),
-	('proever', 7),
-	('profaan', 7),
-	('profane', 7),
-	('profase', 7),
-	('profeet', 7),
-	('profes', 6),
-	('profiel', 7),
-	('profijt', 7),
-	('program', 7),
-	('project', 7),
-	('proleet', 7),
-	('proloog', 7),
-	('promo', 5),
-	('promoot', 7),
-	('prompt', 6),
-	('pronazi', 7),
-	('prondel', 7),
-	('pronk', 5),
-	('pronken', 7),
-	('pronker', 7),
-	('pront', 5),
-	('prooi', 5),
-	('proost', 6),
-	('propaan', 7),
-	('propeen', 7),
-	('proper', 6),
-	('propjes', 7),
-	('propos', 6),
-	('proppen', 7),
-	('propvol', 7),
-	('prosit', 6),
-	('protest', 7),
-	('proton', 6),
-	('protozo', 7),
-	('protsen', 7),
-	('protser', 7),
-	('protsig', 7),
-	('prove', 5),
-	('provenu', 7),
-	('provo', 5),
-	('proxy', 5),
-	('proza', 5),
-	('prozac', 6),
-	('prudent', 7),
-	('pruik', 5),
-	('pruil', 5),
-	('pruilen', 7),
-	('pruiler', 7),
-	('pruim', 5),
-	('pruimen', 7),
-	('pruimer', 7),
-	('prullen', 7),
-	('prullig', 7),
-	('prune', 5),
-	('prunel', 6),
-	('prunus', 6),
-	('prutoog', 7),
-	('pruts', 5),
-	('prutsen', 7),
-	('prutser', 7),
-	('psalm', 5),
-	('psalter', 7),
-	('psych', 5),
-	('psyche', 6),
-	('puber', 5),
-	('puberen', 7),
-	('pubis', 5),
-	('publiek', 7),
-	('pudding', 7),
-	('pudeur', 6),
-	('pueblo', 6),
-	('pueriel', 7),
-	('puffen', 6),
-	('pufheet', 7),
-	('puibalk', 7),
-	('puilen', 6),
-	('puiloog', 7),
-	('puinbak', 7),
-	('puinbed', 7),
-	('puinweg', 7),
-	('puisje', 6),
-	('puist', 5),
-	('puistig', 7),
-	('puitaal', 7),
-	('pukcode', 7),
-	('pukkel', 6),
-	('pukkie', 6),
-	('pulken', 6),
-	('pullen', 6),
-	('pullman', 7),
-	('pulsar', 6),
-	('pulsen', 6),
-	('pulskor', 7),
-	('pulver', 6),
-	('pummel', 6),
-	('punaise', 7),
-	('punch', 5),
-	('punctie', 7),
-	('punctum', 7),
-	('punker', 6),
-	('punkpop', 7),
-	('punky', 5),
-	('puntdak', 7),
-	('punten', 6),
-	('punter', 6),
-	('puntig', 6),
-	('puntje', 6),
-	('puntlas', 7),
-	('puntzak', 7),
-	('pupil', 5),
-	('puppy', 5),
-	('puree', 5),
-	('puren', 5),
-	('pureren', 7),
-	('purine', 6),
-	('purisme', 7),
-	('purist', 6),
-	('purper', 6),
-	('purpura', 7),
-	('purser', 6),
-	('pushen', 6),
-	('pusher', 6),
-	('pussen', 6),
-	('putbaas', 7),
-	('putboor', 7),
-	('putgalg', 7),
-	('puthaak', 7),
-	('putrad', 6),
-	('putrand', 7),
-	('putsch', 6),
-	('putse', 5),
-	('putsen', 6),
-	('puttee', 6),
-	('putten', 6),
-	('putter', 6),
-	('putting', 7),
-	('putto', 5),
-	('puzzel', 6),
-	('pygmee', 6),
-	('pyjama', 6),
-	('pylon', 5),
-	('pyloon', 6),
-	('pyrex', 5),
-	('pyriet', 6),
-	('python', 6),
-	('quaker', 6),
-	('quango', 6),
-	('quant', 5),
-	('quark', 5),
-	('quarto', 6),
-	('quasar', 6),
-	('quasi', 5),
-	('quatsch', 7),
-	('qubit', 5),
-	('queenie', 7),
-	('queeste', 7),
-	('query', 5),
-	('queue', 5),
-	('quiche', 6),
-	('quidam', 6),
-	('quilt', 5),
-	('quilten', 7),
-	('quinoa', 6),
-	('quinto', 6),
-	('quitte', 6),
-	('quizzen', 7),
-	('quizzer', 7),
-	('quorn', 5),
-	('quorum', 6),
-	('quota', 5),
-	('quote', 5),
-	('quoten', 6),
-	('quotum', 6),
-	('quotums', 7),
-	('raadje', 6),
-	('raadsel', 7),
-	('raagbol', 7),
-	('raaien', 6),
-	('raamhor', 7),
-	('raamkit', 7),
-	('raampen', 7),
-	('raampje', 7),
-	('raamwet', 7),
-	('rabat', 5),
-	('rabauw', 6),
-	('rabbi', 5),
-	('rabbijn', 7),
-	('rabiaat', 7),
-	('racedag', 7),
-	('racekak', 7),
-	('racen', 5),
-	('racer', 5),
-	('racerij', 7),
-	('rachel', 6),
-	('raciaal', 7),
-	('racisme', 7),
-	('racist', 6),
-	('raciste', 7),
-	('racket', 6),
-	('radar', 5),
-	('radars', 6),
-	('raden', 5),
-	('rader', 5),
-	('raderen', 7),
-	('radheid', 7),
-	('radiaal', 7),
-	('radiant', 7),
-	('radijs', 6),
-	('radio', 5),
-	('radium', 6),
-	('radius', 6),
-	('radix', 5),
-	('radja', 5),
-	('radon', 5),
-	('radslag', 7),
-	('rafel', 5),
-	('rafelen', 7),
-	('rafelig', 7),
-	('raffia', 6),
-	('raften', 6),
-	('rafter', 6),
-	('ragade', 6),
-	('ragdun', 6),
-	('ragebol', 7),
-	('ragen', 5),
-	('ragfijn', 7),
-	('raggen', 6),
-	('raglan', 6),
-	('ragout', 6),
-	('ragtime', 7),
-	('raider', 6),
-	('railnet', 7),
-	('rakel', 5),
-	('rakelen', 7),
-	('raken', 5),
-	('raket', 5),
-	('rakia', 5),
-	('rakken', 6),
-	('rakker', 6),
-	('rallen', 6),
-	('rally', 5),
-	('ramadan', 7),
-	('rambam', 6),
-	('rambo', 5),
-	('ramee', 5),
-	('ramen', 5),
-	('ramin', 5),
-	('raming', 6),
-	('rammei', 6),
-	('rammel', 6),
-	('rammen', 6),
-	('rampdag', 7),
-	('ramsj', 5),
-	('ramsjen', 7),
-	('rance', 5),
-	('ranch', 5),
-	('rancher', 7),
-	('rancho', 6),
-	('rancune', 7),
-	('randen', 6),
-	('random', 6),
-	('randweg', 7),
-	('randzee', 7),
-	('range', 5),
-	('ranja', 5),
-	('ranken', 6),
-	('ranking', 7),
-	('ransel', 6),
-	('ransuil', 7),
-	('ranzig', 6),
-	('rapact', 6),
-	('rapcrew', 7),
-	('rapen', 5),
-	('rapheid', 7),
-	('rapier', 6),
-	('rappe', 5),
-	('rappel', 6),
-	('rappen', 6),
-	('rapper', 6),
-	('rapport', 7),
-	('rapsode', 7),
-	('rapsong', 7),
-	('rapster', 7),
-	('rapte', 5),
-	('raptrio', 7),
-	('rasdier', 7),
-	('rasecht', 7),
-	('raseren', 7),
-	('rasheid', 7),
-	('rashond', 7),
-	('raskat', 6),
-	('raspen', 6),
-	('rasper', 6),
-	('raspsel', 7),
-	('rasta', 5),
-	('raster', 6),
-	('rasure', 6),
-	('rasuur', 6),
-	('ratafia', 7),
-	('ratel', 5),
-	('ratelen', 7),
-	('rating', 6),
-	('ratio', 5),
-	('ratrace', 7),
-	('ratsen', 6),
-	('ratten', 6),
-	('ratuur', 6),
-	('rauwig', 6),
-	('rauzen', 6),
-	('ravage', 6),
-	('raven', 5),
-	('ravijn', 6),
-	('ravioli', 7),
-	('rayon', 5),
-	('razeil', 6),
-	('razen', 5),
-	('razend', 6),
-	('razzia', 6),
-	('reaal', 5),
-	('reach', 5),
-	('reactie', 7),
-	('reactor', 7),
-	('reader', 6),
-	('ready', 5),
-	('reagens', 7),
-	('realia', 6),
-	('realist', 7),
-	('realo', 5),
-	('rebbe', 5),
-	('rebel', 5),
-	('rebels', 6),
-	('rebound', 7),
-	('rebus', 5),
-	('recent', 6),
-	('recepis', 7),
-	('recept', 6),
-	('reces', 5),
-	('recette', 7),
-	('rechaud', 7),
-	('recht', 5),
-	('rechte', 6),
-	('rechten', 7),
-	('rechter', 7),
-	('rechtop', 7),
-	('rechts', 6),
-	('rechtse', 7),
-	('rechtte', 7),
-	('rechute', 7),
-	('reciet', 6),
-	('recital', 7),
-	('reclame', 7),
-	('record', 6),
-	('rectaal', 7),
-	('recto', 5),
-	('rector', 6),
-	('rectrix', 7),
-	('rectum', 6),
-	('recul', 5),
-	('redden', 6),
-	('redder', 6),
-	('redding', 7),
-	('reden', 5),
-	('reder', 5),
-	('rederij', 7),
-	('redoute', 7),
-	('redox', 5),
-	('redres', 6),
-	('redster', 7),
-	('redzaam', 7),
-	('reebok', 6),
-	('reebout', 7),
-	('reeds', 5),
-	('reefer', 6),
-	('reegeit', 7),
-	('reekalf', 7),
-	('reeks', 5),
-	('reerug', 6),
-	('reeuw', 5),
-	('reeuwen', 7),
-	('reeuws', 6),
-	('reewild', 7),
-	('referee', 7),
-	('referte', 7),
-	('reflex', 6),
-	('reflux', 6),
-	('reform', 6),
-	('refrein', 7),
-	('refter', 6),
-	('regaal', 6),
-	('regalia', 7),
-	('regatta', 7),
-	('regel', 5),
-	('regelen', 7),
-	('regels', 6),
-	('regen', 5),
-	('regenen', 7),
-	('regent', 6),
-	('regeren', 7),
-	('regest', 6),
-	('reggae', 6),
-	('regie', 5),
-	('regiem', 6),
-	('regime', 6),
-	('regio', 5),
-	('regres', 6),
-	('reidans', 7),
-	('reien', 5),
-	('reiger', 6),
-	('reiken', 6),
-	('reiki', 5),
-	('reilen', 6),
-	('reine', 5),
-	('reins', 5),
-	('reisbus', 7),
-	('reisdag', 7),
-	('reispas', 7),
-	('reissom', 7),
-	('reistas', 7),
-	('reisweg', 7),
-	('reiszak', 7),
-	('reizen', 6),
-	('reizend', 7),
-	('rekbaar', 7),
-	('rekband', 7),
-	('rekbank', 7),
-	('rekel', 5),
-	('reken', 5),
-	('rekenen', 7),
-	('rekest', 6),
-	('rekke', 5),
-	('rekken', 6),
-	('rekker', 6),
-	('rekking', 7),
-	('rekruut', 7),
-	('rekstok', 7),
-	('rekwest', 7),
-	('relaas', 6),
-	('relais', 6),
-	('relance', 7),
-	('relaps', 6),
-	('relatie', 7),
-	('relax', 5),
-	('relaxed', 7),
-	('relaxen', 7),
-	('relaxt', 6),
-	('release', 7),
-	('relict', 6),
-	('reliek', 6),
-	('religie', 7),
-	('reling', 6),
-	('rellen', 6),
-	('relmuis', 7),
-	('remake', 6),
-	('remblok', 7),
-	('remdruk', 7),
-	('remedie', 7),
-	('remgeld', 7),
-	('remise', 6),
-	('remix', 5),
-	('remixen', 7),
-	('remklep', 7),
-	('remmen', 6),
-	('remmer', 6),
-	('remming', 7),
-	('remnaaf', 7),
-	('remolie', 7),
-	('remonte', 7),
-	('remous', 6),
-	('remover', 7),
-	('remstof', 7),
-	('remweg', 6),
-	('remwerk', 7),
-	('renbaan', 7),
-	('renbode', 7),
-	('rendang', 7),
-	('rendier', 7),
-	('renen', 5),
-	('renet', 5),
-	('rennen', 6),
-	('renner', 6),
-	('renonce', 7),
-	('renperk', 7),
-	('renstal', 7),
-	('renster', 7),
-	('rente', 5),
-	('renten', 6),
-	('rentree', 7),
-	('renvooi', 7),
-	('repel', 5),
-	('repelen', 7),
-	('repen', 5),
-	('replay', 6),
-	('replica', 7),
-	('repliek', 7),
-	('reply', 5),
-	('replyen', 7),
-	('report', 6),
-	('reppen', 6),
-	('reprint', 7),
-	('reprise', 7),
-	('repro', 5),
-	('reptiel', 7),
-	('requiem', 7),
-	('reseda', 6),
-	('resem', 5),
-	('reserve', 7),
-	('reset', 5),
-	('residu', 6),
-	('resort', 6),
-	('respect', 7),
-	('respijt', 7),
-	('respons', 7),
-	('ressort', 7),
-	('restant', 7),
-	('resten', 6),
-	('restgas', 7),
-	('retabel', 7),
-	('retail', 6),
-	('reten', 5),
-	('retina', 6),
-	('retinol', 7),
-	('retor', 5),
-	('retort', 6),
-	('retour', 6),
-	('retro', 5),
-	('retsina', 7),
-	('rettich', 7),
-	('return', 6),
-	('retweet', 7),
-	('reukzin', 7),
-	('reuma', 5),
-	('reuring', 7),
-	('reutel', 6),
-	('reuter', 6),
-	('reuze', 5),
-	('reuzel', 6),
-	('reuzig', 6),
-	('reuzin', 6),
-	('reveil', 6),
-	('revelen', 7),
-	('reven', 5),
-	('revenu', 6),
-	('revers', 6),
-	('reviaan', 7),
-	('revier', 6),
-	('review', 6),
-	('revisie', 7),
-	('revisor', 7),
-	('revival', 7),
-	('revolte', 7),
-	('revue', 5),
-	('revues', 6),
-	('rexisme', 7),
-	('rexist', 6),
-	('rezen', 5),
-	('riant', 5),
-	('ribbe', 5),
-	('ribbel', 6),
-	('ribben', 6),
-	('ribcord', 7),
-	('ribes', 5),
-	('ribhout', 7),
-	('riblap', 6),
-	('ribose', 6),
-	('ribstof', 7),
-	('ribstuk', 7),
-	('richel', 6),
-	('richten', 7),
-	('richter', 7),
-	('richtig', 7),
-	('ricine', 6),
-	('ricinus', 7),
-	('ricotta', 7),
-	('ridder', 6),
-	('riedel', 6),
-	('rieken', 6),
-	('riemen', 6),
-	('riempje', 7),
-	('rieten', 6),
-	('rieter', 6),
-	('rietje', 6),
-	('rietmat', 7),
-	('rigide', 6),
-	('rigueur', 7),
-	('rijbaan', 7),
-	('rijbak', 6),
-	('rijdag', 6),
-	('rijdek', 6),
-	('rijden', 6),
-	('rijder', 6),
-	('rijdier', 7),
-	('rijen', 5),
-	('rijer', 5),
-	('rijgen', 6),
-	('rijgpen', 7),
-	('rijhal', 6),
-	('rijhuis', 7),
-	('rijkdom', 7),
-	('rijke', 5),
-	('rijken', 6),
-	('rijkop', 6),
-	('rijles', 6),
-	('rijlijn', 7),
-	('rijmen', 6),
-	('rijmer', 6),
-	('rijmpje', 7),
-	('rijnaak', 7),
-	('rijns', 5),
-	('rijnse', 6),
-	('rijpad', 6),
-	('rijpen', 6),
-	('rijping', 7),
-	('rijpte', 6),
-	('rijsdam', 7),
-	('rijst', 5),
-	('rijtaak', 7),
-	('rijtaks', 7),
-	('rijten', 6),
-	('rijtest', 7),
-	('rijtijd', 7),
-	('rijtje', 6),
-	('rijtoer', 7),
-	('rijtuig', 7),
-	('rijvak', 6),
-	('rijven', 6),
-	('rijweg', 6),
-	('rijwerk', 7),
-	('rijwiel', 7),
-	('rijwind', 7),
-	('rijzen', 6),
-	('rijzig', 6),
-	('rijzing', 7),
-	('rikken', 6),
-	('riksja', 6),
-	('rillen', 6),
-	('rillijn', 7),
-	('rilling', 7),
-	('rimboe', 6),
-	('rimmen', 6),
-	('rimpel', 6),
-	('rimram', 6),
-	('ringbus', 7),
-	('ringen', 6),
-	('ringmap', 7),
-	('ringmus', 7),
-	('ringnet', 7),
-	('ringrot', 7),
-	('ringweg', 7),
-	('rinkel', 6),
-	('rinket', 6),
-	('rioja', 5),
-	('riolen', 6),
-	('riool', 5),
-	('riotgun', 7),
-	('ripdeal', 7),
-	('riposte', 7),
-	('rippen', 6),
-	('ripper', 6),
-	('risee', 5),
-	('risico', 6),
-	('riskant', 7),
-	('risken', 6),
-	('risotto', 7),
-	('rissen', 6),
-	('risten', 6),
-	('ritalin', 7),
-	('ritme', 5),
-	('ritmiek', 7),
-	('ritmus', 6),
-	('ritsen', 6),
-	('ritser', 6),
-	('ritsig', 6),
-	('ritsvak', 7),
-	('ritten', 6),
-	('rittijd', 7),
-	('rituaal', 7),
-	('ritueel', 7),
-	('ritus', 5),
-	('ritzege', 7),
-	('rivaal', 6),
-	('rivale', 6),
-	('rivet', 5),
-	('rivier', 6),
-	('riyal', 5),
-	('roadie', 6),
-	('roaming', 7),
-	('robben', 6),
-	('robber', 6),
-	('robijn', 6),
-	('robot', 5),
-	('robuust', 7),
-	('rochel', 6),
-	('rochet', 6),
-	('rocken', 6),
-	('rocker', 6),
-	('rockfan', 7),
-	('rococo', 6),
-	('roddel', 6),
-	('rodelen', 7),
-	('roden', 5),
-	('rodeo', 5),
-	('roderen', 7),
-	('roebel', 6),
-	('roede', 5),
-	('roedel', 6),
-	('roefdek', 7),
-	('roeidol', 7),
-	('roeien', 6),
-	('roeier', 6),
-	('roeipen', 7),
-	('roemen', 6),
-	('roemer', 6),
-	('roemvol', 7),
-	('roepen', 6),
-	('roeper', 6),
-	('roepia', 6),
-	('roepie', 6),
-	('roeping', 7),
-	('roerbak', 7),
-	('roerder', 7),
-	('roerei', 6),
-	('roeren', 6),
-	('roerend', 7),
-	('roerig', 6),
-	('roering', 7),
-	('roerom', 6),
-	('roerpen', 7),
-	('roersel', 7),
-	('roest', 5),
-	('roesten', 7),
-	('roestig', 7),
-	('roeten', 6),
-	('roetig', 6),
-	('roetmop', 7),
-	('roeven', 6),
-	('roezen', 6),
-	('roezig', 6),
-	('roffel', 6),
-	('rogge', 5),
-	('rokade', 6),
-	('roken', 5),
-	('roker', 5),
-	('rokeren', 7),
-	('rokerig', 7),
-	('rokerij', 7),
-	('rokjas', 6),
-	('rokken', 6),
-	('rokpand', 7),
-	('rokvest', 7),
-	('rokzak', 6),
-	('rolaap', 6),
-	('rolbaan', 7),
-	('roldak', 6),
-	('rolder', 6),
-	('roldeur', 7),
-	('rolfilm', 7),
-	('rolkei', 6),
-	('rolkooi', 7),
-	('rollaag', 7),
-	('rollade', 7),
-	('rollen', 6),
-	('roller', 6),
-	('rolling', 7),
-	('rolluik', 7),
-	('rolmaat', 7),
-	('rolmenu', 7),
-	('rolmops', 7),
-	('roloven', 7),
-	('rolpaal', 7),
-	('rolpens', 7),
-	('rolrif', 6),
-	('rolroer', 7),
-	('rolrond', 7),
-	('rolstok', 7),
-	('roltong', 7),
-	('roltrap', 7),
-	('rolvast', 7),
-	('rolvorm', 7),
-	('rolzoom', 7),
-	('romaans', 7),
-	('roman', 5),
-	('romance', 7),
-	('rombout', 7),
-	('rombus', 6),
-	('romein', 6),
-	('romen', 5),
-	('romer', 5),
-	('romig', 5),
-	('rommel', 6),
-	('romper', 6),
-	('romusha', 7),
-	('rondas', 6),
-	('ronde', 5),
-	('rondeel', 7),
-	('ronden', 6),
-	('ronding', 7),
-	('rondje', 6),
-	('rondkop', 7),
-	('rondo', 5),
-	('rondom', 6),
-	('rondrit', 7),
-	('rondsel', 7),
-	('rondte', 6),
-	('ronduit', 7),
-	('rondvis', 7),
-	('rondweg', 7),
-	('rondzit', 7),
-	('ronin', 5),
-	('ronken', 6),
-	('ronker', 6),
-	('roodkop', 7),
-	('roodlof', 7),
-	('roodoog', 7),
-	('roodsel', 7),
-	('roodst', 6),
-	('roodvos', 7),
-	('roofing', 7),
-	('rooftas', 7),
-	('roofvis', 7),
-	('rooibos', 7),
-	('rooie', 5),
-	('rooien', 6),
-	('rooier', 6),
-	('rooiing', 7),
-	('rooilat', 7),
-	('rooinek', 7),
-	('rooirok', 7),
-	('rookbom', 7),
-	('rookgas', 7),
-	('rookgat', 7),
-	('rookhok', 7),
-	('rookhol', 7),
-	('rookpot', 7),
-	('roomijs', 7),
-	('rooms', 5),
-	('roomse', 6),
-	('roomvla', 7),
-	('roomwit', 7),
-	('roosje', 6),
-	('roosten', 7),
-	('rooster', 7),
-	('rootkit', 7),
-	('rootput', 7),
-	('ropij', 5),
-	('roppen', 6),
-	('rosbief', 7),
-	('roskam', 6),
-	('rossen', 6),
-	('rossig', 6),
-	('rossing', 7),
-	('rostra', 6),
-	('rostrum', 7),
-	('rotan', 5),
-	('rotatie', 7),
-	('rotator', 7),
-	('rotdag', 6),
-	('rotding', 7),
-	('roten', 5),
-	('roteren', 7),
-	('roterij', 7),
-	('rotgang', 7),
-	('rotgans', 7),
-	('rotheid', 7),
-	('rotje', 5),
-	('rotjoch', 7),
-	('rotjong', 7),
-	('rotklap', 7),
-	('rotklus', 7),
-	('rotkop', 6),
-	('rotmof', 6),
-	('rotonde', 7),
-	('rotor', 5),
-	('rotsen', 6),
-	('rotshol', 7),
-	('rotsig', 6),
-	('rotspad', 7),
-	('rotswol', 7),
-	('rotte', 5),
-	('rotten', 6),
-	('rottig', 6),
-	('rottijd', 7),
-	('rotting', 7),
-	('rotvent', 7),
-	('rotweer', 7),
-	('rotwijf', 7),
-	('rotzak', 6),
-	('rotzooi', 7),
-	('rotzorg', 7),
-	('rouge', 5),
-	('roulade', 7),
-	('route', 5),
-	('router', 6),
-	('routier', 7),
-	('routine', 7),
-	('routing', 7),
-	('rouwdag', 7),
-	('rouwen', 6),
-	('rouwig', 6),
-	('rouwmis', 7),
-	('roven', 5),
-	('rover', 5),
-	('roverij', 7),
-	('rowan', 5),
-	('royaal', 6),
-	('royalty', 7),
-	('royeren', 7),
-	('rozen', 5),
-	('rozet', 5),
-	('rozig', 5),
-	('rozijn', 6),
-	('rubato', 6),
-	('rubber', 6),
-	('rubella', 7),
-	('rubriek', 7),
-	('ruche', 5),
-	('rucola', 6),
-	('ruften', 6),
-	('rugby', 5),
-	('rugbyen', 7),
-	('rugbyer', 7),
-	('ruggen', 6),
-	('rugkant', 7),
-	('rugkorf', 7),
-	('ruglijn', 7),
-	('rugpand', 7),
-	('rugpijn', 7),
-	('rugslag', 7),
-	('rugstuk', 7),
-	('rugtas', 6),
-	('rugvin', 6),
-	('rugwind', 7),
-	('rugzak', 6),
-	('ruide', 5),
-	('ruien', 5),
-	('ruigte', 6),
-	('ruiken', 6),
-	('ruiker', 6),
-	('ruilbod', 7),
-	('ruilen', 6),
-	('ruiler', 6),
-	('ruiling', 7),
-	('ruimen', 6),
-	('ruimer', 6),
-	('ruiming', 7),
-	('ruimte', 6),
-	('ruisen', 6),
-	('ruising', 7),
-	('ruiten', 6),
-	('ruiter', 6),
-	('ruitijd', 7),
-	('ruiven', 6),
-	('ruizen', 6),
-	('rukken', 6),
-	('rukker', 6),
-	('rukwind', 7),
-	('rulheid', 7),
-	('rulijs', 6),
-	('ruling', 6),
-	('rullen', 6),
-	('rullig', 6),
-	('rumba', 5),
-	('rumble', 6),
-	('rumboon', 7),
-	('rumfles', 7),
-	('rumgrog', 7),
-	('rumoer', 6),
-	('rundvee', 7),
-	('rundvet', 7),
-	('runnen', 6),
-	('runner', 6),
-	('runsel', 6),
-	('ruptuur', 7),
-	('ruraal', 6),
-	('rushen', 6),
-	('russen', 6),
-	('rustbed', 7),
-	('rustdag', 7),
-	('ruste', 5),
-	('rusten', 6),
-	('rustiek', 7),
-	('rustig', 6),
-	('rusting', 7),
-	('rustuur', 7),
-	('ruwaard', 7),
-	('ruwbouw', 7),
-	('ruwdoek', 7),
-	('ruwen', 5),
-	('ruwheid', 7),
-	('ruwte', 5),
-	('ruwvoer', 7),
-	('ruwweg', 6),
-	('ruzie', 5),
-	('saaien', 6),
-	('saalien', 7),
-	('sabayon', 7),
-	('sabbat', 6),
-	('sabel', 5),
-	('sabelen', 7),
-	('sabra', 5),
-	('sachet', 6),
-	('sacoche', 7),
-	('sacra', 5),
-	('sacraal', 7),
-	('sadisme', 7),
-	('sadist', 6),
-	('sadiste', 7),
-	('safari', 6),
-	('saffie', 6),
-	('saffier', 7),
-	('sagaai', 6),
-	('sagen', 5),
-	('saguaro', 7),
-	('saisine', 7),
-	('sajet', 5),
-	('sakkers', 7),
-	('salade', 6),
-	('salam', 5),
-	('salami', 6),
-	('salaris', 7),
-	('saldi', 5),
-	('saldo', 5),
-	('salet', 5),
-	('salicyl', 7),
-	('salie', 5),
-	('saline', 6),
-	('salmi', 5),
-	('salmiak', 7),
-	('saloeki', 7),
-	('salon', 5),
-	('saloon', 6),
-	('salsa', 5),
-	('salto', 5),
-	('salut', 5),
-	('saluut', 6),
-	('salvia', 6),
-	('salvo', 5),
-	('samaar', 6),
-	('samba', 5),
-	('sambal', 6),
-	('sambo', 5),
-	('samen', 5),
-	('samoem', 6),
-	('samowar', 7),
-	('sampan', 6),
-	('sample', 6),
-	('samplen', 7),
-	('sampler', 7),
-	('samsam', 6),
-	('sanctie', 7),
-	('sandaal', 7),
-	('sandhi', 6),
-	('sandrak', 7),
-	('saneren', 7),
-	('sangria', 7),
-	('santen', 6),
-	('santin', 6),
-	('santje', 6),
-	('santjes', 7),
-	('saoto', 5),
-	('saphout', 7),
-	('sapkuur', 7),
-	('sappe', 5),
-	('sappeur', 7),
-	('sappig', 6),
-	('saprijk', 7),
-	('sapverf', 7),
-	('sarcast', 7),
-	('sarcoom', 7),
-	('sardien', 7),
-	('sardine', 7),
-	('sarin', 5),
-	('sarong', 6),
-	('sarren', 6),
-	('sarrig', 6),
-	('sasdeur', 7),
-	('sashimi', 7),
-	('sashuis', 7),
-	('sassen', 6),
-	('satan', 5),
-	('satans', 6),
-	('sater', 5),
-	('satijn', 6),
-	('satinet', 7),
-	('satire', 6),
-	('satraap', 7),
-	('satsuma', 7),
-	('saucijs', 7),
-	('sauna', 5),
-	('saurus', 6),
-	('sausen', 6),
-	('sauskom', 7),
-	('sauspan', 7),
-	('sauzen', 6),
-	('savanne', 7),
-	('saven', 5),
-	('savonet', 7),
-	('savooi', 6),
-	('scala', 5),
-	('scalair', 7),
-	('scalp', 5),
-	('scalpel', 7),
-	('scampi', 6),
-	('scannen', 7),
-	('scanner', 7),
-	('scart', 5),
-	('scatten', 7),
-	('scene', 5),
-	('scenery', 7),
-	('scepsis', 7),
-	('scepter', 7),
-	('schaaf', 6),
-	('schaak', 6),
-	('schaal', 6),
-	('schaap', 6),
-	('schaar', 6),
-	('schaard', 7),
-	('schaars', 7),
-	('schaats', 7),
-	('schab', 5),
-	('schabel', 7),
-	('schacht', 7),
-	('schadde', 7),
-	('schade', 6),
-	('schaden', 7),
-	('schaduw', 7),
-	('schaft', 6),
-	('schakel', 7),
-	('schaken', 7),
-	('schaker', 7),
-	('schalen', 7),
-	('schalie', 7),
-	('schalk', 6),
-	('schalks', 7),
-	('schalm', 6),
-	('schamel', 7),
-	('schamen', 7),
-	('schamp', 6),
-	('schande', 7),
-	('schans', 6),
-	('schap', 5),
-	('schaper', 7),
-	('schar', 5),
-	('scharde', 7),
-	('schare', 6),
-	('scharen', 7),
-	('schart', 6),
-	('schat', 5),
-	('schaven', 7),
-	('schavot', 7),
-	('schede', 6),
-	('schedel', 7),
-	('schee', 5),
-	('scheef', 6),
-	('scheel', 6),
-	('scheen', 6),
-	('scheer', 6),
-	('scheet', 6),
-	('scheg', 5),
-	('schegge', 7),
-	('schei', 5),
-	('scheids', 7),
-	('scheien', 7),
-	('schel', 5),
-	('schele', 6),
-	('schelen', 7),
-	('schelf', 6),
-	('schelm', 6),
-	('schelms', 7),
-	('schelp', 6),
-	('scheluw', 7),
-	('schema', 6),
-	('schemel', 7),
-	('schemer', 7),
-	('schenen', 7),
-	('schenk', 6),
-	('schep', 5),
-	('schepel', 7),
-	('schepen', 7),
-	('scheper', 7),
-	('scheren', 7),
-	('scherf', 6),
-	('scherm', 6),
-	('scherp', 6),
-	('scherts', 7),
-	('scherzo', 7),
-	('scheten', 7),
-	('schets', 6),
-	('scheur', 6),
-	('scheut', 6),
-	('schicht', 7),
-	('schiep', 6),
-	('schier', 6),
-	('schijf', 6),
-	('schijn', 6),
-	('schijt', 6),
-	('schik', 5),
-	('schil', 5),
-	('schild', 6),
-	('schim', 5),
-	('schimp', 6),
-	('schink', 6),
-	('schip', 5),
-	('schisma', 7),
-	('schluss', 7),
-	('schmink', 7),
-	('schnaps', 7),
-	('schoen', 6),
-	('schoep', 6),
-	('schoft', 6),
-	('schok', 5),
-	('schol', 5),
-	('schold', 6),
-	('scholen', 7),
-	('scholp', 6),
-	('scholte', 7),
-	('schond', 6),
-	('schone', 6),
-	('schonen', 7),
-	('schonk', 6),
-	('schoof', 6),
-	('school', 6),
-	('schools', 7),
-	('schoon', 6),
-	('schoor', 6),
-	('schoot', 6),
-	('schop', 5),
-	('schor', 5),
-	('schorem', 7),
-	('schoren', 7),
-	('schorre', 7),
-	('schors', 6),
-	('schort', 6),
-	('schot', 5),
-	('schotel', 7),
-	('schoten', 7),
-	('schots', 6),
-	('schout', 6),
-	('schouw', 6),
-	('schoven', 7),
-	('schraag', 7),
-	('schraal', 7),
-	('schraap', 7),
-	('schrab', 6),
-	('schram', 6),
-	('schrank', 7),
-	('schrap', 6),
-	('schrede', 7),
-	('schreed', 7),
-	('schreef', 7),
-	('schriel', 7),
-	('schrift', 7),
-	('schrijn', 7),
-	('schrik', 6),
-	('schril', 6),
-	('schro', 5),
-	('schroef', 7),
-	('schrok', 6),
-	('schrooi', 7),
-	('schroom', 7),
-	('schroot', 7),
-	('schrot', 6),
-	('schub', 5),
-	('schubbe', 7),
-	('schubje', 7),
-	('schudde', 7),
-	('schuier', 7),
-	('schuif', 6),
-	('schuim', 6),
-	('schuin', 6),
-	('schuins', 7),
-	('schuit', 6),
-	('schul', 5),
-	('schuld', 6),
-	('schulp', 6),
-	('schup', 5),
-	('schuren', 7),
-	('schurft', 7),
-	('schurk', 6),
-	('schut', 5),
-	('schuts', 6),
-	('schuur', 6),
-	('schuw', 5),
-	('schuwen', 7),
-	('schwung', 7),
-	('scone', 5),
-	('scones', 6),
-	('scoop', 5),
-	('scooter', 7),
-	('scope', 5),
-	('score', 5),
-	('scoren', 6),
-	('scorer', 6),
-	('scoring', 7),
-	('scotch', 6),
-	('scout', 5),
-	('scouten', 7),
-	('scrapie', 7),
-	('scraps', 6),
-	('scriba', 6),
-	('scrip', 5),
-	('script', 6),
-	('scrotum', 7),
-	('scrub', 5),
-	('scrum', 5),
-	('scrupel', 7),
-	('scuba', 5),
-	('scullen', 7),
-	('sculler', 7),
-	('sealen', 6),
-	('seance', 6),
-	('secans', 6),
-	('secco', 5),
-	('seconde', 7),
-	('secreet', 7),
-	('sectie', 6),
-	('sectio', 6),
-	('sector', 6),
-	('secundo', 7),
-	('secuur', 6),
-	('sedan', 5),
-	('sedatie', 7),
-	('sedekah', 7),
-	('seder', 5),
-	('sederen', 7),
-	('sedert', 6),
-	('sedum', 5),
-	('seffens', 7),
-	('segment', 7),
-	('segrijn', 7),
-	('seibel', 6),
-	('seider', 6),
-	('seinen', 6),
-	('seiner', 6),
-	('seintje', 7),
-	('seitan', 6),
-	('seizen', 6),
-	('seizing', 7),
-	('seizoen', 7),
-	('seksbom', 7),
-	('sekse', 5),
-	('seksen', 6),
-	('sekser', 6),
-	('seksist', 7),
-	('sekspop', 7),
-	('sekte', 5),
-	('selder', 6),
-	('select', 6),
-	('seleen', 6),
-	('selfie', 6),
-	('sellen', 6),
-	('semiet', 6),
-	('semilor', 7),
-	('seminar', 7),
-	('semtex', 6),
-	('senaat', 6),
-	('senang', 6),
-	('senator', 7),
-	('seniel', 6),
-	('senior', 6),
-	('sennhut', 7),
-	('sensei', 6),
-	('sensor', 6),
-	('sepia', 5),
-	('sepot', 5),
-	('sepsis', 6),
-	('septet', 6),
-	('septiem', 7),
-	('septime', 7),
-	('septimo', 7),
-	('sequeel', 7),
-	('sequel', 6),
-	('sequens', 7),
-	('sequoia', 7),
-	('seraf', 5),
-	('serail', 6),
-	('sereen', 6),
-	('sereh', 5),
-	('serge', 5),
-	('serie', 5),
-	('serieel', 7),
-	('serieus', 7),
-	('sering', 6),
-	('sermoen', 7),
-	('seroen', 6),
-	('serpent', 7),
-	('serre', 5),
-	('serum', 5),
-	('serval', 6),
-	('serve', 5),
-	('serven', 6),
-	('server', 6),
-	('servet', 6),
-	('service', 7),
-	('serviel', 7),
-	('servies', 7),
-	('serviet', 7),
-	('servo', 5),
-	('sesam', 5),
-	('sessie', 6),
-	('setpunt', 7),
-	('setter', 6),
-	('setting', 7),
-	('sextant', 7),
-	('sextet', 6),
-	('sexting', 7),
-	('sexyer', 6),
-	('sfagnum', 7),
-	('sfeer', 5),
-	('sfinx', 5),
-	('sfumato', 7),
-	('shabby', 6),
-	('shagje', 6),
-	('shaken', 6),
-	('shaker', 6),
-	('shaky', 5),
-	('shampoo', 7),
-	('shanty', 6),
-	('sharen', 6),
-	('sharia', 6),
-	('shawl', 5),
-	('sheddak', 7),
-	('sheet', 5),
-	('shell', 5),
-	('shelter', 7),
-	('sheriff', 7),
-	('sherpa', 6),
-	('sherry', 6),
-	('shiatsu', 7),
-	('shift', 5),
-	('shimmy', 6),
-	('shirt', 5),
-	('shoarma', 7),
-	('shock', 5),
-	('shocken', 7),
-	('shogi', 5),
-	('shogun', 6),
-	('shooter', 7),
-	('shoppen', 7),
-	('shopper', 7),
-	('short', 5),
-	('shorten', 7),
-	('shorts', 6),
-	('shotgun', 7),
-	('shotten', 7),
-	('shovel', 6),
-	('showen', 6),
-	('showman', 7),
-	('showy', 5),
-	('shoyu', 5),
-	('shuffle', 7),
-	('shunt', 5),
-	('shutter', 7),
-	('shuttle', 7),
-	('siamang', 7),
-	('siamees', 7),
-	('sibbe', 5),
-	('sibille', 7),
-	('sicav', 5),
-	('sidecar', 7),
-	('siena', 5),
-	('siepel', 6),
-	('siepoog', 7),
-	('sieraad', 7),
-	('sieren', 6),
-	('sierpot', 7),
-	('siersel', 7),
-	('siervis', 7),
-	('sifaka', 6),
-	('sifon', 5),
-	('sigaar', 6),
-	('sigaret', 7),
-	('sigma', 5),
-	('signaal', 7),
-	('signet', 6),
-	('signum', 6),
-	('sijsje', 6),
-	('sikkel', 6),
-	('sikker', 6),
-	('silage', 6),
-	('sileen', 6),
-	('silene', 6),
-	('silex', 5),
-	('silica', 6),
-	('siluur', 6),
-	('similor', 7),
-	('simlock', 7),
-	('simmen', 6),
-	('simonie', 7),
-	('simpel', 6),
-	('simpen', 6),
-	('simplex', 7),
-	('sinas', 5),
-	('sinds', 5),
-	('singel', 6),
-	('single', 6),
-	('singlet', 7),
-	('sinjeur', 7),
-	('sinjo', 5),
-	('sinjoor', 7),
-	('sinopel', 7),
-	('sintel', 6),
-	('sinter', 6),
-	('sinus', 5),
-	('sippen', 6),
-	('sirene', 6),
-	('sirih', 5),
-	('sirocco', 7),
-	('siroop', 6),
-	('sirtaki', 7),
-	('sisal', 5),
-	('sissen', 6),
-	('sisser', 6),
-	('sissy', 5),
-	('siste', 5),
-	('sister', 6),
-	('sistrum', 7),
-	('sitar', 5),
-	('sitcom', 6),
-	('sitemap', 7),
-	('sitsen', 6),
-	('sixpack', 7),
-	('sixties', 7),
-	('sjaak', 5),
-	('sjaal', 5),
-	('sjabbat', 7),
-	('sjabbes', 7),
-	('sjabrak', 7),
-	('sjachel', 7),
-	('sjahs', 5),
-	('sjakes', 6),
-	('sjako', 5),
-	('sjalom', 6),
-	('sjalot', 6),
-	('sjamaan', 7),
-	('sjammes', 7),
-	('sjampie', 7),
-	('sjanker', 7),
-	('sjans', 5),
-	('sjansen', 7),
-	('sjappen', 7),
-	('sjappie', 7),
-	('sjees', 5),
-	('sjeik', 5),
-	('sjekel', 6),
-	('sjekkie', 7),
-	('sjerp', 5),
-	('sjezen', 6),
-	('sjiek', 5),
-	('sjieken', 7),
-	('sjiiet', 6),
-	('sjikse', 6),
-	('sjilpen', 7),
-	('sjirk', 5),
-	('sjirpen', 7),
-	('sjoege', 6),
-	('sjoel', 5),
-	('sjoelen', 7),
-	('sjofar', 6),
-	('sjofel', 6),
-	('sjokken', 7),
-	('sjonge', 6),
-	('sjonnie', 7),
-	('sjorder', 7),
-	('sjorren', 7),
-	('sjotten', 7),
-	('sjouw', 5),
-	('sjouwen', 7),
-	('sjouwer', 7),
-	('sjtetl', 6),
-	('skaat', 5),
-	('skald', 5),
-	('skaten', 6),
-	('skater', 6),
-	('skating', 7),
-	('skeeler', 7),
-	('skeet', 5),
-	('skelet', 6),
-	('skelter', 7),
-	('sketch', 6),
-	('skibaan', 7),
-	('skibox', 6),
-	('skibril', 7),
-	('skibus', 6),
-	('skiclub', 7),
-	('skidag', 6),
-	('skidorp', 7),
-	('skiet', 5),
-	('skiff', 5),
-	('skiffen', 7),
-	('skihal', 6),
-	('skihut', 6),
-	('skikamp', 7),
-	('skiklas', 7),
-	('skiles', 6),
-	('skilift', 7),
-	('skimmen', 7),
-	('skimmia', 7),
-	('skioord', 7),
-	('skipak', 6),
-	('skipas', 6),
-	('skippen', 7),
-	('skipper', 7),
-	('skipret', 7),
-	('skireis', 7),
-	('skistok', 7),
-	('skiteam', 7),
-	('skiwas', 6),
-	('skunk', 5),
-	('skybox', 6),
-	('skylab', 6),
-	('skyline', 7),
-	('skypen', 6),
-	('slaaf', 5),
-	('slaafs', 6),
-	('slaags', 6),
-	('slaak', 5),
-	('slaan', 5),
-	('slaap', 5),
-	('slaapje', 7),
-	('slaatje', 7),
-	('slabbe', 6),
-	('slabben', 7),
-	('slabed', 6),
-	('slablad', 7),
-	('slaboon', 7),
-	('slacht', 6),
-	('slacks', 6),
-	('sladood', 7),
-	('slagarm', 7),
-	('slagbal', 7),
-	('slagen', 6),
-	('slager', 6),
-	('slaghek', 7),
-	('slaging', 7),
-	('slagman', 7),
-	('slagnet', 7),
-	('slagpen', 7),
-	('slagpin', 7),
-	('slagsas', 7),
-	('slagzee', 7),
-	('slagzet', 7),
-	('slagzij', 7),
-	('slagzin', 7),
-	('slaken', 6),
-	('slaking', 7),
-	('slakken', 7),
-	('slakom', 6),
-	('slakrop', 7),
-	('slalom', 6),
-	('slamand', 7),
-	('slamix', 6),
-	('slammen', 7),
-	('slang', 5),
-	('slangen', 7),
-	('slank', 5),
-	('slanken', 7),
-	('slaolie', 7),
-	('slapen', 6),
-	('slaper', 6),
-	('slapers', 7),
-	('slapie', 6),
-	('slapjes', 7),
-	('slappen', 7),
-	('slapte', 6),
-	('slasaus', 7),
-	('slash', 5),
-	('slatten', 7),
-	('slaven', 6),
-	('slavin', 6),
-	('slavink', 7),
-	('slavist', 7),
-	('slavork', 7),
-	('slecht', 6),
-	('slechts', 7),
-	('slede', 5),
-	('sleden', 6),
-	('sleehak', 7),
-	('sleep', 5),
-	('sleet', 5),
-	('sleetje', 7),
-	('sleets', 6),
-	('sleeuw', 6),
-	('slegge', 6),
-	('slemp', 5),
-	('slempen', 7),
-	('slemper', 7),
-	('slenk', 5),
-	('slenter', 7),
-	('slepen', 6),
-	('sleper', 6),
-	('sleten', 6),
-	('sletig', 6),
-	('sleuf', 5),
-	('sleur', 5),
-	('sleuren', 7),
-	('sleutel', 7),
-	('sleuven', 7),
-	('slibben', 7),
-	('slice', 5),
-	('slicen', 6),
-	('slick', 5),
-	('sliding', 7),
-	('sliep', 5),
-	('slier', 5),
-	('slieren', 7),
-	('sliert', 6),
-	('sliet', 5),
-	('slijk', 5),
-	('slijkig', 7),
-	('slijm', 5),
-	('slijmen', 7),
-	('slijmer', 7),
-	('slijmig', 7),
-	('slijp', 5),
-	('slijpen', 7),
-	('slijper', 7),
-	('slijten', 7),
-	('slijter', 7),
-	('slikken', 7),
-	('slikker', 7),
-	('sliklap', 7),
-	('sliknat', 7),
-	('slimme', 6),
-	('slinger', 7),
-	('slinken', 7),
-	('slinks', 6),
-	('slipjas', 7),
-	('slippen', 7),
-	('slipper', 7),
-	('slissen', 7),
-	('slobbe', 6),
-	('slobber', 7),
-	('sloeber', 7),
-	('sloef', 5),
-	('sloeg', 5),
-	('sloep', 5),
-	('sloepen', 7),
-	('sloerie', 7),
-	('sloffen', 7),
-	('sloffer', 7),
-	('sloffig', 7),
-	('slofhak', 7),
-	('slogan', 6),
-	('slokken', 7),
-	('slokker', 7),
-	('slokop', 6),
-	('slome', 5),
-	('slomp', 5),
-	('slonk', 5),
-	('slons', 5),
-	('slonzen', 7),
-	('slonzig', 7),
-	('sloof', 5),
-	('slooien', 7),
-	('sloom', 5),
-	('sloop', 5),
-	('sloor', 5),
-	('sloot', 5),
-	('slopen', 6),
-	('sloper', 6),
-	('sloping', 7),
-	('slordig', 7),
-	('slorp', 5),
-	('slorpen', 7),
-	('slotact', 7),
-	('slotbel', 7),
-	('slotdag', 7),
-	('sloten', 6),
-	('slotrit', 7),
-	('slotsom', 7),
-	('slotte', 6),
-	('slotwet', 7),
-	('slotzin', 7),
-	('sloven', 6),
-	('slowen', 6),
-	('slowfox', 7),
-	('slufter', 7),
-	('sluier', 6),
-	('sluif', 5),
-	('sluik', 5),
-	('sluiken', 7),
-	('sluiks', 6),
-	('sluimer', 7),
-	('sluipen', 7),
-	('sluiper', 7),
-	('sluis', 5),
-	('sluit', 5),
-	('sluiten', 7),
-	('sluiter', 7),
-	('sluizen', 7),
-	('slump', 5),
-	('slungel', 7),
-	('slurf', 5),
-	('slurp', 5),
-	('slurpen', 7),
-	('sluwe', 5),
-	('smaad', 5),
-	('smaak', 5),
-	('smaakje', 7),
-	('smacht', 6),
-	('smack', 5),
-	('smaden', 6),
-	('smaken', 6),
-	('smakken', 7),
-	('smakker', 7),
-	('smalen', 6),
-	('smaler', 6),
-	('small', 5),
-	('smalt', 5),
-	('smalte', 6),
-	('smaragd', 7),
-	('smart', 5),
-	('smarten', 7),
-	('smartig', 7),
-	('smash', 5),
-	('smashen', 7),
-	('smeden', 6),
-	('smeder', 6),
-	('smedig', 6),
-	('smeding', 7),
-	('smeer', 5),
-	('smeet', 5),
-	('smegma', 6),
-	('smeken', 6),
-	('smeking', 7),
-	('smekken', 7),
-	('smelt', 5),
-	('smelten', 7),
-	('smelter', 7),
-	('smeren', 6),
-	('smergel', 7),
-	('smerig', 6),
-	('smering', 7),
-	('smeris', 6),
-	('smeten', 6),
-	('smetten', 7),
-	('smeue', 5),
-	('smeulen', 7),
-	('smidse', 6),
-	('smiecht', 7),
-	('smient', 6),
-	('smiezen', 7),
-	('smijdig', 7),
-	('smijten', 7),
-	('smijter', 7),
-	('smikkel', 7),
-	('smiley', 6),
-	('smirten', 7),
-	('smisse', 6),
-	('smoel', 5),
-	('smoes', 5),
-	('smoezen', 7),
-	('smoezig', 7),
-	('smoken', 6),
-	('smoking', 7),
-	('smokkel', 7),
-	('smokken', 7),
-	('smolt', 5),
-	('smook', 5),
-	('smoor', 5),
-	('smoren', 6),
-	('smotsen', 7),
-	('smotsig', 7),
-	('smous', 5),
-	('smousen', 7),
-	('smout', 5),
-	('smouten', 7),
-	('smouter', 7),
-	('smoutig', 7),
-	('smouzen', 7),
-	('smuiger', 7),
-	('smukken', 7),
-	('smullen', 7),
-	('smuller', 7),
-	('smurf', 5),
-	('smurrie', 7),
-	('snaai', 5),
-	('snaaien', 7),
-	('snaak', 5),
-	('snaaks', 6),
-	('snaar', 5),
-	('snabbel', 7),
-	('snack', 5),
-	('snacken', 7),
-	('snaken', 6),
-	('snakken', 7),
-	('snappen', 7),
-	('snapper', 7),
-	('snaren', 6),
-	('snars', 5),
-	('snater', 6),
-	('snauw', 5),
-	('snauwen', 7),
-	('snavel', 6),
-	('sneaker', 7),
-	('snebbe', 6),
-	('snede', 5),
-	('sneden', 6),
-	('snedig', 6),
-	('sneed', 5),
-	('sneep', 5),
-	('sneeps', 6),
-	('sneer', 5),
-	('snees', 5),
-	('sneetje', 7),
-	('sneeuw', 6),
-	('snelbus', 7),
-	('snellen', 7),
-	('snelweg', 7),
-	('snepen', 6),
-	('snepper', 7),
-	('sneren', 6),
-	('snerken', 7),
-	('snerpen', 7),
-	('snert', 5),
-	('sneue', 5),
-	('sneven', 6),
-	('snezen', 6),
-	('snibbe', 6),
-	('snibben', 7),
-	('snibbig', 7),
-	('snieren', 7),
-	('sniffen', 7),
-	('snijbal', 7),
-	('snijden', 7),
-	('snijder', 7),
-	('snijkop', 7),
-	('snijmes', 7),
-	('snijsla', 7),
-	('snikkel', 7),
-	('snikken', 7),
-	('snippel', 7),
-	('snippen', 7),
-	('snipper', 7),
-	('snode', 5),
-	('snoei', 5),
-	('snoeien', 7),
-	('snoeier', 7),
-	('snoek', 5),
-	('snoeken', 7),
-	('snoep', 5),
-	('snoepen', 7),
-	('snoeper', 7),
-	('snoepig', 7),
-	('snoepje', 7),
-	('snoer', 5),
-	('snoeren', 7),
-	('snoes', 5),
-	('snoet', 5),
-	('snoeven', 7),
-	('snoever', 7),
-	('snoezig', 7),
-	('snoge', 5),
-	('snokken', 7),
-	('snollen', 7),
-	('snood', 5),
-	('snoof', 5),
-	('snooker', 7),
-	('snoot', 5),
-	('snorder', 7),
-	('snorkel', 7),
-	('snorken', 7),
-	('snorker', 7),
-	('snorren', 7),
-	('snotaap', 7),
-	('snoten', 6),
-	('snotlap', 7),
-	('snotolf', 7),
-	('snotter', 7),
-	('snottig', 7),
-	('snoven', 6),
-	('snuffen', 7),
-	('snufje', 6),
-	('snugger', 7),
-	('snuif', 5),
-	('snuifje', 7),
-	('snuit', 5),
-	('snuiten', 7),
-	('snuiter', 7),
-	('snuiven', 7),
-	('snuiver', 7),
-	('snurk', 5),
-	('snurken', 7),
-	('snurker', 7),
-	('soatest', 7),
-	('sober', 5),
-	('sociaal', 7),
-	('society', 7),
-	('sodeju', 6),
-	('sodoku', 6),
-	('sodomie', 7),
-	('soefi', 5),
-	('soelaas', 7),
-	('soenna', 6),
-	('soepbal', 7),
-	('soepel', 6),
-	('soepkip', 7),
-	('soepkom', 7),
-	('soepkop', 7),
-	('soeppan', 7),
-	('soeps', 5),
-	('soera', 5),
-	('soesa', 5),
-	('soezen', 6),
-	('soezig', 6),
-	('sofisme', 7),
-	('sofist', 6),
-	('softbal', 7),
-	('soften', 6),
-	('softie', 6),
-	('softijs', 7),
-	('soiree', 6),
-	('sokkel', 6),
-	('solaas', 6),
-	('solair', 6),
-	('soldaat', 7),
-	('soldate', 7),
-	('solde', 5),
-	('soldeer', 7),
-	('solden', 6),
-	('soldij', 6),
-	('soleren', 7),
-	('solex', 5),
-	('solfer', 6),
-	('solide', 6),
-	('solied', 6),
-	('soliede', 7),
-	('solisme', 7),
-	('solist', 6),
-	('soliste', 7),
-	('sollen', 6),
-	('solutie', 7),
-	('solvent', 7),
-	('somber', 6),
-	('somma', 5),
-	('sommen', 6),
-	('sommig', 6),
-	('sommige', 7),
-	('sompen', 6),
-	('sompig', 6),
-	('sonant', 6),
-	('sonar', 5),
-	('sonate', 6),
-	('sonde', 5),
-	('sonnet', 6),
-	('sonoor', 6),
-	('soort', 5),
-	('soppen', 6),
-	('soppig', 6),
-	('sopraan', 7),
-	('sopropo', 7),
-	('sorbet', 6),
-	('sorbiet', 7),
-	('sordino', 7),
-	('sores', 5),
-	('sorghum', 7),
-	('sorry', 5),
-	('sortie', 6),
-	('souche', 6),
-	('soulvol', 7),
-	('sound', 5),
-	('sounder', 7),
-	('souper', 6),
-	('soutane', 7),
-	('soutien', 7),
-	('sovchoz', 7),
-	('sovjet', 6),
-	('sowieso', 7),
-	('spaak', 5),
-	('spaan', 5),
-	('spaat', 5),
-	('spaatje', 7),
-	('spacen', 6),
-	('spade', 5),
-	('spaden', 6),
-	('spagaat', 7),
-	('spahi', 5),
-	('spaken', 6),
-	('spalier', 7),
-	('spalk', 5),
-	('spalken', 7),
-	('spambox', 7),
-	('spammen', 7),
-	('spammer', 7),
-	('spamrun', 7),
-	('spanen', 6),
-	('spang', 5),
-	('spanlak', 7),
-	('spanne', 6),
-	('spannen', 7),
-	('spanner', 7),
-	('spanrib', 7),
-	('spanrol', 7),
-	('spant', 5),
-	('sparen', 6),
-	('sparing', 7),
-	('sparren', 7),
-	('spasme', 6),
-	('spast', 5),
-	('spatel', 6),
-	('spatie', 6),
-	('spatlap', 7),
-	('spats', 5),
-	('spatten', 7),
-	('spattig', 7),
-	('speaker', 7),
-	('specht', 6),
-	('special', 7),
-	('specie', 6),
-	('species', 7),
-	('speech', 6),
-	('speed', 5),
-	('speek', 5),
-	('speels', 6),
-	('speen', 5),
-	('speer', 5),
-	('speet', 5),
-	('speetje', 7),
-	('spekdam', 7),
-	('speken', 6),
-	('spekje', 6),
-	('spekken', 7),
-	('spekkie', 7),
-	('spekkig', 7),
-	('speklap', 7),
-	('speknek', 7),
-	('spekvet', 7),
-	('spekzak', 7),
-	('speld', 5),
-	('speldag', 7),
-	('spelden', 7),
-	('speldje', 7),
-	('spelen', 6),
-	('speler', 6),
-	('speling', 7),
-	('spellen', 7),
-	('speller', 7),
-	('spelles', 7),
-	('spelonk', 7),
-	('spelt', 5),
-	('speltak', 7),
-	('spencer', 7),
-	('spenen', 6),
-	('sperma', 6),
-	('sperren', 7),
-	('sperwer', 7),
-	('speten', 6),
-	('spetten', 7),
-	('spetter', 7),
-	('speuren', 7),
-	('spicht', 6),
-	('spieden', 7),
-	('spiegat', 7),
-	('spiegel', 7),
-	('spieken', 7),
-	('spieker', 7),
-	('spier', 5),
-	('spieren', 7),
-	('spies', 5),
-	('spiesen', 7),
-	('spiets', 6),
-	('spijer', 6),
-	('spijgat', 7),
-	('spijk', 5),
-	('spijker', 7),
-	('spijl', 5),
-	('spijlen', 7),
-	('spijs', 5),
-	('spijt', 5),
-	('spijten', 7),
-	('spijtig', 7),
-	('spijts', 6),
-	('spijzen', 7),
-	('spike', 5),
-	('spikkel', 7),
-	('spilgat', 7),
-	('spillen', 7),
-	('spinaal', 7),
-	('spinaap', 7),
-	('spinde', 6),
-	('spindel', 7),
-	('spinel', 6),
-	('spinet', 6),
-	('spinnen', 7),
-	('spinner', 7),
-	('spinnig', 7),
-	('spinrag', 7),
-	('spinrok', 7),
-	('spinsel', 7),
-	('spint', 5),
-	('spintol', 7),
-	('spinzen', 7),
-	('spion', 5),
-	('spionne', 7),
-	('spiraal', 7),
-	('spirant', 7),
-	('spirea', 6),
-	('spirit', 6),
-	('spitant', 7),
-	('spits', 5),
-	('spitsen', 7),
-	('spitser', 7),
-	('spitsig', 7),
-	('spitten', 7),
-	('spitter', 7),
-	('spitzen', 7),
-	('spleen', 6),
-	('spleet', 6),
-	('spleten', 7),
-	('splint', 6),
-	('split', 5),
-	('splits', 6),
-	('spoed', 5),
-	('spoeden', 7),
-	('spoedig', 7),
-	('spoel', 5),
-	('spoelen', 7),
-	('spoeler', 7),
-	('spogen', 6),
-	('spoiler', 7),
-	('spoken', 6),
-	('sponde', 6),
-	('spondee', 7),
-	('sponden', 7),
-	('spong', 5),
-	('spongat', 7),
-	('spongen', 7),
-	('sponnen', 7),
-	('spons', 5),
-	('sponsen', 7),
-	('sponsig', 7),
-	('sponsor', 7),
-	('sponzen', 7),
-	('sponzig', 7),
-	('spoog', 5),
-	('spook', 5),
-	('spoor', 5),
-	('spoot', 5),
-	('spore', 5),
-	('sporen', 6),
-	('sport', 5),
-	('sporten', 7),
-	('sporter', 7),
-	('spoten', 6),
-	('spotten', 7),
-	('spotter', 7),
-	('spouw', 5),
-	('spouwen', 7),
-	('spouwer', 7),
-	('spraak', 6),
-	('sprake', 6),
-	('sprakel', 7),
-	('sprang', 6),
-	('sprank', 6),
-	('spray', 5),
-	('sprayen', 7),
-	('sprays', 6),
-	('spread', 6),
-	('spreeuw', 7),
-	('sprei', 5),
-	('spreien', 7),
-	('spreke', 6),
-	('spreken', 7),
-	('spreker', 7),
-	('spreng', 6),
-	('spreuk', 6),
-	('spriet', 6),
-	('sprik', 5),
-	('spring', 6),
-	('sprint', 6),
-	('sprits', 6),
-	('sproei', 6),
-	('sproet', 6),
-	('sproke', 6),
-	('sprong', 6),
-	('sproot', 6),
-	('sprot', 5),
-	('sprotje', 7),
-	('spruit', 6),
-	('spruw', 5),
-	('spugen', 6),
-	('spuien', 6),
-	('spuigat', 7),
-	('spuiing', 7),
-	('spuikom', 7),
-	('spuit', 5),
-	('spuiten', 7),
-	('spuiter', 7),
-	('spuitje', 7),
-	('spullen', 7),
-	('spurrie', 7),
-	('spurt', 5),
-	('spurten', 7),
-	('spurter', 7),
-	('sputum', 6),
-	('spuug', 5),
-	('spuwbak', 7),
-	('spuwen', 6),
-	('spuwer', 6),
-	('spuwsel', 7),
-	('spyware', 7),
-	('square', 6),
-	('squash', 6),
-	('squaw', 5),
-	('staaf', 5),
-	('staafje', 7),
-	('staag', 5),
-	('staak', 5),
-	('staal', 5),
-	('staan', 5),
-	('staand', 6),
-	('staande', 7),
-	('staar', 5),
-	('staart', 6),
-	('staat', 5),
-	('staats', 6),
-	('stabiel', 7),
-	('stacken', 7),
-	('stadie', 6),
-	('stadig', 6),
-	('stadion', 7),
-	('stadium', 7),
-	('stads', 5),
-	('stadsas', 7),
-	('staffel', 7),
-	('staflid', 7),
-	('stage', 5),
-	('stageld', 7),
-	('stagen', 6),
-	('stagfok', 7),
-	('staken', 6),
-	('staker', 6),
-	('staket', 6),
-	('staking', 7),
-	('stakker', 7),
-	('stalen', 6),
-	('staling', 7),
-	('stalken', 7),
-	('stalker', 7),
-	('stalle', 6),
-	('stallen', 7),
-	('stalles', 7),
-	('stalnet', 7),
-	('stalvee', 7),
-	('stamcel', 7),
-	('stamgod', 7),
-	('stamijn', 7),
-	('stamina', 7),
-	('stamlid', 7),
-	('stammen', 7),
-	('stamp', 5),
-	('stampei', 7),
-	('stampen', 7),
-	('stamper', 7),
-	('stampij', 7),
-	('stand', 5),
-	('stander', 7),
-	('standje', 7),
-	('stang', 5),
-	('stangen', 7),
-	('staniol', 7),
-	('stank', 5),
-	('stans', 5),
-	('stansen', 7),
-	('stanza', 6),
-	('stapel', 6),
-	('stappen', 7),
-	('stapper', 7),
-	('staren', 6),
-	('starre', 6),
-	('starren', 7),
-	('start', 5),
-	('starten', 7),
-	('starter', 7),
-	('state', 5),
-	('stater', 6),
-	('statica', 7),
-	('statie', 6),
-	('statief', 7),
-	('statig', 6),
-	('statine', 7),
-	('station', 7),
-	('statten', 7),
-	('status', 6),
-	('statuur', 7),
-	('statuut', 7),
-	('stavast', 7),
-	('staven', 6),
-	('staving', 7),
-	('stayer', 6),
-	('steak', 5),
-	('stealth', 7),
-	('stede', 5),
-	('steden', 6),
-	('steeds', 6),
-	('steef', 5),
-	('steeg', 5),
-	('steegs', 6),
-	('steek', 5),
-	('steekas', 7),
-	('steel', 5),
-	('steels', 6),
-	('steeman', 7),
-	('steen', 5),
-	('steens', 6),
-	('stegel', 6),
-	('stegen', 6),
-	('steiger', 7),
-	('steil', 5),
-	('steilte', 7),
-	('stekel', 6),
-	('steken', 6),
-	('steker', 6),
-	('steking', 7),
-	('stekken', 7),
-	('stekker', 7),
-	('stekkie', 7),
-	('stele', 5),
-	('stelen', 6),
-	('steler', 6),
-	('stellen', 7),
-	('steller', 7),
-	('stellig', 7),
-	('stelp', 5),
-	('stelpen', 7),
-	('stelsel', 7),
-	('stelt', 5),
-	('stembus', 7),
-	('stemdag', 7),
-	('stemfie', 7),
-	('stemhok', 7),
-	('stemma', 6),
-	('stemmen', 7),
-	('stemmer', 7),
-	('stemmig', 7),
-	('stempas', 7),
-	('stempel', 7),
-	('stemvee', 7),
-	('stencil', 7),
-	('stenen', 6),
-	('steng', 5),
-	('stengel', 7),
-	('stengun', 7),
-	('stenig', 6),
-	('stennis', 7),
-	('steno', 5),
-	('stent', 5),
-	('stentor', 7),
-	('steppe', 6),
-	('steppen', 7),
-	('steps', 5),
-	('stereo', 6),
-	('sterfte', 7),
-	('steriel', 7),
-	('sterk', 5),
-	('sterke', 6),
-	('sterken', 7),
-	('sterkte', 7),
-	('stermol', 7),
-	('stern', 5),
-	('sternum', 7),
-	('sterrit', 7),
-	('sterrol', 7),
-	('sterven', 7),
-	('steun', 5),
-	('steunen', 7),
-	('steur', 5),
-	('steuren', 7),
-	('stevel', 6),
-	('steven', 6),
-	('stevig', 6),
-	('steward', 7),
-	('sticht', 6),
-	('stick', 5),
-	('sticker', 7),
-	('stickie', 7),
-	('stiekem', 7),
-	('stiel', 5),
-	('stier', 5),
-	('stieren', 7),
-	('stierf', 6),
-	('stiet', 5),
-	('stift', 5),
-	('stiften', 7),
-	('stigma', 6),
-	('stijf', 5),
-	('stijfte', 7),
-	('stijgen', 7),
-	('stijger', 7),
-	('stijl', 5),
-	('stijlen', 7),
-	('stijve', 6),
-	('stijven', 7),
-	('stikken', 7),
-	('stikker', 7),
-	('stiksel', 7),
-	('stikvol', 7),
-	('stikzij', 7),
-	('stilaan', 7),
-	('stilet', 6),
-	('stilist', 7),
-	('stille', 6),
-	('stillen', 7),
-	('stilte', 6),
-	('stilton', 7),
-	('stimuli', 7),
-	('stinken', 7),
-	('stinker', 7),
-	('stins', 5),
-	('stint', 5),
-	('stippel', 7),
-	('stippen', 7),
-	('stipt', 5),
-	('stobbe', 6),
-	('stock', 5),
-	('stocks', 6),
-	('stoefen', 7),
-	('stoeien', 7),
-	('stoel', 5),
-	('stoelen', 7),
-	('stoep', 5),
-	('stoepa', 6),
-	('stoepen', 7),
-	('stoepje', 7),
-	('stoer', 5),
-	('stoet', 5),
-	('stoffel', 7),
-	('stoffen', 7),
-	('stoffer', 7),
-	('stoffig', 7),
-	('stofjas', 7),
-	('stofje', 6),
-	('stofkam', 7),
-	('stofkap', 7),
-	('stofzak', 7),
-	('stoken', 6),
-	('stoker', 6),
-	('stokken', 7),
-	('stokoud', 7),
-	('stokpop', 7),
-	('stokvis', 7),
-	('stola', 5),
-	('stollen', 7),
-	('stolp', 5),
-	('stolpen', 7),
-	('stolsel', 7),
-	('stoma', 5),
-	('stomen', 6),
-	('stomend', 7),
-	('stomer', 6),
-	('stomkop', 7),
-	('stomme', 6),
-	('stommel', 7),
-	('stomp', 5),
-	('stompen', 7),
-	('stomweg', 7),
-	('stond', 5),
-	('stonde', 6),
-	('stoned', 6),
-	('stonk', 5),
-	('stoof', 5),
-	('stool', 5),
-	('stoom', 5),
-	('stoop', 5),
-	('stoot', 5),
-	('stoots', 6),
-	('stopbad', 7),
-	('stopbit', 7),
-	('stopbus', 7),
-	('stoplap', 7),
-	('stopmes', 7),
-	('stoppel', 7),
-	('stoppen', 7),
-	('stopper', 7),
-	('stopsel', 7),
-	('stopwol', 7),
-	('storage', 7),
-	('storax', 6),
-	('store', 5),
-	('storen', 6),
-	('storend', 7),
-	('storing', 7),
-	('storm', 5),
-	('stormen', 7),
-	('stormig', 7),
-	('storno', 6),
-	('stort', 5),
-	('storten', 7),
-	('story', 5),
-	('stoten', 6),
-	('stotend', 7),
-	('stoter', 6),
-	('stotig', 6),
-	('stout', 5),
-	('stouwen', 7),
-	('stouwer', 7),
-	('stoven', 6),
-	('straal', 6),
-	('straat', 6),
-	('straf', 5),
-	('straffe', 7),
-	('strak', 5),
-	('straks', 6),
-	('stralen', 7),
-	('stram', 5),
-	('strand', 6),
-	('strang', 6),
-	('stras', 5),
-	('straten', 7),
-	('stratus', 7),
-	('stream', 6),
-	('streber', 7),
-	('streed', 6),
-	('streek', 6),
-	('streep', 6),
-	('strek', 5),
-	('strekel', 7),
-	('streken', 7),
-	('streks', 6),
-	('strelen', 7),
-	('streng', 6),
-	('strepen', 7),
-	('strepig', 7),
-	('stress', 6),
-	('stretch', 7),
-	('streven', 7),
-	('striae', 6),
-	('striem', 6),
-	('strijd', 6),
-	('strijk', 6),
-	('strik', 5),
-	('strike', 6),
-	('strikt', 6),
-	('string', 6),
-	('strip', 5),
-	('strips', 6),
-	('strobbe', 7),
-	('strobed', 7),
-	('strobos', 7),
-	('strodak', 7),
-	('strodek', 7),
-	('stroef', 6),
-	('strofe', 6),
-	('strohut', 7),
-	('stroken', 7),
-	('stroman', 7),
-	('stromat', 7),
-	('stromen', 7),
-	('stronk', 6),
-	('stront', 6),
-	('strook', 6),
-	('stroom', 6),
-	('stroop', 6),
-	('strop', 5),
-	('stropen', 7),
-	('stroper', 7),
-	('stropop', 7),
-	('strot', 5),
-	('strowis', 7),
-	('strozak', 7),
-	('struif', 6),
-	('struik', 6),
-	('struis', 6),
-	('struise', 7),
-	('struma', 6),
-	('stubbe', 6),
-	('stuccen', 7),
-	('student', 7),
-	('studie', 6),
-	('studio', 6),
-	('study', 5),
-	('stuff', 5),
-	('stuffen', 7),
-	('stuik', 5),
-	('stuiken', 7),
-	('stuip', 5),
-	('stuit', 5),
-	('stuiten', 7),
-	('stuiter', 7),
-	('stuitje', 7),
-	('stuiven', 7),
-	('stuiver', 7),
-	('stuken', 6),
-	('stukje', 6),
-	('stukken', 7),
-	('stulp', 5),
-	('stulpen', 7),
-	('stumper', 7),
-	('stunt', 5),
-	('stuntel', 7),
-	('stunten', 7),
-	('stunter', 7),
-	('stupide', 7),
-	('sturen', 6),
-	('sturing', 7),
-	('stutsel', 7),
-	('stutten', 7),
-	('stutter', 7),
-	('stuudje', 7),
-	('stuur', 5),
-	('stuurs', 6),
-	('stuwage', 7),
-	('stuwdam', 7),
-	('stuwen', 6),
-	('stuwer', 6),
-	('stuwing', 7),
-	('stuwwal', 7),
-	('stylen', 6),
-	('styliet', 7),
-	('styling', 7),
-	('stylist', 7),
-	('stylo', 5),
-	('styreen', 7),
-	('suave', 5),
-	('subclan', 7),
-	('subdeel', 7),
-	('subdoel', 7),
-	('subiet', 6),
-	('subject', 7),
-	('subliem', 7),
-	('submenu', 7),
-	('subplot', 7),
-	('subtiel', 7),
-	('subtop', 6),
-	('subtype', 7),
-	('succes', 6),
-	('sucrose', 7),
-	('sudoku', 6),
-	('suffen', 6),
-	('suffer', 6),
-	('sufferd', 7),
-	('suffig', 6),
-	('suffix', 6),
-	('sufheid', 7),
-	('sufkees', 7),
-	('sufkop', 6),
-	('suiker', 6),
-	('suilen', 6),
-	('suisse', 6),
-	('suite', 5),
-	('suizen', 6),
-	('suizing', 7),
-	('sujet', 5),
-	('sukade', 6),
-	('sukkel', 6),
-	('sulfaat', 7),
-	('sulfer', 6),
-	('sulfide', 7),
-	('sulfiet', 7),
-	('sulky', 5),
-	('sullen', 6),
-	('sullig', 6),
-	('sultan', 6),
-	('sultane', 7),
-	('sumak', 5),
-	('summa', 5),
-	('summier', 7),
-	('summum', 6),
-	('sunroof', 7),
-	('super', 5),
-	('superbe', 7),
-	('support', 7),
-	('surah', 5),
-	('surfen', 6),
-	('surfer', 6),
-	('surfles', 7),
-	('surfpak', 7),
-	('surimi', 6),
-	('suripop', 7),
-	('surplus', 7),
-	('sushi', 5),
-	('suspect', 7),
-	('sussen', 6),
-	('swagger', 7),
-	('swami', 5),
-	('swappen', 7),
-	('sweater', 7),
-	('swing', 5),
-	('swingen', 7),
-	('swipi', 5),
-	('switch', 6),
-	('syfilis', 7),
-	('sylfe', 5),
-	('sylfide', 7),
-	('syllabe', 7),
-	('syllabi', 7),
-	('symbool', 7),
-	('synaps', 6),
-	('syncope', 7),
-	('synode', 6),
-	('syrah', 5),
-	('systeem', 7),
-	('taaie', 5),
-	('taaien', 6),
-	('taaierd', 7),
-	('taakuur', 7),
-	('taalarm', 7),
-	('taalbad', 7),
-	('taaleis', 7),
-	('taalles', 7),
-	('taalman', 7),
-	('taalrol', 7),
-	('taaltip', 7),
-	('taalwet', 7),
-	('taander', 7),
-	('taart', 5),
-	('taarten', 7),
-	('taartje', 7),
-	('taarts', 6),
-	('taats', 5),
-	('tabak', 5),
-	('tabasco', 7),
-	('tabberd', 7),
-	('tabblad', 7),
-	('tabee', 5),
-	('tabel', 5),
-	('tabijn', 6),
-	('tabla', 5),
-	('tableau', 7),
-	('tablet', 6),
-	('tabloid', 7),
-	('taboe', 5),
-	('tabstop', 7),
-	('tachtig', 7),
-	('tachyon', 7),
-	('tackle', 6),
-	('tactiek', 7),
-	('tactiel', 7),
-	('tactvol', 7),
-	('tafel', 5),
-	('tafelen', 7),
-	('tafella', 7),
-	('taffen', 6),
-	('taffia', 6),
-	('tafia', 5),
-	('tafzij', 6),
-	('taggen', 6),
-	('tagger', 6),
-	('tagrijn', 7),
-	('tahin', 5),
-	('tahoe', 5),
-	('taifoen', 7),
-	('taiga', 5),
-	('taikoen', 7),
-	('taille', 6),
-	('tajine', 6),
-	('takel', 5),
-	('takelen', 7),
-	('taken', 5),
-	('takhout', 7),
-	('takken', 6),
-	('takwerk', 7),
-	('talaan', 6),
-	('talen', 5),
-	('talent', 6),
-	('talhout', 7),
-	('talib', 5),
-	('taliban', 7),
-	('talie', 5),
-	('talig', 5),
-	('taling', 6),
-	('talliet', 7),
-	('talloos', 7),
-	('talmen', 6),
-	('talmer', 6),
-	('talon', 5),
-	('talreep', 7),
-	('talrijk', 7),
-	('talud', 5),
-	('tamari', 6),
-	('tamboer', 7),
-	('tamheid', 7),
-	('tampen', 6),
-	('tampon', 6),
-	('tamtam', 6),
-	('tandem', 6),
-	('tanden', 6),
-	('tanding', 7),
-	('tandkas', 7),
-	('tandrad', 7),
-	('tanen', 5),
-	('tanga', 5),
-	('tange', 5),
-	('tangens', 7),
-	('tangent', 7),
-	('tango', 5),
-	('tangram', 7),
-	('tanig', 5),
-	('tankbon', 7),
-	('tankdop', 7),
-	('tanken', 6),
-	('tanker', 6),
-	('tankpas', 7),
-	('tankput', 7),
-	('tanktas', 7),
-	('tanktop', 7),
-	('tannine', 7),
-	('tante', 5),
-	('tantra', 6),
-	('tantum', 6),
-	('tapas', 5),
-	('tapbier', 7),
-	('tapdans', 7),
-	('tapeind', 7),
-	('tapen', 5),
-	('tapgat', 6),
-	('tapijt', 6),
-	('tapioca', 7),
-	('tapir', 5),
-	('tapkast', 7),
-	('tappen', 6),
-	('tapper', 6),
-	('tappunt', 7),
-	('tapster', 7),
-	('taptoe', 6),
-	('tapuit', 6),
-	('tarbot', 6),
-	('target', 6),
-	('targoem', 7),
-	('tarief', 6),
-	('tarmac', 6),
-	('tarnen', 6),
-	('tarok', 5),
-	('tarot', 5),
-	('tarpan', 6),
-	('tarra', 5),
-	('tartaan', 7),
-	('tartaar', 7),
-	('tartan', 6),
-	('tarten', 6),
-	('tarwe', 5),
-	('taser', 5),
-	('tassen', 6),
-	('tastcel', 7),
-	('tasten', 6),
-	('taster', 6),
-	('tastzin', 7),
-	('tasveld', 7),
-	('tatami', 6),
-	('tater', 5),
-	('tateren', 7),
-	('tattoo', 6),
-	('taupe', 5),
-	('taurine', 7),
-	('taverne', 7),
-	('taxatie', 7),
-	('taxeren', 7),
-	('taxfree', 7),
-	('taxibus', 7),
-	('taximan', 7),
-	('taxirit', 7),
-	('taxiwet', 7),
-	('taxol', 5),
-	('taxon', 5),
-	('taxus', 5),
-	('teakdek', 7),
-	('teamlid', 7),
-	('tearoom', 7),
-	('teasen', 6),
-	('teaser', 6),
-	('techina', 7),
-	('techno', 6),
-	('teckel', 6),
-	('tectyl', 6),
-	('teddy', 5),
-	('teder', 5),
-	('teelbal', 7),
-	('teelt', 5),
-	('teems', 5),
-	('teemsen', 7),
-	('teenbot', 7),
-	('teentje', 7),
-	('teerbal', 7),
-	('teerdag', 7),
-	('teerpot', 7),
-	('teers', 5),
-	('teerton', 7),
-	('teerweg', 7),
-	('teeuw', 5),
-	('teevee', 6),
-	('tefilin', 7),
-	('tefille', 7),
-	('teflon', 6),
-	('tegaar', 6),
-	('tegader', 7),
-	('tegel', 5),
-	('tegelen', 7),
-	('tegen', 5),
-	('tegenin', 7),
-	('tegenop', 7),
-	('tegoed', 6),
-	('tehuis', 6),
-	('teilen', 6),
-	('teint', 5),
-	('tekeer', 6),
-	('teken', 5),
-	('tekenen', 7),
-	('tekort', 6),
-	('tekst', 5),
-	('telbaar', 7),
-	('telboek', 7),
-	('telco', 5),
-	('telecom', 7),
-	('telefax', 7),
-	('telen', 5),
-	('teler', 5),
-	('teleur', 6),
-	('telex', 5),
-	('telexen', 7),
-	('telfout', 7),
-	('telgang', 7),
-	('teling', 6),
-	('teljoor', 7),
-	('telkens', 7),
-	('tellen', 6),
-	('teller', 6),
-	('telling', 7),
-	('teloh', 5),
-	('teloor', 6),
-	('telpas', 6),
-	('telpost', 7),
-	('telraam', 7),
-	('telspel', 7),
-	('telwerk', 7),
-	('tembaar', 7),
-	('temeer', 6),
-	('temeie', 6),
-	('temeier', 7),
-	('temen', 5),
-	('temer', 5),
-	('temerig', 7),
-	('temet', 5),
-	('temmen', 6),
-	('temmer', 6),
-	('temming', 7),
-	('tempel', 6),
-	('tempen', 6),
-	('tempera', 7),
-	('tempex', 6),
-	('tempo', 5),
-	('tempura', 7),
-	('tempus', 6),
-	('tenakel', 7),
-	('tenant', 6),
-	('tendens', 7),
-	('tender', 6),
-	('tenen', 5),
-	('teneur', 6),
-	('tenge', 5),
-	('tengel', 6),
-	('tengels', 7),
-	('tenger', 6),
-	('teniet', 6),
-	('tennis', 6),
-	('tenor', 5),
-	('tensie', 6),
-	('tentdak', 7),
-	('tenten', 6),
-	('tentet', 6),
-	('tentoon', 7),
-	('tenue', 5),
-	('tenware', 7),
-	('tenzij', 6),
-	('tepel', 5),
-	('tequila', 7),
-	('terdege', 7),
-	('terecht', 7),
-	('teren', 5),
-	('tergen', 6),
-	('tergend', 7),
-	('terging', 7),
-	('terig', 5),
-	('tering', 6),
-	('termiet', 7),
-	('termijn', 7),
-	('ternair', 7),
-	('terne', 5),
-	('terneer', 7),
-	('terpeen', 7),
-	('terra', 5),
-	('terras', 6),
-	('terrein', 7),
-	('terreur', 7),
-	('terrine', 7),
-	('tersel', 6),
-	('tertio', 6),
-	('terts', 5),
-	('terug', 5),
-	('terwijl', 7),
-	('terzet', 6),
-	('terzine', 7),
-	('tesla', 5),
-	('testbed', 7),
-	('testdag', 7),
-	('testen', 6),
-	('tester', 6),
-	('testis', 6),
-	('testlab', 7),
-	('testpop', 7),
-	('testrit', 7),
-	('testrun', 7),
-	('tests', 5),
-	('testset', 7),
-	('testvat', 7),
-	('tetanus', 7),
-	('tetra', 5),
-	('teugel', 6),
-	('teugen', 6),
-	('teuten', 6),
-	('teveel', 6),
-	('tevens', 6),
-	('tevoren', 7),
-	('teweeg', 6),
-	('texten', 6),
-	('textiel', 7),
-	('textuur', 7),
-	('tezamen', 7),
-	('tezen', 5),
-	('thans', 5),
-	('theater', 7),
-	('theebus', 7),
-	('theekop', 7),
-	('theepot', 7),
-	('thema', 5),
-	('theorie', 7),
-	('thermen', 7),
-	('thermos', 7),
-	('these', 5),
-	('thesis', 6),
-	('thinner', 7),
-	('thomist', 7),
-	('thorax', 6),
-	('thorium', 7),
-	('thuis', 5),
-	('thuja', 5),
-	('thymine', 7),
-	('thymus', 6),
-	('thyrs', 5),
-	('thyrsus', 7),
-	('tiaar', 5),
-	('tiara', 5),
-	('tibbe', 5),
-	('tichel', 6),
-	('ticje', 5),
-	('ticket', 6),
-	('tiend', 5),
-	('tiende', 6),
-	('tienden', 7),
-	('tienen', 6),
-	('tiener', 6),
-	('tienman', 7),
-	('tiens', 5),
-	('tiental', 7),
-	('tientje', 7),
-	('tieren', 6),
-	('tierig', 6),
-	('tiewrap', 7),
-	('tiffany', 7),
-	('tifosi', 6),
-	('tijdbom', 7),
-	('tijde', 5),
-	('tijdens', 7),
-	('tijdig', 6),
-	('tijding', 7),
-	('tijdpad', 7),
-	('tijdrit', 7),
-	('tijdvak', 7),
-	('tijen', 5),
-	('tijgen', 6),
-	('tijger', 6),
-	('tijken', 6),
-	('tijloos', 7),
-	('tikfout', 7),
-	('tikje', 5),
-	('tikkel', 6),
-	('tikken', 6),
-	('tikker', 6),
-	('tiksel', 6),
-	('tikster', 7),
-	('tiktak', 6),
-	('tikwerk', 7),
-	('tilapia', 7),
-	('tilbaar', 7),
-	('tilbury', 7),
-	('tilde', 5),
-	('tillen', 6),
-	('tillift', 7),
-	('tilwerk', 7),
-	('timbaal', 7),
-	('timber', 6),
-	('timbre', 6),
-	('timen', 5),
-	('timer', 5),
-	('timide', 6),
-	('timing', 6),
-	('timpaan', 7),
-	('timpen', 6),
-	('tinader', 7),
-	('tinas', 5),
-	('tinerts', 7),
-	('tinken', 6),
-	('tinmijn', 7),
-	('tinne', 5),
-	('tinnef', 6),
-	('tinnen', 6),
-	('tintel', 6),
-	('tinten', 6),
-	('tinto', 5),
-	('tinwerk', 7),
-	('tipgeld', 7),
-	('tiplijn', 7),
-	('tipmuts', 7),
-	('tippel', 6),
-	('tippen', 6),
-	('tipsy', 5),
-	('tiptop', 6),
-	('tirade', 6),
-	('tirades', 7),
-	('tiran', 5),
-	('tiras', 5),
-	('tirette', 7),
-	('tissue', 6),
-	('titaan', 6),
-	('titan', 5),
-	('titanen', 7),
-	('titel', 5),
-	('titelen', 7),
-	('titels', 6),
-	('titer', 5),
-	('titiaap', 7),
-	('tittel', 6),
-	('tjalk', 5),
-	('tjappen', 7),
-	('tjerk', 5),
-	('tjilpen', 7),
-	('tjingel', 7),
-	('tjirpen', 7),
-	('tjitjak', 7),
-	('tjoepen', 7),
-	('tjokken', 7),
-	('tjokvol', 7),
-	('tjonge', 6),
-	('tjotter', 7),
-	('tmesis', 6),
-	('toast', 5),
-	('toasten', 7),
-	('toaster', 7),
-	('toastje', 7),
-	('tobbe', 5),
-	('tobben', 6),
-	('tobber', 6),
-	('tobberd', 7),
-	('tobogan', 7),
-	('tobster', 7),
-	('toccata', 7),
-	('tocht', 5),
-	('tochten', 7),
-	('tochtig', 7),
-	('toddy', 5),
-	('toean', 5),
-	('toeclip', 7),
-	('toedoen', 7),
-	('toegaan', 7),
-	('toegang', 7),
-	('toegift', 7),
-	('toekan', 6),
-	('toelage', 7),
-	('toelast', 7),
-	('toeleg', 6),
-	('toeloop', 7),
-	('toemaat', 7),
-	('toenaam', 7),
-	('toename', 7),
-	('toendra', 7),
-	('toepad', 6),
-	('toepen', 6),
-	('toerbus', 7),
-	('toeren', 6),
-	('toerist', 7),
-	('toerit', 6),
-	('toerrit', 7),
-	('toeslag', 7),
-	('toestel', 7),
-	('toetel', 6),
-	('toeten', 6),
-	('toeter', 6),
-	('toeters', 7),
-	('toetje', 6),
-	('toetoep', 7),
-	('toets', 5),
-	('toetsen', 7),
-	('toetser', 7),
-	('toeval', 6),
-	('toeven', 6),
-	('toevoer', 7),
-	('toewas', 6),
-	('toezang', 7),
-	('toezien', 7),
-	('toffee', 6),
-	('toffel', 6),
-	('tofoe', 5),
-	('togatus', 7),
-	('togen', 5),
-	('toges', 5),
-	('toilet', 6),
-	('tokayer', 7),
-	('token', 5),
-	('tokken', 6),
-	('tokkie', 6),
-	('tolbaas', 7),
-	('tolboom', 7),
-	('tolbrug', 7),
-	('tolgeld', 7),
-	('tolhek', 6),
-	('tolhuis', 7),
-	('tolken', 6),
-	('tollen', 6),
-	('tolmuur', 7),
-	('tolplan', 7),
-	('tolueen', 7),
-	('tolunie', 7),
-	('tolvrij', 7),
-	('tolweg', 6),
-	('tomaat', 6),
-	('tombak', 6),
-	('tombe', 5),
-	('tombola', 7),
-	('tomboy', 6),
-	('tomen', 5),
-	('tommy', 5),
-	('tompoes', 7),
-	('tomtom', 6),
-	('tonaal', 6),
-	('tonbrug', 7),
-	('tondel', 6),
-	('tonder', 6),
-	('toneel', 6),
-	('tonen', 5),
-	('toner', 5),
-	('tongen', 6),
-	('tongkus', 7),
-	('tongval', 7),
-	('tonic', 5),
-	('tonica', 6),
-	('tonicum', 7),
-	('tonijn', 6),
-	('tonisch', 7),
-	('tonnage', 7),
-	('tonneau', 7),
-	('tonnen', 6),
-	('tonner', 6),
-	('tonrond', 7),
-	('tonsil', 6),
-	('tonster', 7),
-	('tonsuur', 7),
-	('tontine', 7),
-	('tonus', 5),
-	('toogdag', 7),
-	('tooien', 6),
-	('tooisel', 7),
-	('toompje', 7),
-	('toonarm', 7),
-	('toonder', 7),
-	('toongat', 7),
-	('toontje', 7),
-	('toonval', 7),
-	('toorn', 5),
-	('toornen', 7),
-	('toornig', 7),
-	('toorts', 6),
-	('toost', 5),
-	('toosten', 7),
-	('tooster', 7),
-	('topaas', 6),
-	('topas', 5),
-	('topazen', 7),
-	('topbaan', 7),
-	('topchef', 7),
-	('topclub', 7),
-	('topdag', 6),
-	('topduel', 7),
-	('topduif', 7),
-	('topduo', 6),
-	('topfilm', 7),
-	('topfit', 6),
-	('tophit', 6),
-	('tophoek', 7),
-	('topic', 5),
-	('topisch', 7),
-	('topjaar', 7),
-	('topje', 5),
-	('topjob', 6),
-	('topjudo', 7),
-	('topkok', 6),
-	('toplaag', 7),
-	('topless', 7),
-	('topliga', 7),
-	('toplijn', 7),
-	('toploon', 7),
-	('topman', 6),
-	('topmerk', 7),
-	('topos', 5),
-	('toppen', 6),
-	('topper', 6),
-	('toppie', 6),
-	('topping', 7),
-	('toppunt', 7),
-	('topspin', 7),
-	('topstuk', 7),
-	('topteam', 7),
-	('toptijd', 7),
-	('toptrio', 7),
-	('topvorm', 7),
-	('topweek', 7),
-	('topwerk', 7),
-	('topwijn', 7),
-	('topzeil', 7),
-	('toque', 5),
-	('toren', 5),
-	('torenen', 7),
-	('torero', 6),
-	('torment', 7),
-	('tornado', 7),
-	('tornen', 6),
-	('tornooi', 7),
-	('toros', 5),
-	('torpedo', 7),
-	('torrent', 7),
-	('torsen', 6),
-	('torsie', 6),
-	('torso', 5),
-	('tortel', 6),
-	('tortuur', 7),
-	('torus', 5),
-	('tossen', 6),
-	('toste', 5),
-	('tosti', 5),
-	('totaal', 6),
-	('totdat', 6),
-	('totebel', 7),
-	('totem', 5),
-	('totok', 5),
-	('totoks', 6),
-	('touch', 5),
-	('touche', 6),
-	('toucher', 7),
-	('toupet', 6),
-	('tourbus', 7),
-	('tournee', 7),
-	('tourrit', 7),
-	('tourt', 5),
-	('touwen', 6),
-	('touwer', 6),
-	('touwtje', 7),
-	('toveren', 7),
-	('toveres', 7),
-	('toverij', 7),
-	('toxicum', 7),
-	('toxine', 6),
-	('toxisch', 7),
-	('toyboy', 6),
-	('traag', 5),
-	('traan', 5),
-	('tracen', 6),
-	('trachea', 7),
-	('trachee', 7),
-	('track', 5),
-	('tract', 5),
-	('tractie', 7),
-	('tractor', 7),
-	('trafiek', 7),
-	('trafo', 5),
-	('tragiek', 7),
-	('trailer', 7),
-	('train', 5),
-	('trainee', 7),
-	('trainen', 7),
-	('trainer', 7),
-	('traite', 6),
-	('traject', 7),
-	('tralala', 7),
-	('tralie', 6),
-	('tralies', 7),
-	('trambus', 7),
-	('trammen', 7),
-	('tramnet', 7),
-	('tramp', 5),
-	('tramper', 7),
-	('tramrit', 7),
-	('tramweg', 7),
-	('trance', 6),
-	('tranche', 7),
-	('tranen', 6),
-	('tranig', 6),
-	('trans', 5),
-	('transen', 7),
-	('transit', 7),
-	('trant', 5),
-	('trapas', 6),
-	('trapeze', 7),
-	('trapgat', 7),
-	('traphal', 7),
-	('traphek', 7),
-	('trappen', 7),
-	('trapper', 7),
-	('traproe', 7),
-	('trash', 5),
-	('trassen', 7),
-	('trassi', 6),
-	('trauma', 6),
-	('travaat', 7),
-	('travee', 6),
-	('traven', 6),
-	('travers', 7),
-	('trawant', 7),
-	('trawler', 7),
-	('trede', 5),
-	('treden', 6),
-	('treef', 5),
-	('treeft', 6),
-	('treek', 5),
-	('treem', 5),
-	('treerad', 7),
-	('trees', 5),
-	('trefbal', 7),
-	('trefdag', 7),
-	('treffen', 7),
-	('treffer', 7),
-	('treife', 6),
-	('treil', 5),
-	('treilen', 7),
-	('treiler', 7),
-	('trein', 5),
-	('treinen', 7),
-	('treiter', 7),
-	('trekarm', 7),
-	('trekbal', 7),
-	('trekbel', 7),
-	('trekbus', 7),
-	('trekdag', 7),
-	('trekgat', 7),
-	('trekkar', 7),
-	('trekkas', 7),
-	('trekken', 7),
-	('trekker', 7),
-	('treknet', 7),
-	('trekoog', 7),
-	('trekos', 6),
-	('trekpad', 7),
-	('trekpen', 7),
-	('trekpop', 7),
-	('trekpot', 7),
-	('treksel', 7),
-	('trekvis', 7),
-	('trekweg', 7),
-	('trekzak', 7),
-	('trema', 5),
-	('tremel', 6),
-	('tremmen', 7),
-	('tremolo', 7),
-	('tremor', 6),
-	('trend', 5),
-	('trendy', 6),
-	('trens', 5),
-	('trenzen', 7),
-	('trepaan', 7),
-	('tressen', 7),
-	('treuren', 7),
-	('treures', 7),
-	('treurig', 7),
-	('treuzel', 7),
-	('trezoor', 7),
-	('triade', 6),
-	('triage', 6),
-	('triakel', 7),
-	('trial', 5),
-	('trias', 5),
-	('tribaal', 7),
-	('tribal', 6),
-	('tribune', 7),
-	('tribus', 6),
-	('tribuun', 7),
-	('tribuut', 7),
-	('trick', 5),
-	('tricky', 6),
-	('tricot', 6),
-	('trielje', 7),
-	('trien', 5),
-	('triep', 5),
-	('triest', 6),
-	('trigger', 7),
-	('trigram', 7),
-	('trijp', 5),
-	('trijpen', 7),
-	('trijs', 5),
-	('trijsen', 7),
-	('trike', 5),
-	('trillen', 7),
-	('triller', 7),
-	('trimbos', 7),
-	('trimmen', 7),
-	('trimmer', 7),
-	('triode', 6),
-	('triolet', 7),
-	('triomf', 6),
-	('triool', 6),
-	('tripang', 7),
-	('tripel', 6),
-	('triphop', 7),
-	('triplet', 7),
-	('triplex', 7),
-	('trippen', 7),
-	('trips', 5),
-	('trireem', 7),
-	('trissen', 7),
-	('tritium', 7),
-	('triton', 6),
-	('trits', 5),
-	('tritsen', 7),
-	('trivia', 6),
-	('trivium', 7),
-	('trochee', 7),
-	('troebel', 7),
-	('troef', 5),
-	('troel', 5),
-	('troela', 6),
-	('troep', 5),
-	('troepen', 7),
-	('troetel', 7),
-	('troeven', 7),
-	('trofee', 6),
-	('troffel', 7),
-	('trojan', 6),
-	('trojka', 6),
-	('trollen', 7),
-	('trolley', 7),
-	('trombus', 7),
-	('trommel', 7),
-	('trommen', 7),
-	('tromp', 5),
-	('trompen', 7),
-	('trompet', 7),
-	('tronen', 6),
-	('tronie', 6),
-	('tronk', 5),
-	('troon', 5),
-	('troop', 5),
-	('troost', 6),
-	('tropee', 6),
-	('tropen', 6),
-	('trossen', 7),
-	('trots', 5),
-	('trotyl', 6),
-	('trouw', 5),
-	('trouwen', 7),
-	('trouwer', 7),
-	('trucage', 7),
-	('truck', 5),
-	('trucken', 7),
-	('trucker', 7),
-	('truffel', 7),
-	('truitje', 7),
-	('trumeau', 7),
-	('trust', 5),
-	('trustee', 7),
-	('truttig', 7),
-	('truweel', 7),
-	('tsaar', 5),
-	('tsarina', 7),
-	('tsuba', 5),
-	('tsunami', 7),
-	('tubifex', 7),
-	('tucht', 5),
-	('tuffen', 6),
-	('tuftuf', 6),
-	('tuibrug', 7),
-	('tuien', 5),
-	('tuieren', 7),
-	('tuigage', 7),
-	('tuigen', 6),
-	('tuilen', 6),
-	('tuiltje', 7),
-	('tuinbed', 7),
-	('tuindag', 7),
-	('tuinder', 7),
-	('tuinen', 6),
-	('tuinhek', 7),
-	('tuinhok', 7),
-	('tuinier', 7),
-	('tuinkas', 7),
-	('tuinman', 7),
-	('tuinpad', 7),
-	('tuinset', 7),
-	('tuisen', 6),
-	('tuiser', 6),
-	('tuiten', 6),
-	('tuitkan', 7),
-	('tuitouw', 7),
-	('tuitpot', 7),
-	('tukje', 5),
-	('tukken', 6),
-	('tukker', 6),
-	('tuktuk', 6),
-	('tulband', 7),
-	('tulen', 5),
-	('tullen', 6),
-	('tumbler', 7),
-	('tumor', 5),
-	('tumtum', 6),
-	('tumult', 6),
-	('tumulus', 7),
-	('tunen', 5),
-	('tuner', 5),
-	('tunica', 6),
-	('tuniek', 6),
-	('tuning', 6),
-	('tunnel', 6),
-	('turban', 6),
-	('turbine', 7),
-	('turbo', 5),
-	('turen', 5),
-	('turfbak', 7),
-	('turfhok', 7),
-	('turken', 6),
-	('turnen', 6),
-	('turner', 6),
-	('turnhal', 7),
-	('turnles', 7),
-	('turven', 6),
-	('tussen', 6),
-	('tussor', 6),
-	('tutten', 6),
-	('tutter', 6),
-	('tutti', 5),
-	('tuttig', 6),
-	('tuttut', 6),
-	('twaalf', 6),
-	('twatwa', 6),
-	('tweak', 5),
-	('tweaken', 7),
-	('tweed', 5),
-	('tweede', 6),
-	('tweern', 6),
-	('tweet', 5),
-	('tweetal', 7),
-	('tweeten', 7),
-	('tweeter', 7),
-	('tweetje', 7),
-	('twenter', 7),
-	('twijfel', 7),
-	('twijg', 5),
-	('twijgen', 7),
-	('twijn', 5),
-	('twijnen', 7),
-	('twinnen', 7),
-	('twinset', 7),
-	('twintig', 7),
-	('twirlen', 7),
-	('twist', 5),
-	('twisten', 7),
-	('twister', 7),
-	('twostep', 7),
-	('tycoon', 6),
-	('tyfeus', 6),
-	('tyfoon', 6),
-	('tyfus', 5),
-	('typen', 5),
-	('typeren', 7),
-	('typisch', 7),
-	('typist', 6),
-	('typiste', 7),
-	('ufologe', 7),
-	('ufoloog', 7),
-	('uienbed', 7),
-	('uiensap', 7),
-	('uiercel', 7),
-	('uilen', 5),
-	('uilig', 5),
-	('uilskop', 7),
-	('uiltje', 6),
-	('uitbal', 6),
-	('uitbouw', 7),
-	('uitdoen', 7),
-	('uitduel', 7),
-	('uiteen', 6),
-	('uiten', 5),
-	('uiterst', 7),
-	('uiteten', 7),
-	('uiteter', 7),
-	('uitgaaf', 7),
-	('uitgaan', 7),
-	('uitgang', 7),
-	('uitgave', 7),
-	('uithaal', 7),
-	('uitham', 6),
-	('uithoek', 7),
-	('uithof', 6),
-	('uiting', 6),
-	('uitje', 5),
-	('uitkijk', 7),
-	('uitknop', 7),
-	('uitkoop', 7),
-	('uitlaat', 7),
-	('uitleg', 6),
-	('uitloop', 7),
-	('uitname', 7),
-	('uitpoot', 7),
-	('uitreis', 7),
-	('uitrit', 6),
-	('uitroep', 7),
-	('uitruil', 7),
-	('uitslag', 7),
-	('uitstap', 7),
-	('uitstek', 7),
-	('uitstel', 7),
-	('uittrap', 7),
-	('uitval', 6),
-	('uitvoer', 7),
-	('uitwas', 6),
-	('uitweg', 6),
-	('uitworp', 7),
-	('uitzaad', 7),
-	('uitzege', 7),
-	('uitzet', 6),
-	('uitzien', 7),
-	('uiver', 5),
-	('ukelele', 7),
-	('ukkepuk', 7),
-	('ukkie', 5),
-	('ulaan', 5),
-	('ulcera', 6),
-	('ulcus', 5),
-	('ulevel', 6),
-	('ulster', 6),
-	('ultiem', 6),
-	('ultimo', 6),
-	('ultra', 5),
-	('umlaut', 6),
-	('umpire', 6),
-	('unaniem', 7),
-	('unciaal', 7),
-	('unfair', 6),
-	('unicaat', 7),
-	('unicum', 6),
-	('unief', 5),
-	('uniek', 5),
-	('uniform', 7),
-	('uniseks', 7),
-	('unisono', 7),
-	('unitair', 7),
-	('uniteit', 7),
-	('unster', 6),
-	('upbeat', 6),
-	('update', 6),
-	('updaten', 7),
-	('upgrade', 7),
-	('upload', 6),
-	('uppen', 5),
-	('upper', 5),
-	('uptempo', 7),
-	('uraan', 5),
-	('uraniet', 7),
-	('uranium', 7),
-	('urbaan', 6),
-	('urban', 5),
-	('uremie', 6),
-	('ureter', 6),
-	('urethra', 7),
-	('ureum', 5),
-	('urgent', 6),
-	('urinaal', 7),
-	('urine', 5),
-	('urinoir', 7),
-	('urmen', 5),
-	('urntje', 6),
-	('uroloog', 7),
-	('usance', 6),
-	('usantie', 7),
-	('usueel', 6),
-	('uterus', 6),
-	('utility', 7),
-	('utopie', 6),
-	('utopist', 7),
-	('uurglas', 7),
-	('uurloon', 7),
-	('uurtje', 6),
-	('uurwerk', 7),
-	('uzelf', 5),
-	('vaagjes', 7),
-	('vaagweg', 7),
-	('vaakst', 6),
-	('vaalt', 5),
-	('vaalten', 7),
-	('vaalwit', 7),
-	('vaandel', 7),
-	('vaantje', 7),
-	('vaardag', 7),
-	('vaarder', 7),
-	('vaardig', 7),
-	('vaars', 5),
-	('vaart', 5),
-	('vaartje', 7),
-	('vaarweg', 7),
-	('vaarwel', 7),
-	('vaatje', 6),
-	('vaats', 5),
-	('vaatwas', 7),
-	('vacant', 6),
-	('vacatie', 7),
-	('vaccin', 6),
-	('vaccine', 7),
-	('vaceren', 7),
-	('vacht', 5),
-	('vacuole', 7),
-	('vadem', 5),
-	('vademen', 7),
-	('vader', 5),
-	('vaderen', 7),
-	('vadoek', 6),
-	('vadsig', 6),
-	('vagant', 6),
-	('vagen', 5),
-	('vagina', 6),
-	('vakblad', 7),
-	('vakboek', 7),
-	('vakbond', 7),
-	('vaker', 5),
-	('vakerig', 7),
-	('vakjury', 7),
-	('vakles', 6),
-	('vaklui', 6),
-	('vakman', 6),
-	('vakpers', 7),
-	('vakraad', 7),
-	('vaktaal', 7),
-	('vakteam', 7),
-	('vakterm', 7),
-	('vaktest', 7),
-	('vakwerk', 7),
-	('valabel', 7),
-	('valbijl', 7),
-	('valblok', 7),
-	('valbrug', 7),
-	('valdeur', 7),
-	('valeur', 6),
-	('valeurs', 7),
-	('valhek', 6),
-	('valhelm', 7),
-	('valhoed', 7),
-	('valhoek', 7),
-	('valide', 6),
-	('valies', 6),
-	('valig', 5),
-	('valium', 6),
-	('valkhof', 7),
-	('valklep', 7),
-	('valkuil', 7),
-	('vallei', 6),
-	('vallen', 6),
-	('valling', 7),
-	('valluik', 7),
-	('valnet', 6),
-	('valpijp', 7),
-	('valreep', 7),
-	('valslot', 7),
-	('valtijd', 7),
-	('valuta', 6),
-	('valwet', 6),
-	('valwind', 7),
-	('vamen', 5),
-	('vampier', 7),
-	('vanaf', 5),
-	('vandaag', 7),
-	('vandaal', 7),
-	('vandaan', 7),
-	('vandaar', 7),
-	('vandoen', 7),
-	('vandoor', 7),
-	('vaneen', 6),
-	('vangarm', 7),
-	('vangbal', 7),
-	('vangen', 6),
-	('vanger', 6),
-	('vanghek', 7),
-	('vangnet', 7),
-	('vangst', 6),
-	('vanher', 6),
-	('vanhier', 7),
-	('vanille', 7),
-	('vanop', 5),
-	('vanouds', 7),
-	('vanuit', 6),
-	('vanwaar', 7),
-	('vanwege', 7),
-	('vanzelf', 7),
-	('vapeur', 6),
-	('varaan', 6),
-	('varen', 5),
-	('varia', 5),
-	('variant', 7),
-	('varinas', 7),
-	('varken', 6),
-	('varsity', 7),
-	('vaste', 5),
-	('vasten', 6),
-	('vatbaar', 7),
-	('vatbier', 7),
-	('vaten', 5),
-	('vatten', 6),
-	('vazal', 5),
-	('vechten', 7),
-	('vechter', 7),
-	('vector', 6),
-	('vedel', 5),
-	('vedelen', 7),
-	('veder', 5),
-	('vedette', 7),
-	('veearts', 7),
-	('veeauto', 7),
-	('veeboer', 7),
-	('veeboot', 7),
-	('veedief', 7),
-	('veegmes', 7),
-	('veegsel', 7),
-	('veegwet', 7),
-	('veejay', 6),
-	('veekoek', 7),
-	('veelal', 6),
-	('veeleer', 7),
-	('veelte', 6),
-	('veeman', 6),
-	('veenbes', 7),
-	('veenmol', 7),
-	('veenmos', 7),
-	('veenput', 7),
-	('veepest', 7),
-	('veerdam', 7),
-	('veerman', 7),
-	('veertig', 7),
-	('veerweg', 7),
-	('veest', 5),
-	('veestal', 7),
-	('veesten', 7),
-	('veevoer', 7),
-	('vegen', 5),
-	('veger', 5),
-	('vehikel', 7),
-	('veildag', 7),
-	('veilen', 6),
-	('veilig', 6),
-	('veiling', 7),
-	('veine', 5),
-	('veinzen', 7),
-	('veinzer', 7),
-	('velaar', 6),
-	('veldbed', 7),
-	('velddag', 7),
-	('veldkei', 7),
-	('veldrat', 7),
-	('veldrit', 7),
-	('veldsla', 7),
-	('velduil', 7),
-	('veldweg', 7),
-	('velen', 5),
-	('velgen', 6),
-	('velgrem', 7),
-	('velijn', 6),
-	('velkant', 7),
-	('vellen', 6),
-	('vellig', 6),
-	('velling', 7),
-	('velours', 7),
-	('velter', 6),
-	('velum', 5),
-	('velvet', 6),
-	('vemen', 5),
-	('vendel', 6),
-	('vendrig', 7),
-	('vendu', 5),
-	('venen', 5),
-	('veneus', 6),
-	('venig', 5),
-	('venijn', 6),
-	('venkel', 6),
-	('vennoot', 7),
-	('venster', 7),
-	('venten', 6),
-	('venter', 6),
-	('ventiel', 7),
-	('ventje', 6),
-	('vents', 5),
-	('ventweg', 7),
-	('veracht', 7),
-	('veraf', 5),
-	('veranda', 7),
-	('verarmd', 7),
-	('verbaal', 7),
-	('verband', 7),
-	('verbena', 7),
-	('verbod', 6),
-	('verbond', 7),
-	('verbood', 7),
-	('verbouw', 7),
-	('verbum', 6),
-	('verdek', 6),
-	('verdekt', 7),
-	('verder', 6),
-	('verdere', 7),
-	('verderf', 7),
-	('verdict', 7),
-	('verdijd', 7),
-	('verdoen', 7),
-	('verdomd', 7),
-	('verdord', 7),
-	('verdrag', 7),
-	('verduft', 7),
-	('verdund', 7),
-	('vereelt', 7),
-	('vereend', 7),
-	('vereist', 7),
-	('veren', 5),
-	('verenen', 7),
-	('vereren', 7),
-	('verfbad', 7),
-	('verfbom', 7),
-	('verfmes', 7),
-	('verfpot', 7),
-	('verfrol', 7),
-	('verfsok', 7),
-	('vergaan', 7),
-	('vergaf', 6),
-	('vergat', 6),
-	('vergen', 6),
-	('vergiet', 7),
-	('vergif', 6),
-	('vergift', 7),
-	('verguld', 7),
-	('verhaal', 7),
-	('verhang', 7),
-	('verhard', 7),
-	('verheid', 7),
-	('verhip', 6),
-	('verhipt', 7),
-	('verhit', 6),
-	('verhoog', 7),
-	('verhoor', 7),
-	('verhout', 7),
-	('verhuis', 7),
-	('verhuld', 7),
-	('verhuur', 7),
-	('vering', 6),
-	('verisme', 7),
-	('verkapt', 7),
-	('verkeer', 7),
-	('verkoop', 7),
-	('verkorf', 7),
-	('verkort', 7),
-	('verlaat', 7),
-	('verlakt', 7),
-	('verlamd', 7),
-	('verlee', 6),
-	('verleed', 7),
-	('verlept', 7),
-	('verlet', 6),
-	('verlief', 7),
-	('verlies', 7),
-	('verliet', 7),
-	('verlof', 6),
-	('verloop', 7),
-	('verloor', 7),
-	('vermaak', 7),
-	('vermaan', 7),
-	('vermast', 7),
-	('vermeld', 7),
-	('vermist', 7),
-	('vermits', 7),
-	('vermomd', 7),
-	('vermout', 7),
-	('vernis', 6),
-	('vernooi', 7),
-	('vernuft', 7),
-	('veronal', 7),
-	('verpaft', 7),
-	('verpand', 7),
-	('verpot', 6),
-	('verraad', 7),
-	('verrast', 7),
-	('verre', 5),
-	('verrek', 6),
-	('verrekt', 7),
-	('verrel', 6),
-	('verried', 7),
-	('verrot', 6),
-	('verrukt', 7),
-	('versie', 6),
-	('verslag', 7),
-	('verso', 5),
-	('verst', 5),
-	('verstek', 7),
-	('versuft', 7),
-	('versus', 6),
-	('vertakt', 7),
-	('verte', 5),
-	('vertier', 7),
-	('vertoef', 7),
-	('vertoog', 7),
-	('vertoon', 7),
-	('vertrek', 7),
-	('vertrok', 7),
-	('veruit', 6),
-	('verval', 6),
-	('verven', 6),
-	('verver', 6),
-	('vervoer', 7),
-	('vervolg', 7),
-	('vervuld', 7),
-	('verwant', 7),
-	('verward', 7),
-	('verweer', 7),
-	('verwelf', 7),
-	('verwend', 7),
-	('verwijl', 7),
-	('verwijt', 7),
-	('verwoed', 7),
-	('verzakt', 7),
-	('verzet', 6),
-	('verzien', 7),
-	('verzijp', 7),
-	('verzoek', 7),
-	('verzot', 6),
-	('verzuim', 7),
-	('vesper', 6),
-	('veste', 5),
-	('vesten', 6),
-	('vesting', 7),
-	('vestzak', 7),
-	('vetarm', 6),
-	('vetblad', 7),
-	('vetbol', 6),
-	('vetbuik', 7),
-	('vetbult', 7),
-	('vetcel', 6),
-	('veter', 5),
-	('veteren', 7),
-	('vetgans', 7),
-	('vetheid', 7),
-	('vetjes', 6),
-	('vetklep', 7),
-	('vetkuif', 7),
-	('vetlaag', 7),
-	('vetleer', 7),
-	('vetlok', 6),
-	('vetoog', 6),
-	('vetpan', 6),
-	('vetpot', 6),
-	('vetput', 6),
-	('vetrand', 7),
-	('vetrijk', 7),
-	('vetrol', 6),
-	('vetspek', 7),
-	('vetstof', 7),
-	('vette', 5),
-	('vetten', 6),
-	('vetter', 6),
-	('vettig', 6),
-	('vetvlek', 7),
-	('vetvrij', 7),
-	('vetwei', 6),
-	('vetzak', 6),
-	('vetzuur', 7),
-	('veulen', 6),
-	('vexatie', 7),
-	('vexeren', 7),
-	('vezel', 5),
-	('vezelen', 7),
-	('vezelig', 7),
-	('vezen', 5),
-	('viaduct', 7),
-	('viagra', 6),
-	('vibrato', 7),
-	('vicaris', 7),
-	('vicieus', 7),
-	('video', 5),
-	('viditel', 7),
-	('vierdag', 7),
-	('vierde', 6),
-	('vierel', 6),
-	('vieren', 6),
-	('viering', 7),
-	('viertal', 7),
-	('viertje', 7),
-	('vieux', 5),
-	('viewer', 6),
-	('viewing', 7),
-	('vieze', 5),
-	('viezerd', 7),
-	('viezig', 6),
-	('vigeren', 7),
-	('vigeur', 6),
-	('vigilie', 7),
-	('vignet', 6),
-	('vijand', 6),
-	('vijfbak', 7),
-	('vijfde', 6),
-	('vijfje', 6),
-	('vijftal', 7),
-	('vijftig', 7),
-	('vijlen', 6),
-	('vijlsel', 7),
-	('vijver', 6),
-	('vijzel', 6),
-	('vijzen', 6),
-	('vilder', 6),
-	('vilein', 6),
-	('villa', 5),
-	('villen', 6),
-	('vilmes', 6),
-	('vilten', 6),
-	('viltig', 6),
-	('viltje', 6),
-	('viltpen', 7),
-	('vimmen', 6),
-	('vinden', 6),
-	('vinder', 6),
-	('vinding', 7),
-	('vinger', 6),
-	('vinken', 6),
-	('vinker', 6),
-	('vinkiel', 7),
-	('vinkje', 6),
-	('vinnig', 6),
-	('vintage', 7),
-	('vinvis', 6),
-	('vinyl', 5),
-	('violen', 6),
-	('violent', 7),
-	('violet', 6),
-	('violier', 7),
-	('violist', 7),
-	('viool', 5),
-	('vipdorp', 7),
-	('viproom', 7),
-	('viraal', 6),
-	('virago', 6),
-	('viral', 5),
-	('viriel', 6),
-	('virus', 5),
-	('visaas', 6),
-	('visagie', 7),
-	('visakte', 7),
-	('visbak', 6),
-	('visbank', 7),
-	('visben', 6),
-	('visboer', 7),
-	('visboot', 7),
-	('visclub', 7),
-	('viscose', 7),
-	('visdag', 6),
-	('visdief', 7),
-	('viseren', 7),
-	('viseter', 7),
-	('visgat', 6),
-	('visgeur', 7),
-	('visgids', 7),
-	('visgrom', 7),
-	('vishaak', 7),
-	('vishal', 6),
-	('vishoek', 7),
-	('visie', 5),
-	('visioen', 7),
-	('visite', 6),
-	('viskaar', 7),
-	('viskar', 6),
-	('viskeus', 7),
-	('viskist', 7),
-	('viskom', 6),
-	('vislijm', 7),
-	('vislijn', 7),
-	('vislood', 7),
-	('visloos', 7),
-	('vismaat', 7),
-	('visman', 6),
-	('vismand', 7),
-	('vismeel', 7),
-	('vismes', 6),
-	('vismijn', 7),
-	('vismoot', 7),
-	('visnet', 6),
-	('visolie', 7),
-	('vispan', 6),
-	('vispas', 6),
-	('visplan', 7),
-	('visplek', 7),
-	('visreis', 7),
-	('visrest', 7),
-	('visrijk', 7),
-	('visruim', 7),
-	('vissaus', 7),
-	('vissen', 6),
-	('visser', 6),
-	('vissig', 6),
-	('vissing', 7),
-	('vissoep', 7),
-	('visstek', 7),
-	('vistas', 6),
-	('vistijd', 7),
-	('vistrap', 7),
-	('vistrip', 7),
-	('vistuig', 7),
-	('visueel', 7),
-	('visum', 5),
-	('visvoer', 7),
-	('viswant', 7),
-	('visweer', 7),
-	('viswijf', 7),
-	('viszaak', 7),
-	('vitaal', 6),
-	('vitrage', 7),
-	('vitrine', 7),
-	('vitse', 5),
-	('vitsen', 6),
-	('vitten', 6),
-	('vitter', 6),
-	('vivace', 6),
-	('vivat', 5),
-	('vizier', 6),
-	('vlaag', 5),
-	('vlaai', 5),
-	('vlaak', 5),
-	('vladder', 7),
-	('vlade', 5),
-	('vlaflip', 7),
-	('vlagen', 6),
-	('vlaggen', 7),
-	('vlakaf', 6),
-	('vlakbij', 7),
-	('vlaken', 6),
-	('vlakgom', 7),
-	('vlakken', 7),
-	('vlakker', 7),
-	('vlakkig', 7),
-	('vlakte', 6),
-	('vlakuit', 7),
-	('vlakweg', 7),
-	('vlammen', 7),
-	('vlammig', 7),
-	('vlaskam', 7),
-	('vlaskop', 7),
-	('vlassen', 7),
-	('vlasser', 7),
-	('vlassig', 7),
-	('vlecht', 6),
-	('vlees', 5),
-	('vleet', 5),
-	('vlegel', 6),
-	('vleien', 6),
-	('vleiend', 7),
-	('vleier', 6),
-	('vlekken', 7),
-	('vlekkig', 7),
-	('vlerk', 5),
-	('vlerken', 7),
-	('vletten', 7),
-	('vletter', 7),
-	('vleug', 5),
-	('vleugel', 7),
-	('vleugen', 7),
-	('vleugje', 7),
-	('vlezen', 6),
-	('vlezig', 6),
-	('vlieden', 7),
-	('vlieg', 5),
-	('vliegas', 7),
-	('vliegen', 7),
-	('vlieger', 7),
-	('vliem', 5),
-	('vliemen', 7),
-	('vlier', 5),
-	('vlies', 5),
-	('vliet', 5),
-	('vlieten', 7),
-	('vliezen', 7),
-	('vliezig', 7),
-	('vlijen', 6),
-	('vlijm', 5),
-	('vlijmen', 7),
-	('vlijt', 5),
-	('vlijtig', 7),
-	('vlinder', 7),
-	('vlocht', 6),
-	('vloden', 6),
-	('vloed', 5),
-	('vloei', 5),
-	('vloeien', 7),
-	('vloek', 5),
-	('vloeken', 7),
-	('vloeker', 7),
-	('vloer', 5),
-	('vloeren', 7),
-	('vlogen', 6),
-	('vlogger', 7),
-	('vlokken', 7),
-	('vlokkig', 7),
-	('vlonder', 7),
-	('vlood', 5),
-	('vloog', 5),
-	('vlooien', 7),
-	('vloot', 5),
-	('vlossen', 7),
-	('vlossig', 7),
-	('vloszij', 7),
-	('vloten', 6),
-	('vlotjes', 7),
-	('vlotten', 7),
-	('vlotter', 7),
-	('vlotweg', 7),
-	('vlouw', 5),
-	('vlucht', 6),
-	('vluggen', 7),
-	('vocaal', 6),
-	('vocal', 5),
-	('vocatie', 7),
-	('vocht', 5),
-	('vochten', 7),
-	('vochtig', 7),
-	('vodde', 5),
-	('voddig', 6),
-	('voeden', 6),
-	('voeder', 6),
-	('voeding', 7),
-	('voedsel', 7),
-	('voegen', 6),
-	('voeger', 6),
-	('voeging', 7),
-	('voegsel', 7),
-	('voelen', 6),
-	('voeler', 6),
-	('voeling', 7),
-	('voerbak', 7),
-	('voerder', 7),
-	('voeren', 6),
-	('voerhek', 7),
-	('voering', 7),
-	('voerman', 7),
-	('voertje', 7),
-	('voetbad', 7),
-	('voetbal', 7),
-	('voetbed', 7),
-	('voeten', 6),
-	('voeter', 6),
-	('voeting', 7),
-	('voetkus', 7),
-	('voetmat', 7),
-	('voetpad', 7),
-	('voetrem', 7),
-	('voetval', 7),
-	('voetweg', 7),
-	('voetzak', 7),
-	('vogel', 5),
-	('vogelei', 7),
-	('vogelen', 7),
-	('voile', 5),
-	('voiture', 7),
-	('volant', 6),
-	('voldaan', 7),
-	('volder', 6),
-	('voldoen', 7),
-	('volgbod', 7),
-	('volgen', 6),
-	('volgend', 7),
-	('volgens', 7),
-	('volger', 6),
-	('volheid', 7),
-	('volkom', 6),
-	('volks', 5),
-	('volkuip', 7),
-	('vollast', 7),
-	('volle', 5),
-	('vollen', 6),
-	('voller', 6),
-	('volley', 6),
-	('volleys', 7),
-	('volop', 5),
-	('volta', 5),
-	('voltage', 7),
-	('volte', 5),
-	('voltige', 7),
-	('voluit', 6),
-	('volume', 6),
-	('volumen', 7),
-	('volute', 6),
-	('voluut', 6),
-	('volvet', 6),
-	('volzet', 6),
-	('volzin', 6),
-	('vomeren', 7),
-	('vondel', 6),
-	('vonden', 6),
-	('vonder', 6),
-	('vondst', 6),
-	('vonken', 6),
-	('vonnis', 6),
-	('voodoo', 6),
-	('voogd', 5),
-	('voogdes', 7),
-	('voogdij', 7),
-	('voois', 5),
-	('vooraan', 7),
-	('vooraf', 6),
-	('vooral', 6),
-	('voorarm', 7),
-	('vooras', 6),
-	('voorbij', 7),
-	('voorbil', 7),
-	('voord', 5),
-	('voordat', 7),
-	('voorde', 6),
-	('voordek', 7),
-	('voorend', 7),
-	('voorerf', 7),
-	('voorhal', 7),
-	('voorhof', 7),
-	('voorin', 6),
-	('voorman', 7),
-	('voorn', 5),
-	('voorop', 6),
-	('voorpui', 7),
-	('voorrem', 7),
-	('voorst', 6),
-	('voorste', 7),
-	('voort', 5),
-	('voorts', 6),
-	('vooruit', 7),
-	('voorvak', 7),
-	('voorval', 7),
-	('voorwal', 7),
-	('voorwas', 7),
-	('voorzet', 7),
-	('voorzij', 7),
-	('voren', 5),
-	('vorig', 5),
-	('vorken', 6),
-	('vormbak', 7),
-	('vormeis', 7),
-	('vormen', 6),
-	('vormend', 7),
-	('vormer', 6),
-	('vorming', 7),
-	('vormpje', 7),
-	('vormsel', 7),
-	('vorsen', 6),
-	('vorser', 6),
-	('vorst', 5),
-	('vorstig', 7),
-	('vorstin', 7),
-	('vortex', 6),
-	('vosaap', 6),
-	('vossen', 6),
-	('voteren', 7),
-	('votief', 6),
-	('votum', 5),
-	('voucher', 7),
-	('voute', 5),
-	('vouwdak', 7),
-	('vouwen', 6),
-	('vouwing', 7),
-	('voyant', 6),
-	('voyeur', 6),
-	('vozen', 5),
-	('vraag', 5),
-	('vraagal', 7),
-	('vraat', 5),
-	('vracht', 6),
-	('vragen', 6),
-	('vrager', 6),
-	('vrank', 5),
-	('vrede', 5),
-	('vredig', 6),
-	('vreemd', 6),
-	('vrees', 5),
-	('vrekkig', 7),
-	('vreten', 6),
-	('vreter', 6),
-	('vreugd', 6),
-	('vreugde', 7),
-	('vreze', 5),
-	('vrezen', 6),
-	('vriend', 6),
-	('vriezen', 7),
-	('vriezer', 7),
-	('vrijaf', 6),
-	('vrijage', 7),
-	('vrijdag', 7),
-	('vrijdom', 7),
-	('vrije', 5),
-	('vrijen', 6),
-	('vrijer', 6),
-	('vrijlot', 7),
-	('vrijman', 7),
-	('vrijuit', 7),
-	('vrijval', 7),
-	('vrijwel', 7),
-	('vrille', 6),
-	('vrind', 5),
-	('vroed', 5),
-	('vroeg', 5),
-	('vroeger', 7),
-	('vroegst', 7),
-	('vroegte', 7),
-	('vroem', 5),
-	('vrolijk', 7),
-	('vrome', 5),
-	('vroom', 5),
-	('vroon', 5),
-	('vroor', 5),
-	('vrouw', 5),
-	('vrouwe', 6),
-	('vrucht', 6),
-	('vucht', 5),
-	('vuilak', 6),
-	('vuilbak', 7),
-	('vuilbek', 7),
-	('vuilik', 6),
-	('vuilkar', 7),
-	('vuilnis', 7),
-	('vuilte', 6),
-	('vuiltje', 7),
-	('vuilwit', 7),
-	('vuilzak', 7),
-	('vuist', 5),
-	('vuisten', 7),
-	('vuldop', 6),
-	('vuldruk', 7),
-	('vulgair', 7),
-	('vulgo', 5),
-	('vulgus', 6),
-	('vulkaan', 7),
-	('vullen', 6),
-	('vuller', 6),
-	('vulling', 7),
-	('vullis', 6),
-	('vulpen', 6),
-	('vulpunt', 7),
-	('vulsel', 6),
-	('vulstem', 7),
-	('vulstof', 7),
-	('vulstuk', 7),
-	('vulva', 5),
-	('vunzen', 6),
-	('vunzig', 6),
-	('vuren', 5),
-	('vurig', 5),
-	('vutten', 6),
-	('vutter', 6),
-	('vuurbal', 7),
-	('vuurbol', 7),
-	('vuurgod', 7),
-	('vuurkei', 7),
-	('vuurlak', 7),
-	('vuurman', 7),
-	('vuurpan', 7),
-	('vuurpot', 7),
-	('vuurtje', 7),
-	('vuurzee', 7),
-	('waadpak', 7),
-	('waaien', 6),
-	('waaier', 6),
-	('waaks', 5),
-	('waanzin', 7),
-	('waaraan', 7),
-	('waaraf', 6),
-	('waarbij', 7),
-	('waard', 5),
-	('waarde', 6),
-	('waardig', 7),
-	('waardij', 7),
-	('waardin', 7),
-	('waarin', 6),
-	('waarmee', 7),
-	('waarna', 6),
-	('waarom', 6),
-	('waarop', 6),
-	('waartoe', 7),
-	('waaruit', 7),
-	('waarvan', 7),
-	('waarzo', 6),
-	('wablief', 7),
-	('wacht', 5),
-	('wachtel', 7),
-	('wachten', 7),
-	('wachter', 7),
-	('waden', 5),
-	('wadjan', 6),
-	('wafel', 5),
-	('waffel', 6),
-	('wagen', 5),
-	('wagenas', 7),
-	('wagon', 5),
-	('wajang', 6),
-	('wakaman', 7),
-	('waken', 5),
-	('wakend', 6),
-	('waker', 5),
-	('wakke', 5),
-	('wakker', 6),
-	('walbaas', 7),
-	('walen', 5),
-	('walgang', 7),
-	('walgen', 6),
-	('walging', 7),
-	('walhout', 7),
-	('waling', 6),
-	('walkant', 7),
-	('walken', 6),
-	('walker', 6),
-	('walkman', 7),
-	('wallen', 6),
-	('walmen', 6),
-	('walmuur', 7),
-	('walnoot', 7),
-	('walrus', 6),
-	('walsen', 6),
-	('walser', 6),
-	('walstro', 7),
-	('walvis', 6),
-	('wambuis', 7),
-	('wamen', 5),
-	('wammen', 6),
-	('wammes', 6),
-	('wanbof', 6),
-	('wandaad', 7),
-	('wandel', 6),
-	('wandrek', 7),
-	('wanen', 5),
-	('wangen', 6),
-	('wangzak', 7),
-	('wanhoop', 7),
-	('wanhout', 7),
-	('wankant', 7),
-	('wankel', 6),
-	('wannabe', 7),
-	('wanneer', 7),
-	('wannen', 6),
-	('wanner', 6),
-	('wanorde', 7),
-	('wantaal', 7),
-	('wanten', 6),
-	('wantij', 6),
-	('wants', 5),
-	('wapen', 5),
-	('wapenen', 7),
-	('wapper', 6),
-	('waranda', 7),
-	('warande', 7),
-	('waratje', 7),
-	('warbak', 6),
-	('warboel', 7),
-	('waren', 5),
-	('warhoop', 7),
-	('warimbo', 7),
-	('waring', 6),
-	('warkop', 6),
-	('warlord', 7),
-	('warmen', 6),
-	('warmer', 6),
-	('warming', 7),
-	('warmoes', 7),
-	('warmte', 6),
-	('warnest', 7),
-	('warnet', 6),
-	('warong', 6),
-	('warrant', 7),
-	('warren', 6),
-	('warrig', 6),
-	('wartaal', 7),
-	('wartel', 6),
-	('wasabi', 6),
-	('wasbaar', 7),
-	('wasbaas', 7),
-	('wasbak', 6),
-	('wasbank', 7),
-	('wasbeer', 7),
-	('wasboom', 7),
-	('wasbord', 7),
-	('wasco', 5),
-	('wasdag', 6),
-	('wasdoek', 7),
-	('wasdom', 6),
-	('wasecht', 7),
-	('wasem', 5),
-	('wasemen', 7),
-	('wasemig', 7),
-	('wasgeel', 7),
-	('wasgel', 6),
-	('wasgeld', 7),
-	('wasgoed', 7),
-	('washand', 7),
-	('washi', 5),
-	('washok', 6),
-	('washuis', 7),
-	('waskan', 6),
-	('waskom', 6),
-	('waskot', 6),
-	('waskuip', 7),
-	('waslaag', 7),
-	('waslap', 6),
-	('waslijn', 7),
-	('wasmand', 7),
-	('wasmerk', 7),
-	('wasmot', 6),
-	('wasnet', 6),
-	('waspeen', 7),
-	('waspit', 6),
-	('wasrek', 6),
-	('wasrol', 6),
-	('wassen', 6),
-	('wasser', 6),
-	('wassing', 7),
-	('wasstel', 7),
-	('wasster', 7),
-	('wasteil', 7),
-	('wastijd', 7),
-	('wastrog', 7),
-	('wasvat', 6),
-	('wasvorm', 7),
-	('waszak', 6),
-	('waszij', 6),
-	('water', 5),
-	('wateren', 7),
-	('waterig', 7),
-	('waterzo', 7),
-	('watje', 5),
-	('wattage', 7),
-	('watten', 6),
-	('wattig', 6),
-	('wattuur', 7),
-	('waven', 5),
-	('waxcoat', 7),
-	('waxen', 5),
-	('waxine', 6),
-	('wazig', 5),
-	('webbe', 5),
-	('webcam', 6),
-	('webcast', 7),
-	('weber', 5),
-	('weblink', 7),
-	('weblog', 6),
-	('webmail', 7),
-	('webshop', 7),
-	('website', 7),
-	('webstek', 7),
-	('webzine', 7),
-	('wecken', 6),
-	('weckpot', 7),
-	('wedde', 5),
-	('wedden', 6),
-	('wedder', 6),
-	('wedding', 7),
-	('weder', 5),
-	('wederga', 7),
-	('wederik', 7),
-	('wederom', 7),
-	('wedkamp', 7),
-	('wedloop', 7),
-	('wedren', 6),
-	('weduwe', 6),
-	('weedas', 6),
-	('weedom', 6),
-	('weefkam', 7),
-	('weefsel', 7),
-	('weefvak', 7),
-	('weegs', 5),
-	('weeheid', 7),
-	('weekbak', 7),
-	('weekdag', 7),
-	('weekend', 7),
-	('weekpas', 7),
-	('weelde', 6),
-	('weemoed', 7),
-	('weeps', 5),
-	('weeraal', 7),
-	('weeral', 6),
-	('weerga', 6),
-	('weergod', 7),
-	('weerman', 7),
-	('weerom', 6),
-	('weertje', 7),
-	('weerwil', 7),
-	('weerzin', 7),
-	('weetal', 6),
-	('weetje', 6),
-	('wegberm', 7),
-	('wegcode', 7),
-	('wegdeel', 7),
-	('wegdek', 6),
-	('wegdoen', 7),
-	('wegel', 5),
-	('wegen', 5),
-	('wegenis', 7),
-	('wegens', 6),
-	('weger', 5),
-	('wegeren', 7),
-	('weggaan', 7),
-	('wegge', 5),
-	('weggeld', 7),
-	('weggras', 7),
-	('weging', 6),
-	('wegkant', 7),
-	('wegrace', 7),
-	('wegreus', 7),
-	('wegrit', 6),
-	('wegvak', 6),
-	('wegvast', 7),
-	('wegwijs', 7),
-	('weide', 5),
-	('weiden', 6),
-	('weider', 6),
-	('weidman', 7),
-	('weidmes', 7),
-	('weids', 5),
-	('weigras', 7),
-	('weikaas', 7),
-	('weiland', 7),
-	('weiman', 6),
-	('weimes', 6),
-	('weinig', 6),
-	('weispel', 7),
-	('weitas', 6),
-	('weken', 5),
-	('wekken', 6),
-	('wekker', 6),
-	('wekroep', 7),
-	('wektoon', 7),
-	('welaan', 6),
-	('weldaad', 7),
-	('weldoen', 7),
-	('weldra', 6),
-	('weledel', 7),
-	('weleens', 7),
-	('weleer', 6),
-	('welfare', 7),
-	('welgat', 6),
-	('welig', 5),
-	('welke', 5),
-	('welken', 6),
-	('welker', 6),
-	('welkom', 6),
-	('wellen', 6),
-	('welles', 6),
-	('welling', 7),
-	('wellust', 7),
-	('welnee', 6),
-	('welnu', 5),
-	('welpomp', 7),
-	('welput', 6),
-	('welter', 6),
-	('welven', 6),
-	('welving', 7),
-	('welwijs', 7),
-	('welzand', 7),
-	('welzijn', 7),
-	('wemelen', 7),
-	('wende', 5),
-	('wenden', 6),
-	('wending', 7),
-	('wenen', 5),
-	('wener', 5),
-	('wening', 6),
-	('wenken', 6),
-	('wennen', 6),
-	('wensen', 6),
-	('wensput', 7),
-	('wepel', 5),
-	('wereld', 6),
-	('werelds', 7),
-	('weren', 5),
-	('wering', 6),
-	('werkarm', 7),
-	('werkbak', 7),
-	('werkbij', 7),
-	('werkbon', 7),
-	('werkdag', 7),
-	('werkdek', 7),
-	('werken', 6),
-	('werkend', 7),
-	('werker', 6),
-	('werkhok', 7),
-	('werking', 7),
-	('werkje', 6),
-	('werkles', 7),
-	('werklui', 7),
-	('werkman', 7),
-	('werkmap', 7),
-	('werkos', 6),
-	('werkpak', 7),
-	('werkput', 7),
-	('werkset', 7),
-	('werktop', 7),
-	('werkuur', 7),
-	('werkvak', 7),
-	('werkweg', 7),
-	('werparm', 7),
-	('werpen', 6),
-	('werper', 6),
-	('werping', 7),
-	('werpnet', 7),
-	('werst', 5),
-	('wervel', 6),
-	('werven', 6),
-	('werver', 6),
-	('werving', 7),
-	('wespen', 6),
-	('wessi', 5),
-	('westen', 6),
-	('wester', 6),
-	('western', 7),
-	('westers', 7),
-	('westzij', 7),
-	('weswege', 7),
-	('wetboek', 7),
-	('weten', 5),
-	('wetland', 7),
-	('wetlook', 7),
-	('wetsrol', 7),
-	('wetsuit', 7),
-	('wetten', 6),
-	('wettig', 6),
-	('weven', 5),
-	('wever', 5),
-	('weverij', 7),
-	('wezel', 5),
-	('wezen', 5),
-	('wherry', 6),
-	('whiskey', 7),
-	('whisky', 6),
-	('whist', 5),
-	('whisten', 7),
-	('whister', 7),
-	('white', 5),
-	('wicca', 5),
-	('wicht', 5),
-	('wichtig', 7),
-	('wicket', 6),
-	('wieden', 6),
-	('wieder', 6),
-	('wiegen', 6),
-	('wieken', 6),
-	('wielas', 6),
-	('wieldop', 7),
-	('wielen', 6),
-	('wieling', 7),
-	('wieltje', 7),
-	('wieme', 5),
-	('wiens', 5),
-	('wierbos', 7),
-	('wierde', 6),
-	('wierf', 5),
-	('wierig', 6),
-	('wierook', 7),
-	('wierp', 5),
-	('wierpot', 7),
-	('wiers', 5),
-	('wierven', 7),
-	('wietwet', 7),
-	('wigge', 5),
-	('wiggen', 6),
-	('wigger', 6),
-	('wigwam', 6),
-	('wijdbal', 7),
-	('wijde', 5),
-	('wijden', 6),
-	('wijders', 7),
-	('wijding', 7),
-	('wijdte', 6),
-	('wijduit', 7),
-	('wijfie', 6),
-	('wijfje', 6),
-	('wijkbus', 7),
-	('wijken', 6),
-	('wijking', 7),
-	('wijle', 5),
-	('wijlen', 6),
-	('wijnbak', 7),
-	('wijnbal', 7),
-	('wijnbar', 7),
-	('wijnbes', 7),
-	('wijngod', 7),
-	('wijnkan', 7),
-	('wijnrek', 7),
-	('wijntje', 7),
-	('wijnvat', 7),
-	('wijnzak', 7),
-	('wijsbek', 7),
-	('wijsje', 6),
-	('wijten', 6),
-	('wijting', 7),
-	('wijze', 5),
-	('wijzelf', 7),
-	('wijzen', 6),
-	('wijzer', 6),
-	('wijzing', 7),
-	('wikke', 5),
-	('wikkel', 6),
-	('wikken', 6),
-	('wilde', 5),
-	('wilfen', 6),
-	('wilgen', 6),
-	('willen', 6),
-	('willens', 7),
-	('willig', 6),
-	('willoos', 7),
-	('wimber', 6),
-	('wimberg', 7),
-	('wimpel', 6),
-	('wimper', 6),
-	('winbaar', 7),
-	('winch', 5),
-	('windas', 6),
-	('winde', 5),
-	('windei', 6),
-	('windel', 6),
-	('winden', 6),
-	('winder', 6),
-	('windgat', 7),
-	('windig', 6),
-	('winding', 7),
-	('windje', 6),
-	('windkam', 7),
-	('windlak', 7),
-	('windsel', 7),
-	('windzak', 7),
-	('winegum', 7),
-	('wingerd', 7),
-	('winkans', 7),
-	('winkel', 6),
-	('winket', 6),
-	('winnaar', 7),
-	('winnen', 6),
-	('winner', 6),
-	('winning', 7),
-	('winput', 6),
-	('winst', 5),
-	('winter', 6),
-	('winters', 7),
-	('winti', 5),
-	('wipbrug', 7),
-	('wipgalg', 7),
-	('wiphout', 7),
-	('wipkar', 6),
-	('wipkip', 6),
-	('wipneus', 7),
-	('wippen', 6),
-	('wipper', 6),
-	('wirwar', 6),
-	('wisbaar', 7),
-	('wisdoek', 7),
-	('wisent', 6),
-	('wisheid', 7),
-	('wiskop', 6),
-	('wisse', 5),
-	('wissel', 6),
-	('wissen', 6),
-	('wisser', 6),
-	('witbier', 7),
-	('witboek', 7),
-	('witbol', 6),
-	('witbont', 7),
-	('witgeel', 7),
-	('witgeld', 7),
-	('witglas', 7),
-	('witgoed', 7),
-	('witgoud', 7),
-	('witheer', 7),
-	('witheet', 7),
-	('witheid', 7),
-	('without', 7),
-	('witje', 5),
-	('witjes', 6),
-	('witkalk', 7),
-	('witkar', 6),
-	('witkiel', 7),
-	('witkop', 6),
-	('witlof', 6),
-	('witloof', 7),
-	('witloog', 7),
-	('witman', 6),
-	('witoog', 6),
-	('witpoot', 7),
-	('witsel', 6),
-	('witte', 5),
-	('witteke', 7),
-	('witten', 6),
-	('witter', 6),
-	('wittig', 6),
-	('witvis', 6),
-	('witvoet', 7),
-	('witwerk', 7),
-	('wobben', 6),
-	('wodka', 5),
-	('woede', 5),
-	('woeden', 6),
-	('woedend', 7),
-	('woeker', 6),
-	('woelen', 6),
-	('woelig', 6),
-	('woeling', 7),
-	('woelrat', 7),
-	('woerd', 5),
-	('woerhen', 7),
-	('woest', 5),
-	('wogen', 5),
-	('wokkel', 6),
-	('wokken', 6),
-	('wolaap', 6),
-	('wolbaal', 7),
-	('wolboer', 7),
-	('wolboom', 7),
-	('wolfram', 7),
-	('wolgoed', 7),
-	('wolgras', 7),
-	('wolhaar', 7),
-	('wolkam', 6),
-	('wolken', 6),
-	('wolkig', 6),
-	('wollen', 6),
-	('wollig', 6),
-	('wolluis', 7),
-	('wolvee', 6),
-	('wolven', 6),
-	('wolvet', 6),
-	('wolvilt', 7),
-	('wolvin', 6),
-	('wolzak', 6),
-	('wombat', 6),
-	('wondbed', 7),
-	('wonde', 5),
-	('wonden', 6),
-	('wonder', 6),
-	('wonen', 5),
-	('woning', 6),
-	('wonnen', 6),
-	('woonark', 7),
-	('woonerf', 7),
-	('woonst', 6),
-	('woord', 5),
-	('woordje', 7),
-	('worden', 6),
-	('wording', 7),
-	('worgen', 6),
-	('worging', 7),
-	('wormgat', 7),
-	('wormig', 6),
-	('worst', 5),
-	('wortel', 6),
-	('woudaap', 7),
-	('wouden', 6),
-	('wouter', 6),
-	('wraak', 5),
-	('wrake', 5),
-	('wraken', 6),
-	('wraking', 7),
-	('wrakker', 7),
-	('wrakkig', 7),
-	('wrang', 5),
-	('wrappen', 7),
-	('wrattig', 7),
-	('wreed', 5),
-	('wreef', 5),
-	('wreken', 6),
-	('wreker', 6),
-	('wreking', 7),
-	('wrensen', 7),
-	('wrevel', 6),
-	('wrijven', 7),
-	('wrikken', 7),
-	('wringen', 7),
-	('wringer', 7),
-	('wroegen', 7),
-	('wroeten', 7),
-	('wroeter', 7),
-	('wrokken', 7),
-	('wrokkig', 7),
-	('wrong', 5),
-	('wrongel', 7),
-	('wuiten', 6),
-	('wuiven', 6),
-	('wuiving', 7),
-	('wulps', 5),
-	('wurgen', 6),
-	('wurger', 6),
-	('wurging', 7),
-	('wurmen', 6),
-	('wysiwyg', 7),
-	('xenon', 5),
-	('xeres', 5),
-	('xeroxen', 7),
-	('xyleem', 6),
-	('xyleen', 6),
-	('xylitol', 7),
-	('yahtzee', 7),
-	('yankee', 6),
-	('yellen', 6),
-	('yield', 5),
-	('yogajuf', 7),
-	('yogales', 7),
-	('yogamat', 7),
-	('yoghurt', 7),
-	('ypsilon', 7),
-	('yttrium', 7),
-	('yucca', 5),
-	('yuppen', 6),
-	('yuppie', 6),
-	('yuppies', 7),
-	('zaadbal', 7),
-	('zaadbed', 7),
-	('zaadbol', 7),
-	('zaadcel', 7),
-	('zaadlob', 7),
-	('zaadrok', 7),
-	('zaadval', 7),
-	('zaagbek', 7),
-	('zaagbok', 7),
-	('zaagdak', 7),
-	('zaagsel', 7),
-	('zaagvis', 7),
-	('zaaibed', 7),
-	('zaaien', 6),
-	('zaaier', 6),
-	('zaaisel', 7),
-	('zaaiui', 6),
-	('zaaizak', 7),
-	('zaakje', 6),
-	('zaaks', 5),
-	('zacht', 5),
-	('zachte', 6),
-	('zachts', 6),
-	('zadel', 5),
-	('zadelen', 7),
-	('zaden', 5),
-	('zageman', 7),
-	('zagen', 5),
-	('zager', 5),
-	('zagerij', 7),
-	('zakband', 7),
-	('zakcent', 7),
-	('zakdoek', 7),
-	('zakduit', 7),
-	('zaken', 5),
-	('zaketui', 7),
-	('zakgeld', 7),
-	('zakkam', 6),
-	('zakken', 6),
-	('zakker', 6),
-	('zakkig', 6),
-	('zakking', 7),
-	('zaklamp', 7),
-	('zakmes', 6),
-	('zakmuis', 7),
-	('zakpijp', 7),
-	('zaksel', 6),
-	('zakspin', 7),
-	('zalfpot', 7),
-	('zalig', 5),
-	('zalige', 6),
-	('zaligen', 7),
-	('zaliger', 7),
-	('zaling', 6),
-	('zalven', 6),
-	('zalvend', 7),
-	('zalving', 7),
-	('zambo', 5),
-	('zamelen', 7),
-	('zandaal', 7),
-	('zandbad', 7),
-	('zandbak', 7),
-	('zandbed', 7),
-	('zanden', 6),
-	('zander', 6),
-	('zandgat', 7),
-	('zandig', 6),
-	('zandkop', 7),
-	('zandman', 7),
-	('zandpad', 7),
-	('zandput', 7),
-	('zandrug', 7),
-	('zandvlo', 7),
-	('zandwal', 7),
-	('zandweg', 7),
-	('zandzak', 7),
-	('zandzee', 7),
-	('zangduo', 7),
-	('zanger', 6),
-	('zangles', 7),
-	('zanik', 5),
-	('zaniken', 7),
-	('zaniker', 7),
-	('zanten', 6),
-	('zappen', 6),
-	('zapper', 6),
-	('zatheid', 7),
-	('zatlap', 6),
-	('zavel', 5),
-	('zavelig', 7),
-	('zeboe', 5),
-	('zebra', 5),
-	('zeden', 5),
-	('zedig', 5),
-	('zeeaal', 6),
-	('zeeaas', 6),
-	('zeearm', 6),
-	('zeebaak', 7),
-	('zeebad', 6),
-	('zeebeer', 7),
-	('zeebiet', 7),
-	('zeeboek', 7),
-	('zeebonk', 7),
-	('zeeboot', 7),
-	('zeebrak', 7),
-	('zeedag', 6),
-	('zeedamp', 7),
-	('zeedier', 7),
-	('zeedijk', 7),
-	('zeedorp', 7),
-	('zeegang', 7),
-	('zeegat', 6),
-	('zeegod', 6),
-	('zeegolf', 7),
-	('zeegras', 7),
-	('zeehaan', 7),
-	('zeeheld', 7),
-	('zeehond', 7),
-	('zeekant', 7),
-	('zeekat', 6),
-	('zeeklas', 7),
-	('zeeklei', 7),
-	('zeekoe', 6),
-	('zeekoet', 7),
-	('zeekool', 7),
-	('zeekrab', 7),
-	('zeekust', 7),
-	('zeeland', 7),
-	('zeelt', 5),
-	('zeelui', 6),
-	('zeeman', 6),
-	('zeemijl', 7),
-	('zeemijn', 7),
-	('zeemist', 7),
-	('zeemlap', 7),
-	('zeemos', 6),
-	('zeemvel', 7),
-	('zeenat', 6),
-	('zeenimf', 7),
-	('zeepbel', 7),
-	('zeepeil', 7),
-	('zeepier', 7),
-	('zeepijl', 7),
-	('zeepje', 6),
-	('zeepok', 6),
-	('zeepost', 7),
-	('zeeprik', 7),
-	('zeepsop', 7),
-	('zeeramp', 7),
-	('zeereep', 7),
-	('zeereis', 7),
-	('zeerob', 6),
-	('zeeroof', 7),
-	('zeerook', 7),
-	('zeerot', 6),
-	('zeerst', 6),
-	('zeesla', 6),
-	('zeeslag', 7),
-	('zeeslak', 7),
-	('zeestad', 7),
-	('zeester', 7),
-	('zeestuk', 7),
-	('zeeterm', 7),
-	('zeetje', 6),
-	('zeetong', 7),
-	('zeevalk', 7),
-	('zeevast', 7),
-	('zeevis', 6),
-	('zeevolk', 7),
-	('zeevonk', 7),
-	('zeeweg', 6),
-	('zeewier', 7),
-	('zeewijf', 7),
-	('zeewind', 7),
-	('zeewolf', 7),
-	('zeezand', 7),
-	('zeeziek', 7),
-	('zeezot', 6),
-	('zeezout', 7),
-	('zefier', 6),
-	('zegekar', 7),
-	('zegel', 5),
-	('zegelen', 7),
-	('zegen', 5),
-	('zegenen', 7),
-	('zegge', 5),
-	('zeggen', 6),
-	('zegger', 6),
-	('zegging', 7),
-	('zegje', 5),
-	('zegsman', 7),
-	('zegster', 7),
-	('zeiden', 6),
-	('zeiken', 6),
-	('zeiker', 6),
-	('zeikerd', 7),
-	('zeiknat', 7),
-	('zeildag', 7),
-	('zeilen', 6),
-	('zeiler', 6),
-	('zeiljas', 7),
-	('zeillat', 7),
-	('zeilles', 7),
-	('zeilpak', 7),
-	('zeilree', 7),
-	('zeiltje', 7),
-	('zeisen', 6),
-	('zeken', 5),
-	('zeker', 5),
-	('zekere', 6),
-	('zekeren', 7),
-	('zekers', 6),
-	('zelden', 6),
-	('zelfde', 6),
-	('zelfs', 5),
-	('zelling', 7),
-	('zeloot', 6),
-	('zelve', 5),
-	('zemel', 5),
-	('zemelen', 7),
-	('zemelig', 7),
-	('zemen', 5),
-	('zemig', 5),
-	('zenden', 6),
-	('zender', 6),
-	('zending', 7),
-	('zenduur', 7),
-	('zenen', 5),
-	('zengen', 6),
-	('zenig', 5),
-	('zenit', 5),
-	('zenuw', 5),
-	('zenuwen', 7),
-	('zeoliet', 7),
-	('zepen', 5),
-	('zeper', 5),
-	('zeperd', 6),
-	('zeperig', 7),
-	('zepig', 5),
-	('zerken', 6),
-	('zesbak', 6),
-	('zesde', 5),
-	('zeshoek', 7),
-	('zeskamp', 7),
-	('zeskant', 7),
-	('zesmaal', 7),
-	('zessen', 6),
-	('zestal', 6),
-	('zeste', 5),
-	('zestien', 7),
-	('zestig', 6),
-	('zesvlak', 7),
-	('zesvoud', 7),
-	('zetbaas', 7),
-	('zetboer', 7),
-	('zetbok', 6),
-	('zetel', 5),
-	('zetelen', 7),
-	('zetfout', 7),
-	('zetgang', 7),
-	('zethaak', 7),
-	('zetlijn', 7),
-	('zetmeel', 7),
-	('zetpil', 6),
-	('zetsel', 6),
-	('zetstuk', 7),
-	('zetten', 6),
-	('zetter', 6),
-	('zetting', 7),
-	('zetwerk', 7),
-	('zeugma', 6),
-	('zeulen', 6),
-	('zeuntje', 7),
-	('zeurder', 7),
-	('zeuren', 6),
-	('zeurig', 6),
-	('zeurzak', 7),
-	('zeven', 5),
-	('zevende', 7),
-	('zevenen', 7),
-	('zever', 5),
-	('zeveren', 7),
-	('zicht', 5),
-	('zichtas', 7),
-	('zichten', 7),
-	('zichter', 7),
-	('ziedaar', 7),
-	('zieden', 6),
-	('ziedend', 7),
-	('ziehier', 7),
-	('ziekbed', 7),
-	('zieke', 5),
-	('zieken', 6),
-	('ziekjes', 7),
-	('ziekte', 6),
-	('ziekten', 7),
-	('ziektes', 7),
-	('zielig', 6),
-	('zielmis', 7),
-	('zieltje', 7),
-	('ziende', 6),
-	('ziener', 6),
-	('ziens', 5),
-	('ziezo', 5),
-	('ziften', 6),
-	('zifter', 6),
-	('zifting', 7),
-	('ziftsel', 7),
-	('zigzag', 6),
-	('zijarm', 6),
-	('zijbalk', 7),
-	('zijbeuk', 7),
-	('zijde', 5),
-	('zijden', 6),
-	('zijdens', 7),
-	('zijdeur', 7),
-	('zijgang', 7),
-	('zijgen', 6),
-	('zijig', 5),
-	('zijkant', 7),
-	('zijklep', 7),
-	('zijlaan', 7),
-	('zijlijn', 7),
-	('zijloge', 7),
-	('zijluik', 7),
-	('zijmuur', 7),
-	('zijne', 5),
-	('zijnen', 6),
-	('zijner', 6),
-	('zijnet', 6),
-	('zijpad', 6),
-	('zijpen', 6),
-	('zijraam', 7),
-	('zijrand', 7),
-	('zijruit', 7),
-	('zijspan', 7),
-	('zijstap', 7),
-	('zijstuk', 7),
-	('zijtak', 6),
-	('zijtas', 6),
-	('zijtje', 6),
-	('zijtuin', 7),
-	('zijvak', 6),
-	('zijvlak', 7),
-	('zijwand', 7),
-	('zijweg', 6),
-	('zijwiel', 7),
-	('zijwind', 7),
-	('zijzak', 6),
-	('zijzelf', 7),
-	('ziltig', 6),
-	('zilver', 6),
-	('zindeel', 7),
-	('zingen', 6),
-	('zinkbad', 7),
-	('zinkbak', 7),
-	('zinken', 6),
-	('zinker', 6),
-	('zinkgat', 7),
-	('zinking', 7),
-	('zinkput', 7),
-	('zinksel', 7),
-	('zinkwit', 7),
-	('zinlijk', 7),
-	('zinloos', 7),
-	('zinnen', 6),
-	('zinnens', 7),
-	('zinnia', 6),
-	('zinnig', 6),
-	('zinrijk', 7),
-	('zintuig', 7),
-	('zinvol', 6),
-	('zionist', 7),
-	('zipfile', 7),
-	('zippen', 6),
-	('zirkoon', 7),
-	('zitbad', 6),
-	('zitbank', 7),
-	('zitdag', 6),
-	('zithoek', 7),
-	('zitje', 5),
-	('zitkuil', 7),
-	('zitstok', 7),
-	('zitten', 6),
-	('zittend', 7),
-	('zitter', 6),
-	('zitters', 7),
-	('zittijd', 7),
-	('zitting', 7),
-	('zituur', 6),
-	('zitvlak', 7),
-	('zitzak', 6),
-	('zloty', 5),
-	('zoals', 5),
-	('zocht', 5),
-	('zodanig', 7),
-	('zodat', 5),
-	('zoden', 5),
-	('zodiak', 6),
-	('zodra', 5),
-	('zoeaaf', 6),
-	('zoekbox', 7),
-	('zoeken', 6),
-	('zoeker', 6),
-	('zoekvak', 7),
-	('zoelen', 6),
-	('zoelte', 6),
-	('zoemen', 6),
-	('zoemer', 6),
-	('zoenen', 6),
-	('zoener', 6),
-	('zoeten', 6),
-	('zoeter', 6),
-	('zoeterd', 7),
-	('zoetig', 6),
-	('zoetje', 6),
-	('zoetjes', 7),
-	('zoette', 6),
-	('zoeven', 6),
-	('zogen', 5),
-	('zohaast', 7),
-	('zoiets', 6),
-	('zojuist', 7),
-	('zolang', 6),
-	('zolder', 6),
-	('zolen', 5),
-	('zomaar', 6),
-	('zombie', 6),
-	('zomede', 6),
-	('zomen', 5),
-	('zomer', 5),
-	('zomeren', 7),
-	('zomers', 6),
-	('zomin', 5),
-	('zompen', 6),
-	('zompig', 6),
-	('zonaal', 6),
-	('zondaar', 7),
-	('zondag', 6),
-	('zondags', 7),
-	('zonde', 5),
-	('zonden', 6),
-	('zonder', 6),
-	('zondig', 6),
-	('zonecht', 7),
-	('zoneren', 7),
-	('zones', 5),
-	('zonet', 5),
-	('zonhoed', 7),
-	('zonkant', 7),
-	('zonloos', 7),
-	('zonnen', 6),
-	('zonnig', 6),
-	('zonuren', 7),
-	('zonzij', 6),
-	('zoogkoe', 7),
-	('zooglam', 7),
-	('zooien', 6),
-	('zooitje', 7),
-	('zoomen', 6),
-	('zoopje', 6),
-	('zootje', 6),
-	('zopas', 5),
-	('zopen', 5),
-	('zopie', 5),
-	('zorgen', 6),
-	('zorgkas', 7),
-	('zorgpad', 7),
-	('zorgpas', 7),
-	('zorgvol', 7),
-	('zorgwet', 7),
-	('zotheid', 7),
-	('zothuis', 7),
-	('zotskap', 7),
-	('zottin', 6),
-	('zouden', 6),
-	('zoutarm', 7),
-	('zoutbad', 7),
-	('zoutbak', 7),
-	('zoute', 5),
-	('zouten', 6),
-	('zouter', 6),
-	('zoutig', 6),
-	('zoutje', 6),
-	('zoutpan', 7),
-	('zoutpot', 7),
-	('zoutte', 6),
-	('zoutvat', 7),
-	('zoutzak', 7),
-	('zoveel', 6),
-	('zovelen', 7),
-	('zover', 5),
-	('zoverre', 7),
-	('zowaar', 6),
-	('zowat', 5),
-	('zowel', 5),
-	('zozeer', 6),
-	('zucht', 5),
-	('zuchten', 7),
-	('zuchtig', 7),
-	('zuchtje', 7),
-	('zuidas', 6),
-	('zuiden', 6),
-	('zuiders', 7),
-	('zuidtak', 7),
-	('zuidzij', 7),
-	('zuigen', 6),
-	('zuiger', 6),
-	('zuiging', 7),
-	('zuiglam', 7),
-	('zuignap', 7),
-	('zuigvis', 7),
-	('zuileik', 7),
-	('zuiltje', 7),
-	('zuinig', 6),
-	('zuipen', 6),
-	('zuiper', 6),
-	('zuiplap', 7),
-	('zuivel', 6),
-	('zuiver', 6),
-	('zulke', 5),
-	('zulks', 5),
-	('zulle', 5),
-	('zullen', 6),
-	('zulte', 5),
-	('zulten', 6),
-	('zumba', 5),
-	('zundgat', 7),
-	('zuren', 5),
-	('zurig', 5),
-	('zuring', 6),
-	('zurkel', 6),
-	('zuster', 6),
-	('zuurbad', 7),
-	('zuurbal', 7),
-	('zuurder', 7),
-	('zuursel', 7),
-	('zuurtje', 7),
-	('zuurzak', 7),
-	('zwaai', 5),
-	('zwaaien', 7),
-	('zwaan', 5),
-	('zwaar', 5),
-	('zwaard', 6),
-	('zwaarte', 7),
-	('zwabber', 7),
-	('zwadder', 7),
-	('zwade', 5),
-	('zwager', 6),
-	('zwakjes', 7),
-	('zwakken', 7),
-	('zwakker', 7),
-	('zwakte', 6),
-	('zwalken', 7),
-	('zwalker', 7),
-	('zwalp', 5),
-	('zwalpen', 7),
-	('zwaluw', 6),
-	('zwammen', 7),
-	('zwammig', 7),
-	('zwamp', 5),
-	('zwanger', 7),
-	('zwans', 5),
-	('zwanzen', 7),
-	('zware', 5),
-	('zwart', 5),
-	('zwarte', 6),
-	('zwarten', 7),
-	('zwartig', 7),
-	('zwartje', 7),
-	('zwavel', 6),
-	('zweden', 6),
-	('zweeg', 5),
-	('zweem', 5),
-	('zweep', 5),
-	('zweer', 5),
-	('zweet', 5),
-	('zwegen', 6),
-	('zweien', 6),
-	('zwelen', 6),
-	('zwelg', 5),
-	('zwelgen', 7),
-	('zwelger', 7),
-	('zwellen', 7),
-	('zwembad', 7),
-	('zwemdok', 7),
-	('zwemen', 6),
-	('zwemhal', 7),
-	('zwemjuf', 7),
-	('zwemles', 7),
-	('zwemlip', 7),
-	('zwemmen', 7),
-	('zwemmer', 7),
-	('zwempak', 7),
-	('zwemtas', 7),
-	('zwemtop', 7),
-	('zwendel', 7),
-	('zwengel', 7),
-	('zwenk', 5),
-	('zwenkas', 7),
-	('zwenken', 7),
-	('zwepen', 6),
-	('zweren', 6),
-	('zwerk', 5),
-	('zwerm', 5),
-	('zwermen', 7),
-	('zwermer', 7),
-	('zwerven', 7),
-	('zwerver', 7),
-	('zweten', 6),
-	('zwetsen', 7),
-	('zweven', 6),
-	('zwevend', 7),
-	('zwever', 6),
-	('zweving', 7),
-	('zwiep', 5),
-	('zwiepen', 7),
-	('zwieper', 7),
-	('zwier', 5),
-	('zwieren', 7),
-	('zwierf', 6),
-	('zwierig', 7),
-	('zwijgen', 7),
-	('zwijger', 7),
-	('zwijmel', 7),
-	('zwijmen', 7),
-	('zwijn', 5),
-	('zwijnen', 7),
-	('zwikken', 7),
-	('zwikker', 7),
-	('zwilk', 5),
-	('zwing', 5),
-	('zwoegen', 7),
-	('zwoeger', 7),
-	('zwoel', 5),
-	('zwoelte', 7),
-	('zwoerd', 6),
-	('zwoor', 5),
-	('zwoord', 6),
-	('zygote', 6),
-	('zymose', 6);
\ No newline at end of file
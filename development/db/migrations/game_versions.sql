@@ -0,0 +1,5 @@
+-- Games carry a version for optimistic locking and a revision that is shown to clients.
+-- Databases created before need both columns filled, otherwise existing games cannot be saved.
+ALTER TABLE game ADD COLUMN IF NOT EXISTS version bigint;
+ALTER TABLE game ADD COLUMN IF NOT EXISTS revision bigint NOT NULL DEFAULT 0;
+UPDATE game SET version = 0 WHERE version IS NULL;
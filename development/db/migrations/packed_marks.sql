@@ -0,0 +1,27 @@
+-- The marks of feedback are stored packed into the marks column of the feedback row (see FeedbackEngine):
+-- the lowest 4 bits hold the length, followed by 2 bits per position holding the ordinal of its Mark.
+-- Databases created before have a row per mark in feedback_marks, which need packing before the application starts,
+-- otherwise Hibernate cannot add the column as not null to existing feedback.
+-- feedback_marks has no order column, so the marks are taken in the order they were inserted.
+BEGIN;
+
+ALTER TABLE feedback ADD COLUMN IF NOT EXISTS marks integer;
+
+UPDATE feedback
+SET marks = packed.marks
+FROM (
+    SELECT feedback_id, count(*)::integer | coalesce(sum(marks << (4 + 2 * position))::integer, 0) AS marks
+    FROM (
+        SELECT feedback_id, marks, row_number() OVER (PARTITION BY feedback_id ORDER BY ctid)::integer - 1 AS position
+        FROM feedback_marks
+    ) ordered
+    GROUP BY feedback_id
+) packed
+WHERE feedback.id = packed.feedback_id AND feedback.marks IS NULL;
+
+UPDATE feedback SET marks = 0 WHERE marks IS NULL;
+ALTER TABLE feedback ALTER COLUMN marks SET NOT NULL;
+
+DROP TABLE feedback_marks;
+
+COMMIT;
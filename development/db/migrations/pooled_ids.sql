@@ -0,0 +1,5 @@
+-- Games, rounds and feedback take their ids in blocks from hibernate_sequence (see PooledIdGenerator).
+-- Databases created before need the increment of the sequence to match the allocation size
+-- (spring.jpa.properties.lingo.ids.allocation-size), otherwise the application refuses to start.
+-- New databases get the right increment from Hibernate.
+ALTER SEQUENCE hibernate_sequence INCREMENT BY 50;
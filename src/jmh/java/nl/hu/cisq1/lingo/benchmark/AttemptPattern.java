@@ -0,0 +1,61 @@
+package nl.hu.cisq1.lingo.benchmark;
+
+import nl.hu.cisq1.lingo.words.domain.Dictionary;
+import nl.hu.cisq1.lingo.words.domain.WordPool;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The kinds of attempts a player makes, derived from the word to guess.
+ */
+public enum AttemptPattern {
+    CORRECT,
+    PRESENT,
+    ABSENT,
+    INVALID;
+
+    private static final String ABSENT_LETTERS = "qxzqxzqxz";
+
+    public static String wordOfLength(int length) {
+        switch (length) {
+            case 5:
+                return "baard";
+            case 6:
+                return "bergen";
+            case 7:
+                return "baarden";
+            default:
+                throw new IllegalArgumentException("No benchmark word of length " + length);
+        }
+    }
+
+    /**
+     * A dictionary containing the words of all lengths and every valid attempt on them.
+     */
+    public static Dictionary dictionary() {
+        List<String> words = new ArrayList<>();
+        for (int length = 5; length <= 7; length++) {
+            String word = wordOfLength(length);
+            for (AttemptPattern pattern : values()) {
+                if (pattern != INVALID) {
+                    words.add(pattern.attemptFor(word));
+                }
+            }
+        }
+        return WordPool.of(words);
+    }
+
+    public String attemptFor(String word) {
+        switch (this) {
+            case CORRECT:
+                return word;
+            case PRESENT:
+                return word.substring(1) + word.charAt(0);
+            case ABSENT:
+                return ABSENT_LETTERS.substring(0, word.length());
+            default:
+                return word + "s";
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package nl.hu.cisq1.lingo.trainer.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nl.hu.cisq1.lingo.benchmark.AttemptPattern;
+import nl.hu.cisq1.lingo.trainer.application.dto.ProgressDTO;
+import nl.hu.cisq1.lingo.trainer.data.GameSummary;
+import nl.hu.cisq1.lingo.trainer.data.LatestRound;
+import nl.hu.cisq1.lingo.trainer.data.SpringGameRepository;
+import nl.hu.cisq1.lingo.trainer.domain.Game;
+import nl.hu.cisq1.lingo.trainer.domain.GameStatus;
+import nl.hu.cisq1.lingo.trainer.domain.GameStorage;
+import nl.hu.cisq1.lingo.trainer.domain.Round;
+import nl.hu.cisq1.lingo.words.application.WordService;
+import nl.hu.cisq1.lingo.words.data.SpringWordListVersionRepository;
+import nl.hu.cisq1.lingo.words.data.SpringWordRepository;
+import nl.hu.cisq1.lingo.words.data.WordPoolFile;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the conversion of a game into its ProgressDTO through GameService.getProgress.
+ * The repository is replaced by a stub that always returns the columns and latest round of the same game,
+ * so only the conversion is measured and not the database.
+ * The game is not cached, as getProgress does not load games into the ActiveGameCache.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProgressBenchmark {
+    private static final Long GAME_ID = 1L;
+
+    @Param({"5", "6", "7"})
+    public int wordLength;
+
+    @Param({"CORRECT", "PRESENT", "ABSENT", "INVALID"})
+    public AttemptPattern pattern;
+
+    @Param({"0", "1", "4"})
+    public int attempts;
+
+    private GameService service;
+
+    @Setup
+    public void setUp() {
+        String wordToGuess = AttemptPattern.wordOfLength(wordLength);
+        String attempt = pattern.attemptFor(wordToGuess);
+
+        Game game = new Game();
+        game.startNewRound(wordToGuess);
+        for (int i = 0; i < attempts && game.isPlaying(); i++) {
+            game.guess(attempt, AttemptPattern.dictionary());
+        }
+
+        SpringGameRepository gameRepository = stub(SpringGameRepository.class, Map.of(
+                "findSummaryById", Optional.of(summaryOf(game)),
+                "findLatestRounds", List.of(latestRoundOf(game))
+        ));
+        PlatformTransactionManager transactionManager = stub(PlatformTransactionManager.class, Map.of());
+        WordService wordService = new WordService(
+                stub(SpringWordRepository.class, Map.of()),
+                stub(SpringWordListVersionRepository.class, Map.of()),
+                new WordPoolFile("")
+        );
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        service = new GameService(
+                gameRepository,
+                wordService,
+                new ActiveGameCache(gameRepository, transactionManager, event -> { }, true, 0),
+                new GameLocks(1, new SimpleMeterRegistry()),
+                new GameReservoir(gameRepository, wordService, transactionTemplate, GameStorage.NORMALIZED, 0),
+                transactionTemplate,
+                event -> { },
+                GameStorage.NORMALIZED
+        );
+    }
+
+    private static GameSummary summaryOf(Game game) {
+        return new GameSummary() {
+            public Long getId() {
+                return GAME_ID;
+            }
+
+            public GameStatus getGameStatus() {
+                return game.getGameStatus();
+            }
+
+            public int getScore() {
+                return game.getScore();
+            }
+
+            public long getRevision() {
+                return game.getRevision();
+            }
+
+            public GameStorage getStorage() {
+                return GameStorage.NORMALIZED;
+            }
+
+            public byte[] getSnapshot() {
+                return null;
+            }
+        };
+    }
+
+    private static LatestRound latestRoundOf(Game game) {
+        return new LatestRound() {
+            public Long getGameId() {
+                return GAME_ID;
+            }
+
+            public Round getRound() {
+                return game.getLatestRound();
+            }
+        };
+    }
+
+    /**
+     * Stubs an interface by answering every call with the result registered for the name of the method,
+     * or null when none is registered.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, Map<String, Object> results) {
+        return (T) Proxy.newProxyInstance(
+                type.getClassLoader(),
+                new Class<?>[]{type},
+                (proxy, method, arguments) -> results.get(method.getName())
+        );
+    }
+
+    @Benchmark
+    public ProgressDTO getProgress() {
+        return service.getProgress(GAME_ID);
+    }
+}
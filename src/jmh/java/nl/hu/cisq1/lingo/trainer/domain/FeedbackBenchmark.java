@@ -0,0 +1,62 @@
+package nl.hu.cisq1.lingo.trainer.domain;
+
+import nl.hu.cisq1.lingo.benchmark.AttemptPattern;
+import nl.hu.cisq1.lingo.words.domain.PackedWord;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FeedbackBenchmark {
+    @Param({"5", "6", "7"})
+    public int wordLength;
+
+    @Param({"CORRECT", "PRESENT", "ABSENT", "INVALID"})
+    public AttemptPattern pattern;
+
+    private Feedback feedback;
+    private String previousHint;
+    private String wordToGuess;
+    private String attempt;
+    private long packedWord;
+    private long packedAttempt;
+
+    @Setup
+    public void setUp() {
+        wordToGuess = AttemptPattern.wordOfLength(wordLength);
+        attempt = pattern.attemptFor(wordToGuess);
+        packedWord = PackedWord.encode(wordToGuess);
+        packedAttempt = PackedWord.encode(attempt);
+
+        Round round = new Round(wordToGuess);
+        round.guess(attempt, AttemptPattern.dictionary());
+
+        feedback = round.getLastFeedback();
+        previousHint = wordToGuess.charAt(0) + ".".repeat(wordLength - 1);
+    }
+
+    @Benchmark
+    public String giveHint() {
+        return feedback.giveHint(previousHint);
+    }
+
+    @Benchmark
+    public boolean isWordGuessed() {
+        return feedback.isWordGuessed();
+    }
+
+    @Benchmark
+    public int score() {
+        return FeedbackEngine.score(attempt, wordToGuess);
+    }
+
+    @Benchmark
+    public int scorePacked() {
+        return FeedbackEngine.score(packedAttempt, packedWord);
+    }
+}
@@ -0,0 +1,53 @@
+package nl.hu.cisq1.lingo.trainer.domain;
+
+import nl.hu.cisq1.lingo.benchmark.AttemptPattern;
+import nl.hu.cisq1.lingo.words.domain.Dictionary;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A game stops accepting guesses when the word is guessed or the player is eliminated,
+ * so it is replaced by a new game when that happens.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameBenchmark {
+    @Param({"5", "6", "7"})
+    public int wordLength;
+
+    @Param({"CORRECT", "PRESENT", "ABSENT", "INVALID"})
+    public AttemptPattern pattern;
+
+    private String wordToGuess;
+    private String attempt;
+    private Dictionary dictionary;
+    private Game game;
+
+    @Setup
+    public void setUp() {
+        wordToGuess = AttemptPattern.wordOfLength(wordLength);
+        attempt = pattern.attemptFor(wordToGuess);
+        dictionary = AttemptPattern.dictionary();
+        game = newGame();
+    }
+
+    private Game newGame() {
+        Game newGame = new Game();
+        newGame.startNewRound(wordToGuess);
+        return newGame;
+    }
+
+    @Benchmark
+    public Game guess() {
+        if (!game.isPlaying()) {
+            game = newGame();
+        }
+        game.guess(attempt, dictionary);
+        return game;
+    }
+}
@@ -0,0 +1,46 @@
+package nl.hu.cisq1.lingo.trainer.domain;
+
+import nl.hu.cisq1.lingo.benchmark.AttemptPattern;
+import nl.hu.cisq1.lingo.words.domain.Dictionary;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A round only allows 5 attempts, so it is replaced by a new round when the limit is reached.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoundBenchmark {
+    @Param({"5", "6", "7"})
+    public int wordLength;
+
+    @Param({"CORRECT", "PRESENT", "ABSENT", "INVALID"})
+    public AttemptPattern pattern;
+
+    private String wordToGuess;
+    private String attempt;
+    private Dictionary dictionary;
+    private Round round;
+
+    @Setup
+    public void setUp() {
+        wordToGuess = AttemptPattern.wordOfLength(wordLength);
+        attempt = pattern.attemptFor(wordToGuess);
+        dictionary = AttemptPattern.dictionary();
+        round = new Round(wordToGuess);
+    }
+
+    @Benchmark
+    public Round guess() {
+        if (round.attemptLimitReached()) {
+            round = new Round(wordToGuess);
+        }
+        round.guess(attempt, dictionary);
+        return round;
+    }
+}
@@ -0,0 +1,331 @@
+package nl.hu.cisq1.lingo.trainer.application;
+
+import nl.hu.cisq1.lingo.trainer.data.SpringGameRepository;
+import nl.hu.cisq1.lingo.trainer.domain.Feedback;
+import nl.hu.cisq1.lingo.trainer.domain.Game;
+import nl.hu.cisq1.lingo.trainer.domain.exception.GameChangesLostException;
+import nl.hu.cisq1.lingo.trainer.domain.exception.GameNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Write-behind cache of the games that are being played.
+ *
+ * Changes to a cached game are applied in memory and written to the database in one
+ * transaction every lingo.games.write-behind.flush-interval-ms, and once more on shutdown.
+ * A crash loses at most the changes of one flush interval.
+ * Games leave the cache when they are no longer played or have been idle for
+ * lingo.games.write-behind.idle-timeout-ms.
+ *
+ * The cache assumes it is the only writer of the games it holds, so it only fits deployments
+ * running a single instance. Cached games that were changed elsewhere anyway are detected
+ * by their version when written, and lose their cached changes, which is published as a CachedChangesDroppedEvent.
+ * Those changes were acknowledged already, so the next change to such a game fails with
+ * a GameChangesLostException instead of being played on top of the stored game.
+ */
+@Component
+public class ActiveGameCache {
+    private static final Logger LOG = LoggerFactory.getLogger(ActiveGameCache.class);
+
+    private final SpringGameRepository gameRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final long idleTimeoutMs;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<Long, Long> droppedRevisions = new ConcurrentHashMap<>();
+
+    public ActiveGameCache(
+            SpringGameRepository gameRepository,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${lingo.games.write-behind.enabled:true}") boolean enabled,
+            @Value("${lingo.games.write-behind.idle-timeout-ms:600000}") long idleTimeoutMs
+    ) {
+        this.gameRepository = gameRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.idleTimeoutMs = idleTimeoutMs;
+    }
+
+    /**
+     * Applies a change to the game with the given id.
+     * Games that are being played are changed in memory, other games are changed
+     * and saved right away.
+     */
+    public <T> T update(Long id, Function<Game, T> change) {
+        if (!enabled) {
+            return transactionTemplate.execute(status -> changeAndSave(id, change));
+        }
+
+        while (true) {
+            failIfDropped(id);
+            Entry entry = entries.get(id);
+            if (entry == null) {
+                entry = transactionTemplate.execute(status -> load(id));
+            }
+            if (entry == null) {
+                return transactionTemplate.execute(status -> changeAndSave(id, change));
+            }
+
+            entry.lock.lock();
+            try {
+                if (entries.get(id) == entry) {
+                    T result = change.apply(entry.game);
+                    entry.dirty = true;
+                    entry.lastAccess = System.currentTimeMillis();
+                    return result;
+                }
+            } finally {
+                entry.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Adds a stored game that was changed outside of the cache, such as a claimed reserved game,
+     * so it is written with the next flush. Games that are not being played are saved right away.
+     */
+    public void add(Game game) {
+        if (!enabled || !game.isPlaying()) {
+            transactionTemplate.executeWithoutResult(status -> gameRepository.save(game));
+            return;
+        }
+
+        Entry entry = new Entry(game);
+        entry.dirty = true;
+        entries.put(game.getId(), entry);
+    }
+
+    /**
+     * Reads the cached game with the given id, if it is cached.
+     */
+    public <T> Optional<T> read(Long id, Function<Game, T> reader) {
+        Entry entry = entries.get(id);
+        if (entry == null) {
+            return Optional.empty();
+        }
+
+        entry.lock.lock();
+        try {
+            if (entries.get(id) != entry) {
+                return Optional.empty();
+            }
+            return Optional.of(reader.apply(entry.game));
+        } finally {
+            entry.lock.unlock();
+        }
+    }
+
+    /**
+     * Writes the game with the given id if it has pending changes and removes it from the cache,
+     * so it can be changed through the repository again.
+     * Joins the transaction of the caller, if there is one.
+     * Pending changes that cannot be written as the game was changed elsewhere are dropped,
+     * which fails the change of the caller.
+     */
+    public void evict(Long id) {
+        failIfDropped(id);
+        Entry entry = entries.get(id);
+        if (entry == null) {
+            return;
+        }
+
+        entry.lock.lock();
+        try {
+            if (entry.dirty) {
+                transactionTemplate.executeWithoutResult(status -> saveIfExists(id, entry.game));
+            }
+            entries.remove(id, entry);
+        } catch (OptimisticLockingFailureException exception) {
+            entries.remove(id, entry);
+            eventPublisher.publishEvent(new CachedChangesDroppedEvent(id));
+            throw new GameChangesLostException(id, entry.game.getRevision());
+        } finally {
+            entry.lock.unlock();
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${lingo.games.write-behind.flush-interval-ms:1000}",
+            fixedDelayString = "${lingo.games.write-behind.flush-interval-ms:1000}"
+    )
+    public void flush() {
+        SortedMap<Long, Entry> dirty = new TreeMap<>();
+        entries.forEach((id, entry) -> {
+            if (entry.dirty) {
+                dirty.put(id, entry);
+            }
+        });
+
+        if (!dirty.isEmpty()) {
+            write(dirty);
+        }
+        evictInactive();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void write(SortedMap<Long, Entry> dirty) {
+        List<Entry> locked = new ArrayList<>();
+        try {
+            for (Entry entry : dirty.values()) {
+                entry.lock.lock();
+                locked.add(entry);
+            }
+            dirty.entrySet().removeIf(candidate -> entries.get(candidate.getKey()) != candidate.getValue());
+
+            saveTogether(dirty).forEach((id, saved) -> replace(id, dirty.get(id), saved));
+        } finally {
+            locked.forEach(entry -> entry.lock.unlock());
+        }
+    }
+
+    private Map<Long, Game> saveTogether(Map<Long, Entry> dirty) {
+        try {
+            return transactionTemplate.execute(status -> saveAll(dirty));
+        } catch (RuntimeException exception) {
+            LOG.warn("Could not write {} cached games together, writing them one by one", dirty.size(), exception);
+            return saveOneByOne(dirty);
+        }
+    }
+
+    /**
+     * Games that were changed elsewhere since they were cached lose their cached changes,
+     * other games that cannot be written are retried on the next flush.
+     */
+    private Map<Long, Game> saveOneByOne(Map<Long, Entry> dirty) {
+        Map<Long, Game> saved = new HashMap<>();
+
+        dirty.forEach((id, entry) -> {
+            try {
+                saved.put(id, transactionTemplate.execute(status -> saveIfExists(id, entry.game)));
+            } catch (OptimisticLockingFailureException exception) {
+                LOG.warn("Game {} was changed elsewhere, dropping its cached changes", id);
+                saved.put(id, null);
+                drop(id, entry);
+            } catch (RuntimeException exception) {
+                LOG.error("Could not write cached game {}, retrying on the next flush", id, exception);
+            }
+        });
+
+        return saved;
+    }
+
+    /**
+     * Only runs while the entry is locked, so a change that waits for it sees the game as dropped.
+     */
+    private void drop(Long id, Entry entry) {
+        droppedRevisions.put(id, entry.game.getRevision());
+        eventPublisher.publishEvent(new CachedChangesDroppedEvent(id));
+    }
+
+    /**
+     * Fails only once, the changes after that are played on the stored game again.
+     */
+    private void failIfDropped(Long id) {
+        Long revision = droppedRevisions.remove(id);
+        if (revision != null) {
+            throw new GameChangesLostException(id, revision);
+        }
+    }
+
+    private Entry load(Long id) {
+        Game game = gameRepository.findWithRoundsById(id).orElseThrow(() -> new GameNotFoundException(id));
+        if (!game.isPlaying()) {
+            return null;
+        }
+
+        initialize(game);
+        Entry entry = new Entry(game);
+        Entry existing = entries.putIfAbsent(id, entry);
+        return existing == null ? entry : existing;
+    }
+
+    /**
+     * Loads the parts of the game that are used while playing,
+     * as the cached game is used outside of the transaction that loaded it.
+     * The rounds themselves are loaded with the game, as games stored as a snapshot
+     * still need them when they are moved to the configured storage.
+     */
+    private static void initialize(Game game) {
+        game.getLatestRound()
+                .getFeedbackHistory()
+                .forEach(Feedback::isAttemptValid);
+    }
+
+    private <T> T changeAndSave(Long id, Function<Game, T> change) {
+        Game game = gameRepository.findById(id).orElseThrow(() -> new GameNotFoundException(id));
+        T result = change.apply(game);
+        gameRepository.save(game);
+        return result;
+    }
+
+    private Map<Long, Game> saveAll(Map<Long, Entry> dirty) {
+        Map<Long, Game> saved = new HashMap<>();
+        dirty.forEach((id, entry) -> saved.put(id, saveIfExists(id, entry.game)));
+        return saved;
+    }
+
+    /**
+     * Games that were deleted while cached are not written, so they are not recreated.
+     */
+    private Game saveIfExists(Long id, Game game) {
+        if (!gameRepository.existsById(id)) {
+            return null;
+        }
+        Game saved = gameRepository.save(game);
+        initialize(saved);
+        return saved;
+    }
+
+    /**
+     * The saved copy replaces the cached game, as only that copy knows the ids of newly created rounds.
+     */
+    private void replace(Long id, Entry entry, Game saved) {
+        if (saved == null || !saved.isPlaying()) {
+            entries.remove(id, entry);
+            return;
+        }
+        entry.game = saved;
+        entry.dirty = false;
+    }
+
+    private void evictInactive() {
+        long idleSince = System.currentTimeMillis() - idleTimeoutMs;
+        entries.forEach((id, entry) -> {
+            if (!entry.dirty && entry.lastAccess < idleSince) {
+                evict(id);
+            }
+        });
+    }
+
+    private static class Entry {
+        private final ReentrantLock lock = new ReentrantLock();
+        private Game game;
+        private volatile boolean dirty;
+        private volatile long lastAccess = System.currentTimeMillis();
+
+        private Entry(Game game) {
+            this.game = game;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package nl.hu.cisq1.lingo.trainer.application;
+
+import lombok.Getter;
+
+/**
+ * Published by the ActiveGameCache when the cached changes to a game are dropped,
+ * because the game was changed elsewhere. Progress published for those changes no longer holds.
+ */
+public class CachedChangesDroppedEvent {
+
+    @Getter private final Long gameId;
+
+    public CachedChangesDroppedEvent(Long gameId) {
+        this.gameId = gameId;
+    }
+}
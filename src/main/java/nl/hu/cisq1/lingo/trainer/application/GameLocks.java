@@ -0,0 +1,80 @@
+package nl.hu.cisq1.lingo.trainer.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Serializes work on the same game within this instance through a fixed number of lock stripes,
+ * set by lingo.games.lock-stripes. Requests for the same game queue in order, requests for
+ * games on other stripes run in parallel.
+ *
+ * Acquisitions that had to wait are counted in lingo.games.lock.contended and their waiting time
+ * is recorded in lingo.games.lock.wait. When many acquisitions wait while games are rarely
+ * played concurrently, games share stripes and more stripes are needed.
+ */
+@Component
+public class GameLocks {
+    private final ReentrantLock[] stripes;
+    private final Counter acquired;
+    private final Counter contended;
+    private final Timer waiting;
+
+    public GameLocks(@Value("${lingo.games.lock-stripes:64}") int stripeCount, MeterRegistry meterRegistry) {
+        if (stripeCount < 1) {
+            throw new IllegalArgumentException("At least one lock stripe is needed, got " + stripeCount);
+        }
+
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            this.stripes[i] = new ReentrantLock(true);
+        }
+
+        this.acquired = meterRegistry.counter("lingo.games.lock.acquired");
+        this.contended = meterRegistry.counter("lingo.games.lock.contended");
+        this.waiting = meterRegistry.timer("lingo.games.lock.wait");
+    }
+
+    public <T> T withLock(Long id, Supplier<T> work) {
+        ReentrantLock lock = stripeOf(id);
+        lock(lock);
+        try {
+            return work.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The untimed tryLock() barges past waiting requests, so the timed one is used,
+     * which only takes a free lock when no other request is queued for it.
+     */
+    private void lock(ReentrantLock lock) {
+        acquired.increment();
+        try {
+            if (lock.tryLock(0, TimeUnit.NANOSECONDS)) {
+                return;
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+
+        contended.increment();
+        long start = System.nanoTime();
+        lock.lock();
+        waiting.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Game ids are handed out in sequence, so consecutive games end up on consecutive stripes.
+     */
+    private ReentrantLock stripeOf(Long id) {
+        return stripes[Math.floorMod(Long.hashCode(id), stripes.length)];
+    }
+}
@@ -0,0 +1,19 @@
+package nl.hu.cisq1.lingo.trainer.application;
+
+import lombok.Getter;
+import nl.hu.cisq1.lingo.trainer.application.dto.ProgressDTO;
+
+/**
+ * Published by the GameService once a change to a game has been applied.
+ * Changes to games in the ActiveGameCache are published right away, before they are written
+ * with the next flush, which can still drop them (see CachedChangesDroppedEvent).
+ * Other changes are published once the transaction they were made in has been committed.
+ */
+public class GameProgressEvent {
+
+    @Getter private final ProgressDTO progress;
+
+    public GameProgressEvent(ProgressDTO progress) {
+        this.progress = progress;
+    }
+}
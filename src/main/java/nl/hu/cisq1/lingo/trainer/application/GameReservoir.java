@@ -0,0 +1,129 @@
+package nl.hu.cisq1.lingo.trainer.application;
+
+import nl.hu.cisq1.lingo.trainer.data.SpringGameRepository;
+import nl.hu.cisq1.lingo.trainer.domain.Game;
+import nl.hu.cisq1.lingo.trainer.domain.GameStatus;
+import nl.hu.cisq1.lingo.trainer.domain.GameStorage;
+import nl.hu.cisq1.lingo.words.application.WordService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Keeps lingo.games.reservoir.size games stored ahead of time, so a burst of new games
+ * is served from memory instead of inserting a game per request.
+ *
+ * Reserved games are hidden until they are claimed. The reservoir is refilled in one transaction
+ * every lingo.games.reservoir.refill-interval-ms; games that were reserved by an earlier run are
+ * taken over on the first refill.
+ *
+ * Claims are stored right away with a conditional update, so a claimed game is never taken over
+ * again after a restart, and a game taken over by several instances is only handed out once.
+ */
+@Component
+public class GameReservoir {
+    private static final Logger LOG = LoggerFactory.getLogger(GameReservoir.class);
+    private static final int FIRST_WORD_LENGTH = 5;
+
+    private final SpringGameRepository gameRepository;
+    private final WordService wordService;
+    private final TransactionTemplate transactionTemplate;
+    private final GameStorage storage;
+    private final int size;
+
+    private final Queue<Game> games = new ConcurrentLinkedQueue<>();
+    private boolean takenOver;
+
+    public GameReservoir(
+            SpringGameRepository gameRepository,
+            WordService wordService,
+            TransactionTemplate transactionTemplate,
+            @Value("${lingo.games.storage:NORMALIZED}") GameStorage storage,
+            @Value("${lingo.games.reservoir.size:100}") int size
+    ) {
+        this.gameRepository = gameRepository;
+        this.wordService = wordService;
+        this.transactionTemplate = transactionTemplate;
+        this.storage = storage;
+        this.size = size;
+    }
+
+    /**
+     * Takes a reserved game out of the reservoir and claims it. Only the claim is stored,
+     * so the caller is responsible for saving other changes to the game.
+     * Games that were claimed elsewhere are skipped.
+     */
+    public Optional<Game> claim() {
+        Game game;
+        while ((game = games.poll()) != null) {
+            Long id = game.getId();
+            Integer claimed = transactionTemplate.execute(status -> gameRepository.claimReserved(id));
+            if (claimed != null && claimed == 1) {
+                game.claim();
+                return Optional.of(game);
+            }
+            LOG.info("Reserved game {} was claimed elsewhere, skipping it", id);
+        }
+        return Optional.empty();
+    }
+
+    public int available() {
+        return games.size();
+    }
+
+    @Scheduled(
+            initialDelayString = "${lingo.games.reservoir.refill-interval-ms:1000}",
+            fixedDelayString = "${lingo.games.reservoir.refill-interval-ms:1000}"
+    )
+    public synchronized void refill() {
+        if (size < 1) {
+            return;
+        }
+
+        try {
+            if (!takenOver) {
+                games.addAll(transactionTemplate.execute(status -> findReserved()));
+                takenOver = true;
+            }
+
+            int missing = size - games.size();
+            if (missing > 0) {
+                games.addAll(transactionTemplate.execute(status -> reserve(missing)));
+            }
+        } catch (RuntimeException exception) {
+            LOG.warn("Could not refill the game reservoir, retrying on the next refill", exception);
+        }
+    }
+
+    /**
+     * The rounds of the games are loaded, as the games are played outside of this transaction.
+     */
+    private List<Game> findReserved() {
+        List<Game> reserved = gameRepository.findByGameStatus(GameStatus.RESERVED, PageRequest.of(0, size));
+        reserved.forEach(game -> game.getLatestRound().getFeedbackHistory().size());
+        return reserved;
+    }
+
+    private List<Game> reserve(int amount) {
+        List<Game> reserved = new ArrayList<>(amount);
+
+        for (int i = 0; i < amount; i++) {
+            Game game = new Game();
+            game.changeStorage(storage);
+            game.reserve(wordService.provideWord(FIRST_WORD_LENGTH, game.getWordSeed(), 0));
+            reserved.add(game);
+        }
+
+        return gameRepository.saveAll(reserved);
+    }
+}
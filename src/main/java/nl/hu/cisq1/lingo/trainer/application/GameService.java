@@ -1,80 +1,324 @@
 package nl.hu.cisq1.lingo.trainer.application;
 
 import javassist.NotFoundException;
+import nl.hu.cisq1.lingo.trainer.application.dto.GamePage;
+import nl.hu.cisq1.lingo.trainer.application.dto.GuessesDTO;
+import nl.hu.cisq1.lingo.trainer.data.GameSummary;
+import nl.hu.cisq1.lingo.trainer.data.LatestRound;
 import nl.hu.cisq1.lingo.trainer.data.SpringGameRepository;
+import nl.hu.cisq1.lingo.trainer.domain.Feedback;
 import nl.hu.cisq1.lingo.trainer.domain.Game;
+import nl.hu.cisq1.lingo.trainer.domain.GameSnapshot;
+import nl.hu.cisq1.lingo.trainer.domain.GameStatus;
+import nl.hu.cisq1.lingo.trainer.domain.GameStorage;
+import nl.hu.cisq1.lingo.trainer.domain.Round;
 import nl.hu.cisq1.lingo.trainer.domain.exception.GameNotFoundException;
 import nl.hu.cisq1.lingo.trainer.application.dto.ProgressDTO;
-import nl.hu.cisq1.lingo.words.data.SpringWordRepository;
-import nl.hu.cisq1.lingo.words.domain.Word;
-import nl.hu.cisq1.lingo.words.domain.exception.WordLengthNotSupportedException;
+import nl.hu.cisq1.lingo.words.application.WordService;
+import nl.hu.cisq1.lingo.words.domain.Dictionary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import javax.transaction.Transactional;
-import java.util.ArrayList;
-import java.util.List;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 
+/**
+ * Games are stored according to lingo.games.storage.
+ * Games stored differently are moved to that storage the next time they change.
+ *
+ * Guesses on games that are being played go through the ActiveGameCache,
+ * which writes them to the database in batches.
+ * Guesses and new rounds for the same game are serialized by the GameLocks.
+ * New games are taken from the GameReservoir when it has games left.
+ * Every change to a game is published as a GameProgressEvent.
+ */
 @Service
 @Transactional
 public class GameService {
 
     private final SpringGameRepository gameRepository;
-    private final SpringWordRepository wordRepository;
+    private final WordService wordService;
+    private final ActiveGameCache activeGames;
+    private final GameLocks gameLocks;
+    private final GameReservoir reservoir;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final GameStorage storage;
 
-    public GameService(SpringGameRepository gameRepository, SpringWordRepository wordRepository) {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public GameService(
+            SpringGameRepository gameRepository,
+            WordService wordService,
+            ActiveGameCache activeGames,
+            GameLocks gameLocks,
+            GameReservoir reservoir,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${lingo.games.storage:NORMALIZED}") GameStorage storage
+    ) {
         this.gameRepository = gameRepository;
-        this.wordRepository = wordRepository;
+        this.wordService = wordService;
+        this.activeGames = activeGames;
+        this.gameLocks = gameLocks;
+        this.reservoir = reservoir;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.storage = storage;
     }
 
+    /**
+     * Hands out a game from the GameReservoir when one is available. Its claim is stored right away,
+     * later changes are written with the flushes of the ActiveGameCache.
+     * Otherwise a new game is created in its own transaction.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ProgressDTO startGame() {
-        Game game = new Game();
-        Word wordToGuess = wordRepository.findRandomWordByLength(5).orElseThrow(() -> new WordLengthNotSupportedException(5));
-        game.startNewRound(wordToGuess.getValue());
+        Optional<Game> reserved = reservoir.claim();
+        if (reserved.isPresent()) {
+            Game game = reserved.get();
+            activeGames.add(game);
+            return convertGameToProgressDTO(game);
+        }
 
-        this.gameRepository.save(game);
+        return transactionTemplate.execute(status -> {
+            Game game = new Game();
+            game.changeStorage(storage);
+            game.startNewRound(provideNextWord(game));
 
-        return convertGameToProgressDTO(game);
+            this.gameRepository.save(game);
+
+            return convertGameToProgressDTO(game);
+        });
     }
 
+    /**
+     * Creates the games in one transaction.
+     * Their ids are taken in blocks and they are inserted in JDBC batches, see PooledIdGenerator.
+     */
+    public List<Long> startGames(int amount) {
+        List<Game> games = new ArrayList<>(amount);
+
+        for (int i = 0; i < amount; i++) {
+            Game game = new Game();
+            game.changeStorage(storage);
+            game.startNewRound(provideNextWord(game));
+            games.add(game);
+        }
+
+        List<Long> ids = new ArrayList<>(amount);
+        for (Game game : this.gameRepository.saveAll(games)) {
+            ids.add(game.getId());
+        }
+        return ids;
+    }
+
+    /**
+     * Progress is read without loading the game: only its columns and its latest round are read,
+     * in a read-only transaction.
+     */
+    @Transactional(readOnly = true)
     public ProgressDTO getProgress(Long id) {
-        Game game = getGameById(id);
-        return convertGameToProgressDTO(game);
+        Optional<ProgressDTO> cached = activeGames.read(id, this::convertGameToProgressDTO);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        GameSummary summary = this.gameRepository
+                .findSummaryById(id)
+                .orElseThrow(() -> new GameNotFoundException(id));
+
+        return convertSummariesToProgressDTOs(List.of(summary)).get(0);
     }
 
+    /**
+     * The revision is read from the game when it is cached, or from its column otherwise,
+     * so it can be checked without reading the progress.
+     */
+    @Transactional(readOnly = true)
+    public long getRevision(Long id) {
+        Optional<Long> cached = activeGames.read(id, Game::getRevision);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        return this.gameRepository
+                .findRevisionById(id)
+                .orElseThrow(() -> new GameNotFoundException(id));
+    }
+
+    /**
+     * Runs in its own transaction within the lock of the game, so the next request for the game
+     * only starts once this one is committed.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ProgressDTO startNewRound(Long id) {
-        Game game = getGameById(id);
-        int wordLength = game.provideNextWordLength();
+        return gameLocks.withLock(id, () -> publish(transactionTemplate.execute(status -> playNewRound(id))));
+    }
 
-        Word wordToGuess = wordRepository.findRandomWordByLength(wordLength).orElseThrow(() -> new WordLengthNotSupportedException(wordLength));
-        game.startNewRound(wordToGuess.getValue());
+    private ProgressDTO playNewRound(Long id) {
+        activeGames.evict(id);
+        Game game = getGameById(id);
+        game.changeStorage(storage);
+        game.startNewRound(provideNextWord(game));
 
         this.gameRepository.save(game);
 
         return convertGameToProgressDTO(game);
     }
 
+    private String provideNextWord(Game game) {
+        return wordService.provideWord(game.provideNextWordLength(), game.getWordSeed(), game.provideNextWordPosition());
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ProgressDTO guess(Long id, String attempt) {
-        Game game = getGameById(id);
-        game.guess(attempt);
-        this.gameRepository.save(game);
+        return guess(id, attempt, null);
+    }
 
-        return convertGameToProgressDTO(game);
+    /**
+     * Only plays the guess if the game is still at the expected revision, when one is given.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ProgressDTO guess(Long id, String attempt, Long expectedRevision) {
+        return gameLocks.withLock(id, () -> publish(activeGames.update(id, game -> {
+            game.checkRevision(expectedRevision);
+            game.changeStorage(storage);
+            game.guess(attempt, wordService.getDictionary());
+
+            return convertGameToProgressDTO(game);
+        })));
+    }
+
+    /**
+     * Plays the attempts in order as one change to the game, so they are loaded and saved once.
+     * Stops at the attempt that wins or loses the round; the attempts after it are not played.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public GuessesDTO guessAll(Long id, List<String> attempts, Long expectedRevision) {
+        return gameLocks.withLock(id, () -> {
+            GuessesDTO guesses = activeGames.update(id, game -> {
+                game.checkRevision(expectedRevision);
+                game.changeStorage(storage);
+                Dictionary dictionary = wordService.getDictionary();
+                List<Feedback> feedback = new ArrayList<>(attempts.size());
+
+                for (String attempt : attempts) {
+                    game.guess(attempt, dictionary);
+                    feedback.add(game.getLatestRound().getLastFeedback());
+
+                    if (!game.isPlaying()) {
+                        break;
+                    }
+                }
+
+                return new GuessesDTO(feedback, convertGameToProgressDTO(game));
+            });
+
+            publish(guesses.getProgress());
+            return guesses;
+        });
     }
 
-    public List<ProgressDTO> getAllGames() throws NotFoundException {
-        List<ProgressDTO> gamePresentationDTOS = new ArrayList<>();
-        List<Game> games = this.gameRepository.findAll();
+    /**
+     * Games are read page by page, ordered by id and continuing after the given cursor.
+     * Only the game columns and the latest rounds are read, the other rounds are never loaded.
+     */
+    @Transactional(readOnly = true)
+    public GamePage getGames(GameStatus status, Long after, int limit) throws NotFoundException {
+        long cursor = after == null ? 0 : after;
+        PageRequest page = PageRequest.of(0, limit + 1);
+        List<GameSummary> summaries = status == null
+                ? this.gameRepository.findSummariesAfter(cursor, page)
+                : this.gameRepository.findSummariesAfter(cursor, status, page);
 
-        if (games.isEmpty()) {
+        if (summaries.isEmpty() && status == null && after == null) {
             throw new NotFoundException("No games found!");
         }
 
-        for (Game game : games) {
-            gamePresentationDTOS.add(convertGameToProgressDTO(game));
+        Long nextCursor = null;
+        if (summaries.size() > limit) {
+            summaries = summaries.subList(0, limit);
+            nextCursor = summaries.get(limit - 1).getId();
         }
 
-        return gamePresentationDTOS;
+        return new GamePage(convertSummariesToProgressDTOs(summaries), nextCursor);
+    }
+
+    /**
+     * Passes the progress of every game to the consumer, ordered by id.
+     * Games are read through a forward-only cursor and converted in chunks. The persistence context
+     * is cleared after every chunk, so memory use does not grow with the number of games.
+     */
+    @Transactional(readOnly = true)
+    public void exportGames(Consumer<ProgressDTO> consumer) {
+        try (Stream<GameSummary> summaries = this.gameRepository.streamSummaries()) {
+            Iterator<GameSummary> iterator = summaries.iterator();
+            List<GameSummary> chunk = new ArrayList<>(SpringGameRepository.EXPORT_FETCH_SIZE);
+
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+
+                if (chunk.size() == SpringGameRepository.EXPORT_FETCH_SIZE || !iterator.hasNext()) {
+                    convertSummariesToProgressDTOs(chunk).forEach(consumer);
+                    chunk.clear();
+                    this.entityManager.clear();
+                }
+            }
+        }
+    }
+
+    private List<ProgressDTO> convertSummariesToProgressDTOs(List<GameSummary> summaries) {
+        Map<Long, Round> latestRounds = findLatestRounds(summaries);
+        List<ProgressDTO> games = new ArrayList<>();
+
+        for (GameSummary summary : summaries) {
+            games.add(activeGames
+                    .read(summary.getId(), this::convertGameToProgressDTO)
+                    .orElseGet(() -> convertSummaryToProgressDTO(summary, latestRounds.get(summary.getId()))));
+        }
+
+        return games;
+    }
+
+    private Map<Long, Round> findLatestRounds(List<GameSummary> summaries) {
+        Map<Long, Round> latestRounds = new HashMap<>();
+        List<Long> normalizedIds = new ArrayList<>();
+
+        for (GameSummary summary : summaries) {
+            if (summary.getStorage() == GameStorage.SNAPSHOT) {
+                GameSnapshot.latestRound(summary.getSnapshot())
+                        .ifPresent(round -> latestRounds.put(summary.getId(), round));
+            } else {
+                normalizedIds.add(summary.getId());
+            }
+        }
+
+        if (!normalizedIds.isEmpty()) {
+            for (LatestRound latestRound : this.gameRepository.findLatestRounds(normalizedIds)) {
+                latestRounds.put(latestRound.getGameId(), latestRound.getRound());
+            }
+        }
+
+        return latestRounds;
+    }
+
+    /**
+     * Published within the lock of the game, so listeners see the changes of a game in order.
+     */
+    private ProgressDTO publish(ProgressDTO progress) {
+        eventPublisher.publishEvent(new GameProgressEvent(progress));
+        return progress;
     }
 
     private Game getGameById(Long id) {
@@ -83,6 +327,7 @@ public class GameService {
 
     private ProgressDTO convertGameToProgressDTO(Game game) {
         return new ProgressDTO.Builder(game.getId())
+                .revision(game.getRevision())
                 .gameStatus(game.getGameStatus().getStatus())
                 .score(game.getScore())
                 .currentHint(game.getLatestRound().giveHint())
@@ -90,4 +335,14 @@ public class GameService {
                 .build();
     }
 
+    private ProgressDTO convertSummaryToProgressDTO(GameSummary summary, Round latestRound) {
+        return new ProgressDTO.Builder(summary.getId())
+                .revision(summary.getRevision())
+                .gameStatus(summary.getGameStatus().getStatus())
+                .score(summary.getScore())
+                .currentHint(latestRound == null ? null : latestRound.giveHint())
+                .feedbackHistory(latestRound == null ? List.of() : latestRound.getFeedbackHistory())
+                .build();
+    }
+
 }
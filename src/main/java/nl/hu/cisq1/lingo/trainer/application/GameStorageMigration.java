@@ -0,0 +1,64 @@
+package nl.hu.cisq1.lingo.trainer.application;
+
+import nl.hu.cisq1.lingo.trainer.data.SpringGameRepository;
+import nl.hu.cisq1.lingo.trainer.domain.Game;
+import nl.hu.cisq1.lingo.trainer.domain.GameStorage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Moves all games that are not stored as configured in lingo.games.storage to that storage.
+ * Every batch is migrated in its own transaction, so a failed run can simply be restarted.
+ */
+@Component
+@ConditionalOnProperty(name = "lingo.games.migrate-storage", havingValue = "true")
+public class GameStorageMigration implements ApplicationRunner {
+    private static final Logger LOG = LoggerFactory.getLogger(GameStorageMigration.class);
+    private static final int BATCH_SIZE = 100;
+
+    private final SpringGameRepository gameRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final GameStorage storage;
+
+    public GameStorageMigration(
+            SpringGameRepository gameRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${lingo.games.storage:NORMALIZED}") GameStorage storage
+    ) {
+        this.gameRepository = gameRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.storage = storage;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int migrated = 0;
+        int batch;
+
+        do {
+            batch = transactionTemplate.execute(status -> migrateBatch());
+            migrated += batch;
+        } while (batch > 0);
+
+        LOG.info("Migrated {} games to {} storage", migrated, storage);
+    }
+
+    private int migrateBatch() {
+        List<Long> ids = gameRepository.findIdsNotStoredAs(storage, PageRequest.of(0, BATCH_SIZE));
+
+        for (Game game : gameRepository.findAllById(ids)) {
+            game.changeStorage(storage);
+        }
+
+        return ids.size();
+    }
+}
@@ -0,0 +1,128 @@
+package nl.hu.cisq1.lingo.trainer.application;
+
+import nl.hu.cisq1.lingo.trainer.application.dto.ProgressDTO;
+import nl.hu.cisq1.lingo.trainer.domain.exception.IdempotencyKeyReusedException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Remembers the result of requests by their idempotency key, so a retried request
+ * gets the result of the first one instead of being played again.
+ *
+ * Keys are kept in memory for lingo.idempotency.ttl-ms, and at most lingo.idempotency.max-keys
+ * are kept at once; the oldest keys are forgotten first. Retries that arrive while the first
+ * request is still running wait for its result. Failed requests are forgotten right away,
+ * so they can be retried.
+ */
+@Component
+public class IdempotencyStore {
+    private final int maxKeys;
+    private final long ttlMs;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+
+    public IdempotencyStore(
+            @Value("${lingo.idempotency.max-keys:10000}") int maxKeys,
+            @Value("${lingo.idempotency.ttl-ms:600000}") long ttlMs
+    ) {
+        if (maxKeys < 1) {
+            throw new IllegalArgumentException("At least one idempotency key must be kept, got " + maxKeys);
+        }
+        this.maxKeys = maxKeys;
+        this.ttlMs = ttlMs;
+    }
+
+    /**
+     * Runs the request, unless a request with the same key was run before.
+     * The request describes what was asked, such as the attempt of a guess, so a key
+     * that is reused for another request is rejected instead of answered with the wrong result.
+     */
+    public ProgressDTO execute(String key, String request, Supplier<ProgressDTO> work) {
+        Entry entry;
+        boolean first = false;
+
+        synchronized (entries) {
+            long now = System.currentTimeMillis();
+            removeExpired(now);
+
+            entry = entries.get(key);
+            if (entry == null) {
+                entry = new Entry(request, now + ttlMs);
+                entries.put(key, entry);
+                removeEldest();
+                first = true;
+            } else if (!entry.request.equals(request)) {
+                throw new IdempotencyKeyReusedException(key);
+            }
+        }
+
+        return first ? run(key, entry, work) : await(entry.result);
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private ProgressDTO run(String key, Entry entry, Supplier<ProgressDTO> work) {
+        try {
+            ProgressDTO result = work.get();
+            entry.result.complete(result);
+            return result;
+        } catch (RuntimeException | Error exception) {
+            synchronized (entries) {
+                entries.remove(key, entry);
+            }
+            entry.result.completeExceptionally(exception);
+            throw exception;
+        }
+    }
+
+    private static ProgressDTO await(CompletableFuture<ProgressDTO> result) {
+        try {
+            return result.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) exception.getCause();
+            }
+            throw exception;
+        }
+    }
+
+    /**
+     * All keys live equally long, so the keys that expire first are at the head of the map.
+     */
+    private void removeExpired(long now) {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext() && iterator.next().expiresAt <= now) {
+            iterator.remove();
+        }
+    }
+
+    private void removeEldest() {
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (entries.size() > maxKeys) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private static class Entry {
+        private final String request;
+        private final long expiresAt;
+        private final CompletableFuture<ProgressDTO> result = new CompletableFuture<>();
+
+        private Entry(String request, long expiresAt) {
+            this.request = request;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
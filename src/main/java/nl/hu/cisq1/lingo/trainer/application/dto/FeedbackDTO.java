@@ -0,0 +1,27 @@
+package nl.hu.cisq1.lingo.trainer.application.dto;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import nl.hu.cisq1.lingo.trainer.domain.Feedback;
+import nl.hu.cisq1.lingo.trainer.domain.Mark;
+
+import java.util.List;
+
+/**
+ * The attempt and its marks, without the internals of the stored feedback.
+ */
+@EqualsAndHashCode
+public class FeedbackDTO {
+
+    @Getter private final String attempt;
+    @Getter private final List<Mark> marks;
+
+    public FeedbackDTO(String attempt, List<Mark> marks) {
+        this.attempt = attempt;
+        this.marks = List.copyOf(marks);
+    }
+
+    public static FeedbackDTO of(Feedback feedback) {
+        return new FeedbackDTO(feedback.getAttempt(), feedback.getMarks());
+    }
+}
@@ -0,0 +1,22 @@
+package nl.hu.cisq1.lingo.trainer.application.dto;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * One page of games ordered by id.
+ * The next cursor is the id to continue after, or null on the last page.
+ */
+@EqualsAndHashCode
+public class GamePage {
+
+    @Getter private final List<ProgressDTO> games;
+    @Getter private final Long nextCursor;
+
+    public GamePage(List<ProgressDTO> games, Long nextCursor) {
+        this.games = List.copyOf(games);
+        this.nextCursor = nextCursor;
+    }
+}
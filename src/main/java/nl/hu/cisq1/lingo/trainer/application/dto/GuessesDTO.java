@@ -0,0 +1,28 @@
+package nl.hu.cisq1.lingo.trainer.application.dto;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import nl.hu.cisq1.lingo.trainer.domain.Feedback;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The feedback on every attempt that was played, in order, and the progress after the last one.
+ * Attempts after the round was won or lost are not played, so they have no feedback.
+ */
+@EqualsAndHashCode
+public class GuessesDTO {
+
+    @Getter private final List<FeedbackDTO> feedback;
+    @Getter private final ProgressDTO progress;
+
+    public GuessesDTO(List<Feedback> feedback, ProgressDTO progress) {
+        List<FeedbackDTO> played = new ArrayList<>(feedback.size());
+        for (Feedback attempt : feedback) {
+            played.add(FeedbackDTO.of(attempt));
+        }
+        this.feedback = List.copyOf(played);
+        this.progress = progress;
+    }
+}
@@ -4,27 +4,74 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import nl.hu.cisq1.lingo.trainer.domain.Feedback;
 
+import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Progress holds a copy of the feedback history, as games that are being played keep changing in memory.
+ *
+ * The feedback history may start at a later attempt of the latest round, when the client already
+ * has the earlier ones; feedbackFrom is the number of the first attempt it holds, counting from 0.
+ *
+ * The revision of a game goes up once for every round that is started and once for every attempt,
+ * so the latest round was started at the revision of the game minus its number of attempts.
+ */
 @EqualsAndHashCode
 public class ProgressDTO {
 
     @Getter private final Long id;
+    @Getter private final Long revision;
     @Getter private final String gameStatus;
     @Getter private final Integer score;
-    @Getter private final List<Feedback> feedbackHistory;
+    @Getter private final int feedbackFrom;
+    @Getter private final List<FeedbackDTO> feedbackHistory;
     @Getter private final String currentHint;
 
     private ProgressDTO(Builder builder) {
         this.id = builder.id;
+        this.revision = builder.revision;
         this.gameStatus = builder.gameStatus;
         this.score = builder.score;
-        this.feedbackHistory = builder.feedbackHistory;
+        this.feedbackFrom = 0;
         this.currentHint = builder.currentHint;
+
+        List<FeedbackDTO> history = new ArrayList<>(builder.feedbackHistory.size());
+        for (Feedback feedback : builder.feedbackHistory) {
+            history.add(FeedbackDTO.of(feedback));
+        }
+        this.feedbackHistory = List.copyOf(history);
+    }
+
+    private ProgressDTO(ProgressDTO progress, int feedbackFrom) {
+        this.id = progress.id;
+        this.revision = progress.revision;
+        this.gameStatus = progress.gameStatus;
+        this.score = progress.score;
+        this.feedbackFrom = feedbackFrom;
+        this.feedbackHistory = progress.feedbackHistory.subList(feedbackFrom, progress.feedbackHistory.size());
+        this.currentHint = progress.currentHint;
+    }
+
+    /**
+     * Leaves out the feedback on the attempts the client already has, given the revision of the
+     * progress it has. When that revision is not one of the latest round, the client has not seen
+     * this round yet, and its whole feedback history is kept.
+     */
+    public ProgressDTO since(long revision) {
+        if (this.revision == null || feedbackFrom != 0) {
+            return this;
+        }
+
+        long roundStarted = this.revision - feedbackHistory.size();
+        if (revision <= roundStarted || revision > this.revision) {
+            return this;
+        }
+        return new ProgressDTO(this, (int) (revision - roundStarted));
     }
 
     public static class Builder {
         private final Long id;
+        private Long revision;
         private String gameStatus;
         private Integer score;
         private List<Feedback> feedbackHistory;
@@ -34,6 +81,11 @@ public class ProgressDTO {
             this.id = id;
         }
 
+        public Builder revision(Long revision) {
+            this.revision = revision;
+            return this;
+        }
+
         public Builder gameStatus(String gameStatus) {
             this.gameStatus = gameStatus;
             return this;
@@ -59,4 +111,3 @@ public class ProgressDTO {
         }
     }
 }
-
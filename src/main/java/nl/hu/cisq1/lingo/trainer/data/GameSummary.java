@@ -0,0 +1,22 @@
+package nl.hu.cisq1.lingo.trainer.data;
+
+import nl.hu.cisq1.lingo.trainer.domain.GameStatus;
+import nl.hu.cisq1.lingo.trainer.domain.GameStorage;
+
+/**
+ * Projection of the columns of a game row that are needed to show its progress.
+ * The snapshot is only filled for games stored as a snapshot.
+ */
+public interface GameSummary {
+    Long getId();
+
+    GameStatus getGameStatus();
+
+    int getScore();
+
+    long getRevision();
+
+    GameStorage getStorage();
+
+    byte[] getSnapshot();
+}
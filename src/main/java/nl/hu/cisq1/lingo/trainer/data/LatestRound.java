@@ -0,0 +1,12 @@
+package nl.hu.cisq1.lingo.trainer.data;
+
+import nl.hu.cisq1.lingo.trainer.domain.Round;
+
+/**
+ * Projection of the latest round of a game stored in normalized tables.
+ */
+public interface LatestRound {
+    Long getGameId();
+
+    Round getRound();
+}
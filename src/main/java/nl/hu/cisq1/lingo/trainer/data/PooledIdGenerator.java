@@ -0,0 +1,38 @@
+package nl.hu.cisq1.lingo.trainer.data;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+
+/**
+ * Takes ids in blocks from hibernate_sequence, so only one in every allocation size inserts
+ * calls the sequence.
+ *
+ * The allocation size is read from the Hibernate setting lingo.ids.allocation-size
+ * (spring.jpa.properties.lingo.ids.allocation-size) and must equal the increment of the sequence.
+ * Hibernate refuses to start when they differ, see development/db/migrations/pooled_ids.sql.
+ */
+public class PooledIdGenerator extends SequenceStyleGenerator {
+    public static final String ALLOCATION_SIZE_SETTING = "lingo.ids.allocation-size";
+    private static final int DEFAULT_ALLOCATION_SIZE = 50;
+
+    @Override
+    public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) throws MappingException {
+        int allocationSize = ConfigurationHelper.getInt(
+                ALLOCATION_SIZE_SETTING,
+                serviceRegistry.getService(ConfigurationService.class).getSettings(),
+                DEFAULT_ALLOCATION_SIZE
+        );
+
+        params.setProperty(INCREMENT_PARAM, String.valueOf(allocationSize));
+        params.setProperty(OPT_PARAM, StandardOptimizerDescriptor.POOLED_LO.getExternalName());
+
+        super.configure(type, params, serviceRegistry);
+    }
+}
@@ -1,10 +1,87 @@
 package nl.hu.cisq1.lingo.trainer.data;
 
 import nl.hu.cisq1.lingo.trainer.domain.Game;
+import nl.hu.cisq1.lingo.trainer.domain.GameStatus;
+import nl.hu.cisq1.lingo.trainer.domain.GameStorage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
 @Repository
 public interface SpringGameRepository extends JpaRepository<Game, Long> {
+    int EXPORT_FETCH_SIZE = 500;
+    /**
+     * Reserved games are created ahead of time and only become visible once claimed by a player.
+     */
+    String RESERVED = "nl.hu.cisq1.lingo.trainer.domain.GameStatus.RESERVED";
+
+    List<Game> findByGameStatus(GameStatus status, Pageable pageable);
+
+    /**
+     * Loads the game together with its rounds, for games that are used after the transaction that loaded them.
+     */
+    @EntityGraph(attributePaths = "rounds")
+    Optional<Game> findWithRoundsById(Long id);
+
+    /**
+     * Claims the reserved game in the database, unless it was claimed already, such as by another instance.
+     *
+     * @return 1 when the game was claimed, 0 otherwise
+     */
+    @Modifying
+    @Query("UPDATE Game g SET g.gameStatus = nl.hu.cisq1.lingo.trainer.domain.GameStatus.PLAYING " +
+            "WHERE g.id = :id AND g.gameStatus = " + RESERVED)
+    int claimReserved(@Param("id") Long id);
+
+    @Query("SELECT g.id FROM Game g WHERE g.storage IS NULL OR g.storage <> :storage ORDER BY g.id")
+    List<Long> findIdsNotStoredAs(@Param("storage") GameStorage storage, Pageable pageable);
+
+    @Query("SELECT g.id AS id, g.gameStatus AS gameStatus, g.score AS score, g.revision AS revision, g.storage AS storage, g.snapshot AS snapshot " +
+            "FROM Game g WHERE g.id = :id AND g.gameStatus <> " + RESERVED)
+    Optional<GameSummary> findSummaryById(@Param("id") Long id);
+
+    @Query("SELECT g.revision FROM Game g WHERE g.id = :id AND g.gameStatus <> " + RESERVED)
+    Optional<Long> findRevisionById(@Param("id") Long id);
+
+    @Query("SELECT g.id AS id, g.gameStatus AS gameStatus, g.score AS score, g.revision AS revision, g.storage AS storage, g.snapshot AS snapshot " +
+            "FROM Game g WHERE g.id > :after AND g.gameStatus <> " + RESERVED + " ORDER BY g.id")
+    List<GameSummary> findSummariesAfter(@Param("after") long after, Pageable pageable);
+
+    @Query("SELECT g.id AS id, g.gameStatus AS gameStatus, g.score AS score, g.revision AS revision, g.storage AS storage, g.snapshot AS snapshot " +
+            "FROM Game g WHERE g.id > :after AND g.gameStatus = :status AND g.gameStatus <> " + RESERVED + " ORDER BY g.id")
+    List<GameSummary> findSummariesAfter(@Param("after") long after, @Param("status") GameStatus status, Pageable pageable);
+
+    /**
+     * Reads all games through a forward-only cursor, fetching EXPORT_FETCH_SIZE rows at a time.
+     * The stream must be consumed within a transaction and closed afterwards.
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query("SELECT g.id AS id, g.gameStatus AS gameStatus, g.score AS score, g.revision AS revision, g.storage AS storage, g.snapshot AS snapshot " +
+            "FROM Game g WHERE g.gameStatus <> " + RESERVED + " ORDER BY g.id")
+    Stream<GameSummary> streamSummaries();
 
+    /**
+     * The rounds are loaded read-only, as they are only used to show progress.
+     */
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
+    @Query("SELECT g.id AS gameId, r AS round FROM Game g JOIN g.rounds r " +
+            "WHERE g.id IN :ids AND r.id = (SELECT MAX(latest.id) FROM Game owner JOIN owner.rounds latest WHERE owner = g)")
+    List<LatestRound> findLatestRounds(@Param("ids") Collection<Long> ids);
 }
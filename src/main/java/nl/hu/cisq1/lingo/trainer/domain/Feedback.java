@@ -1,34 +1,57 @@
 package nl.hu.cisq1.lingo.trainer.domain;
 
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
 
 import javax.persistence.*;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.List;
 
+/**
+ * Feedback works on the packed marks of the FeedbackEngine, which are persisted as they are
+ * in a single column of the feedback row.
+ */
 @Entity
 @EqualsAndHashCode
 @NoArgsConstructor
 public class Feedback {
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(generator = "feedback_id")
+    @GenericGenerator(name = "feedback_id", strategy = "nl.hu.cisq1.lingo.trainer.data.PooledIdGenerator")
     private Long id;
 
-    private String attempt;
+    @Getter private String attempt;
 
-    @ElementCollection
-    private List<Mark> marks;
+    @Column(name = "marks", nullable = false)
+    private int packedMarks;
 
     public Feedback(String attempt, List<Mark> marks) {
+        this(attempt, FeedbackEngine.pack(marks));
+    }
+
+    public Feedback(String attempt, int packedMarks) {
         this.attempt = attempt;
-        this.marks = marks;
+        this.packedMarks = packedMarks;
+    }
+
+    void writeTo(DataOutput output) throws IOException {
+        output.writeUTF(attempt);
+        output.writeInt(packedMarks);
+    }
+
+    static Feedback readFrom(DataInput input) throws IOException {
+        return new Feedback(input.readUTF(), input.readInt());
     }
 
     public String giveHint(String previousHint) {
         StringBuilder newHint = new StringBuilder();
 
         for(int i = 0; i < previousHint.length(); i++) {
-            if (marks.get(i) == Mark.CORRECT) {
+            if (FeedbackEngine.markAt(packedMarks, i) == Mark.CORRECT) {
                 newHint.append(attempt.charAt(i));
             } else if (previousHint.charAt(i) != '.') {
                 newHint.append(previousHint.charAt(i));
@@ -39,12 +62,23 @@ public class Feedback {
         return newHint.toString();
     }
 
+    /**
+     * A bitmask with bit i set when the letter at position i of the attempt is correct.
+     */
+    public int correctPositions() {
+        return FeedbackEngine.correctPositions(packedMarks);
+    }
+
+    public List<Mark> getMarks() {
+        return FeedbackEngine.unpack(packedMarks);
+    }
+
     public boolean isWordGuessed() {
-        return marks.stream().allMatch(mark -> mark == Mark.CORRECT);
+        return FeedbackEngine.isAllCorrect(packedMarks);
     }
 
     public boolean isAttemptValid() {
-        return marks.stream().noneMatch(mark -> mark == Mark.INVALID);
+        return !FeedbackEngine.hasInvalid(packedMarks);
     }
 
 }
@@ -0,0 +1,189 @@
+package nl.hu.cisq1.lingo.trainer.domain;
+
+import nl.hu.cisq1.lingo.words.domain.PackedWord;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Scores attempts against a word without allocating.
+ *
+ * The marks of an attempt are packed into a single int: the lowest 4 bits hold the
+ * word length, followed by 2 bits per position holding the ordinal of its Mark.
+ * Packed marks are stored as they are, and only unpacked into a List of Marks for presentation,
+ * which keeps this usable for bulk simulations as well.
+ */
+public final class FeedbackEngine {
+    public static final int MAX_WORD_LENGTH = 14;
+
+    private static final int LENGTH_BITS = 4;
+    private static final int LENGTH_MASK = (1 << LENGTH_BITS) - 1;
+    private static final int MARK_BITS = 2;
+    private static final int MARK_MASK = (1 << MARK_BITS) - 1;
+    private static final int LOW_BITS_OF_MARKS = 0x55555555;
+    private static final Mark[] MARKS = Mark.values();
+
+    private FeedbackEngine() {
+    }
+
+    /**
+     * The first pass marks every correct position and remembers the positions of the word
+     * that are still unmatched in a bitmask. The second pass lets every other position of the
+     * attempt claim one unmatched letter of the word, so duplicated letters are only marked
+     * present as often as they occur in the word.
+     */
+    public static int score(CharSequence attempt, CharSequence wordToGuess) {
+        int length = wordToGuess.length();
+        if (attempt.length() != length) {
+            return invalid(length);
+        }
+
+        int packed = checkLength(length);
+        int unmatched = 0;
+
+        for (int i = 0; i < length; i++) {
+            if (attempt.charAt(i) == wordToGuess.charAt(i)) {
+                packed |= Mark.CORRECT.ordinal() << shift(i);
+            } else {
+                unmatched |= 1 << i;
+            }
+        }
+
+        int available = unmatched;
+        for (int remaining = unmatched; remaining != 0; remaining &= remaining - 1) {
+            int i = Integer.numberOfTrailingZeros(remaining);
+            char letter = attempt.charAt(i);
+            int mark = Mark.ABSENT.ordinal();
+
+            for (int candidates = available; candidates != 0; candidates &= candidates - 1) {
+                int j = Integer.numberOfTrailingZeros(candidates);
+                if (wordToGuess.charAt(j) == letter) {
+                    available &= ~(1 << j);
+                    mark = Mark.PRESENT.ordinal();
+                    break;
+                }
+            }
+            packed |= mark << shift(i);
+        }
+
+        return packed;
+    }
+
+    /**
+     * Scores words packed by PackedWord the same way, comparing a letter at a time as a field of a long.
+     * An attempt that could not be packed is invalid.
+     */
+    public static int score(long attempt, long wordToGuess) {
+        int length = PackedWord.length(wordToGuess);
+        if (PackedWord.length(attempt) != length) {
+            return invalid(length);
+        }
+
+        int packed = checkLength(length);
+        long differences = attempt ^ wordToGuess;
+        int unmatched = 0;
+
+        for (int i = 0; i < length; i++) {
+            if (PackedWord.letterAt(differences, i) == 0) {
+                packed |= Mark.CORRECT.ordinal() << shift(i);
+            } else {
+                unmatched |= 1 << i;
+            }
+        }
+
+        int available = unmatched;
+        for (int remaining = unmatched; remaining != 0; remaining &= remaining - 1) {
+            int i = Integer.numberOfTrailingZeros(remaining);
+            int letter = PackedWord.letterAt(attempt, i);
+            int mark = Mark.ABSENT.ordinal();
+
+            for (int candidates = available; candidates != 0; candidates &= candidates - 1) {
+                int j = Integer.numberOfTrailingZeros(candidates);
+                if (PackedWord.letterAt(wordToGuess, j) == letter) {
+                    available &= ~(1 << j);
+                    mark = Mark.PRESENT.ordinal();
+                    break;
+                }
+            }
+            packed |= mark << shift(i);
+        }
+
+        return packed;
+    }
+
+    public static int invalid(int length) {
+        return checkLength(length);
+    }
+
+    public static int length(int packed) {
+        return packed & LENGTH_MASK;
+    }
+
+    /**
+     * Positions beyond the length of the marks are reported as invalid.
+     */
+    public static Mark markAt(int packed, int position) {
+        if (position < 0 || position >= length(packed)) {
+            return Mark.INVALID;
+        }
+        return MARKS[(packed >>> shift(position)) & MARK_MASK];
+    }
+
+    public static boolean isAllCorrect(int packed) {
+        int marks = packed >>> LENGTH_BITS;
+        return marks == markBits(length(packed));
+    }
+
+    public static boolean hasInvalid(int packed) {
+        int marks = packed >>> LENGTH_BITS;
+        int lowBits = LOW_BITS_OF_MARKS & markBits(length(packed));
+        int nonZeroPositions = (marks | (marks >>> 1)) & lowBits;
+        return nonZeroPositions != lowBits;
+    }
+
+    /**
+     * A bitmask with bit i set when position i is marked correct.
+     */
+    public static int correctPositions(int packed) {
+        int marks = packed >>> LENGTH_BITS;
+        int correct = marks & (marks >>> 1) & LOW_BITS_OF_MARKS & markBits(length(packed));
+
+        int positions = 0;
+        for (int remaining = correct; remaining != 0; remaining &= remaining - 1) {
+            positions |= 1 << (Integer.numberOfTrailingZeros(remaining) / MARK_BITS);
+        }
+        return positions;
+    }
+
+    public static int pack(List<Mark> marks) {
+        int packed = checkLength(marks.size());
+        for (int i = 0; i < marks.size(); i++) {
+            packed |= marks.get(i).ordinal() << shift(i);
+        }
+        return packed;
+    }
+
+    public static List<Mark> unpack(int packed) {
+        int length = length(packed);
+        List<Mark> marks = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            marks.add(markAt(packed, i));
+        }
+        return marks;
+    }
+
+    private static int shift(int position) {
+        return LENGTH_BITS + position * MARK_BITS;
+    }
+
+    private static int markBits(int length) {
+        return (1 << (length * MARK_BITS)) - 1;
+    }
+
+    private static int checkLength(int length) {
+        if (length > MAX_WORD_LENGTH) {
+            throw new IllegalArgumentException("Words can have at most " + MAX_WORD_LENGTH + " letters, got " + length);
+        }
+        return length;
+    }
+}
@@ -2,34 +2,66 @@ package nl.hu.cisq1.lingo.trainer.domain;
 
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import nl.hu.cisq1.lingo.trainer.domain.exception.GameConflictException;
 import nl.hu.cisq1.lingo.trainer.domain.exception.GameStateException;
+import nl.hu.cisq1.lingo.words.domain.Dictionary;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.CascadeType;
+import org.hibernate.annotations.GenericGenerator;
 
 import javax.persistence.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
 import static nl.hu.cisq1.lingo.trainer.domain.GameStatus.*;
 
+/**
+ * Depending on its storage, the rounds of a game live either in their own tables
+ * or in a serialized snapshot on the game row (see GameStorage).
+ */
 @Entity
 @Table(name = "game")
 @NoArgsConstructor
 public class Game {
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(generator = "game_id")
+    @GenericGenerator(name = "game_id", strategy = "nl.hu.cisq1.lingo.trainer.data.PooledIdGenerator")
     @Getter private Long id;
 
     @Enumerated(EnumType.STRING)
     @Getter private GameStatus gameStatus = WAITING_FOR_ROUND;
 
-    @OneToMany
-    @JoinColumn
+    @Enumerated(EnumType.STRING)
+    private GameStorage storage = GameStorage.NORMALIZED;
+
+    @OneToMany(orphanRemoval = true)
+    @JoinColumn(name = "rounds_id")
     @Cascade(CascadeType.ALL)
     private final List<Round> rounds = new ArrayList<>();
 
+    @Column(length = GameSnapshot.MAX_SIZE)
+    private byte[] snapshot;
+
+    @Transient
+    private List<Round> snapshotRounds;
+
     @Getter private int score = 0;
 
+    /**
+     * Seeds the order in which this game is given words, so no word comes back until all words
+     * of its length were played. Games stored before they had a seed use their id instead.
+     */
+    private Long wordSeed = ThreadLocalRandom.current().nextLong();
+
+    /**
+     * Counts the changes to this game, so clients can tell whether the game changed since they last saw it.
+     */
+    @Getter private long revision = 0;
+
+    @Version
+    private Long version;
+
 
     public void startNewRound(String wordToGuess) {
         if (gameStatus != WAITING_FOR_ROUND) {
@@ -37,20 +69,53 @@ public class Game {
         }
 
         Round round = new Round(wordToGuess);
-        rounds.add(round);
+        rounds().add(round);
+
+        gameStatus = PLAYING;
+        revision++;
+        storeSnapshot();
+    }
 
+    /**
+     * Prepares the first round of a game that is created ahead of time.
+     * A reserved game cannot be played until it is claimed.
+     */
+    public void reserve(String wordToGuess) {
+        startNewRound(wordToGuess);
+        gameStatus = RESERVED;
+    }
+
+    public void claim() {
+        if (gameStatus != RESERVED) {
+            throw new GameStateException(gameStatus);
+        }
         gameStatus = PLAYING;
     }
 
     public void guess(String attempt) {
+        guess(attempt, word -> true);
+    }
+
+    public void guess(String attempt, Dictionary dictionary) {
         if (gameStatus != PLAYING) {
             throw new GameStateException(gameStatus);
         }
 
-        getLatestRound().guess(attempt);
+        getLatestRound().guess(attempt, dictionary);
 
         checkPlayerEliminated();
         checkPlayerVictory();
+        revision++;
+        storeSnapshot();
+    }
+
+    /**
+     * Fails when the game changed since the revision the client expects, if it expects one.
+     */
+    public void checkRevision(Long expectedRevision) {
+        if (expectedRevision != null && expectedRevision != revision) {
+            throw new GameConflictException(id, expectedRevision, revision);
+        }
     }
 
     public void checkPlayerEliminated() {
@@ -67,22 +132,87 @@ public class Game {
     }
 
     public Round getLatestRound() {
-        if(rounds.isEmpty()) {
+        List<Round> currentRounds = rounds();
+        if(currentRounds.isEmpty()) {
             throw new GameStateException(gameStatus);
         }
-        return rounds.get(rounds.size() - 1);
+        return currentRounds.get(currentRounds.size() - 1);
     }
 
     public Integer provideNextWordLength() {
         int maxWordLength = 7;
-        if (rounds.isEmpty() || getLatestRound().getCurrentWordLength() == maxWordLength) {
+        if (rounds().isEmpty() || getLatestRound().getCurrentWordLength() == maxWordLength) {
             return 5;
         }
         return getLatestRound().getCurrentWordLength()+1;
     }
 
+    /**
+     * The position of the next word in the word order of this game: the number of rounds
+     * that were played with words of the next length.
+     */
+    public int provideNextWordPosition() {
+        int wordLength = provideNextWordLength();
+        int position = 0;
+        for (Round round : rounds()) {
+            if (round.getCurrentWordLength() == wordLength) {
+                position++;
+            }
+        }
+        return position;
+    }
+
+    public long getWordSeed() {
+        return wordSeed == null ? id : wordSeed;
+    }
+
     public boolean isPlaying() {
         return gameStatus == PLAYING;
     }
 
+    public GameStorage getStorage() {
+        return storage == null ? GameStorage.NORMALIZED : storage;
+    }
+
+    /**
+     * Moves the rounds of this game to the given storage.
+     * Round rows are removed when moving to a snapshot and recreated when moving back.
+     */
+    public void changeStorage(GameStorage target) {
+        if (getStorage() == target) {
+            storage = target;
+            return;
+        }
+
+        List<Round> currentRounds = new ArrayList<>(rounds());
+
+        if (target == GameStorage.SNAPSHOT) {
+            snapshot = GameSnapshot.encode(currentRounds);
+            snapshotRounds = GameSnapshot.decode(snapshot);
+            rounds.clear();
+        } else {
+            rounds.addAll(currentRounds);
+            snapshotRounds = null;
+            snapshot = null;
+        }
+
+        storage = target;
+    }
+
+    private List<Round> rounds() {
+        if (getStorage() == GameStorage.NORMALIZED) {
+            return rounds;
+        }
+        if (snapshotRounds == null) {
+            snapshotRounds = GameSnapshot.decode(snapshot);
+        }
+        return snapshotRounds;
+    }
+
+    private void storeSnapshot() {
+        if (getStorage() == GameStorage.SNAPSHOT) {
+            snapshot = GameSnapshot.encode(snapshotRounds);
+        }
+    }
+
 }
@@ -0,0 +1,63 @@
+package nl.hu.cisq1.lingo.trainer.domain;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Serializes the rounds of a game into a compact, versioned binary snapshot.
+ *
+ * The first byte holds the format version, so older snapshots stay readable
+ * when the format changes.
+ */
+public final class GameSnapshot {
+    static final int MAX_SIZE = 1024 * 1024;
+
+    private static final byte FORMAT_VERSION = 1;
+
+    private GameSnapshot() {
+    }
+
+    static byte[] encode(List<Round> rounds) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 * (rounds.size() + 1));
+
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeByte(FORMAT_VERSION);
+            output.writeInt(rounds.size());
+            for (Round round : rounds) {
+                round.writeTo(output);
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    public static Optional<Round> latestRound(byte[] snapshot) {
+        List<Round> rounds = decode(snapshot);
+        if (rounds.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(rounds.get(rounds.size() - 1));
+    }
+
+    static List<Round> decode(byte[] snapshot) {
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(snapshot))) {
+            byte version = input.readByte();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalStateException("Unsupported game snapshot version: " + version);
+            }
+
+            int roundCount = input.readInt();
+            List<Round> rounds = new ArrayList<>(roundCount);
+            for (int i = 0; i < roundCount; i++) {
+                rounds.add(Round.readFrom(input));
+            }
+            return rounds;
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
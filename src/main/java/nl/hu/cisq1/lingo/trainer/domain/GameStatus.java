@@ -3,7 +3,8 @@ package nl.hu.cisq1.lingo.trainer.domain;
 public enum GameStatus {
     WAITING_FOR_ROUND("WAITING_FOR_ROUND"),
     PLAYING("PLAYING"),
-    ELIMINATED("ELIMINATED");
+    ELIMINATED("ELIMINATED"),
+    RESERVED("RESERVED");
 
     private final String status;
 
@@ -0,0 +1,14 @@
+package nl.hu.cisq1.lingo.trainer.domain;
+
+/**
+ * How the rounds of a game are persisted.
+ *
+ * NORMALIZED stores rounds and feedback in their own tables, with the marks of
+ * every attempt packed into a column of its feedback row.
+ * SNAPSHOT stores all rounds as a single serialized column on the game row,
+ * so loading and saving a game touches only that row.
+ */
+public enum GameStorage {
+    NORMALIZED,
+    SNAPSHOT
+}
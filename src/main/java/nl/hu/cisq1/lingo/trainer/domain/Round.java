@@ -5,10 +5,16 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import nl.hu.cisq1.lingo.trainer.domain.exception.AttemptLimitReachedException;
 import nl.hu.cisq1.lingo.trainer.domain.exception.NoFeedbackFoundException;
+import nl.hu.cisq1.lingo.words.domain.Dictionary;
+import nl.hu.cisq1.lingo.words.domain.PackedWord;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.CascadeType;
+import org.hibernate.annotations.GenericGenerator;
 
 import javax.persistence.*;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.*;
 
 @Entity
@@ -16,7 +22,8 @@ import java.util.*;
 @NoArgsConstructor
 public class Round {
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(generator = "round_id")
+    @GenericGenerator(name = "round_id", strategy = "nl.hu.cisq1.lingo.trainer.data.PooledIdGenerator")
     private Long id;
 
     @OneToMany
@@ -29,73 +36,151 @@ public class Round {
     private String wordToGuess;
     private String lastHint;
 
+    /**
+     * The positions of the word that are revealed, bit i for position i. Only the hint is stored,
+     * so rounds that are loaded get their revealed positions on first use.
+     */
+    @Transient
+    @EqualsAndHashCode.Exclude
+    private int revealed;
+
+    @Transient
+    @EqualsAndHashCode.Exclude
+    private String hint;
+
+    /**
+     * The word to guess packed by PackedWord, or 0 when it is not packed yet.
+     */
+    @Transient
+    @EqualsAndHashCode.Exclude
+    private long packedWord;
+
     public Round(String wordToGuess) {
         this.wordToGuess = wordToGuess;
-        this.lastHint = getBaseHint();
+        this.revealed = 1;
+        this.hint = hintOf(revealed);
+        this.lastHint = hint;
+    }
+
+    void writeTo(DataOutput output) throws IOException {
+        output.writeUTF(wordToGuess);
+        output.writeUTF(lastHint);
+        output.writeByte(attempts);
+        output.writeByte(feedbackHistory.size());
+        for (Feedback feedback : feedbackHistory) {
+            feedback.writeTo(output);
+        }
+    }
+
+    static Round readFrom(DataInput input) throws IOException {
+        Round round = new Round();
+        round.wordToGuess = input.readUTF();
+        round.lastHint = input.readUTF();
+        round.attempts = (int) input.readByte();
+
+        int feedbackCount = input.readByte();
+        for (int i = 0; i < feedbackCount; i++) {
+            round.feedbackHistory.add(Feedback.readFrom(input));
+        }
+        return round;
     }
 
     public void guess(String attempt) {
+        guess(attempt, word -> true);
+    }
+
+    public void guess(String attempt, Dictionary dictionary) {
         if(attemptLimitReached()) {
             throw new AttemptLimitReachedException(attempts);
         }
-        generateFeedback(attempt);
+        generateFeedback(attempt, dictionary);
+        reveal(getLastFeedback().correctPositions());
         attempts++;
     }
 
     /**
-     * The function first checks if the attempt is valid.
-     * After that it checks which characters are correct.
-     * Lastly we check which characters are present. We avoid duplicated presents by checking if we already
-     * marked it in the solutionCharArray.
+     * The function first checks if the attempt is valid: it must have the length of the word
+     * to guess and it must be a word in the dictionary.
+     * Valid attempts are scored by the FeedbackEngine, see there for how correct and present
+     * characters are marked.
      */
-    private void generateFeedback(String attempt) {
-        List<Mark> marks = new ArrayList<>();
+    private void generateFeedback(String attempt, Dictionary dictionary) {
+        long packedAttempt = PackedWord.encode(attempt);
+        int marks = attemptInvalid(attempt, packedAttempt, dictionary)
+                ? FeedbackEngine.invalid(wordToGuess.length())
+                : score(attempt, packedAttempt);
 
-        char[] attemptCharArray = attempt.toCharArray();
-        char[] solutionCharArray = wordToGuess.toCharArray();
+        feedbackHistory.add(new Feedback(attempt, marks));
+    }
 
-        if (attemptInvalid(attempt)) {
-            for (int i = 0; i < getCurrentWordLength(); i++) {
-                marks.add(Mark.INVALID);
-            }
-            feedbackHistory.add(new Feedback(attempt,marks));
-            return;
+    private boolean attemptInvalid(String attempt, long packedAttempt, Dictionary dictionary) {
+        if (attempt.length() != wordToGuess.length()) {
+            return true;
         }
+        return packedAttempt == PackedWord.NONE ? !dictionary.contains(attempt) : !dictionary.contains(packedAttempt);
+    }
 
-        for (int i = 0; i < getCurrentWordLength(); i++) {
-            marks.add(Mark.ABSENT);
-            if (attemptCharArray[i] == solutionCharArray[i]) {
-                marks.set(i, Mark.CORRECT);
-                solutionCharArray[i] = '!';
-            }
+    /**
+     * Words are scored packed, unless either one has other characters than letters.
+     */
+    private int score(String attempt, long packedAttempt) {
+        if (packedWord == 0) {
+            packedWord = PackedWord.encode(wordToGuess);
         }
-
-        for (int i = 0; i < getCurrentWordLength(); i++) {
-            for (int j = 0; j < getCurrentWordLength(); j++) {
-                if (attemptCharArray[i] == solutionCharArray[j] && marks.get(i) == Mark.ABSENT) {
-                    marks.set(i, Mark.PRESENT);
-                    solutionCharArray[j] = '!';
-                }
-            }
+        if (packedAttempt == PackedWord.NONE || packedWord == PackedWord.NONE) {
+            return FeedbackEngine.score(attempt, wordToGuess);
         }
+        return FeedbackEngine.score(packedAttempt, packedWord);
+    }
 
-        feedbackHistory.add(new Feedback(attempt,marks));
+    /**
+     * The hint is only built again when a guess reveals new positions.
+     */
+    private void reveal(int positions) {
+        int previous = revealed();
+        revealed = previous | positions;
+        if (revealed != previous) {
+            hint = hintOf(revealed);
+        }
+        lastHint = hint;
     }
 
-    private boolean attemptInvalid(String attempt) {
-        return attempt.length() != wordToGuess.length();
+    /**
+     * Rounds that are loaded only have their stored hint. The last feedback is folded in as well,
+     * for rounds stored before the hint was updated with every guess.
+     */
+    private int revealed() {
+        if (revealed == 0) {
+            int positions = 1;
+            for (int i = 0; i < lastHint.length(); i++) {
+                if (lastHint.charAt(i) != '.') {
+                    positions |= 1 << i;
+                }
+            }
+            if (!feedbackHistory.isEmpty()) {
+                positions |= getLastFeedback().correctPositions();
+            }
+            hint = hintOf(positions);
+            revealed = positions;
+        }
+        return revealed;
     }
 
-    private String getBaseHint() {
-        return wordToGuess.charAt(0) +
-                ".".repeat(wordToGuess.length() - 1);
+    private String hintOf(int positions) {
+        char[] letters = new char[wordToGuess.length()];
+        for (int i = 0; i < letters.length; i++) {
+            letters[i] = (positions & (1 << i)) != 0 ? wordToGuess.charAt(i) : '.';
+        }
+        return new String(letters);
     }
 
+    /**
+     * The hint is advanced with every guess, so giving it does not change the round
+     * and returns the same String until a guess reveals another letter.
+     */
     public String giveHint() {
-        if (!feedbackHistory.isEmpty()) {
-            this.lastHint = feedbackHistory.get(feedbackHistory.size() - 1).giveHint(lastHint);
-        }
-        return lastHint;
+        revealed();
+        return hint;
     }
 
     public Feedback getLastFeedback() {
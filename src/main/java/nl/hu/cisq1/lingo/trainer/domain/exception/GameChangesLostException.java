@@ -0,0 +1,7 @@
+package nl.hu.cisq1.lingo.trainer.domain.exception;
+
+public class GameChangesLostException extends RuntimeException {
+    public GameChangesLostException(Long id, long revision) {
+        super("Changes to game with id: " + id + " up to revision " + revision + " were lost, as the game was changed elsewhere.");
+    }
+}
@@ -0,0 +1,7 @@
+package nl.hu.cisq1.lingo.trainer.domain.exception;
+
+public class GameConflictException extends RuntimeException {
+    public GameConflictException(Long id, long expectedRevision, long revision) {
+        super("Game with id: " + id + " is at revision " + revision + " instead of " + expectedRevision + ".");
+    }
+}
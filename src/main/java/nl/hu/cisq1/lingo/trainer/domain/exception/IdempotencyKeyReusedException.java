@@ -0,0 +1,7 @@
+package nl.hu.cisq1.lingo.trainer.domain.exception;
+
+public class IdempotencyKeyReusedException extends RuntimeException {
+    public IdempotencyKeyReusedException(String key) {
+        super("Idempotency key: " + key + " was already used for another request.");
+    }
+}
@@ -1,24 +1,64 @@
 package nl.hu.cisq1.lingo.trainer.presentation;
 
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import javassist.NotFoundException;
 import nl.hu.cisq1.lingo.trainer.application.GameService;
+import nl.hu.cisq1.lingo.trainer.application.IdempotencyStore;
+import nl.hu.cisq1.lingo.trainer.application.dto.GamePage;
+import nl.hu.cisq1.lingo.trainer.application.dto.GuessesDTO;
+import nl.hu.cisq1.lingo.trainer.domain.GameStatus;
+import nl.hu.cisq1.lingo.trainer.domain.exception.GameChangesLostException;
+import nl.hu.cisq1.lingo.trainer.domain.exception.GameConflictException;
 import nl.hu.cisq1.lingo.trainer.domain.exception.GameNotFoundException;
 import nl.hu.cisq1.lingo.trainer.domain.exception.GameStateException;
+import nl.hu.cisq1.lingo.trainer.domain.exception.IdempotencyKeyReusedException;
 import nl.hu.cisq1.lingo.trainer.application.dto.ProgressDTO;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 
 @RestController
 @RequestMapping("/lingo")
 public class GameController {
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int MAX_BULK_GAMES = 10000;
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
     private final GameService service;
+    private final IdempotencyStore idempotencyStore;
+    private final GameProgressStream progressStream;
+    private final ProgressResponseCache progressCache;
+    private final ObjectWriter progressWriter;
 
-    public GameController(GameService service) {
+    public GameController(
+            GameService service,
+            IdempotencyStore idempotencyStore,
+            GameProgressStream progressStream,
+            ProgressResponseCache progressCache,
+            ObjectMapper objectMapper
+    ) {
         this.service = service;
+        this.idempotencyStore = idempotencyStore;
+        this.progressStream = progressStream;
+        this.progressCache = progressCache;
+        this.progressWriter = objectMapper.writerFor(ProgressDTO.class);
     }
 
     @PostMapping("start")
@@ -26,44 +66,222 @@ public class GameController {
         return this.service.startGame();
     }
 
+    /**
+     * Starts the given amount of games at once, such as for all players of a tournament,
+     * and returns their ids.
+     */
+    @PostMapping("start/bulk")
+    public List<Long> startGames(@RequestParam int amount) {
+        if (amount < 1 || amount > MAX_BULK_GAMES) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Amount must be between 1 and " + MAX_BULK_GAMES);
+        }
+        return this.service.startGames(amount);
+    }
+
+    /**
+     * A retry with the same Idempotency-Key header gets the round that was started by the first request.
+     */
     @PostMapping("/{id}/newRound")
-    public ProgressDTO startRound(@PathVariable("id") Long id) {
+    public ProgressDTO startRound(
+            @PathVariable("id") Long id,
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey
+    ) {
         try {
-            return this.service.startNewRound(id);
+            return idempotent(idempotencyKey, "newRound " + id, () -> this.service.startNewRound(id));
         } catch (GameNotFoundException exception) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, exception.getMessage());
         } catch (GameStateException exception) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, exception.getMessage());
+        } catch (GameChangesLostException exception) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, exception.getMessage());
+        } catch (IdempotencyKeyReusedException exception) {
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, exception.getMessage());
+        } catch (OptimisticLockingFailureException exception) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Game with id: " + id + " was changed by another request.");
+        }
+    }
+
+    /**
+     * Clients that already have progress of the game can pass its revision as since, to only receive
+     * the feedback on the attempts after those. When that revision is from an earlier round,
+     * the whole feedback history of the latest round is returned.
+     *
+     * The ETag is the epoch of the ProgressResponseCache followed by the revision of the game, so
+     * If-None-Match is answered by only reading the revision. The epoch changes when cached changes
+     * of a game are dropped, as its revision then goes back and can be reached again with other progress.
+     * A revision that is read while the epoch changes is not matched, as it may already be such a revision.
+     * The whole progress is served from the ProgressResponseCache while the game stays at the same revision.
+     */
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getGameProgress(
+            @PathVariable("id") Long id,
+            @RequestParam(required = false) Long since,
+            WebRequest request
+    ) {
+        if (since != null && since < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Since cannot be negative");
+        }
+
+        try {
+            long epoch = this.progressCache.getEpoch();
+            long revision = this.service.getRevision(id);
+            if (epoch == this.progressCache.getEpoch() && request.checkNotModified(etagOf(epoch, revision))) {
+                return null;
+            }
+
+            Optional<byte[]> cached = since == null
+                    ? this.progressCache.get(id, revision)
+                    : Optional.empty();
+            if (cached.isPresent()) {
+                return progressResponse(epoch, revision, cached.get());
+            }
+
+            ProgressDTO progress = this.service.getProgress(id);
+            byte[] json = since == null
+                    ? this.progressCache.put(progress)
+                    : this.progressCache.serialize(progress.since(since));
+            return progressResponse(epoch, progress.getRevision(), json);
+        } catch (GameNotFoundException exception) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, exception.getMessage());
         }
     }
 
-    @GetMapping("/{id}")
-    public ProgressDTO getGameProgress(@PathVariable("id") Long id) {
+    /**
+     * Streams the progress of a game as server-sent events: its current progress first,
+     * followed by its progress after every change.
+     */
+    @GetMapping(value = "/{id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamGameProgress(@PathVariable("id") Long id) {
         try {
-            return this.service.getProgress(id);
+            return this.progressStream.subscribe(id, () -> this.service.getProgress(id));
         } catch (GameNotFoundException exception) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, exception.getMessage());
         }
     }
 
+    /**
+     * When a revision is given, the guess is only played if the game is still at that revision.
+     * Otherwise the guess is rejected with 409 Conflict, and the client can fetch the current progress.
+     * A retry with the same Idempotency-Key header gets the progress of the first guess,
+     * instead of playing the guess again.
+     * When earlier guesses were acknowledged but lost, the next guess is rejected with 409 Conflict as well.
+     */
     @PostMapping("/{id}/guess")
-    public ProgressDTO guess(@PathVariable("id") Long id, @RequestParam String attempt) {
+    public ProgressDTO guess(
+            @PathVariable("id") Long id,
+            @RequestParam String attempt,
+            @RequestParam(required = false) Long revision,
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey
+    ) {
         try {
-            return this.service.guess(id,attempt);
+            String request = "guess " + id + " " + attempt + " " + revision;
+            return idempotent(idempotencyKey, request, () -> this.service.guess(id, attempt, revision));
         } catch (GameNotFoundException exception) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, exception.getMessage());
         } catch (GameStateException exception) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, exception.getMessage());
+        } catch (GameConflictException | GameChangesLostException exception) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, exception.getMessage());
+        } catch (IdempotencyKeyReusedException exception) {
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, exception.getMessage());
+        } catch (OptimisticLockingFailureException exception) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Game with id: " + id + " was changed by another request.");
         }
     }
 
+    /**
+     * Plays the attempts in the body in order, in one request. Playing stops when the round is won
+     * or lost, so the response holds feedback for the attempts that were played only.
+     */
+    @PostMapping("/{id}/guesses")
+    public GuessesDTO guessAll(
+            @PathVariable("id") Long id,
+            @RequestBody List<String> attempts,
+            @RequestParam(required = false) Long revision
+    ) {
+        if (attempts.isEmpty() || attempts.contains(null)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At least one attempt is needed, and attempts cannot be null");
+        }
+
+        try {
+            return this.service.guessAll(id, attempts, revision);
+        } catch (GameNotFoundException exception) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, exception.getMessage());
+        } catch (GameStateException exception) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, exception.getMessage());
+        } catch (GameConflictException | GameChangesLostException exception) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, exception.getMessage());
+        } catch (OptimisticLockingFailureException exception) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Game with id: " + id + " was changed by another request.");
+        }
+    }
+
+    /**
+     * Games are returned page by page. When there are more games, the Link header
+     * points to the next page, which continues after the last game of this page.
+     */
     @GetMapping("games")
-    public List<ProgressDTO> getAllGames() {
+    public ResponseEntity<List<ProgressDTO>> getGames(
+            @RequestParam(required = false) GameStatus status,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "50") int limit
+    ) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
         try {
-            return this.service.getAllGames();
+            GamePage page = this.service.getGames(status, after, limit);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+
+            if (page.getNextCursor() != null) {
+                String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                        .replaceQueryParam("after", page.getNextCursor())
+                        .toUriString();
+                response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+            }
+
+            return response.body(page.getGames());
         } catch (NotFoundException exception) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, exception.getMessage());
         }
     }
 
+    /**
+     * Streams the progress of every game as newline delimited JSON, one game per line.
+     */
+    @GetMapping(value = "games/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportGames() {
+        StreamingResponseBody games = output -> this.service.exportGames(progress -> {
+            try {
+                output.write(this.progressWriter.writeValueAsBytes(progress));
+                output.write('\n');
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        });
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(games);
+    }
+
+    private static ResponseEntity<byte[]> progressResponse(long epoch, long revision, byte[] json) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etagOf(epoch, revision))
+                .body(json);
+    }
+
+    private static String etagOf(long epoch, long revision) {
+        return "\"" + epoch + "-" + revision + "\"";
+    }
+
+    private ProgressDTO idempotent(String idempotencyKey, String request, Supplier<ProgressDTO> work) {
+        if (idempotencyKey == null) {
+            return work.get();
+        }
+        return this.idempotencyStore.execute(idempotencyKey, request, work);
+    }
+
 }
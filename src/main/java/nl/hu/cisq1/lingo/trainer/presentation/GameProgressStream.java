@@ -0,0 +1,190 @@
+package nl.hu.cisq1.lingo.trainer.presentation;
+
+import nl.hu.cisq1.lingo.trainer.application.CachedChangesDroppedEvent;
+import nl.hu.cisq1.lingo.trainer.application.GameProgressEvent;
+import nl.hu.cisq1.lingo.trainer.application.dto.ProgressDTO;
+import nl.hu.cisq1.lingo.trainer.domain.exception.GameNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Pushes the progress of games to their subscribers as server-sent events.
+ *
+ * Subscribers are held as asynchronous requests, so an idle subscriber does not hold a thread.
+ * Events are sent by lingo.games.stream.send-threads threads, and every game is always sent
+ * by the same thread, so subscribers receive the changes of a game in order.
+ * Every event carries the revision of the game as its id, and a subscriber is never sent
+ * a revision older than one it already received. After its first event, a subscriber is only
+ * sent the feedback since the revision it received last, see ProgressDTO#since.
+ *
+ * When the cached changes of a game are dropped, its revision goes back and its subscribers
+ * may have received changes that were never stored. They are sent the whole stored progress again.
+ */
+@Component
+public class GameProgressStream {
+    private final long timeoutMs;
+    private final ExecutorService[] senders;
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    public GameProgressStream(
+            @Value("${lingo.games.stream.timeout-ms:1800000}") long timeoutMs,
+            @Value("${lingo.games.stream.send-threads:4}") int sendThreads
+    ) {
+        if (sendThreads < 1) {
+            throw new IllegalArgumentException("At least one send thread is needed, got " + sendThreads);
+        }
+
+        this.timeoutMs = timeoutMs;
+        this.senders = new ExecutorService[sendThreads];
+        for (int i = 0; i < sendThreads; i++) {
+            this.senders[i] = Executors.newSingleThreadExecutor();
+        }
+    }
+
+    /**
+     * Subscribes to the changes of a game, starting with its current progress.
+     * The subscriber is registered before the current progress is read, so no change is missed.
+     * Subscribers are removed when the stream times out, fails or is closed by the client.
+     */
+    public SseEmitter subscribe(Long id, Supplier<ProgressDTO> current) {
+        Subscriber subscriber = new Subscriber(new SseEmitter(timeoutMs), current);
+
+        subscribers.compute(id, (gameId, subscribed) -> {
+            Set<Subscriber> game = subscribed == null ? ConcurrentHashMap.newKeySet() : subscribed;
+            game.add(subscriber);
+            return game;
+        });
+
+        ProgressDTO progress;
+        try {
+            progress = current.get();
+        } catch (RuntimeException exception) {
+            unsubscribe(id, subscriber);
+            throw exception;
+        }
+
+        subscriber.emitter.onCompletion(() -> unsubscribe(id, subscriber));
+        subscriber.emitter.onTimeout(() -> unsubscribe(id, subscriber));
+        subscriber.emitter.onError(exception -> unsubscribe(id, subscriber));
+
+        senderOf(id).execute(() -> send(id, subscriber, progress));
+        return subscriber.emitter;
+    }
+
+    public int subscriberCount(Long id) {
+        Set<Subscriber> subscribed = subscribers.get(id);
+        return subscribed == null ? 0 : subscribed.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProgress(GameProgressEvent event) {
+        ProgressDTO progress = event.getProgress();
+        Long id = progress.getId();
+        Set<Subscriber> subscribed = subscribers.get(id);
+        if (subscribed == null) {
+            return;
+        }
+
+        senderOf(id).execute(() -> subscribed.forEach(subscriber -> send(id, subscriber, progress)));
+    }
+
+    /**
+     * The progress is read on the sender of the game, as the dropped changes are only gone once
+     * the cache released the game.
+     */
+    @EventListener
+    public void onChangesDropped(CachedChangesDroppedEvent event) {
+        Long id = event.getGameId();
+        Set<Subscriber> subscribed = subscribers.get(id);
+        if (subscribed == null) {
+            return;
+        }
+
+        senderOf(id).execute(() -> resync(id, subscribed));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(subscribed -> subscribed.forEach(subscriber -> subscriber.emitter.complete()));
+        for (ExecutorService sender : senders) {
+            sender.shutdown();
+        }
+    }
+
+    private void resync(Long id, Set<Subscriber> subscribed) {
+        Iterator<Subscriber> iterator = subscribed.iterator();
+        if (!iterator.hasNext()) {
+            return;
+        }
+
+        ProgressDTO progress;
+        try {
+            progress = iterator.next().current.get();
+        } catch (GameNotFoundException exception) {
+            subscribed.forEach(subscriber -> subscriber.emitter.complete());
+            return;
+        }
+
+        subscribed.forEach(subscriber -> {
+            subscriber.revision = -1;
+            send(id, subscriber, progress);
+        });
+    }
+
+    /**
+     * Only runs on the sender of the game, so the revisions of a subscriber are not raced.
+     */
+    private void send(Long id, Subscriber subscriber, ProgressDTO progress) {
+        if (progress.getRevision() <= subscriber.revision) {
+            return;
+        }
+
+        try {
+            subscriber.emitter.send(SseEmitter.event()
+                    .id(String.valueOf(progress.getRevision()))
+                    .name("progress")
+                    .data(progress.since(subscriber.revision), MediaType.APPLICATION_JSON));
+            subscriber.revision = progress.getRevision();
+        } catch (IOException | IllegalStateException exception) {
+            // The client is gone or the stream was completed; the container completes the request
+            unsubscribe(id, subscriber);
+        }
+    }
+
+    private void unsubscribe(Long id, Subscriber subscriber) {
+        subscribers.computeIfPresent(id, (gameId, subscribed) -> {
+            subscribed.remove(subscriber);
+            return subscribed.isEmpty() ? null : subscribed;
+        });
+    }
+
+    private ExecutorService senderOf(Long id) {
+        return senders[Math.floorMod(Long.hashCode(id), senders.length)];
+    }
+
+    private static class Subscriber {
+        private final SseEmitter emitter;
+        private final Supplier<ProgressDTO> current;
+        private long revision = -1;
+
+        private Subscriber(SseEmitter emitter, Supplier<ProgressDTO> current) {
+            this.emitter = emitter;
+            this.current = current;
+        }
+    }
+}
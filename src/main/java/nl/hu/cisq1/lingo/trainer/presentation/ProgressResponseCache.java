@@ -0,0 +1,150 @@
+package nl.hu.cisq1.lingo.trainer.presentation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import nl.hu.cisq1.lingo.trainer.application.CachedChangesDroppedEvent;
+import nl.hu.cisq1.lingo.trainer.application.GameProgressEvent;
+import nl.hu.cisq1.lingo.trainer.application.dto.ProgressDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the serialized progress of the latest revision of games, so reads between two changes
+ * of a game are served without building and serializing the progress again.
+ *
+ * The progress is serialized once after every change, and the least recently read games are
+ * evicted once the cached progress takes more than lingo.games.progress-cache.max-bytes.
+ * Hits and misses are counted in lingo.games.progress-cache.hits and lingo.games.progress-cache.misses.
+ *
+ * Games whose cached changes were dropped are forgotten, as their revision goes back and can be
+ * reached again with other progress. The epoch changes along, so ETags of such progress are not
+ * matched again. It starts at the startup time and only increases, so ETags from before a restart,
+ * which loses the changes that were not written yet, are not matched either.
+ */
+@Component
+public class ProgressResponseCache {
+    private final ObjectWriter progressWriter;
+    private final long maxBytes;
+    private final Counter hits;
+    private final Counter misses;
+
+    private final AtomicLong epoch = new AtomicLong(System.currentTimeMillis());
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+
+    public ProgressResponseCache(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${lingo.games.progress-cache.max-bytes:16777216}") long maxBytes
+    ) {
+        this.progressWriter = objectMapper.writerFor(ProgressDTO.class);
+        this.maxBytes = maxBytes;
+        this.hits = meterRegistry.counter("lingo.games.progress-cache.hits");
+        this.misses = meterRegistry.counter("lingo.games.progress-cache.misses");
+        meterRegistry.gauge("lingo.games.progress-cache.bytes", this, ProgressResponseCache::size);
+    }
+
+    /**
+     * The serialized progress of the game, if the cached progress is at the given revision.
+     */
+    public Optional<byte[]> get(Long id, long revision) {
+        synchronized (entries) {
+            Entry entry = entries.get(id);
+            if (entry != null && entry.revision == revision) {
+                hits.increment();
+                return Optional.of(entry.json);
+            }
+        }
+
+        misses.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * Serializes the progress and caches it, unless a later revision of the game is cached already.
+     */
+    public byte[] put(ProgressDTO progress) {
+        byte[] json = serialize(progress);
+        if (json.length > maxBytes) {
+            return json;
+        }
+
+        synchronized (entries) {
+            Entry existing = entries.get(progress.getId());
+            if (existing != null && existing.revision > progress.getRevision()) {
+                return json;
+            }
+
+            entries.put(progress.getId(), new Entry(progress.getRevision(), json));
+            bytes += json.length - (existing == null ? 0 : existing.json.length);
+            evictLeastRecentlyRead();
+        }
+        return json;
+    }
+
+    public byte[] serialize(ProgressDTO progress) {
+        try {
+            return progressWriter.writeValueAsBytes(progress);
+        } catch (JsonProcessingException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProgress(GameProgressEvent event) {
+        put(event.getProgress());
+    }
+
+    public long getEpoch() {
+        return epoch.get();
+    }
+
+    /**
+     * Runs while the dropped game is still locked, so its revision cannot be read again before the epoch changed.
+     */
+    @EventListener
+    public void onChangesDropped(CachedChangesDroppedEvent event) {
+        epoch.updateAndGet(current -> Math.max(current + 1, System.currentTimeMillis()));
+        synchronized (entries) {
+            Entry entry = entries.remove(event.getGameId());
+            if (entry != null) {
+                bytes -= entry.json.length;
+            }
+        }
+    }
+
+    public long size() {
+        synchronized (entries) {
+            return bytes;
+        }
+    }
+
+    private void evictLeastRecentlyRead() {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (bytes > maxBytes && iterator.hasNext()) {
+            bytes -= iterator.next().json.length;
+            iterator.remove();
+        }
+    }
+
+    private static class Entry {
+        private final long revision;
+        private final byte[] json;
+
+        private Entry(long revision, byte[] json) {
+            this.revision = revision;
+            this.json = json;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package nl.hu.cisq1.lingo.words.application;
+
+import lombok.Getter;
+
+/**
+ * Lines that are not Lingo words are skipped, see Word#isLingoWord.
+ */
+public class WordImportResult {
+
+    @Getter private final long lines;
+    @Getter private final long words;
+    @Getter private final int added;
+    @Getter private final int removed;
+
+    public WordImportResult(long lines, long words, int added, int removed) {
+        this.lines = lines;
+        this.words = words;
+        this.added = added;
+        this.removed = removed;
+    }
+}
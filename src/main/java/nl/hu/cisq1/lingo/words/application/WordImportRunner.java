@@ -0,0 +1,55 @@
+package nl.hu.cisq1.lingo.words.application;
+
+import nl.hu.cisq1.lingo.words.data.SpringWordRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Imports lingo.words.import.file on startup when there are no words yet,
+ * or every startup when lingo.words.import.replace is set, to pick up a new word list.
+ * When the file cannot be found, such as for a relative path from another working directory,
+ * the words that are already stored are kept.
+ */
+@Component
+@ConditionalOnProperty(name = "lingo.words.import.enabled", havingValue = "true")
+public class WordImportRunner implements ApplicationRunner {
+    private static final Logger LOG = LoggerFactory.getLogger(WordImportRunner.class);
+
+    private final WordImporter importer;
+    private final SpringWordRepository wordRepository;
+    private final Path file;
+    private final boolean replace;
+
+    public WordImportRunner(
+            WordImporter importer,
+            SpringWordRepository wordRepository,
+            @Value("${lingo.words.import.file}") String file,
+            @Value("${lingo.words.import.replace:false}") boolean replace
+    ) {
+        this.importer = importer;
+        this.wordRepository = wordRepository;
+        this.file = Path.of(file);
+        this.replace = replace;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!replace && wordRepository.count() > 0) {
+            return;
+        }
+
+        if (!Files.isRegularFile(file)) {
+            LOG.warn("Word list {} not found, keeping the stored words", file.toAbsolutePath());
+            return;
+        }
+        importer.importFrom(file);
+    }
+}
@@ -0,0 +1,117 @@
+package nl.hu.cisq1.lingo.words.application;
+
+import nl.hu.cisq1.lingo.words.data.SpringWordListVersionRepository;
+import nl.hu.cisq1.lingo.words.data.WordStagingTable;
+import nl.hu.cisq1.lingo.words.domain.Word;
+import nl.hu.cisq1.lingo.words.domain.WordListVersion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the words with a word list of one word per line, such as the OpenTaal word list.
+ *
+ * The list is read line by line and its Lingo words are staged in JDBC batches, so the list
+ * is never held in memory as a whole. The words are replaced in one transaction once the list
+ * has been read, and the word pool is reloaded after, so games keep being served throughout.
+ * The checksum of the list is stored as the WordListVersion in the same transaction, which tells
+ * the word pool that the words changed.
+ */
+@Service
+public class WordImporter {
+    private static final Logger LOG = LoggerFactory.getLogger(WordImporter.class);
+    private static final int PROGRESS_INTERVAL = 50000;
+
+    private final WordStagingTable stagingTable;
+    private final SpringWordListVersionRepository versionRepository;
+    private final WordService wordService;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public WordImporter(
+            WordStagingTable stagingTable,
+            SpringWordListVersionRepository versionRepository,
+            WordService wordService,
+            TransactionTemplate transactionTemplate,
+            @Value("${lingo.words.import.batch-size:1000}") int batchSize
+    ) {
+        this.stagingTable = stagingTable;
+        this.versionRepository = versionRepository;
+        this.wordService = wordService;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    public WordImportResult importFrom(Path file) {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return importFrom(reader);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * Imports are serialized, as they share the staging table.
+     */
+    public synchronized WordImportResult importFrom(Reader source) {
+        stagingTable.clear();
+
+        long lines = 0;
+        long words = 0;
+        long checksum = 0;
+        List<String> batch = new ArrayList<>(batchSize);
+
+        try (BufferedReader reader = new BufferedReader(source)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines++;
+                String word = line.trim();
+
+                if (Word.isLingoWord(word)) {
+                    batch.add(word);
+                    words++;
+                    checksum = WordListVersion.addToChecksum(checksum, word);
+                    if (batch.size() == batchSize) {
+                        stagingTable.insert(batch);
+                        batch.clear();
+                    }
+                }
+
+                if (lines % PROGRESS_INTERVAL == 0) {
+                    LOG.info("Read {} lines, found {} words", lines, words);
+                }
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+
+        if (!batch.isEmpty()) {
+            stagingTable.insert(batch);
+        }
+
+        WordListVersion version = new WordListVersion(checksum);
+        int[] changes = transactionTemplate.execute(status -> {
+            int[] replaced = stagingTable.replaceWords();
+            versionRepository.save(version);
+            return replaced;
+        });
+        stagingTable.clear();
+        wordService.refresh();
+
+        WordImportResult result = new WordImportResult(lines, words, changes[1], changes[0]);
+        LOG.info("Imported {} words from {} lines: {} added, {} removed", words, lines, result.getAdded(), result.getRemoved());
+        return result;
+    }
+}
@@ -1,24 +1,125 @@
 package nl.hu.cisq1.lingo.words.application;
 
+import nl.hu.cisq1.lingo.words.data.SpringWordListVersionRepository;
 import nl.hu.cisq1.lingo.words.data.SpringWordRepository;
+import nl.hu.cisq1.lingo.words.data.WordPoolFile;
+import nl.hu.cisq1.lingo.words.domain.Dictionary;
+import nl.hu.cisq1.lingo.words.domain.WordListVersion;
+import nl.hu.cisq1.lingo.words.domain.WordPool;
 import nl.hu.cisq1.lingo.words.domain.exception.WordLengthNotSupportedException;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import javax.transaction.Transactional;
+import java.util.Objects;
+import java.util.Optional;
 
+/**
+ * Words are served from an in-memory pool, which is loaded once when the application is ready.
+ * The same pool serves as the dictionary for validating guesses.
+ *
+ * Changes are detected by the WordListVersion, which the WordImporter stores together with the words.
+ * It is checked periodically and the pool is only reloaded when it changed, so the words are not read
+ * to find out whether they changed. Words that are changed without the WordImporter are loaded by refresh.
+ * Every loaded pool is written to the WordPoolFile together with that version. On startup
+ * that file is memory-mapped instead of building the pool, as long as the version did not change.
+ */
 @Service
 @Transactional
 public class WordService {
     private final SpringWordRepository wordRepository;
+    private final SpringWordListVersionRepository versionRepository;
+    private final WordPoolFile poolFile;
 
-    public WordService(SpringWordRepository wordRepository) {
+    private volatile WordPool pool = WordPool.empty();
+    private volatile Long loadedChecksum;
+
+    public WordService(
+            SpringWordRepository wordRepository,
+            SpringWordListVersionRepository versionRepository,
+            WordPoolFile poolFile
+    ) {
         this.wordRepository = wordRepository;
+        this.versionRepository = versionRepository;
+        this.poolFile = poolFile;
     }
 
     public String provideRandomWord(Integer length) {
-        return this.wordRepository
-                .findRandomWordByLength(length)
-                .orElseThrow(() -> new WordLengthNotSupportedException(length))
-                .getValue();
+        return this.pool
+                .random(length)
+                .orElseThrow(() -> new WordLengthNotSupportedException(length));
+    }
+
+    /**
+     * Provides the words of a game: the positions of one seed do not repeat a word
+     * until every word of the length was provided, see WordPool#permuted.
+     * The order changes when the pool is reloaded with another number of words.
+     */
+    public String provideWord(Integer length, long seed, int position) {
+        return this.pool
+                .permuted(length, seed, position)
+                .orElseThrow(() -> new WordLengthNotSupportedException(length));
+    }
+
+    public Dictionary getDictionary() {
+        return this.pool;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        Long checksum = findChecksum();
+        Optional<WordPool> stored = checksum == null ? Optional.empty() : this.poolFile.read(checksum);
+        if (stored.isEmpty()) {
+            refresh(checksum);
+            return;
+        }
+
+        this.pool = stored.get();
+        this.loadedChecksum = checksum;
+    }
+
+    public synchronized void refresh() {
+        refresh(findChecksum());
+    }
+
+    @Scheduled(
+            initialDelayString = "${lingo.words.refresh-interval-ms:300000}",
+            fixedDelayString = "${lingo.words.refresh-interval-ms:300000}"
+    )
+    public synchronized void refreshIfChanged() {
+        Long checksum = findChecksum();
+        if (!Objects.equals(checksum, this.loadedChecksum)) {
+            refresh(checksum);
+        }
+    }
+
+    /**
+     * The version is read before the words, so words that are imported in between are loaded again
+     * on the next check instead of being taken for the older version.
+     */
+    private Long findChecksum() {
+        return this.versionRepository.findById(WordListVersion.ID)
+                .map(WordListVersion::getChecksum)
+                .orElse(null);
+    }
+
+    /**
+     * The pool is served from the file once it has been written, so the loaded words can be collected.
+     * Words without a version are not written, as the file could not be told apart from other words.
+     */
+    private void refresh(Long checksum) {
+        WordPool loaded = WordPool.of(this.wordRepository.findAllValues());
+        if (checksum == null) {
+            this.pool = loaded;
+            this.loadedChecksum = null;
+            return;
+        }
+
+        this.poolFile.write(loaded, checksum);
+
+        this.pool = this.poolFile.read(checksum).orElse(loaded);
+        this.loadedChecksum = checksum;
     }
 }
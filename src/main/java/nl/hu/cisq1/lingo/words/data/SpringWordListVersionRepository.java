@@ -0,0 +1,7 @@
+package nl.hu.cisq1.lingo.words.data;
+
+import nl.hu.cisq1.lingo.words.domain.WordListVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface SpringWordListVersionRepository extends JpaRepository<WordListVersion, Integer> {
+}
@@ -4,7 +4,7 @@ import nl.hu.cisq1.lingo.words.domain.Word;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
-import java.util.Optional;
+import java.util.List;
 
 /**
  * We depend on an interface,
@@ -12,6 +12,6 @@ import java.util.Optional;
  * (see: application.properties and pom.xml)
  */
 public interface SpringWordRepository extends JpaRepository<Word, String> {
-    @Query(nativeQuery=true, value="SELECT * FROM words w WHERE w.length = ?1 ORDER BY random() LIMIT 1")
-    Optional<Word> findRandomWordByLength(Integer length);
+    @Query("SELECT w.value FROM words w")
+    List<String> findAllValues();
 }
@@ -0,0 +1,97 @@
+package nl.hu.cisq1.lingo.words.data;
+
+import nl.hu.cisq1.lingo.words.domain.WordPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+/**
+ * Keeps the word pool in a file, so it can be memory-mapped on startup instead of being loaded
+ * from the words table. The words then live outside of the heap, in the page cache.
+ *
+ * The file starts with a magic number, a format version and the checksum of the word list it was
+ * written from (see WordListVersion), followed by the pool (see WordPool#writeTo). A file that was
+ * written from another word list is not read. The file is written next to its final location and
+ * moved into place, so pools that are mapped already keep their words.
+ * No file is used when lingo.words.pool-file is empty.
+ */
+@Repository
+public class WordPoolFile {
+    private static final Logger LOG = LoggerFactory.getLogger(WordPoolFile.class);
+    private static final int MAGIC = 0x4c494e47;
+    private static final int VERSION = 3;
+    private static final int HEADER_SIZE = Integer.BYTES + Integer.BYTES + Long.BYTES;
+
+    private final Path file;
+
+    public WordPoolFile(@Value("${lingo.words.pool-file:}") String file) {
+        this.file = file.isBlank() ? null : Path.of(file);
+    }
+
+    /**
+     * The pool in the file, if it was written from words with the given checksum.
+     */
+    public Optional<WordPool> read(long sourceChecksum) {
+        if (file == null || !Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (mapped.limit() < HEADER_SIZE
+                    || mapped.getInt(0) != MAGIC
+                    || mapped.getInt(Integer.BYTES) != VERSION
+                    || mapped.getLong(2 * Integer.BYTES) != sourceChecksum) {
+                return Optional.empty();
+            }
+
+            ByteBuffer block = mapped.position(HEADER_SIZE).slice();
+            return Optional.of(WordPool.of(block));
+        } catch (IOException | RuntimeException exception) {
+            LOG.warn("Could not read word pool file {}, loading the words from the database", file, exception);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * A pool that cannot be written is only logged, as the words can always be loaded from the database.
+     */
+    public void write(WordPool pool, long sourceChecksum) {
+        if (file == null) {
+            return;
+        }
+
+        try {
+            Path directory = file.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path written = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(written)))) {
+                output.writeInt(MAGIC);
+                output.writeInt(VERSION);
+                output.writeLong(sourceChecksum);
+                pool.writeTo(output);
+            } catch (IOException exception) {
+                Files.deleteIfExists(written);
+                throw exception;
+            }
+
+            Files.move(written, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException exception) {
+            LOG.warn("Could not write word pool file {}", file, exception);
+        }
+    }
+}
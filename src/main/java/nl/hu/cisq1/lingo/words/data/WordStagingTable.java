@@ -0,0 +1,55 @@
+package nl.hu.cisq1.lingo.words.data;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Words are imported into the words_import table first, so the words table only changes
+ * once the whole word list has been read. Replacing the words then only touches the words
+ * that were added or removed. The staged words are cleared again once they replaced the words.
+ */
+@Repository
+public class WordStagingTable {
+    private final JdbcTemplate jdbcTemplate;
+
+    public WordStagingTable(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void clear() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS words_import (word varchar(16), length smallint)");
+        jdbcTemplate.execute("TRUNCATE TABLE words_import");
+    }
+
+    public void insert(List<String> words) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO words_import (word, length) VALUES (?, ?)",
+                words,
+                words.size(),
+                (statement, word) -> {
+                    statement.setString(1, word);
+                    statement.setInt(2, word.length());
+                }
+        );
+    }
+
+    /**
+     * Removes the words that are not staged and adds the staged words that are missing.
+     * Run in one transaction, readers see either the old or the new words.
+     *
+     * @return the number of words that were removed and added, in that order
+     */
+    public int[] replaceWords() {
+        int removed = jdbcTemplate.update(
+                "DELETE FROM words w WHERE NOT EXISTS (SELECT 1 FROM words_import i WHERE i.word = w.word)"
+        );
+        int added = jdbcTemplate.update(
+                "INSERT INTO words (word, length) "
+                        + "SELECT DISTINCT i.word, i.length FROM words_import i "
+                        + "WHERE NOT EXISTS (SELECT 1 FROM words w WHERE w.word = i.word)"
+        );
+        return new int[]{removed, added};
+    }
+}
@@ -0,0 +1,17 @@
+package nl.hu.cisq1.lingo.words.domain;
+
+/**
+ * Answers whether a word is known, so guesses can be validated without hitting the database.
+ */
+@FunctionalInterface
+public interface Dictionary {
+    boolean contains(String word);
+
+    /**
+     * Looks up a word packed by PackedWord. Dictionaries that keep packed words
+     * look it up without unpacking it.
+     */
+    default boolean contains(long word) {
+        return word != PackedWord.NONE && contains(PackedWord.decode(word));
+    }
+}
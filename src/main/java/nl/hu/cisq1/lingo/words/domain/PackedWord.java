@@ -0,0 +1,100 @@
+package nl.hu.cisq1.lingo.words.domain;
+
+/**
+ * Packs words of ASCII letters into a single long, so they can be compared and looked up as one number.
+ *
+ * The lowest 4 bits hold the length of the word, and every letter takes 6 bits from the highest
+ * bits down, so words of the same length sort like their letters. Lowercase letters are 1 to 26,
+ * uppercase letters are the same with bit 5 set. Packed letters are equal exactly when their
+ * characters are, and a packed word is lowercased by clearing bit 5 of every letter.
+ */
+public final class PackedWord {
+    public static final int MAX_LENGTH = 10;
+
+    /**
+     * Returned for words that cannot be packed. Its length bits exceed MAX_LENGTH,
+     * so it never equals a packed word.
+     */
+    public static final long NONE = -1L;
+
+    private static final int LENGTH_BITS = 4;
+    private static final long LENGTH_MASK = (1L << LENGTH_BITS) - 1;
+    private static final int LETTER_BITS = 6;
+    private static final long LETTER_MASK = (1L << LETTER_BITS) - 1;
+    private static final int UPPERCASE = 1 << 5;
+    private static final long UPPERCASE_BITS = uppercaseBits();
+
+    private PackedWord() {
+    }
+
+    public static long encode(CharSequence word) {
+        int length = word.length();
+        if (length == 0 || length > MAX_LENGTH) {
+            return NONE;
+        }
+
+        long packed = length;
+        for (int i = 0; i < length; i++) {
+            int letter = letterOf(word.charAt(i));
+            if (letter == 0) {
+                return NONE;
+            }
+            packed |= (long) letter << shift(i);
+        }
+        return packed;
+    }
+
+    public static String decode(long packed) {
+        char[] characters = new char[length(packed)];
+        for (int i = 0; i < characters.length; i++) {
+            characters[i] = charAt(packed, i);
+        }
+        return new String(characters);
+    }
+
+    public static int length(long packed) {
+        return (int) (packed & LENGTH_MASK);
+    }
+
+    /**
+     * The packed letter at the given position, which is 0 for positions beyond the word.
+     * Also works on the XOR of two packed words, where it is 0 for the positions at which they have the same letter.
+     */
+    public static int letterAt(long packed, int position) {
+        return (int) ((packed >>> shift(position)) & LETTER_MASK);
+    }
+
+    public static char charAt(long packed, int position) {
+        int letter = letterAt(packed, position);
+        if ((letter & UPPERCASE) != 0) {
+            return (char) ('A' + (letter & ~UPPERCASE) - 1);
+        }
+        return (char) ('a' + letter - 1);
+    }
+
+    public static long toLowerCase(long packed) {
+        return packed & ~UPPERCASE_BITS;
+    }
+
+    private static int letterOf(char character) {
+        if (character >= 'a' && character <= 'z') {
+            return character - 'a' + 1;
+        }
+        if (character >= 'A' && character <= 'Z') {
+            return (character - 'A' + 1) | UPPERCASE;
+        }
+        return 0;
+    }
+
+    private static int shift(int position) {
+        return Long.SIZE - (position + 1) * LETTER_BITS;
+    }
+
+    private static long uppercaseBits() {
+        long bits = 0;
+        for (int i = 0; i < MAX_LENGTH; i++) {
+            bits |= (long) UPPERCASE << shift(i);
+        }
+        return bits;
+    }
+}
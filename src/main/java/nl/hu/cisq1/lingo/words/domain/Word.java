@@ -4,9 +4,12 @@ import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import java.io.Serializable;
+import java.util.regex.Pattern;
 
 @Entity(name = "words")
 public class Word implements Serializable {
+    private static final Pattern LINGO_WORD = Pattern.compile("[a-z]{5,7}");
+
     @Id
     @Column(name = "word")
     private String value;
@@ -25,4 +28,12 @@ public class Word implements Serializable {
     public Integer getLength() {
         return length;
     }
+
+    /**
+     * Lingo is played with words of 5 to 7 lowercase letters, without accents,
+     * hyphens, digits or capitals.
+     */
+    public static boolean isLingoWord(String word) {
+        return word != null && LINGO_WORD.matcher(word).matches();
+    }
 }
@@ -0,0 +1,42 @@
+package nl.hu.cisq1.lingo.words.domain;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+/**
+ * The checksum of the word list that the words were last imported from, see WordImporter.
+ * It is stored in a single row, so the word pool can check whether the words changed
+ * without reading them.
+ */
+@Entity(name = "words_version")
+public class WordListVersion {
+    public static final int ID = 1;
+
+    @Id
+    private Integer id = ID;
+    private Long checksum;
+
+    public WordListVersion() {}
+    public WordListVersion(long checksum) {
+        this.checksum = checksum;
+    }
+
+    public Long getChecksum() {
+        return checksum;
+    }
+
+    /**
+     * Adds a word to a checksum. A checksum is the sum of a mixed 64-bit FNV-1a hash of every word,
+     * so it does not depend on the order of the word list.
+     */
+    public static long addToChecksum(long checksum, String word) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < word.length(); i++) {
+            hash = (hash ^ word.charAt(i)) * 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return checksum + hash;
+    }
+}
@@ -0,0 +1,235 @@
+package nl.hu.cisq1.lingo.words.domain;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Immutable in-memory pool of words, bucketed by word length.
+ *
+ * Every bucket is a sorted array of the lowercased words of that length, packed into longs
+ * (see PackedWord). Picking a random word is a single index calculation instead of a sorting
+ * query, and looking up a word is a binary search over the bucket comparing one long per step.
+ *
+ * The buckets can be written as one block (see writeTo) and read back from a buffer without
+ * copying them, so a pool can live in a memory-mapped file outside of the heap (see WordPoolFile).
+ * The block starts with the number of buckets, followed by the word count and the offset
+ * of every bucket, and ends with the buckets themselves, aligned to 8 bytes.
+ */
+public class WordPool implements Dictionary {
+    private static final WordPool EMPTY = new WordPool(new LongBuffer[0], new int[0]);
+    private static final int FEISTEL_ROUNDS = 4;
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final LongBuffer[] buckets;
+    private final int[] counts;
+
+    private WordPool(LongBuffer[] buckets, int[] counts) {
+        this.buckets = buckets;
+        this.counts = counts;
+    }
+
+    public static WordPool empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Words that are empty, longer than PackedWord.MAX_LENGTH or contain other characters
+     * than ASCII letters are skipped, duplicates (ignoring case) are kept only once.
+     */
+    public static WordPool of(Collection<String> words) {
+        long[] sorted = words.stream()
+                .filter(Objects::nonNull)
+                .mapToLong(PackedWord::encode)
+                .filter(word -> word != PackedWord.NONE)
+                .map(PackedWord::toLowerCase)
+                .distinct()
+                .sorted()
+                .toArray();
+
+        int[] counts = new int[PackedWord.MAX_LENGTH + 1];
+        int maxLength = 0;
+        for (long word : sorted) {
+            int length = PackedWord.length(word);
+            counts[length]++;
+            maxLength = Math.max(maxLength, length);
+        }
+
+        long[][] buckets = new long[maxLength + 1][];
+        for (int length = 0; length <= maxLength; length++) {
+            buckets[length] = new long[counts[length]];
+        }
+
+        int[] positions = new int[maxLength + 1];
+        for (long word : sorted) {
+            int length = PackedWord.length(word);
+            buckets[length][positions[length]++] = word;
+        }
+
+        LongBuffer[] wrapped = new LongBuffer[buckets.length];
+        for (int length = 0; length < buckets.length; length++) {
+            wrapped[length] = LongBuffer.wrap(buckets[length]);
+        }
+        return new WordPool(wrapped, Arrays.copyOf(counts, maxLength + 1));
+    }
+
+    /**
+     * Reads a pool that was written by writeTo. The buckets are views of the buffer,
+     * so the words stay wherever the buffer keeps them.
+     */
+    public static WordPool of(ByteBuffer block) {
+        int start = block.position();
+        int bucketCount = block.getInt(start);
+        int[] counts = new int[bucketCount];
+        LongBuffer[] buckets = new LongBuffer[bucketCount];
+
+        for (int length = 0; length < bucketCount; length++) {
+            int header = start + Integer.BYTES + length * 2 * Integer.BYTES;
+            counts[length] = block.getInt(header);
+            int offset = block.getInt(header + Integer.BYTES);
+
+            ByteBuffer bucket = block.duplicate();
+            bucket.position(start + offset);
+            bucket.limit(start + offset + counts[length] * Long.BYTES);
+            buckets[length] = bucket.slice().asLongBuffer();
+        }
+
+        return new WordPool(buckets, counts);
+    }
+
+    public void writeTo(DataOutput output) throws IOException {
+        output.writeInt(buckets.length);
+
+        int headerSize = Integer.BYTES + buckets.length * 2 * Integer.BYTES;
+        int padding = -headerSize & (Long.BYTES - 1);
+        int offset = headerSize + padding;
+        for (int length = 0; length < buckets.length; length++) {
+            output.writeInt(counts[length]);
+            output.writeInt(offset);
+            offset += counts[length] * Long.BYTES;
+        }
+
+        for (int i = 0; i < padding; i++) {
+            output.writeByte(0);
+        }
+        for (LongBuffer bucket : buckets) {
+            for (int i = 0; i < bucket.limit(); i++) {
+                output.writeLong(bucket.get(i));
+            }
+        }
+    }
+
+    public Optional<String> random(int length) {
+        int count = size(length);
+        if (count == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(wordAt(length, ThreadLocalRandom.current().nextInt(count)));
+    }
+
+    /**
+     * The word at the given position of a shuffled order of the words of one length.
+     * Every seed gives its own order, so the positions 0 up to size(length) of one seed
+     * provide every word once. After that the words are provided in another order.
+     *
+     * The order is never stored: a position is shuffled by a Feistel network over the
+     * smallest power of four that holds all words, and shuffled again while it falls
+     * outside of the words, which happens less than four times on average.
+     */
+    public Optional<String> permuted(int length, long seed, int position) {
+        int count = size(length);
+        if (count == 0 || position < 0) {
+            return Optional.empty();
+        }
+
+        long cycleSeed = seed + position / count;
+        return Optional.of(wordAt(length, shuffle(position % count, count, cycleSeed)));
+    }
+
+    private static int shuffle(int index, int count, long seed) {
+        int bits = 32 - Integer.numberOfLeadingZeros(count - 1);
+        int halfBits = Math.max(1, (bits + 1) / 2);
+        int halfMask = (1 << halfBits) - 1;
+
+        int shuffled = index;
+        do {
+            int left = shuffled >>> halfBits;
+            int right = shuffled & halfMask;
+            for (int round = 0; round < FEISTEL_ROUNDS; round++) {
+                int next = left ^ ((int) mix(seed + round * GOLDEN_GAMMA + right) & halfMask);
+                left = right;
+                right = next;
+            }
+            shuffled = (left << halfBits) | right;
+        } while (shuffled >= count);
+
+        return shuffled;
+    }
+
+    /**
+     * The finalizer of SplitMix64, which spreads every bit of the input over the output.
+     */
+    private static long mix(long value) {
+        long mixed = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        mixed = (mixed ^ (mixed >>> 27)) * 0x94d049bb133111ebL;
+        return mixed ^ (mixed >>> 31);
+    }
+
+    /**
+     * Lookups ignore case, as the pool stores all words lowercased.
+     */
+    @Override
+    public boolean contains(String word) {
+        return word != null && contains(PackedWord.encode(word));
+    }
+
+    @Override
+    public boolean contains(long word) {
+        int length = PackedWord.length(word);
+        long wanted = PackedWord.toLowerCase(word);
+        int low = 0;
+        int high = size(length) - 1;
+
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            long stored = buckets[length].get(middle);
+
+            if (stored < wanted) {
+                low = middle + 1;
+            } else if (stored > wanted) {
+                high = middle - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int size(int length) {
+        if (length < 0 || length >= counts.length) {
+            return 0;
+        }
+        return counts[length];
+    }
+
+    public int size() {
+        int total = 0;
+        for (int count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Only reads the buffer by index, so a pool can be read by several threads at once.
+     */
+    private String wordAt(int length, int index) {
+        return PackedWord.decode(buckets[length].get(index));
+    }
+}
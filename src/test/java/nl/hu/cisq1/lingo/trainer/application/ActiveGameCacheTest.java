@@ -0,0 +1,244 @@
+package nl.hu.cisq1.lingo.trainer.application;
+
+import nl.hu.cisq1.lingo.trainer.data.SpringGameRepository;
+import nl.hu.cisq1.lingo.trainer.domain.Game;
+import nl.hu.cisq1.lingo.trainer.domain.exception.GameChangesLostException;
+import nl.hu.cisq1.lingo.trainer.domain.exception.GameNotFoundException;
+import nl.hu.cisq1.lingo.trainer.domain.exception.GameStateException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ActiveGameCache")
+class ActiveGameCacheTest {
+
+    private SpringGameRepository gameRepository;
+    private PlatformTransactionManager transactionManager;
+    private ApplicationEventPublisher eventPublisher;
+    private ActiveGameCache cache;
+    private Game game;
+
+    @BeforeEach
+    @DisplayName("initiates mocks and cache for tests")
+    void beforeEach() {
+        gameRepository = mock(SpringGameRepository.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        game = new Game();
+        game.startNewRound("BAARD");
+
+        when(gameRepository.findById(anyLong()))
+                .thenReturn(Optional.of(game));
+        when(gameRepository.findWithRoundsById(anyLong()))
+                .thenReturn(Optional.of(game));
+        when(gameRepository.existsById(anyLong()))
+                .thenReturn(true);
+        when(gameRepository.save(any()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        cache = new ActiveGameCache(gameRepository, transactionManager, eventPublisher, true, 600000);
+    }
+
+    @Test
+    @DisplayName("changes games that are being played in memory")
+    void changesPlayingGameInMemory() {
+        cache.update(1L, playing -> {
+            playing.guess("BAKEN");
+            return null;
+        });
+        cache.update(1L, playing -> {
+            playing.guess("BARST");
+            return null;
+        });
+
+        verify(gameRepository, times(1)).findWithRoundsById(1L);
+        verify(gameRepository, never()).save(any());
+        assertEquals(Optional.of(2), cache.read(1L, cached -> cached.getLatestRound().getAttempts()));
+    }
+
+    @Test
+    @DisplayName("saves games that are not being played right away")
+    void savesOtherGamesRightAway() {
+        game.guess("BAARD");
+
+        assertThrows(GameStateException.class, () -> cache.update(1L, waiting -> {
+            waiting.guess("BAARD");
+            return null;
+        }));
+        cache.update(1L, waiting -> {
+            waiting.startNewRound("BAKEN");
+            return null;
+        });
+
+        verify(gameRepository, times(1)).save(game);
+        assertEquals(Optional.empty(), cache.read(1L, Game::getScore));
+    }
+
+    @Test
+    @DisplayName("saves every game on a write when disabled")
+    void savesRightAwayWhenDisabled() {
+        cache = new ActiveGameCache(gameRepository, transactionManager, eventPublisher, false, 600000);
+
+        cache.update(1L, playing -> {
+            playing.guess("BAKEN");
+            return null;
+        });
+
+        verify(gameRepository, times(1)).save(game);
+    }
+
+    @Test
+    @DisplayName("throws when the game does not exist")
+    void throwsWhenGameNotFound() {
+        when(gameRepository.findById(anyLong()))
+                .thenReturn(Optional.empty());
+        when(gameRepository.findWithRoundsById(anyLong()))
+                .thenReturn(Optional.empty());
+
+        assertThrows(GameNotFoundException.class, () -> cache.update(1L, Game::getScore));
+    }
+
+    @Test
+    @DisplayName("writes changed games once on flush")
+    void flushWritesChangedGames() {
+        cache.update(1L, playing -> {
+            playing.guess("BAKEN");
+            return null;
+        });
+
+        cache.flush();
+        cache.flush();
+
+        verify(gameRepository, times(1)).save(game);
+    }
+
+    @Test
+    @DisplayName("replaces cached games by their saved copy on flush")
+    void flushReplacesCachedGame() {
+        Game saved = new Game();
+        saved.startNewRound("BAKEN");
+        when(gameRepository.save(any()))
+                .thenReturn(saved);
+
+        cache.update(1L, playing -> {
+            playing.guess("BAKEN");
+            return null;
+        });
+        cache.flush();
+
+        assertEquals(Optional.of("B...."), cache.read(1L, cached -> cached.getLatestRound().giveHint()));
+    }
+
+    @Test
+    @DisplayName("does not recreate games that were deleted while cached")
+    void flushSkipsDeletedGames() {
+        cache.update(1L, playing -> {
+            playing.guess("BAKEN");
+            return null;
+        });
+        when(gameRepository.existsById(1L))
+                .thenReturn(false);
+
+        cache.flush();
+
+        verify(gameRepository, never()).save(any());
+        assertEquals(Optional.empty(), cache.read(1L, Game::getScore));
+    }
+
+    @Test
+    @DisplayName("removes games that are no longer played on flush")
+    void flushRemovesFinishedGames() {
+        cache.update(1L, playing -> {
+            playing.guess("BAARD");
+            return null;
+        });
+
+        cache.flush();
+
+        assertEquals(Optional.empty(), cache.read(1L, Game::getScore));
+    }
+
+    @Test
+    @DisplayName("writes pending changes when a game is evicted")
+    void evictWritesPendingChanges() {
+        cache.update(1L, playing -> {
+            playing.guess("BAKEN");
+            return null;
+        });
+
+        cache.evict(1L);
+
+        verify(gameRepository, times(1)).save(game);
+        assertEquals(Optional.empty(), cache.read(1L, Game::getScore));
+    }
+
+    @Test
+    @DisplayName("drops the cached changes of games that were changed elsewhere")
+    void flushDropsConflictingGames() {
+        cache.update(1L, playing -> {
+            playing.guess("BAKEN");
+            return null;
+        });
+        when(gameRepository.save(any()))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Game.class, 1L));
+
+        cache.flush();
+
+        assertEquals(Optional.empty(), cache.read(1L, Game::getScore));
+        verify(eventPublisher).publishEvent(any(CachedChangesDroppedEvent.class));
+    }
+
+    @Test
+    @DisplayName("fails the next change to a game whose cached changes were dropped, once")
+    void failsNextChangeAfterDroppedChanges() {
+        cache.update(1L, playing -> {
+            playing.guess("BAKEN");
+            return null;
+        });
+        when(gameRepository.save(any()))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Game.class, 1L));
+        cache.flush();
+
+        assertThrows(GameChangesLostException.class, () -> cache.update(1L, Game::getScore));
+        assertDoesNotThrow(() -> cache.update(1L, Game::getScore));
+    }
+
+    @Test
+    @DisplayName("fails the eviction of a game whose cached changes cannot be written")
+    void evictFailsOnDroppedChanges() {
+        cache.update(1L, playing -> {
+            playing.guess("BAKEN");
+            return null;
+        });
+        when(gameRepository.save(any()))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Game.class, 1L));
+
+        assertThrows(GameChangesLostException.class, () -> cache.evict(1L));
+        assertEquals(Optional.empty(), cache.read(1L, Game::getScore));
+        verify(eventPublisher).publishEvent(any(CachedChangesDroppedEvent.class));
+    }
+
+    @Test
+    @DisplayName("keeps the cached changes of games that could not be written")
+    void flushRetriesFailedGames() {
+        cache.update(1L, playing -> {
+            playing.guess("BAKEN");
+            return null;
+        });
+        when(gameRepository.save(any()))
+                .thenThrow(new IllegalStateException("Database is down"));
+
+        cache.flush();
+
+        assertEquals(Optional.of(1), cache.read(1L, cached -> cached.getLatestRound().getAttempts()));
+    }
+}
@@ -0,0 +1,95 @@
+package nl.hu.cisq1.lingo.trainer.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("GameLocks")
+class GameLocksTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private GameLocks locks;
+
+    @BeforeEach
+    @DisplayName("initiates locks for tests")
+    void beforeEach() {
+        meterRegistry = new SimpleMeterRegistry();
+        locks = new GameLocks(4, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("returns the result of the work")
+    void returnsResult() {
+        assertEquals("BAARD", locks.withLock(1L, () -> "BAARD"));
+        assertEquals(1.0, meterRegistry.counter("lingo.games.lock.acquired").count());
+        assertEquals(0.0, meterRegistry.counter("lingo.games.lock.contended").count());
+    }
+
+    @Test
+    @DisplayName("serializes work on the same game and counts the contention")
+    void serializesSameGame() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        AtomicInteger running = new AtomicInteger();
+
+        try {
+            Future<Integer> other = locks.withLock(1L, () -> {
+                running.incrementAndGet();
+                Future<Integer> waiting = executor.submit(() -> locks.withLock(1L, running::get));
+                awaitContention();
+                running.decrementAndGet();
+                return waiting;
+            });
+
+            assertEquals(0, other.get(5, TimeUnit.SECONDS));
+            assertEquals(1.0, meterRegistry.counter("lingo.games.lock.contended").count());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("does not serialize work on games on other stripes")
+    void otherGamesRunInParallel() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            String result = locks.withLock(1L, () -> get(executor.submit(() -> locks.withLock(2L, () -> "BAARD"))));
+
+            assertEquals("BAARD", result);
+            assertEquals(0.0, meterRegistry.counter("lingo.games.lock.contended").count());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("needs at least one stripe")
+    void needsStripes() {
+        assertThrows(IllegalArgumentException.class, () -> new GameLocks(0, meterRegistry));
+    }
+
+    private void awaitContention() {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.counter("lingo.games.lock.contended").count() < 1) {
+            assertTrue(System.nanoTime() < deadline, "No other thread waited for the lock");
+            Thread.onSpinWait();
+        }
+    }
+
+    private static <T> T get(Future<T> future) {
+        try {
+            return future.get(5, TimeUnit.SECONDS);
+        } catch (Exception exception) {
+            return fail(exception);
+        }
+    }
+}
@@ -1,11 +1,16 @@
 package nl.hu.cisq1.lingo.trainer.application;
 
+import javassist.NotFoundException;
 import nl.hu.cisq1.lingo.CiTestConfiguration;
 import nl.hu.cisq1.lingo.trainer.data.SpringGameRepository;
 import nl.hu.cisq1.lingo.trainer.domain.Game;
 import nl.hu.cisq1.lingo.trainer.domain.GameStatus;
+import nl.hu.cisq1.lingo.trainer.domain.GameStorage;
+import nl.hu.cisq1.lingo.trainer.domain.Mark;
 import nl.hu.cisq1.lingo.trainer.domain.exception.GameStateException;
+import nl.hu.cisq1.lingo.trainer.application.dto.GamePage;
 import nl.hu.cisq1.lingo.trainer.application.dto.ProgressDTO;
+import nl.hu.cisq1.lingo.words.application.WordService;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -13,7 +18,12 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -41,6 +51,15 @@ class GameServiceIntegrationTest {
     @Autowired
     private SpringGameRepository repository;
 
+    @Autowired
+    private ActiveGameCache activeGames;
+
+    @Autowired
+    private WordService wordService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     private Game game;
 
     @BeforeEach
@@ -57,6 +76,7 @@ class GameServiceIntegrationTest {
     @AfterEach
     @DisplayName("clean up after test")
     void afterEachTest() {
+        this.activeGames.flush();
         this.repository.deleteAll();
     }
 
@@ -115,6 +135,124 @@ class GameServiceIntegrationTest {
         assertThrows(GameStateException.class, () -> this.service.guess(id,"BAARD"));
     }
 
+    @Test
+    @DisplayName("claimed reserved games are stored as playing right away and are not taken over again")
+    void claimIsStoredRightAway() {
+        GameReservoir reservoir = new GameReservoir(repository, wordService, transactionTemplate, GameStorage.NORMALIZED, 1);
+        reservoir.refill();
+        Game claimed = reservoir.claim().orElseThrow();
+
+        assertEquals(GameStatus.PLAYING, this.repository.findById(claimed.getId()).orElseThrow().getGameStatus());
+
+        GameReservoir restarted = new GameReservoir(repository, wordService, transactionTemplate, GameStorage.NORMALIZED, 1);
+        restarted.refill();
+        Optional<Game> next = restarted.claim();
+
+        assertTrue(next.isPresent());
+        assertNotEquals(claimed.getId(), next.get().getId());
+    }
+
+    @Test
+    @DisplayName("stale copies of a game cannot overwrite newer changes")
+    void staleGameCannotBeSaved() {
+        game.guess("BAARS");
+        this.repository.save(game);
+
+        game.guess("BAKEN");
+
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> this.repository.save(game));
+    }
+
+    @Test
+    @DisplayName("guesses are written to the database when the active games are flushed")
+    void guessIsWrittenOnFlush() {
+        Game pizzaGame = new Game();
+        pizzaGame.startNewRound("PIZZA");
+        this.repository.save(pizzaGame);
+
+        Long id = pizzaGame.getId();
+        this.service.guess(id, "PIZZA");
+
+        assertEquals(GameStatus.WAITING_FOR_ROUND.getStatus(), this.service.getProgress(id).getGameStatus());
+
+        this.activeGames.flush();
+
+        assertEquals(GameStatus.WAITING_FOR_ROUND, this.repository.findById(id).orElseThrow().getGameStatus());
+        assertEquals(25, this.repository.findById(id).orElseThrow().getScore());
+    }
+
+    @Test
+    @DisplayName("games stored as a snapshot can be played and are moved to the configured storage")
+    void snapshotGameIsMigratedOnGuess() {
+        Game snapshotGame = new Game();
+        snapshotGame.changeStorage(GameStorage.SNAPSHOT);
+        snapshotGame.startNewRound("BAARD");
+        snapshotGame.guess("BAKEN");
+        this.repository.save(snapshotGame);
+        Long id = snapshotGame.getId();
+
+        assertEquals("BA...", this.service.getProgress(id).getCurrentHint());
+
+        ProgressDTO progress = this.service.guess(id, "BAARS");
+
+        assertEquals("BAAR.", progress.getCurrentHint());
+        assertEquals(2, progress.getFeedbackHistory().size());
+
+        this.activeGames.flush();
+        assertEquals(GameStorage.NORMALIZED, this.repository.findById(id).orElseThrow().getStorage());
+    }
+
+    @Test
+    @DisplayName("stored feedback is loaded with its packed marks")
+    void storedFeedbackHasMarks() throws NotFoundException {
+        this.service.guess(game.getId(), "BAARS");
+        this.activeGames.flush();
+
+        GamePage page = this.service.getGames(null, null, 10);
+
+        List<Mark> expected = List.of(Mark.CORRECT, Mark.CORRECT, Mark.CORRECT, Mark.CORRECT, Mark.ABSENT);
+        assertEquals(expected, page.getGames().get(0).getFeedbackHistory().get(0).getMarks());
+    }
+
+    @Test
+    @DisplayName("pages of games show the latest round of every game")
+    void pageOfGamesShowsLatestRounds() throws NotFoundException {
+        this.service.guess(game.getId(), "BAARS");
+        this.activeGames.flush();
+
+        Game snapshotGame = new Game();
+        snapshotGame.changeStorage(GameStorage.SNAPSHOT);
+        snapshotGame.startNewRound("BAARD");
+        snapshotGame.guess("BAARD");
+        snapshotGame.startNewRound("DAAGDE");
+        this.repository.save(snapshotGame);
+
+        GamePage page = this.service.getGames(null, null, 10);
+
+        assertEquals(2, page.getGames().size());
+        assertEquals("BAAR.", page.getGames().get(0).getCurrentHint());
+        assertEquals("D.....", page.getGames().get(1).getCurrentHint());
+        assertEquals(25, page.getGames().get(1).getScore());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("exporting games passes the progress of every game in order")
+    void gamesAreExported() {
+        Game secondGame = new Game();
+        secondGame.startNewRound("BAARD");
+        secondGame.guess("BAARS");
+        this.repository.save(secondGame);
+
+        List<ProgressDTO> exported = new ArrayList<>();
+        this.service.exportGames(exported::add);
+
+        assertEquals(2, exported.size());
+        assertEquals(game.getId(), exported.get(0).getId());
+        assertEquals(secondGame.getId(), exported.get(1).getId());
+        assertEquals("BAAR.", exported.get(1).getCurrentHint());
+    }
+
     @ParameterizedTest
     @DisplayName("getting progress of game returns the current state of the game")
     @MethodSource("randomGameExamples")
@@ -186,6 +324,7 @@ class GameServiceIntegrationTest {
 
     private static ProgressDTO convertGameToProgressDTO(Game game) {
         return new ProgressDTO.Builder(game.getId())
+                .revision(game.getRevision())
                 .gameStatus(game.getGameStatus().getStatus())
                 .score(game.getScore())
                 .currentHint(game.getLatestRound().giveHint())
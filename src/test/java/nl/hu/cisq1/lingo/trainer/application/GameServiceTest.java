@@ -1,23 +1,38 @@
 package nl.hu.cisq1.lingo.trainer.application;
 
 import javassist.NotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nl.hu.cisq1.lingo.trainer.application.dto.FeedbackDTO;
+import nl.hu.cisq1.lingo.trainer.application.dto.GamePage;
+import nl.hu.cisq1.lingo.trainer.application.dto.GuessesDTO;
+import nl.hu.cisq1.lingo.trainer.data.GameSummary;
+import nl.hu.cisq1.lingo.trainer.data.LatestRound;
 import nl.hu.cisq1.lingo.trainer.data.SpringGameRepository;
 import nl.hu.cisq1.lingo.trainer.domain.Game;
+import nl.hu.cisq1.lingo.trainer.domain.GameStatus;
+import nl.hu.cisq1.lingo.trainer.domain.GameStorage;
+import nl.hu.cisq1.lingo.trainer.domain.Round;
+import nl.hu.cisq1.lingo.trainer.domain.exception.GameConflictException;
 import nl.hu.cisq1.lingo.trainer.domain.exception.GameNotFoundException;
 import nl.hu.cisq1.lingo.trainer.application.dto.ProgressDTO;
-import nl.hu.cisq1.lingo.words.data.SpringWordRepository;
-import nl.hu.cisq1.lingo.words.domain.Word;
+import nl.hu.cisq1.lingo.words.application.WordService;
+import nl.hu.cisq1.lingo.words.domain.WordPool;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -36,7 +51,12 @@ import static org.mockito.Mockito.when;
 class GameServiceTest {
 
     private SpringGameRepository gameRepository;
-    private SpringWordRepository wordRepository;
+    private WordService wordService;
+    private ActiveGameCache activeGames;
+    private GameLocks gameLocks;
+    private GameReservoir reservoir;
+    private TransactionTemplate transactionTemplate;
+    private ApplicationEventPublisher eventPublisher;
     private GameService service;
     private Game game;
 
@@ -44,15 +64,25 @@ class GameServiceTest {
     @DisplayName("initiates mocks and service for tests")
     void beforeEach() {
         gameRepository = mock(SpringGameRepository.class);
-        wordRepository = mock(SpringWordRepository.class);
+        wordService = mock(WordService.class);
         this.game = new Game();
 
         when(gameRepository.findById(anyLong()))
                 .thenReturn(Optional.of(game));
-        when(wordRepository.findRandomWordByLength(anyInt()))
-                .thenReturn(Optional.of(new Word("BLOEM")));
-
-        service = new GameService(gameRepository,wordRepository);
+        when(gameRepository.findWithRoundsById(anyLong()))
+                .thenReturn(Optional.of(game));
+        when(wordService.provideWord(anyInt(), anyLong(), anyInt()))
+                .thenReturn("BLOEM");
+        when(wordService.getDictionary())
+                .thenReturn(WordPool.of(List.of("bloem", "bloei")));
+
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        activeGames = new ActiveGameCache(gameRepository, transactionManager, eventPublisher, true, 600000);
+        gameLocks = new GameLocks(16, new SimpleMeterRegistry());
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        reservoir = new GameReservoir(gameRepository, wordService, transactionTemplate, GameStorage.NORMALIZED, 0);
+        service = new GameService(gameRepository,wordService, activeGames, gameLocks, reservoir, transactionTemplate, eventPublisher, GameStorage.NORMALIZED);
     }
 
     @Test
@@ -65,6 +95,75 @@ class GameServiceTest {
         assertEquals(expected, result);
     }
 
+    @Test
+    @DisplayName("Starting a game hands out a reserved game, only storing its claim right away")
+    void startGameClaimsReservedGame() {
+        when(wordService.provideWord(anyInt(), anyLong(), anyInt()))
+                .thenReturn("BAARD");
+        when(gameRepository.findByGameStatus(any(GameStatus.class), any(Pageable.class)))
+                .thenReturn(List.of());
+        when(gameRepository.saveAll(anyList()))
+                .thenAnswer(invocation -> {
+                    List<Game> games = invocation.getArgument(0);
+                    games.forEach(reserved -> ReflectionTestUtils.setField(reserved, "id", 1L));
+                    return games;
+                });
+        when(gameRepository.claimReserved(1L))
+                .thenReturn(1);
+        reservoir = new GameReservoir(gameRepository, wordService, transactionTemplate, GameStorage.NORMALIZED, 1);
+        service = new GameService(gameRepository, wordService, activeGames, gameLocks, reservoir, transactionTemplate, eventPublisher, GameStorage.NORMALIZED);
+        reservoir.refill();
+
+        ProgressDTO result = service.startGame();
+
+        assertEquals(GameStatus.PLAYING.getStatus(), result.getGameStatus());
+        assertEquals("B....", result.getCurrentHint());
+        assertEquals(0, reservoir.available());
+        verify(gameRepository, times(1)).claimReserved(1L);
+        verify(gameRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Starting a game skips reserved games that were claimed elsewhere")
+    void startGameSkipsClaimedReservedGame() {
+        when(wordService.provideWord(anyInt(), anyLong(), anyInt()))
+                .thenReturn("BAARD");
+        when(gameRepository.findByGameStatus(any(GameStatus.class), any(Pageable.class)))
+                .thenReturn(List.of());
+        when(gameRepository.saveAll(anyList()))
+                .thenAnswer(invocation -> {
+                    List<Game> games = invocation.getArgument(0);
+                    games.forEach(reserved -> ReflectionTestUtils.setField(reserved, "id", 1L));
+                    return games;
+                });
+        when(gameRepository.claimReserved(1L))
+                .thenReturn(0);
+        reservoir = new GameReservoir(gameRepository, wordService, transactionTemplate, GameStorage.NORMALIZED, 1);
+        service = new GameService(gameRepository, wordService, activeGames, gameLocks, reservoir, transactionTemplate, eventPublisher, GameStorage.NORMALIZED);
+        reservoir.refill();
+
+        ProgressDTO result = service.startGame();
+
+        assertEquals(GameStatus.PLAYING.getStatus(), result.getGameStatus());
+        assertEquals(0, reservoir.available());
+        verify(gameRepository, times(1)).save(any());
+    }
+
+    @Test
+    @DisplayName("Starting several games saves them together")
+    void startGamesSavesTogether() {
+        when(wordService.provideWord(eq(5), anyLong(), eq(0)))
+                .thenReturn("BAARD", "BLOEM", "BLOEI");
+        when(gameRepository.saveAll(anyList()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<Long> ids = service.startGames(3);
+
+        assertEquals(3, ids.size());
+        verify(gameRepository, times(1)).saveAll(anyList());
+        verify(gameRepository, never()).save(any());
+    }
+
     @Test
     @DisplayName("Get progress throws exception if game not found")
     void getProgressReturnsExceptionIfGameNotFound() {
@@ -78,11 +177,40 @@ class GameServiceTest {
     @DisplayName("Get progress returns game as progress DTO")
     void getProgressReturnsProgressDTO() {
         game.startNewRound("BLOEM");
-        ProgressDTO expected = convertGameToProgressDTO(game);
+        game.guess("BLOEI");
+        GameSummary summary = summary(0L);
+        List<LatestRound> latestRounds = List.of(latestRound(0L, game.getLatestRound()));
+        when(gameRepository.findSummaryById(0L))
+                .thenReturn(Optional.of(summary));
+        when(gameRepository.findLatestRounds(anyCollection()))
+                .thenReturn(latestRounds);
+
+        ProgressDTO result = service.getProgress(0L);
+
+        assertEquals("BLOE.", result.getCurrentHint());
+        assertEquals(List.of(FeedbackDTO.of(game.getLatestRound().getLastFeedback())), result.getFeedbackHistory());
+        assertEquals(GameStatus.PLAYING.getStatus(), result.getGameStatus());
+        verify(gameRepository, never()).findById(anyLong());
+    }
 
-        ProgressDTO result = service.getProgress(anyLong());
+    @Test
+    @DisplayName("Get revision only reads the revision of games that are not cached")
+    void getRevisionReadsColumn() {
+        when(gameRepository.findRevisionById(0L))
+                .thenReturn(Optional.of(3L));
+
+        assertEquals(3L, service.getRevision(0L));
+        verify(gameRepository, never()).findById(anyLong());
+        verify(gameRepository, never()).findSummaryById(anyLong());
+    }
 
-        assertEquals(expected, result);
+    @Test
+    @DisplayName("Get revision throws exception if game not found")
+    void getRevisionThrowsIfGameNotFound() {
+        when(gameRepository.findRevisionById(0L))
+                .thenReturn(Optional.empty());
+
+        assertThrows(GameNotFoundException.class, () -> service.getRevision(0L));
     }
 
     @Test
@@ -90,6 +218,8 @@ class GameServiceTest {
     void newRoundThrowsErrorByNonExistingGame() {
         when(gameRepository.findById(anyLong()))
                 .thenReturn(Optional.empty());
+        when(gameRepository.findWithRoundsById(anyLong()))
+                .thenReturn(Optional.empty());
 
         assertThrows(GameNotFoundException.class, () -> service.startNewRound(0L));
     }
@@ -112,6 +242,8 @@ class GameServiceTest {
     void guessThrowsExceptionByNonExistingGame() {
         when(gameRepository.findById(anyLong()))
                 .thenReturn(Optional.empty());
+        when(gameRepository.findWithRoundsById(anyLong()))
+                .thenReturn(Optional.empty());
 
         assertThrows(GameNotFoundException.class, () -> service.guess(0L,"LOSER"));
     }
@@ -122,37 +254,158 @@ class GameServiceTest {
         game.startNewRound("BLOEM");
         ProgressDTO result = service.guess(anyLong(),"BLOEI");
 
-        game.guess("BLOEI");
-        ProgressDTO expected = convertGameToProgressDTO(game);
+        Game expectedGame = new Game();
+        expectedGame.startNewRound("BLOEM");
+        expectedGame.guess("BLOEI");
+        ProgressDTO expected = convertGameToProgressDTO(expectedGame);
 
         assertEquals(expected, result);
     }
 
+    @Test
+    @DisplayName("Guess is rejected when the game is not at the expected revision")
+    void guessAtOtherRevisionIsRejected() {
+        game.startNewRound("BLOEM");
+
+        assertThrows(GameConflictException.class, () -> service.guess(0L, "BLOEI", 0L));
+        assertEquals(1, service.guess(0L, "BLOEI", 1L).getFeedbackHistory().size());
+    }
+
+    @Test
+    @DisplayName("Guesses are played in order and return feedback on every attempt")
+    void guessesArePlayedInOrder() {
+        game.startNewRound("BLOEM");
+
+        GuessesDTO result = service.guessAll(0L, List.of("BLOEI", "BOTER"), null);
+
+        assertEquals(List.of("BLOEI", "BOTER"), List.of(result.getFeedback().get(0).getAttempt(), result.getFeedback().get(1).getAttempt()));
+        assertEquals(result.getFeedback(), result.getProgress().getFeedbackHistory());
+        assertEquals(3L, result.getProgress().getRevision());
+    }
+
+    @Test
+    @DisplayName("Guesses stop when the round is won")
+    void guessesStopAtVictory() {
+        game.startNewRound("BLOEM");
+
+        GuessesDTO result = service.guessAll(0L, List.of("BLOEI", "BLOEM", "BLOEI"), null);
+
+        assertEquals(2, result.getFeedback().size());
+        assertEquals(GameStatus.WAITING_FOR_ROUND.getStatus(), result.getProgress().getGameStatus());
+    }
+
+    @Test
+    @DisplayName("Guess publishes the new progress")
+    void guessPublishesProgress() {
+        game.startNewRound("BLOEM");
+
+        ProgressDTO result = service.guess(0L, "BLOEI");
+
+        verify(eventPublisher, times(1)).publishEvent(argThat((GameProgressEvent event) -> event.getProgress().equals(result)));
+    }
+
+    @Test
+    @DisplayName("Guess that cannot be played publishes nothing")
+    void failedGuessPublishesNothing() {
+        game.startNewRound("BLOEM");
+
+        assertThrows(GameConflictException.class, () -> service.guess(0L, "BLOEI", 0L));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("Guess on a game that is being played is not saved right away")
+    void guessIsWrittenBehind() {
+        game.startNewRound("BLOEM");
+
+        service.guess(0L, "BLOEI");
+
+        verify(gameRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Guess moves the game to the configured storage")
+    void guessMovesGameToConfiguredStorage() {
+        service = new GameService(gameRepository, wordService, activeGames, gameLocks, reservoir, transactionTemplate, eventPublisher, GameStorage.SNAPSHOT);
+        game.startNewRound("BLOEM");
+
+        service.guess(0L, "BLOEI");
+
+        assertEquals(GameStorage.SNAPSHOT, game.getStorage());
+    }
+
     @Test
     @DisplayName("throw exception by no games found")
     void allGamesEmptyException() {
-        List<Game> gameList = new ArrayList<>();
-        when(gameRepository.findAll())
-                .thenReturn(gameList);
+        when(gameRepository.findSummariesAfter(anyLong(), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        assertThrows(NotFoundException.class, () -> service.getGames(null, null, 10));
+    }
+
+    @Test
+    @DisplayName("an empty page is returned when no games have the requested status")
+    void noGamesWithStatus() throws NotFoundException {
+        when(gameRepository.findSummariesAfter(anyLong(), any(GameStatus.class), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        GamePage page = service.getGames(GameStatus.ELIMINATED, null, 10);
+
+        assertEquals(List.of(), page.getGames());
+        assertNull(page.getNextCursor());
+    }
 
-        assertThrows(NotFoundException.class, () -> service.getAllGames());
+    @Test
+    @DisplayName("return a page of games with their latest round")
+    void pageOfGamesIsReturned() throws NotFoundException {
+        Round round = new Round("GRAAL");
+        round.guess("GRAAF");
+        List<GameSummary> summaries = List.of(summary(1L), summary(2L));
+        List<LatestRound> latestRounds = List.of(latestRound(1L, round));
+        when(gameRepository.findSummariesAfter(anyLong(), any(Pageable.class)))
+                .thenReturn(summaries);
+        when(gameRepository.findLatestRounds(anyCollection()))
+                .thenReturn(latestRounds);
+
+        GamePage page = service.getGames(null, null, 10);
+
+        assertEquals(2, page.getGames().size());
+        assertEquals("GRAA.", page.getGames().get(0).getCurrentHint());
+        assertEquals(1, page.getGames().get(0).getFeedbackHistory().size());
+        assertNull(page.getNextCursor());
     }
 
     @Test
-    @DisplayName("return a list of games")
-    void allGamesReturnsListOfGames() throws NotFoundException {
-        game.startNewRound("GRAAL");
+    @DisplayName("a cursor is returned when there are more games than the limit")
+    void nextCursorIsReturned() throws NotFoundException {
+        List<GameSummary> summaries = List.of(summary(2L), summary(3L), summary(4L));
+        when(gameRepository.findSummariesAfter(eq(1L), any(Pageable.class)))
+                .thenReturn(summaries);
 
-        List<Game> gameList = List.of(game);
+        GamePage page = service.getGames(null, 1L, 2);
 
-        when(gameRepository.findAll())
-                .thenReturn(gameList);
+        assertEquals(2, page.getGames().size());
+        assertEquals(3L, page.getNextCursor());
+    }
+
+    private static GameSummary summary(Long id) {
+        GameSummary summary = mock(GameSummary.class);
+        when(summary.getId()).thenReturn(id);
+        when(summary.getGameStatus()).thenReturn(GameStatus.PLAYING);
+        when(summary.getStorage()).thenReturn(GameStorage.NORMALIZED);
+        return summary;
+    }
 
-        assertEquals(1, service.getAllGames().size());
+    private static LatestRound latestRound(Long gameId, Round round) {
+        LatestRound latestRound = mock(LatestRound.class);
+        when(latestRound.getGameId()).thenReturn(gameId);
+        when(latestRound.getRound()).thenReturn(round);
+        return latestRound;
     }
 
     private static ProgressDTO convertGameToProgressDTO(Game game) {
         return new ProgressDTO.Builder(game.getId())
+                .revision(game.getRevision())
                 .gameStatus(game.getGameStatus().getStatus())
                 .score(game.getScore())
                 .currentHint(game.getLatestRound().giveHint())
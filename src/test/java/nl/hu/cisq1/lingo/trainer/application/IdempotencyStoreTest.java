@@ -0,0 +1,132 @@
+package nl.hu.cisq1.lingo.trainer.application;
+
+import nl.hu.cisq1.lingo.trainer.application.dto.ProgressDTO;
+import nl.hu.cisq1.lingo.trainer.domain.GameStatus;
+import nl.hu.cisq1.lingo.trainer.domain.exception.GameStateException;
+import nl.hu.cisq1.lingo.trainer.domain.exception.IdempotencyKeyReusedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("IdempotencyStore")
+class IdempotencyStoreTest {
+
+    private IdempotencyStore store;
+    private AtomicInteger runs;
+
+    @BeforeEach
+    @DisplayName("initiates store for tests")
+    void beforeEach() {
+        store = new IdempotencyStore(2, 600000);
+        runs = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("returns the first result for a retried request")
+    void retryGetsFirstResult() {
+        ProgressDTO first = store.execute("key", "guess 1 BAARD", this::play);
+        ProgressDTO retry = store.execute("key", "guess 1 BAARD", this::play);
+
+        assertSame(first, retry);
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    @DisplayName("rejects a key that is reused for another request")
+    void rejectsReusedKey() {
+        store.execute("key", "guess 1 BAARD", this::play);
+
+        assertThrows(IdempotencyKeyReusedException.class, () -> store.execute("key", "guess 1 BARST", this::play));
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    @DisplayName("forgets failed requests so they can be retried")
+    void forgetsFailedRequests() {
+        assertThrows(GameStateException.class, () -> store.execute("key", "newRound 1", () -> {
+            throw new GameStateException(GameStatus.PLAYING);
+        }));
+
+        store.execute("key", "newRound 1", this::play);
+
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    @DisplayName("forgets the oldest keys when full")
+    void forgetsOldestKeys() {
+        store.execute("first", "guess 1 BAARD", this::play);
+        store.execute("second", "guess 1 BARST", this::play);
+        store.execute("third", "guess 1 BAKEN", this::play);
+        store.execute("first", "guess 1 BAARD", this::play);
+
+        assertEquals(2, store.size());
+        assertEquals(4, runs.get());
+    }
+
+    @Test
+    @DisplayName("forgets keys after they expire")
+    void forgetsExpiredKeys() {
+        store = new IdempotencyStore(2, 0);
+
+        store.execute("key", "guess 1 BAARD", this::play);
+        store.execute("key", "guess 1 BAARD", this::play);
+
+        assertEquals(2, runs.get());
+    }
+
+    @Test
+    @DisplayName("lets a retry wait for the request that is still running")
+    void retryWaitsForRunningRequest() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+
+        try {
+            Future<ProgressDTO> first = executor.submit(() -> store.execute("key", "guess 1 BAARD", () -> {
+                running.countDown();
+                await(finish);
+                return play();
+            }));
+            assertTrue(running.await(5, TimeUnit.SECONDS));
+            finish.countDown();
+
+            ProgressDTO retry = store.execute("key", "guess 1 BAARD", this::play);
+
+            assertSame(first.get(5, TimeUnit.SECONDS), retry);
+            assertEquals(1, runs.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("needs room for at least one key")
+    void needsRoom() {
+        assertThrows(IllegalArgumentException.class, () -> new IdempotencyStore(0, 600000));
+    }
+
+    private ProgressDTO play() {
+        return new ProgressDTO.Builder((long) runs.incrementAndGet())
+                .feedbackHistory(List.of())
+                .build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException exception) {
+            fail(exception);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package nl.hu.cisq1.lingo.trainer.application.dto;
+
+import nl.hu.cisq1.lingo.trainer.domain.Round;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static nl.hu.cisq1.lingo.trainer.domain.Mark.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ProgressDTO")
+class ProgressDTOTest {
+
+    private ProgressDTO progress;
+
+    @BeforeEach
+    @DisplayName("initiates progress of a round with three attempts")
+    void beforeEach() {
+        Round round = new Round("BAARD");
+        round.guess("BAKEN");
+        round.guess("BARST");
+        round.guess("BAARS");
+
+        progress = new ProgressDTO.Builder(1L)
+                .revision(4L)
+                .feedbackHistory(round.getFeedbackHistory())
+                .currentHint(round.giveHint())
+                .build();
+    }
+
+    @Test
+    @DisplayName("feedback holds the attempt and its marks")
+    void feedbackHoldsAttemptAndMarks() {
+        FeedbackDTO feedback = progress.getFeedbackHistory().get(0);
+
+        assertEquals("BAKEN", feedback.getAttempt());
+        assertEquals(List.of(CORRECT, CORRECT, ABSENT, ABSENT, ABSENT), feedback.getMarks());
+    }
+
+    @Test
+    @DisplayName("leaves out the feedback on attempts the client has")
+    void leavesOutEarlierAttempts() {
+        ProgressDTO since = progress.since(3);
+
+        assertEquals(2, since.getFeedbackFrom());
+        assertEquals(1, since.getFeedbackHistory().size());
+        assertEquals("BAARS", since.getFeedbackHistory().get(0).getAttempt());
+        assertEquals(progress.getCurrentHint(), since.getCurrentHint());
+        assertEquals(progress.getRevision(), since.getRevision());
+    }
+
+    @Test
+    @DisplayName("has no feedback when the client has all attempts")
+    void noFeedbackWhenUpToDate() {
+        ProgressDTO since = progress.since(4);
+
+        assertEquals(3, since.getFeedbackFrom());
+        assertEquals(List.of(), since.getFeedbackHistory());
+    }
+
+    @Test
+    @DisplayName("keeps all feedback when the client has progress of an earlier round")
+    void keepsAllFeedbackOfNewRound() {
+        ProgressDTO since = progress.since(0);
+
+        assertEquals(0, since.getFeedbackFrom());
+        assertEquals(3, since.getFeedbackHistory().size());
+    }
+
+    @Test
+    @DisplayName("keeps all feedback when the client has a revision the game does not have")
+    void keepsAllFeedbackOfUnknownRevision() {
+        ProgressDTO since = progress.since(5);
+
+        assertEquals(0, since.getFeedbackFrom());
+        assertEquals(3, since.getFeedbackHistory().size());
+    }
+}
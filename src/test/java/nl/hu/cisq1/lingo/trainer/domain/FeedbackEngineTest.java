@@ -0,0 +1,102 @@
+package nl.hu.cisq1.lingo.trainer.domain;
+
+import nl.hu.cisq1.lingo.words.domain.PackedWord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static nl.hu.cisq1.lingo.trainer.domain.Mark.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FeedbackEngine")
+class FeedbackEngineTest {
+
+    @ParameterizedTest
+    @MethodSource("provideScoreExamples")
+    @DisplayName("scores an attempt against the word to guess")
+    void scoresAttempt(String wordToGuess, String attempt, List<Mark> expectedMarks) {
+        int packed = FeedbackEngine.score(attempt, wordToGuess);
+
+        assertEquals(expectedMarks, FeedbackEngine.unpack(packed));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideScoreExamples")
+    @DisplayName("scores a packed attempt like the attempt itself")
+    void scoresPackedAttempt(String wordToGuess, String attempt, List<Mark> expectedMarks) {
+        int packed = FeedbackEngine.score(PackedWord.encode(attempt), PackedWord.encode(wordToGuess));
+
+        assertEquals(expectedMarks, FeedbackEngine.unpack(packed));
+    }
+
+    static Stream<Arguments> provideScoreExamples() {
+        return Stream.of(
+                Arguments.of("BAARD", "BONJE", List.of(CORRECT, ABSENT, ABSENT, ABSENT, ABSENT)),
+                Arguments.of("BAARD", "BARST", List.of(CORRECT, CORRECT, PRESENT, ABSENT, ABSENT)),
+                Arguments.of("BAARD", "DRAAD", List.of(ABSENT, PRESENT, CORRECT, PRESENT, CORRECT)),
+                Arguments.of("BAARD", "BAARD", List.of(CORRECT, CORRECT, CORRECT, CORRECT, CORRECT)),
+                Arguments.of("ABBBBB", "BAAAAA", List.of(PRESENT, PRESENT, ABSENT, ABSENT, ABSENT, ABSENT)),
+                Arguments.of("WOLOLOO", "ONONOMO", List.of(PRESENT, ABSENT, PRESENT, ABSENT, PRESENT, ABSENT, CORRECT)),
+                Arguments.of("WOLOLOO", "O", List.of(INVALID, INVALID, INVALID, INVALID, INVALID, INVALID, INVALID))
+        );
+    }
+
+    @Test
+    @DisplayName("packs and unpacks marks without losing information")
+    void packsMarks() {
+        List<Mark> marks = List.of(INVALID, ABSENT, PRESENT, CORRECT, ABSENT, CORRECT, PRESENT);
+
+        int packed = FeedbackEngine.pack(marks);
+
+        assertEquals(7, FeedbackEngine.length(packed));
+        assertEquals(marks, FeedbackEngine.unpack(packed));
+    }
+
+    @Test
+    @DisplayName("reports positions outside of the marks as invalid")
+    void markOutsideOfLengthIsInvalid() {
+        int packed = FeedbackEngine.pack(List.of(CORRECT, CORRECT));
+
+        assertEquals(INVALID, FeedbackEngine.markAt(packed, 2));
+        assertEquals(INVALID, FeedbackEngine.markAt(packed, -1));
+    }
+
+    @Test
+    @DisplayName("all marks are correct when the word is guessed")
+    void allCorrect() {
+        assertTrue(FeedbackEngine.isAllCorrect(FeedbackEngine.score("BAARD", "BAARD")));
+        assertFalse(FeedbackEngine.isAllCorrect(FeedbackEngine.score("BAARS", "BAARD")));
+        assertFalse(FeedbackEngine.isAllCorrect(FeedbackEngine.invalid(5)));
+    }
+
+    @Test
+    @DisplayName("reports the positions that are marked correct")
+    void correctPositions() {
+        assertEquals(0b10011, FeedbackEngine.correctPositions(FeedbackEngine.score("BAKED", "BAARD")));
+        assertEquals(0, FeedbackEngine.correctPositions(FeedbackEngine.invalid(5)));
+        assertEquals(0b11111, FeedbackEngine.correctPositions(FeedbackEngine.score("BAARD", "BAARD")));
+    }
+
+    @Test
+    @DisplayName("detects invalid marks")
+    void invalidMarks() {
+        assertTrue(FeedbackEngine.hasInvalid(FeedbackEngine.invalid(5)));
+        assertTrue(FeedbackEngine.hasInvalid(FeedbackEngine.pack(List.of(CORRECT, INVALID, CORRECT))));
+        assertFalse(FeedbackEngine.hasInvalid(FeedbackEngine.score("DRAAD", "BAARD")));
+    }
+
+    @Test
+    @DisplayName("does not support words longer than the maximum length")
+    void wordTooLong() {
+        String word = "A".repeat(FeedbackEngine.MAX_WORD_LENGTH + 1);
+
+        assertThrows(IllegalArgumentException.class, () ->
+                FeedbackEngine.score(word, word)
+        );
+    }
+}
@@ -1,5 +1,6 @@
 package nl.hu.cisq1.lingo.trainer.domain;
 
+import nl.hu.cisq1.lingo.trainer.domain.exception.GameConflictException;
 import nl.hu.cisq1.lingo.trainer.domain.exception.GameStateException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -259,4 +260,99 @@ class GameTest {
         );
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("uses normalized storage by default")
+    void normalizedStorageByDefault() {
+        assertEquals(GameStorage.NORMALIZED, game.getStorage());
+    }
+
+    @Test
+    @DisplayName("keeps its rounds when moved to snapshot storage and back")
+    void changingStorageKeepsRounds() {
+        game.startNewRound("BAARD");
+        game.guess("BAKEN");
+
+        game.changeStorage(GameStorage.SNAPSHOT);
+        assertEquals(GameStorage.SNAPSHOT, game.getStorage());
+        assertEquals("BA...", game.getLatestRound().giveHint());
+        assertEquals(1, game.getLatestRound().getAttempts());
+
+        game.changeStorage(GameStorage.NORMALIZED);
+        assertEquals(GameStorage.NORMALIZED, game.getStorage());
+        assertEquals(1, game.getLatestRound().getFeedbackHistory().size());
+    }
+
+    @Test
+    @DisplayName("can be played with snapshot storage")
+    void playWithSnapshotStorage() {
+        game.changeStorage(GameStorage.SNAPSHOT);
+        game.startNewRound("BAARD");
+        game.guess("BAARD");
+        game.startNewRound("DAAGDE");
+        game.guess("DAAGDE");
+
+        game.changeStorage(GameStorage.NORMALIZED);
+
+        assertEquals(50, game.getScore());
+        assertEquals(7, game.provideNextWordLength());
+        assertTrue(game.getLatestRound().getLastFeedback().isWordGuessed());
+    }
+
+    @Test
+    @DisplayName("the next word position counts the rounds with words of the next length")
+    void nextWordPosition() {
+        assertEquals(0, game.provideNextWordPosition());
+
+        game.startNewRound("BAARD");
+        game.guess("BAARD");
+        game.startNewRound("DAAGDE");
+        game.guess("DAAGDE");
+        game.startNewRound("APEKOOL");
+        game.guess("APEKOOL");
+
+        assertEquals(5, game.provideNextWordLength());
+        assertEquals(1, game.provideNextWordPosition());
+    }
+
+    @Test
+    @DisplayName("every change increases the revision")
+    void changesIncreaseRevision() {
+        game.startNewRound("BAARD");
+        game.guess("BAKEN");
+
+        assertEquals(2, game.getRevision());
+    }
+
+    @Test
+    @DisplayName("checking the revision fails when the game is at another revision")
+    void checkRevision() {
+        game.startNewRound("BAARD");
+
+        assertDoesNotThrow(() -> game.checkRevision(null));
+        assertDoesNotThrow(() -> game.checkRevision(1L));
+        assertThrows(GameConflictException.class, () -> game.checkRevision(0L));
+    }
+
+    @Test
+    @DisplayName("a reserved game cannot be played until it is claimed")
+    void reservedGameIsPlayedAfterClaim() {
+        game.reserve("BAARD");
+
+        assertEquals(GameStatus.RESERVED, game.getGameStatus());
+        assertThrows(GameStateException.class, () -> game.guess("BAKEN"));
+
+        game.claim();
+        game.guess("BAKEN");
+
+        assertEquals(GameStatus.PLAYING, game.getGameStatus());
+        assertEquals(2, game.getRevision());
+    }
+
+    @Test
+    @DisplayName("only reserved games can be claimed")
+    void onlyReservedGamesCanBeClaimed() {
+        game.startNewRound("BAARD");
+
+        assertThrows(GameStateException.class, () -> game.claim());
+    }
+}
@@ -2,12 +2,15 @@ package nl.hu.cisq1.lingo.trainer.domain;
 
 import nl.hu.cisq1.lingo.trainer.domain.exception.AttemptLimitReachedException;
 import nl.hu.cisq1.lingo.trainer.domain.exception.NoFeedbackFoundException;
+import nl.hu.cisq1.lingo.words.domain.Dictionary;
+import nl.hu.cisq1.lingo.words.domain.WordPool;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
 import java.util.stream.Stream;
@@ -99,6 +102,51 @@ class RoundTest {
         assertEquals("BA...", hint);
     }
 
+    @Test
+    @DisplayName("provides hint based on all previous guesses")
+    void generateHintBasedOnAllFeedback() {
+        round.guess("BAKEN");
+        round.guess("BOORD");
+
+        assertEquals("BA.RD", round.giveHint());
+    }
+
+    @Test
+    @DisplayName("giving a hint does not change the round")
+    void givingHintDoesNotChangeRound() {
+        round.guess("BAKEN");
+        Round copy = new Round("BAARD");
+        copy.guess("BAKEN");
+
+        round.giveHint();
+
+        assertEquals(copy, round);
+    }
+
+    @Test
+    @DisplayName("gives the same hint until a guess reveals another letter")
+    void hintIsOnlyBuiltOnNewLetters() {
+        round.guess("BAKEN");
+        String hint = round.giveHint();
+
+        round.guess("BAKEN");
+        assertSame(hint, round.giveHint());
+
+        round.guess("BOORD");
+        assertEquals("BA.RD", round.giveHint());
+    }
+
+    @Test
+    @DisplayName("folds the last feedback into the stored hint of a loaded round")
+    void loadedRoundFoldsLastFeedback() {
+        Round loaded = new Round();
+        ReflectionTestUtils.setField(loaded, "wordToGuess", "BAARD");
+        ReflectionTestUtils.setField(loaded, "lastHint", "B....");
+        loaded.getFeedbackHistory().add(new Feedback("BAKEN", List.of(CORRECT, CORRECT, ABSENT, ABSENT, ABSENT)));
+
+        assertEquals("BA...", loaded.giveHint());
+    }
+
     @Test
     @DisplayName("keeps track of feedback history")
     void feedbackIsSaved() {
@@ -140,6 +188,27 @@ class RoundTest {
         );
     }
 
+    @Test
+    @DisplayName("marks an attempt that is not in the dictionary as invalid")
+    void attemptNotInDictionaryIsInvalid() {
+        Dictionary dictionary = WordPool.of(List.of("baard", "baken"));
+
+        round.guess("BAARS", dictionary);
+
+        Feedback expected = new Feedback("BAARS", List.of(INVALID, INVALID, INVALID, INVALID, INVALID));
+        assertEquals(expected, round.getLastFeedback());
+    }
+
+    @Test
+    @DisplayName("gives feedback on an attempt that is in the dictionary")
+    void attemptInDictionaryIsValid() {
+        Dictionary dictionary = WordPool.of(List.of("baard", "baken"));
+
+        round.guess("BAKEN", dictionary);
+
+        assertTrue(round.getLastFeedback().isAttemptValid());
+    }
+
     @ParameterizedTest
     @MethodSource("provideFeedbackExamples")
     @DisplayName("provide the correct Feedback")
@@ -1,10 +1,12 @@
 package nl.hu.cisq1.lingo.trainer.presentation;
 
 import nl.hu.cisq1.lingo.CiTestConfiguration;
+import nl.hu.cisq1.lingo.trainer.application.ActiveGameCache;
+import nl.hu.cisq1.lingo.trainer.application.CachedChangesDroppedEvent;
 import nl.hu.cisq1.lingo.trainer.data.SpringGameRepository;
 import nl.hu.cisq1.lingo.trainer.domain.Game;
-import nl.hu.cisq1.lingo.words.data.SpringWordRepository;
-import nl.hu.cisq1.lingo.words.domain.Word;
+import nl.hu.cisq1.lingo.words.application.WordService;
+import nl.hu.cisq1.lingo.words.domain.WordPool;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,16 +15,26 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.RequestBuilder;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 import java.util.List;
-import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 /**
@@ -43,14 +55,20 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 class GameControllerIntegrationTest {
 
     @MockBean
-    private SpringWordRepository wordRepository;
+    private WordService wordService;
 
     @Autowired
     private SpringGameRepository gameRepository;
 
+    @Autowired
+    private ActiveGameCache activeGames;
+
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     private Game game;
 
     @BeforeEach
@@ -62,19 +80,23 @@ class GameControllerIntegrationTest {
         game.startNewRound("BLOEM");
 
         this.gameRepository.save(game);
+
+        when(wordService.getDictionary())
+                .thenReturn(WordPool.of(List.of("bloem", "bloei", "loser")));
     }
 
     @AfterEach
     @DisplayName("clean up after test")
     void afterEachTest() {
+        this.activeGames.flush();
         this.gameRepository.deleteAll();
     }
 
     @Test
     @DisplayName("start a new game")
     void startNewGame() throws Exception {
-        when(wordRepository.findRandomWordByLength(5))
-                .thenReturn(Optional.of(new Word("BAARD")));
+        when(wordService.provideWord(eq(5), anyLong(), anyInt()))
+                .thenReturn("BAARD");
 
         RequestBuilder request = MockMvcRequestBuilders
                 .post("/lingo/start");
@@ -90,6 +112,35 @@ class GameControllerIntegrationTest {
                 .andExpect(jsonPath("$.currentHint", is(expectedHint)));
     }
 
+    @Test
+    @DisplayName("start several games at once")
+    void startGames() throws Exception {
+        when(wordService.provideWord(eq(5), anyLong(), eq(0)))
+                .thenReturn("BAARD", "BLOEM", "BLOEI");
+
+        RequestBuilder request = MockMvcRequestBuilders
+                .post("/lingo/start/bulk")
+                .param("amount", "3");
+
+        mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(3)));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/lingo/games"))
+                .andExpect(jsonPath("$", hasSize(4)));
+    }
+
+    @Test
+    @DisplayName("cannot start too many games at once")
+    void cannotStartTooManyGames() throws Exception {
+        RequestBuilder request = MockMvcRequestBuilders
+                .post("/lingo/start/bulk")
+                .param("amount", "10001");
+
+        mockMvc.perform(request)
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("start a new round")
     void startNewRound() throws Exception {
@@ -97,8 +148,8 @@ class GameControllerIntegrationTest {
         game.guess("BLOEM");
         this.gameRepository.save(game);
 
-        when(wordRepository.findRandomWordByLength(6))
-                .thenReturn(Optional.of(new Word("HOEDEN")));
+        when(wordService.provideWord(eq(6), anyLong(), anyInt()))
+                .thenReturn("HOEDEN");
 
         RequestBuilder request = MockMvcRequestBuilders
                 .post("/lingo/"+ id + "/newRound");
@@ -129,8 +180,8 @@ class GameControllerIntegrationTest {
     void cannotStartRoundWhenPlaying() throws Exception {
         Long id = game.getId();
 
-        when(wordRepository.findRandomWordByLength(6))
-                .thenReturn(Optional.of(new Word("HOEDEN")));
+        when(wordService.provideWord(eq(6), anyLong(), anyInt()))
+                .thenReturn("HOEDEN");
 
         RequestBuilder request = MockMvcRequestBuilders
                 .post("/lingo/" + id + "/newRound");
@@ -149,8 +200,8 @@ class GameControllerIntegrationTest {
         game.guess("boert");
         game.guess("boert");
 
-        when(wordRepository.findRandomWordByLength(6))
-                .thenReturn(Optional.of(new Word("HOEDEN")));
+        when(wordService.provideWord(eq(6), anyLong(), anyInt()))
+                .thenReturn("HOEDEN");
 
         RequestBuilder request = MockMvcRequestBuilders
                 .post("/lingo/" + id + "/newRound");
@@ -180,6 +231,239 @@ class GameControllerIntegrationTest {
                 .andExpect(jsonPath("$.currentHint", is(expectedHint)));
     }
 
+    @Test
+    @DisplayName("progress is not sent again while the game did not change")
+    void progressIsNotModified() throws Exception {
+        String etag = etagOfProgress();
+
+        RequestBuilder request = MockMvcRequestBuilders
+                .get("/lingo/" + game.getId())
+                .header("If-None-Match", etag);
+
+        mockMvc.perform(request)
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("progress is sent with a new ETag when the game changed")
+    void changedProgressIsSent() throws Exception {
+        String etag = etagOfProgress();
+
+        mockMvc.perform(MockMvcRequestBuilders
+                        .post("/lingo/" + game.getId() + "/guess")
+                        .param("attempt", "BLOEI"))
+                .andExpect(status().isOk());
+
+        RequestBuilder request = MockMvcRequestBuilders
+                .get("/lingo/" + game.getId())
+                .header("If-None-Match", etag);
+
+        mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)))
+                .andExpect(jsonPath("$.feedbackHistory", hasSize(1)));
+    }
+
+    @Test
+    @DisplayName("progress is sent when the cached changes of the game were dropped, even at the same revision")
+    void droppedProgressAtSameRevisionIsSent() throws Exception {
+        String etag = mockMvc.perform(MockMvcRequestBuilders.get("/lingo/" + game.getId()).param("since", "0"))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        game.guess("LOSER");
+        ReflectionTestUtils.setField(game, "revision", 1L);
+        this.gameRepository.save(game);
+        this.eventPublisher.publishEvent(new CachedChangesDroppedEvent(game.getId()));
+
+        RequestBuilder request = MockMvcRequestBuilders
+                .get("/lingo/" + game.getId())
+                .param("since", "0")
+                .header("If-None-Match", etag);
+
+        mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.revision", is(1)))
+                .andExpect(jsonPath("$.feedbackHistory", hasSize(1)));
+    }
+
+    @Test
+    @DisplayName("get only the feedback since the revision the client has")
+    void getProgressSinceAttempt() throws Exception {
+        game.guess("LOSER");
+        game.guess("BLOEI");
+        this.gameRepository.save(game);
+
+        RequestBuilder request = MockMvcRequestBuilders
+                .get("/lingo/" + game.getId())
+                .param("since", "2");
+
+        mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.feedbackFrom", is(1)))
+                .andExpect(jsonPath("$.feedbackHistory", hasSize(1)))
+                .andExpect(jsonPath("$.feedbackHistory[0].attempt", is("BLOEI")))
+                .andExpect(jsonPath("$.feedbackHistory[0].marks", contains("CORRECT", "CORRECT", "CORRECT", "CORRECT", "ABSENT")))
+                .andExpect(jsonPath("$.feedbackHistory[0].id").doesNotExist())
+                .andExpect(jsonPath("$.currentHint", is("BLOE.")));
+    }
+
+    @Test
+    @DisplayName("guess at the current revision is played")
+    void guessAtCurrentRevision() throws Exception {
+        RequestBuilder request = MockMvcRequestBuilders
+                .post("/lingo/" + game.getId() + "/guess")
+                .param("attempt", "BLOEI")
+                .param("revision", "1");
+
+        mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.revision", is(2)));
+    }
+
+    @Test
+    @DisplayName("cannot guess at an old revision")
+    void cannotGuessAtOldRevision() throws Exception {
+        RequestBuilder request = MockMvcRequestBuilders
+                .post("/lingo/" + game.getId() + "/guess")
+                .param("attempt", "BLOEI")
+                .param("revision", "0");
+
+        mockMvc.perform(request)
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("retried guess with the same idempotency key is played once")
+    void retriedGuessIsPlayedOnce() throws Exception {
+        String key = UUID.randomUUID().toString();
+        RequestBuilder request = MockMvcRequestBuilders
+                .post("/lingo/" + game.getId() + "/guess")
+                .header("Idempotency-Key", key)
+                .param("attempt", "BLOEI");
+
+        mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.feedbackHistory", hasSize(1)));
+        mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.feedbackHistory", hasSize(1)));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/lingo/" + game.getId()))
+                .andExpect(jsonPath("$.feedbackHistory", hasSize(1)));
+    }
+
+    @Test
+    @DisplayName("cannot reuse an idempotency key for another guess")
+    void cannotReuseIdempotencyKey() throws Exception {
+        String key = UUID.randomUUID().toString();
+
+        mockMvc.perform(MockMvcRequestBuilders
+                        .post("/lingo/" + game.getId() + "/guess")
+                        .header("Idempotency-Key", key)
+                        .param("attempt", "BLOEI"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(MockMvcRequestBuilders
+                        .post("/lingo/" + game.getId() + "/guess")
+                        .header("Idempotency-Key", key)
+                        .param("attempt", "LOSER"))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    @DisplayName("retried new round with the same idempotency key returns the started round")
+    void retriedNewRoundIsStartedOnce() throws Exception {
+        game.guess("BLOEM");
+        this.gameRepository.save(game);
+
+        when(wordService.provideWord(eq(6), anyLong(), anyInt()))
+                .thenReturn("HOEDEN");
+
+        RequestBuilder request = MockMvcRequestBuilders
+                .post("/lingo/" + game.getId() + "/newRound")
+                .header("Idempotency-Key", UUID.randomUUID().toString());
+
+        mockMvc.perform(request)
+                .andExpect(status().isOk());
+        mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.currentHint", is("H.....")));
+    }
+
+    @Test
+    @DisplayName("progress is streamed after every change")
+    void progressIsStreamed() throws Exception {
+        RequestBuilder request = MockMvcRequestBuilders
+                .get("/lingo/" + game.getId() + "/stream");
+
+        MvcResult result = mockMvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(MockMvcRequestBuilders
+                        .post("/lingo/" + game.getId() + "/guess")
+                        .param("attempt", "BLOEI"))
+                .andExpect(status().isOk());
+
+        String events = awaitContent(result, "id:2\n");
+        assertTrue(events.startsWith("id:1\nevent:progress\ndata:{\"id\":" + game.getId() + ","));
+        assertTrue(events.contains("\"currentHint\":\"BLOE.\""));
+    }
+
+    @Test
+    @DisplayName("only the feedback since the previous event is streamed")
+    void feedbackSincePreviousEventIsStreamed() throws Exception {
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/lingo/" + game.getId() + "/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        for (String attempt : List.of("LOSER", "BLOEI")) {
+            mockMvc.perform(MockMvcRequestBuilders
+                            .post("/lingo/" + game.getId() + "/guess")
+                            .param("attempt", attempt))
+                    .andExpect(status().isOk());
+        }
+
+        String events = awaitContent(result, "\"revision\":3,\"gameStatus\":\"PLAYING\",\"score\":0,\"feedbackFrom\":1,");
+        String delta = events.substring(events.lastIndexOf("id:3\n"));
+        assertTrue(delta.contains("\"feedbackHistory\":[{\"attempt\":\"BLOEI\""));
+    }
+
+    @Test
+    @DisplayName("progress is streamed in full again when the cached changes of the game were dropped")
+    void progressIsStreamedAgainAfterDroppedChanges() throws Exception {
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/lingo/" + game.getId() + "/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        for (String attempt : List.of("LOSER", "BLOEI")) {
+            mockMvc.perform(MockMvcRequestBuilders
+                            .post("/lingo/" + game.getId() + "/guess")
+                            .param("attempt", attempt))
+                    .andExpect(status().isOk());
+        }
+        awaitContent(result, "\"revision\":3,\"gameStatus\":\"PLAYING\",\"score\":0,\"feedbackFrom\":1");
+
+        this.eventPublisher.publishEvent(new CachedChangesDroppedEvent(game.getId()));
+
+        String events = awaitContent(result, "\"revision\":3,\"gameStatus\":\"PLAYING\",\"score\":0,\"feedbackFrom\":0");
+        String resynced = events.substring(events.lastIndexOf("id:3\n"));
+        assertTrue(resynced.contains("\"feedbackHistory\":[{\"attempt\":\"LOSER\""));
+    }
+
+    @Test
+    @DisplayName("cannot stream progress if game not found")
+    void cannotStreamProgress() throws Exception {
+        RequestBuilder request = MockMvcRequestBuilders
+                .get("/lingo/1/stream");
+
+        mockMvc.perform(request)
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     @DisplayName("cannot get progress if game not found")
     void cannotGetProgress() throws Exception {
@@ -259,6 +543,48 @@ class GameControllerIntegrationTest {
                 .andExpect(jsonPath("$.currentHint", is(expectedHint)));
     }
 
+    @Test
+    @DisplayName("guess that is not a word is marked invalid")
+    void guessNotInDictionaryIsInvalid() throws Exception {
+        Long id = game.getId();
+        String attempt = "BLOMM";
+
+        RequestBuilder request = MockMvcRequestBuilders
+                .post("/lingo/"+ id + "/guess")
+                .param("attempt", attempt);
+
+        mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.currentHint", is("B....")));
+    }
+
+    @Test
+    @DisplayName("guesses are played in one request until the round is won")
+    void guessesArePlayedUntilWon() throws Exception {
+        RequestBuilder request = MockMvcRequestBuilders
+                .post("/lingo/" + game.getId() + "/guesses")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[\"BLOEI\", \"BLOEM\", \"LOSER\"]");
+
+        mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.feedback", hasSize(2)))
+                .andExpect(jsonPath("$.progress.gameStatus", is("WAITING_FOR_ROUND")))
+                .andExpect(jsonPath("$.progress.score", is(20)));
+    }
+
+    @Test
+    @DisplayName("cannot play an empty list of guesses")
+    void cannotPlayNoGuesses() throws Exception {
+        RequestBuilder request = MockMvcRequestBuilders
+                .post("/lingo/" + game.getId() + "/guesses")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]");
+
+        mockMvc.perform(request)
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("cannot get games if there are none")
     void cannotGetGamesIfNoGames() throws Exception {
@@ -282,4 +608,112 @@ class GameControllerIntegrationTest {
                 .andExpect(jsonPath("$", hasSize(1)));
     }
 
+    @Test
+    @DisplayName("games are filtered by status")
+    void gamesAreFilteredByStatus() throws Exception {
+        RequestBuilder request = MockMvcRequestBuilders
+                .get("/lingo/games")
+                .param("status", "ELIMINATED");
+
+        mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("reserved games are not provided when filtering on their status")
+    void reservedGamesAreNotProvided() throws Exception {
+        Game reservedGame = new Game();
+        reservedGame.reserve("BLOEI");
+        this.gameRepository.save(reservedGame);
+
+        RequestBuilder request = MockMvcRequestBuilders
+                .get("/lingo/games")
+                .param("status", "RESERVED");
+
+        mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("games are provided page by page")
+    void gamesAreProvidedPageByPage() throws Exception {
+        Game secondGame = new Game();
+        secondGame.startNewRound("BLOEI");
+        this.gameRepository.save(secondGame);
+
+        RequestBuilder request = MockMvcRequestBuilders
+                .get("/lingo/games")
+                .param("limit", "1");
+
+        mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", is(game.getId().intValue())))
+                .andExpect(header().string("Link", containsString("after=" + game.getId())));
+
+        RequestBuilder nextRequest = MockMvcRequestBuilders
+                .get("/lingo/games")
+                .param("limit", "1")
+                .param("after", game.getId().toString());
+
+        mockMvc.perform(nextRequest)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", is(secondGame.getId().intValue())))
+                .andExpect(header().doesNotExist("Link"));
+    }
+
+    @Test
+    @DisplayName("cannot get games with a limit that is too large")
+    void cannotGetTooManyGames() throws Exception {
+        RequestBuilder request = MockMvcRequestBuilders
+                .get("/lingo/games")
+                .param("limit", "501");
+
+        mockMvc.perform(request)
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("all games are exported as one line of json per game")
+    void gamesAreExported() throws Exception {
+        Game secondGame = new Game();
+        secondGame.startNewRound("BLOEI");
+        this.gameRepository.save(secondGame);
+
+        RequestBuilder request = MockMvcRequestBuilders
+                .get("/lingo/games/export");
+
+        MvcResult result = mockMvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(startsWith("{\"id\":" + game.getId() + ",")))
+                .andExpect(content().string(containsString("\n{\"id\":" + secondGame.getId() + ",")))
+                .andExpect(content().string(endsWith("}\n")));
+    }
+
+    private String etagOfProgress() throws Exception {
+        return mockMvc.perform(MockMvcRequestBuilders.get("/lingo/" + game.getId()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+    }
+
+    private static String awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        String content = result.getResponse().getContentAsString();
+        while (!content.contains(expected)) {
+            assertTrue(System.nanoTime() < deadline, "Did not receive " + expected + " but only " + content);
+            Thread.sleep(10);
+            content = result.getResponse().getContentAsString();
+        }
+        return content;
+    }
 }
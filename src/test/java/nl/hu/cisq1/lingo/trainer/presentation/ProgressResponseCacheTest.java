@@ -0,0 +1,117 @@
+package nl.hu.cisq1.lingo.trainer.presentation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nl.hu.cisq1.lingo.trainer.application.CachedChangesDroppedEvent;
+import nl.hu.cisq1.lingo.trainer.application.GameProgressEvent;
+import nl.hu.cisq1.lingo.trainer.application.dto.ProgressDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ProgressResponseCache")
+class ProgressResponseCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProgressResponseCache cache;
+
+    @BeforeEach
+    @DisplayName("initiates cache for tests")
+    void beforeEach() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new ProgressResponseCache(new ObjectMapper(), meterRegistry, 16777216);
+    }
+
+    @Test
+    @DisplayName("serves the cached progress at the same revision")
+    void hitAtSameRevision() {
+        byte[] json = cache.put(progress(1L, 2L));
+
+        Optional<byte[]> cached = cache.get(1L, 2L);
+
+        assertTrue(cached.isPresent());
+        assertSame(json, cached.get());
+        assertEquals(1.0, meterRegistry.counter("lingo.games.progress-cache.hits").count());
+    }
+
+    @Test
+    @DisplayName("misses when the game is at another revision")
+    void missAtOtherRevision() {
+        cache.put(progress(1L, 2L));
+
+        assertTrue(cache.get(1L, 3L).isEmpty());
+        assertTrue(cache.get(2L, 2L).isEmpty());
+        assertEquals(2.0, meterRegistry.counter("lingo.games.progress-cache.misses").count());
+    }
+
+    @Test
+    @DisplayName("keeps the later revision when an older progress is put")
+    void ignoresOlderRevision() {
+        cache.put(progress(1L, 3L));
+        cache.put(progress(1L, 2L));
+
+        assertTrue(cache.get(1L, 3L).isPresent());
+        assertTrue(cache.get(1L, 2L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("caches the progress of published changes")
+    void cachesPublishedProgress() {
+        cache.onProgress(new GameProgressEvent(progress(1L, 4L)));
+
+        assertTrue(cache.get(1L, 4L).isPresent());
+    }
+
+    @Test
+    @DisplayName("forgets games whose cached changes were dropped")
+    void forgetsDroppedChanges() {
+        cache.put(progress(1L, 4L));
+
+        cache.onChangesDropped(new CachedChangesDroppedEvent(1L));
+
+        assertTrue(cache.get(1L, 4L).isEmpty());
+        assertEquals(0L, cache.size());
+    }
+
+    @Test
+    @DisplayName("moves to a later epoch when cached changes were dropped")
+    void advancesEpochOnDroppedChanges() {
+        long epoch = cache.getEpoch();
+
+        cache.onChangesDropped(new CachedChangesDroppedEvent(1L));
+
+        assertTrue(cache.getEpoch() > epoch);
+    }
+
+    @Test
+    @DisplayName("evicts the least recently read game when full")
+    void evictsLeastRecentlyRead() {
+        int length = cache.serialize(progress(1L, 1L)).length;
+        cache = new ProgressResponseCache(new ObjectMapper(), meterRegistry, 2L * length);
+
+        cache.put(progress(1L, 1L));
+        cache.put(progress(2L, 1L));
+        cache.get(1L, 1L);
+        cache.put(progress(3L, 1L));
+
+        assertTrue(cache.get(1L, 1L).isPresent());
+        assertTrue(cache.get(2L, 1L).isEmpty());
+        assertTrue(cache.get(3L, 1L).isPresent());
+        assertEquals(2L * length, cache.size());
+    }
+
+    private static ProgressDTO progress(Long id, Long revision) {
+        return new ProgressDTO.Builder(id)
+                .revision(revision)
+                .gameStatus("PLAYING")
+                .score(0)
+                .feedbackHistory(List.of())
+                .currentHint("B....")
+                .build();
+    }
+}
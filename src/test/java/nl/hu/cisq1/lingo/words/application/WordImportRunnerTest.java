@@ -0,0 +1,39 @@
+package nl.hu.cisq1.lingo.words.application;
+
+import nl.hu.cisq1.lingo.words.data.SpringWordRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class WordImportRunnerTest {
+
+    @Test
+    @DisplayName("imports the word list when there are no words yet")
+    void importsWhenEmpty(@TempDir Path directory) throws IOException {
+        Path file = Files.writeString(directory.resolve("words.txt"), "pizza\n");
+        WordImporter importer = mock(WordImporter.class);
+        SpringWordRepository repository = mock(SpringWordRepository.class);
+
+        new WordImportRunner(importer, repository, file.toString(), false).run(null);
+
+        verify(importer).importFrom(file);
+    }
+
+    @Test
+    @DisplayName("keeps the stored words when the word list cannot be found")
+    void keepsWordsWhenFileIsMissing(@TempDir Path directory) {
+        WordImporter importer = mock(WordImporter.class);
+        SpringWordRepository repository = mock(SpringWordRepository.class);
+
+        new WordImportRunner(importer, repository, directory.resolve("missing.txt").toString(), true).run(null);
+
+        verify(importer, never()).importFrom(any(Path.class));
+    }
+}
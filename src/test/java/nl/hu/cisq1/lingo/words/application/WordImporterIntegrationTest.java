@@ -0,0 +1,101 @@
+package nl.hu.cisq1.lingo.words.application;
+
+import nl.hu.cisq1.lingo.CiTestConfiguration;
+import nl.hu.cisq1.lingo.words.data.SpringWordListVersionRepository;
+import nl.hu.cisq1.lingo.words.data.SpringWordRepository;
+import nl.hu.cisq1.lingo.words.domain.WordListVersion;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.StringReader;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@Import(CiTestConfiguration.class)
+class WordImporterIntegrationTest {
+    private static final String FIXTURE_WORDS = "pizza\nbaars\noranje\nwanorde\n";
+
+    @Autowired
+    private WordImporter importer;
+
+    @Autowired
+    private WordService wordService;
+
+    @Autowired
+    private SpringWordRepository wordRepository;
+
+    @Autowired
+    private SpringWordListVersionRepository versionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    @DisplayName("restores the words of the fixtures")
+    void afterEach() {
+        importer.importFrom(new StringReader(FIXTURE_WORDS));
+    }
+
+    @Test
+    @DisplayName("only imports words of 5 to 7 lowercase letters")
+    void importsLingoWords() {
+        WordImportResult result = importer.importFrom(new StringReader(
+                FIXTURE_WORDS + "kat\nolifanten\nPizza\nzee-egel\ncafé!\n 06-nummer\nlingo\n\n"
+        ));
+
+        assertEquals(12, result.getLines());
+        assertEquals(5, result.getWords());
+        assertEquals(1, result.getAdded());
+        assertEquals(0, result.getRemoved());
+        assertEquals(5, wordRepository.count());
+    }
+
+    @Test
+    @DisplayName("replaces the words and reloads the word pool")
+    void replacesWords() {
+        WordImportResult result = importer.importFrom(new StringReader("lingo\nlingo\nbaars\n"));
+
+        assertEquals(1, result.getAdded());
+        assertEquals(3, result.getRemoved());
+        assertEquals(Set.of("lingo", "baars"), Set.copyOf(wordRepository.findAllValues()));
+        assertTrue(wordService.getDictionary().contains("lingo"));
+        assertFalse(wordService.getDictionary().contains("pizza"));
+    }
+
+    @Test
+    @DisplayName("clears the staged words once they replaced the words")
+    void clearsStagedWords() {
+        importer.importFrom(new StringReader("lingo\nbaars\n"));
+
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM words_import", Integer.class));
+    }
+
+    @Test
+    @DisplayName("stores the same version for the same word list in any order")
+    void storesVersionOfWordList() {
+        importer.importFrom(new StringReader("lingo\nbaars\n"));
+        Long imported = checksumOfWords();
+        importer.importFrom(new StringReader("pizza\n"));
+        Long other = checksumOfWords();
+        importer.importFrom(new StringReader("baars\nlingo\n"));
+
+        assertEquals(imported, checksumOfWords());
+        assertNotEquals(imported, other);
+    }
+
+    private Long checksumOfWords() {
+        return versionRepository.findById(WordListVersion.ID)
+                .map(WordListVersion::getChecksum)
+                .orElse(null);
+    }
+}
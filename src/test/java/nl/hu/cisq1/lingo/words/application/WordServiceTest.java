@@ -1,18 +1,26 @@
 package nl.hu.cisq1.lingo.words.application;
 
+import nl.hu.cisq1.lingo.words.data.SpringWordListVersionRepository;
 import nl.hu.cisq1.lingo.words.data.SpringWordRepository;
-import nl.hu.cisq1.lingo.words.domain.Word;
+import nl.hu.cisq1.lingo.words.data.WordPoolFile;
+import nl.hu.cisq1.lingo.words.domain.WordListVersion;
 import nl.hu.cisq1.lingo.words.domain.exception.WordLengthNotSupportedException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
@@ -27,15 +35,17 @@ import static org.mockito.Mockito.*;
 class WordServiceTest {
 
     @ParameterizedTest
-    @DisplayName("requests a random word of a specified length from the repository")
+    @DisplayName("provides a random word of a specified length from the word pool")
     @MethodSource("randomWordExamples")
     void providesRandomWord(int wordLength, String word) {
         SpringWordRepository mockRepository = mock(SpringWordRepository.class);
+        SpringWordListVersionRepository mockVersionRepository = mock(SpringWordListVersionRepository.class);
 
-        when(mockRepository.findRandomWordByLength(wordLength))
-                .thenReturn(Optional.of(new Word(word)));
+        when(mockRepository.findAllValues())
+                .thenReturn(List.of(word));
 
-        WordService service = new WordService(mockRepository);
+        WordService service = new WordService(mockRepository, mockVersionRepository, new WordPoolFile(""));
+        service.refresh();
         String result = service.provideRandomWord(wordLength);
 
         assertEquals(word, result);
@@ -45,10 +55,12 @@ class WordServiceTest {
     @DisplayName("throws exception if length not supported")
     void unsupportedLength() {
         SpringWordRepository mockRepository = mock(SpringWordRepository.class);
-        when(mockRepository.findRandomWordByLength(anyInt()))
-                .thenReturn(Optional.empty());
+        SpringWordListVersionRepository mockVersionRepository = mock(SpringWordListVersionRepository.class);
+        when(mockRepository.findAllValues())
+                .thenReturn(List.of());
 
-        WordService service = new WordService(mockRepository);
+        WordService service = new WordService(mockRepository, mockVersionRepository, new WordPoolFile(""));
+        service.refresh();
 
         assertThrows(
                 WordLengthNotSupportedException.class,
@@ -56,6 +68,118 @@ class WordServiceTest {
         );
     }
 
+    @Test
+    @DisplayName("provides the words of a game without repeating them")
+    void providesWordsOfGame() {
+        SpringWordRepository mockRepository = mock(SpringWordRepository.class);
+        SpringWordListVersionRepository mockVersionRepository = mock(SpringWordListVersionRepository.class);
+        when(mockRepository.findAllValues())
+                .thenReturn(List.of("tower", "pizza", "lingo"));
+
+        WordService service = new WordService(mockRepository, mockVersionRepository, new WordPoolFile(""));
+        service.refresh();
+
+        Set<String> words = new HashSet<>();
+        for (int position = 0; position < 3; position++) {
+            words.add(service.provideWord(5, 42L, position));
+        }
+
+        assertEquals(Set.of("tower", "pizza", "lingo"), words);
+        assertThrows(WordLengthNotSupportedException.class, () -> service.provideWord(6, 42L, 0));
+    }
+
+    @Test
+    @DisplayName("reloads the word pool when another word list was imported")
+    void refreshesWhenVersionChanged() {
+        SpringWordRepository mockRepository = mock(SpringWordRepository.class);
+        SpringWordListVersionRepository mockVersionRepository = mock(SpringWordListVersionRepository.class);
+        when(mockVersionRepository.findById(WordListVersion.ID))
+                .thenReturn(Optional.of(new WordListVersion(1L)), Optional.of(new WordListVersion(2L)));
+        when(mockRepository.findAllValues())
+                .thenReturn(List.of("tower"), List.of("pizza"));
+
+        WordService service = new WordService(mockRepository, mockVersionRepository, new WordPoolFile(""));
+        service.refresh();
+        service.refreshIfChanged();
+
+        assertEquals("pizza", service.provideRandomWord(5));
+    }
+
+    @Test
+    @DisplayName("does not read the words when no other word list was imported")
+    void doesNotRefreshWhenVersionUnchanged() {
+        SpringWordRepository mockRepository = mock(SpringWordRepository.class);
+        SpringWordListVersionRepository mockVersionRepository = mock(SpringWordListVersionRepository.class);
+        when(mockVersionRepository.findById(WordListVersion.ID))
+                .thenReturn(Optional.of(new WordListVersion(1L)));
+        when(mockRepository.findAllValues())
+                .thenReturn(List.of("tower", "pizza"));
+
+        WordService service = new WordService(mockRepository, mockVersionRepository, new WordPoolFile(""));
+        service.refresh();
+        Object loaded = service.getDictionary();
+        service.refreshIfChanged();
+
+        assertSame(loaded, service.getDictionary());
+        verify(mockRepository, times(1)).findAllValues();
+    }
+
+    @Test
+    @DisplayName("loads the word pool from the pool file without reading the words when the word list did not change")
+    void loadsPoolFromFile(@TempDir Path directory) {
+        SpringWordRepository mockRepository = mock(SpringWordRepository.class);
+        SpringWordListVersionRepository mockVersionRepository = mock(SpringWordListVersionRepository.class);
+        when(mockVersionRepository.findById(WordListVersion.ID))
+                .thenReturn(Optional.of(new WordListVersion(1L)));
+        when(mockRepository.findAllValues())
+                .thenReturn(List.of("tower"));
+        WordPoolFile poolFile = spy(new WordPoolFile(directory.resolve("words.pool").toString()));
+        new WordService(mockRepository, mockVersionRepository, poolFile).refresh();
+
+        WordService service = new WordService(mockRepository, mockVersionRepository, poolFile);
+        service.load();
+
+        assertEquals("tower", service.provideRandomWord(5));
+        verify(poolFile, times(1)).write(any(), anyLong());
+        verify(mockRepository, times(1)).findAllValues();
+    }
+
+    @Test
+    @DisplayName("does not load the word pool from a pool file that was written from another word list")
+    void skipsOutdatedPoolFile(@TempDir Path directory) {
+        SpringWordRepository mockRepository = mock(SpringWordRepository.class);
+        SpringWordListVersionRepository mockVersionRepository = mock(SpringWordListVersionRepository.class);
+        when(mockVersionRepository.findById(WordListVersion.ID))
+                .thenReturn(Optional.of(new WordListVersion(1L)), Optional.of(new WordListVersion(2L)));
+        when(mockRepository.findAllValues())
+                .thenReturn(List.of("tower"), List.of("pizza"));
+        WordPoolFile poolFile = new WordPoolFile(directory.resolve("words.pool").toString());
+        new WordService(mockRepository, mockVersionRepository, poolFile).refresh();
+
+        WordService service = new WordService(mockRepository, mockVersionRepository, poolFile);
+        service.load();
+
+        assertEquals("pizza", service.provideRandomWord(5));
+    }
+
+    @Test
+    @DisplayName("does not write a pool file for words that were not imported")
+    void skipsPoolFileWithoutVersion(@TempDir Path directory) {
+        SpringWordRepository mockRepository = mock(SpringWordRepository.class);
+        SpringWordListVersionRepository mockVersionRepository = mock(SpringWordListVersionRepository.class);
+        when(mockVersionRepository.findById(WordListVersion.ID))
+                .thenReturn(Optional.empty());
+        when(mockRepository.findAllValues())
+                .thenReturn(List.of("tower"));
+        WordPoolFile poolFile = spy(new WordPoolFile(directory.resolve("words.pool").toString()));
+
+        WordService service = new WordService(mockRepository, mockVersionRepository, poolFile);
+        service.load();
+
+        assertEquals("tower", service.provideRandomWord(5));
+        verify(poolFile, never()).write(any(), anyLong());
+    }
+
     static Stream<Arguments> randomWordExamples() {
         return Stream.of(
                 Arguments.of(5, "tower"),
@@ -63,4 +187,4 @@ class WordServiceTest {
                 Arguments.of(7, "knights")
         );
     }
-}
\ No newline at end of file
+}
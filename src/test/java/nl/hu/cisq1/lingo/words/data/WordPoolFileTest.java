@@ -0,0 +1,62 @@
+package nl.hu.cisq1.lingo.words.data;
+
+import nl.hu.cisq1.lingo.words.domain.WordPool;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("WordPoolFile")
+class WordPoolFileTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("maps the pool that was written")
+    void readsWrittenPool() {
+        WordPoolFile file = new WordPoolFile(directory.resolve("words.pool").toString());
+        file.write(WordPool.of(List.of("tower", "pizza", "castle")), 3);
+
+        WordPool pool = file.read(3).orElseThrow();
+
+        assertEquals(2, pool.size(5));
+        assertEquals(1, pool.size(6));
+        assertTrue(pool.contains("castle"));
+        assertFalse(pool.contains("towel"));
+    }
+
+    @Test
+    @DisplayName("does not read a pool that was written from other words")
+    void skipsOutdatedPool() {
+        WordPoolFile file = new WordPoolFile(directory.resolve("words.pool").toString());
+        file.write(WordPool.of(List.of("tower")), 1);
+
+        assertEquals(Optional.empty(), file.read(2));
+    }
+
+    @Test
+    @DisplayName("does not read a file that holds no pool")
+    void skipsOtherFiles() throws IOException {
+        Path path = directory.resolve("words.pool");
+        Files.writeString(path, "tower");
+
+        assertEquals(Optional.empty(), new WordPoolFile(path.toString()).read(1));
+    }
+
+    @Test
+    @DisplayName("has no pool when no file is configured")
+    void noFileConfigured() {
+        WordPoolFile file = new WordPoolFile("");
+        file.write(WordPool.of(List.of("tower")), 1);
+
+        assertEquals(Optional.empty(), file.read(1));
+    }
+}
@@ -0,0 +1,53 @@
+package nl.hu.cisq1.lingo.words.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PackedWord")
+class PackedWordTest {
+
+    @ParameterizedTest
+    @MethodSource("packableWords")
+    @DisplayName("unpacks the word that was packed")
+    void decodesEncodedWord(String word) {
+        long packed = PackedWord.encode(word);
+
+        assertEquals(word.length(), PackedWord.length(packed));
+        assertEquals(word, PackedWord.decode(packed));
+    }
+
+    static Stream<String> packableWords() {
+        return Stream.of("a", "baard", "BAARD", "WanOrde", "zzzzzzzzzz");
+    }
+
+    @ParameterizedTest
+    @MethodSource("unpackableWords")
+    @DisplayName("does not pack empty or long words, or words with other characters than letters")
+    void doesNotEncodeUnpackableWords(String word) {
+        assertEquals(PackedWord.NONE, PackedWord.encode(word));
+    }
+
+    static Stream<String> unpackableWords() {
+        return Stream.of("", "aaaaaaaaaaa", "zee-egel", "06nummer", "café");
+    }
+
+    @Test
+    @DisplayName("lowercases a packed word")
+    void lowercases() {
+        assertEquals(PackedWord.encode("wanorde"), PackedWord.toLowerCase(PackedWord.encode("WanOrde")));
+    }
+
+    @Test
+    @DisplayName("words of the same length sort like their letters")
+    void sortsLikeLetters() {
+        assertTrue(PackedWord.encode("baard") < PackedWord.encode("baars"));
+        assertTrue(PackedWord.encode("baars") < PackedWord.encode("bloem"));
+        assertTrue(PackedWord.encode("azzzz") < PackedWord.encode("baaaa"));
+    }
+}
@@ -0,0 +1,167 @@
+package nl.hu.cisq1.lingo.words.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("WordPool")
+class WordPoolTest {
+
+    @Test
+    @DisplayName("buckets words by their length")
+    void bucketsByLength() {
+        WordPool pool = WordPool.of(List.of("tower", "pizza", "castle", "knights"));
+
+        assertEquals(2, pool.size(5));
+        assertEquals(1, pool.size(6));
+        assertEquals(1, pool.size(7));
+        assertEquals(4, pool.size());
+    }
+
+    @Test
+    @DisplayName("only provides words of the requested length")
+    void randomWordHasRequestedLength() {
+        List<String> words = List.of("tower", "pizza", "castle", "knights");
+        WordPool pool = WordPool.of(words);
+
+        for (int i = 0; i < 20; i++) {
+            String word = pool.random(5).orElseThrow();
+
+            assertEquals(5, word.length());
+            assertTrue(words.contains(word));
+        }
+    }
+
+    @Test
+    @DisplayName("provides every word of a length once before repeating one")
+    void permutedWordsDoNotRepeat() {
+        List<String> words = wordsOfLength(5, 1000);
+        WordPool pool = WordPool.of(words);
+
+        Set<String> provided = new HashSet<>();
+        for (int position = 0; position < words.size(); position++) {
+            provided.add(pool.permuted(5, 42L, position).orElseThrow());
+        }
+
+        assertEquals(new HashSet<>(words), provided);
+        assertTrue(words.contains(pool.permuted(5, 42L, words.size()).orElseThrow()));
+    }
+
+    @Test
+    @DisplayName("provides the words of every seed in another order")
+    void permutedOrderDependsOnSeed() {
+        WordPool pool = WordPool.of(wordsOfLength(5, 1000));
+
+        List<String> first = new ArrayList<>();
+        List<String> second = new ArrayList<>();
+        for (int position = 0; position < 10; position++) {
+            first.add(pool.permuted(5, 1L, position).orElseThrow());
+            second.add(pool.permuted(5, 2L, position).orElseThrow());
+        }
+
+        assertEquals(first.get(3), pool.permuted(5, 1L, 3).orElseThrow());
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    @DisplayName("provides no permuted word for lengths without words")
+    void noPermutedWordForUnknownLength() {
+        WordPool pool = WordPool.of(List.of("tower"));
+
+        assertEquals(Optional.of("tower"), pool.permuted(5, 7L, 3));
+        assertEquals(Optional.empty(), pool.permuted(6, 7L, 0));
+        assertEquals(Optional.empty(), WordPool.empty().permuted(5, 7L, 0));
+    }
+
+    @Test
+    @DisplayName("provides nothing for lengths without words")
+    void noWordForUnknownLength() {
+        WordPool pool = WordPool.of(List.of("tower"));
+
+        assertEquals(Optional.empty(), pool.random(6));
+        assertEquals(Optional.empty(), pool.random(8));
+        assertEquals(Optional.empty(), pool.random(-1));
+    }
+
+    @Test
+    @DisplayName("skips empty and non-ASCII words")
+    void skipsUnpoolableWords() {
+        WordPool pool = WordPool.of(Arrays.asList("", null, "café!", "tower"));
+
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    @DisplayName("empty pool provides no words")
+    void emptyPool() {
+        assertEquals(0, WordPool.empty().size());
+        assertEquals(Optional.empty(), WordPool.empty().random(5));
+    }
+
+    @Test
+    @DisplayName("reads the words it has written without copying them")
+    void readsWrittenPool() throws IOException {
+        WordPool pool = WordPool.of(List.of("tower", "pizza", "castle", "knights"));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        pool.writeTo(new DataOutputStream(bytes));
+
+        ByteBuffer block = ByteBuffer.allocateDirect(bytes.size() + 3);
+        block.put(new byte[3]).put(bytes.toByteArray()).position(3);
+        WordPool read = WordPool.of(block);
+
+        assertEquals(4, read.size());
+        assertEquals(2, read.size(5));
+        assertTrue(read.contains("Knights"));
+        assertFalse(read.contains("towel"));
+        assertEquals(pool.permuted(5, 42L, 0), read.permuted(5, 42L, 0));
+    }
+
+    @Test
+    @DisplayName("contains the words it was built from, ignoring case")
+    void containsWords() {
+        WordPool pool = WordPool.of(List.of("tower", "pizza", "castle", "knights"));
+
+        assertTrue(pool.contains("pizza"));
+        assertTrue(pool.contains("CASTLE"));
+        assertTrue(pool.contains("Knights"));
+    }
+
+    @Test
+    @DisplayName("does not contain unknown words")
+    void doesNotContainUnknownWords() {
+        WordPool pool = WordPool.of(List.of("tower", "pizza", "castle", "knights"));
+
+        assertFalse(pool.contains("towel"));
+        assertFalse(pool.contains("pizzas"));
+        assertFalse(pool.contains("aaaaa"));
+        assertFalse(pool.contains("zzzzz"));
+        assertFalse(pool.contains(""));
+        assertFalse(pool.contains(null));
+    }
+
+    private static List<String> wordsOfLength(int length, int amount) {
+        List<String> words = new ArrayList<>(amount);
+        for (int i = 0; i < amount; i++) {
+            char[] letters = new char[length];
+            int remaining = i;
+            for (int position = length - 1; position >= 0; position--) {
+                letters[position] = (char) ('a' + remaining % 26);
+                remaining /= 26;
+            }
+            words.add(new String(letters));
+        }
+        return words;
+    }
+}
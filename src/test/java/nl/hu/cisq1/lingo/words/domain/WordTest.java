@@ -2,6 +2,11 @@ package nl.hu.cisq1.lingo.words.domain;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -14,4 +19,24 @@ class WordTest {
         int length = word.getLength();
         assertEquals(5, length);
     }
+
+    @ParameterizedTest
+    @DisplayName("only words of 5 to 7 lowercase letters are Lingo words")
+    @MethodSource("lingoWordExamples")
+    void lingoWords(String word, boolean expected) {
+        assertEquals(expected, Word.isLingoWord(word));
+    }
+
+    static Stream<Arguments> lingoWordExamples() {
+        return Stream.of(
+                Arguments.of("pizza", true),
+                Arguments.of("wanorde", true),
+                Arguments.of("kat", false),
+                Arguments.of("olifanten", false),
+                Arguments.of("Pizza", false),
+                Arguments.of("zee-egel", false),
+                Arguments.of("café", false),
+                Arguments.of(null, false)
+        );
+    }
 }